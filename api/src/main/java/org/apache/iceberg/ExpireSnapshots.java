@@ -118,4 +118,21 @@ public interface ExpireSnapshots extends PendingUpdate<List<Snapshot>> {
    * @return this for method chaining
    */
   ExpireSnapshots cleanExpiredFiles(boolean clean);
+
+  /**
+   * Passes a local directory that will be used to spill file paths while determining which files
+   * are no longer reachable.
+   *
+   * <p>By default, reachable file paths are kept in memory, which may not fit for tables with a
+   * large number of files. When a spill directory is set, paths are sorted in bounded runs that are
+   * written to the directory and merged to find files to delete.
+   *
+   * @param directory a local directory for temporary files
+   * @return this for method chaining
+   */
+  default ExpireSnapshots spillDirectory(String directory) {
+    throw new UnsupportedOperationException(
+        String.format(
+            "Cannot spill to %s: %s does not support spilling", directory, getClass().getName()));
+  }
 }
@@ -32,6 +32,7 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
  *   <li>bytes-desc: rewrite the largest job groups first.
  *   <li>files-asc: rewrite the job groups with the least files first.
  *   <li>files-desc: rewrite the job groups with the most files first.
+ *   <li>benefit-desc: rewrite the job groups with the highest expected read benefit first.
  *   <li>none: rewrite job groups in the order they were planned (no specific ordering).
  * </ul>
  *
@@ -42,6 +43,7 @@ public enum RewriteJobOrder {
   BYTES_DESC("bytes-desc"),
   FILES_ASC("files-asc"),
   FILES_DESC("files-desc"),
+  BENEFIT_DESC("benefit-desc"),
   NONE("none");
 
   private final String orderName;
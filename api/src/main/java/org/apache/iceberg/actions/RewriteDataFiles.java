@@ -116,6 +116,8 @@ public interface RewriteDataFiles
    *   <li>If rewrite-job-order=bytes-desc, then rewrite the largest job groups first.
    *   <li>If rewrite-job-order=files-asc, then rewrite the job groups with the least files first.
    *   <li>If rewrite-job-order=files-desc, then rewrite the job groups with the most files first.
+   *   <li>If rewrite-job-order=benefit-desc, then rewrite the job groups with the highest expected
+   *       read benefit first.
    *   <li>If rewrite-job-order=none, then rewrite job groups in the order they were planned (no
    *       specific ordering).
    * </ul>
@@ -126,6 +128,17 @@ public interface RewriteDataFiles
 
   String REWRITE_JOB_ORDER_DEFAULT = RewriteJobOrder.NONE.orderName();
 
+  /**
+   * The maximum number of bytes that this rewrite is allowed to read. File groups are ranked by the
+   * expected read benefit of rewriting them and are selected in that order while they fit in the
+   * remaining budget. Groups that are not selected are left for a later rewrite.
+   *
+   * <p>By default, there is no limit and all planned file groups are rewritten.
+   */
+  String MAX_REWRITE_BYTES = "max-rewrite-bytes";
+
+  long MAX_REWRITE_BYTES_DEFAULT = Long.MAX_VALUE;
+
   /**
    * The partition specification ID to be used for rewritten files
    *
@@ -255,5 +268,10 @@ public interface RewriteDataFiles
 
     /** returns which partition this file group contains files from */
     StructLike partition();
+
+    /** returns the expected read benefit of rewriting this file group, higher is better */
+    default double benefit() {
+      return 0.0;
+    }
   }
 }
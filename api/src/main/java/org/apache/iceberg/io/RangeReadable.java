@@ -20,6 +20,9 @@ package org.apache.iceberg.io;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.IntFunction;
 
 /**
  * {@code RangeReadable} is an interface that allows for implementations of {@link InputFile}
@@ -77,4 +80,58 @@ public interface RangeReadable extends Closeable {
   default int readTail(byte[] buffer) throws IOException {
     return readTail(buffer, 0, buffer.length);
   }
+
+  /**
+   * Returns whether callers should use {@link #readVectored(List, IntFunction)} to prefetch ranges
+   * that they will read later.
+   *
+   * <p>Prefetching holds the fetched ranges in memory until they are read, so it is only worth it
+   * when an implementation fetches ranges asynchronously and it is enabled by its configuration.
+   * The default implementation returns false because the default {@link #readVectored(List,
+   * IntFunction)} reads ranges one at a time.
+   *
+   * @return true if vectored reads should be used to prefetch ranges, false otherwise
+   */
+  default boolean isVectoredReadEnabled() {
+    return false;
+  }
+
+  /**
+   * Read a list of ranges from the file, completing the {@link FileRange#byteBuffer() buffer
+   * future} of each range when its bytes are available.
+   *
+   * <p>Implementations may coalesce nearby ranges and read them in parallel, so the futures can
+   * complete in any order and after this method returns. The default implementation reads the
+   * ranges one at a time using {@link #readFully(long, byte[], int, int)} before returning.
+   *
+   * @param ranges the ranges to read; ranges must not overlap
+   * @param allocate a function to allocate a buffer of the given length for a range
+   * @throws IOException if an error occurs while reading
+   */
+  default void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate)
+      throws IOException {
+    for (FileRange range : ranges) {
+      try {
+        ByteBuffer buffer = allocate.apply(range.length());
+        if (buffer.hasArray()) {
+          readFully(
+              range.offset(),
+              buffer.array(),
+              buffer.arrayOffset() + buffer.position(),
+              range.length());
+        } else {
+          byte[] bytes = new byte[range.length()];
+          readFully(range.offset(), bytes);
+          buffer.duplicate().put(bytes);
+        }
+
+        ByteBuffer result = buffer.slice();
+        result.limit(range.length());
+        range.byteBuffer().complete(result);
+      } catch (IOException | RuntimeException e) {
+        range.byteBuffer().completeExceptionally(e);
+        throw e;
+      }
+    }
+  }
 }
@@ -18,12 +18,37 @@
  */
 package org.apache.iceberg.metrics;
 
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 
-/** A default {@link MetricsContext} implementation that uses native Java counters/timers. */
+/**
+ * A default {@link MetricsContext} implementation that uses native Java counters/timers.
+ *
+ * <p>Histograms use reservoir sampling by default. Setting {@link #HISTOGRAM_TYPE} to {@link
+ * #HISTOGRAM_TYPE_LOG_LINEAR} returns lock-free {@link LogLinearHistogram} instances instead, which
+ * are better suited for values that are recorded concurrently by many threads.
+ */
 public class DefaultMetricsContext implements MetricsContext {
+  public static final String HISTOGRAM_TYPE = "metrics.histogram-type";
+  public static final String HISTOGRAM_TYPE_RESERVOIR = "reservoir";
+  public static final String HISTOGRAM_TYPE_LOG_LINEAR = "log-linear";
+
   private static final int DEFAULT_HISTOGRAM_RESERVOIR_SIZE = 10_000;
 
+  private boolean logLinearHistograms = false;
+
+  @Override
+  public void initialize(Map<String, String> properties) {
+    String histogramType = properties.getOrDefault(HISTOGRAM_TYPE, HISTOGRAM_TYPE_RESERVOIR);
+    Preconditions.checkArgument(
+        HISTOGRAM_TYPE_RESERVOIR.equals(histogramType)
+            || HISTOGRAM_TYPE_LOG_LINEAR.equals(histogramType),
+        "Invalid histogram type: %s",
+        histogramType);
+    this.logLinearHistograms = HISTOGRAM_TYPE_LOG_LINEAR.equals(histogramType);
+  }
+
   /**
    * @deprecated will be removed in 2.0.0, use {@link org.apache.iceberg.metrics.Counter} instead.
    */
@@ -54,6 +79,10 @@ public class DefaultMetricsContext implements MetricsContext {
 
   @Override
   public Histogram histogram(String name) {
+    if (logLinearHistograms) {
+      return new LogLinearHistogram();
+    }
+
     return new FixedReservoirHistogram(DEFAULT_HISTOGRAM_RESERVOIR_SIZE);
   }
 }
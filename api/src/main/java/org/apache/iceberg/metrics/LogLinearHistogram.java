@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A lock-free {@link Histogram} that counts values in log-linear buckets.
+ *
+ * <p>Values are grouped by their highest set bit and each power of two is split into 2^precision
+ * linear sub-buckets, similar to HdrHistogram. Percentiles are accurate to within a relative error
+ * of 2^-precision, while count, min and max are exact. Mean and standard deviation are computed
+ * from running sums. Memory does not grow with the number of observations.
+ *
+ * <p>Updates never block, so the histogram can be shared by many threads. Statistics that are
+ * computed while updates are in progress may not include the most recent observations.
+ */
+public class LogLinearHistogram implements Histogram {
+  private static final int DEFAULT_PRECISION = 5;
+  private static final int MAX_PRECISION = 10;
+
+  private final int precision;
+  private final int subBucketCount;
+  private final AtomicLongArray buckets;
+  private final LongAdder count = new LongAdder();
+  private final DoubleAdder sum = new DoubleAdder();
+  private final DoubleAdder sumOfSquares = new DoubleAdder();
+  private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+  private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+  public LogLinearHistogram() {
+    this(DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates a histogram with the given number of bits of precision.
+   *
+   * @param precision the number of linear sub-buckets per power of two, as a power of two
+   */
+  public LogLinearHistogram(int precision) {
+    Preconditions.checkArgument(
+        precision > 0 && precision <= MAX_PRECISION,
+        "Invalid precision: %s (must be between 1 and %s)",
+        precision,
+        MAX_PRECISION);
+    this.precision = precision;
+    this.subBucketCount = 1 << precision;
+    // values below subBucketCount use one bucket each and each larger power of two adds
+    // subBucketCount buckets, up to a highest set bit of 62 for positive longs
+    this.buckets = new AtomicLongArray((64 - precision) * subBucketCount);
+  }
+
+  @Override
+  public void update(long value) {
+    Preconditions.checkArgument(value >= 0, "Cannot record negative value: %s", value);
+    min.accumulate(value);
+    max.accumulate(value);
+    sum.add((double) value);
+    sumOfSquares.add((double) value * value);
+    count.increment();
+    // buckets are updated last so that statistics never see a bucket count without min and max
+    buckets.incrementAndGet(bucketIndex(value));
+  }
+
+  @Override
+  public int count() {
+    return (int) Math.min(count.sum(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public Statistics statistics() {
+    long[] counts = new long[buckets.length()];
+    long total = 0L;
+    for (int index = 0; index < counts.length; index += 1) {
+      counts[index] = buckets.get(index);
+      total += counts[index];
+    }
+
+    return statistics(counts, total, sum.sum(), sumOfSquares.sum(), min.get(), max.get());
+  }
+
+  /**
+   * Calculates the statistics of the observed values and resets the histogram.
+   *
+   * <p>Each observation is counted either by the returned statistics or by the statistics after
+   * the reset, even if it is recorded concurrently. Min, max, mean and standard deviation of
+   * observations that are recorded concurrently may be attributed to either side.
+   */
+  public Statistics statisticsThenReset() {
+    long[] counts = new long[buckets.length()];
+    long total = 0L;
+    for (int index = 0; index < counts.length; index += 1) {
+      counts[index] = buckets.getAndSet(index, 0L);
+      total += counts[index];
+    }
+
+    count.add(-total);
+    return statistics(
+        counts,
+        total,
+        sum.sumThenReset(),
+        sumOfSquares.sumThenReset(),
+        min.getThenReset(),
+        max.getThenReset());
+  }
+
+  private Statistics statistics(
+      long[] counts,
+      long total,
+      double sumValue,
+      double sumOfSquaresValue,
+      long minValue,
+      long maxValue) {
+    if (total == 0L) {
+      return BucketStatistics.EMPTY;
+    }
+
+    double mean = sumValue / total;
+    double variance = Math.max(0.0d, sumOfSquaresValue / total - mean * mean);
+    return new BucketStatistics(this, counts, total, mean, Math.sqrt(variance), minValue, maxValue);
+  }
+
+  private int bucketIndex(long value) {
+    if (value < subBucketCount) {
+      return (int) value;
+    }
+
+    int shift = (63 - Long.numberOfLeadingZeros(value)) - precision;
+    int subBucket = (int) (value >>> shift) - subBucketCount;
+    return (shift + 1) * subBucketCount + subBucket;
+  }
+
+  /** Returns the largest value that is counted in the bucket at the given index. */
+  private long highestValue(int index) {
+    if (index < subBucketCount) {
+      return index;
+    }
+
+    int shift = index / subBucketCount - 1;
+    long mantissa = subBucketCount + (index % subBucketCount);
+    return ((mantissa + 1) << shift) - 1;
+  }
+
+  private static class BucketStatistics implements Statistics {
+    private static final BucketStatistics EMPTY =
+        new BucketStatistics(null, new long[0], 0L, 0.0, 0.0, 0L, 0L);
+
+    private final LogLinearHistogram histogram;
+    private final long[] counts;
+    private final long total;
+    private final double mean;
+    private final double stdDev;
+    private final long min;
+    private final long max;
+
+    private BucketStatistics(
+        LogLinearHistogram histogram,
+        long[] counts,
+        long total,
+        double mean,
+        double stdDev,
+        long min,
+        long max) {
+      this.histogram = histogram;
+      this.counts = counts;
+      this.total = total;
+      this.mean = mean;
+      this.stdDev = stdDev;
+      this.min = min;
+      this.max = max;
+    }
+
+    @Override
+    public int size() {
+      return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public double mean() {
+      return mean;
+    }
+
+    @Override
+    public double stdDev() {
+      return stdDev;
+    }
+
+    @Override
+    public long max() {
+      return max;
+    }
+
+    @Override
+    public long min() {
+      return min;
+    }
+
+    @Override
+    public long percentile(double percentile) {
+      Preconditions.checkArgument(
+          !Double.isNaN(percentile) && percentile >= 0.0 && percentile <= 1.0,
+          "Percentile point cannot be outside the range of [0.0 - 1.0]: %s",
+          percentile);
+      if (total == 0L) {
+        return 0L;
+      }
+
+      long rank = Math.max(1L, (long) Math.ceil(percentile * total));
+      long seen = 0L;
+      for (int index = 0; index < counts.length; index += 1) {
+        seen += counts[index];
+        if (seen >= rank) {
+          // the bucket's upper bound is an estimate; observed min and max are exact
+          return Math.max(min, Math.min(max, histogram.highestValue(index)));
+        }
+      }
+
+      return max;
+    }
+  }
+}
@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.withinPercentage;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -115,4 +116,34 @@ public class TestDefaultMetricsContext {
     Assertions.assertThat(statistics.percentile(0.99)).isEqualTo(990);
     Assertions.assertThat(statistics.percentile(0.999)).isEqualTo(999);
   }
+
+  @Test
+  public void logLinearHistogram() {
+    MetricsContext metricsContext = new DefaultMetricsContext();
+    metricsContext.initialize(
+        ImmutableMap.of(
+            DefaultMetricsContext.HISTOGRAM_TYPE, DefaultMetricsContext.HISTOGRAM_TYPE_LOG_LINEAR));
+    Histogram histogram = metricsContext.histogram("test");
+    Assertions.assertThat(histogram).isInstanceOf(LogLinearHistogram.class);
+
+    for (int i = 1; i <= 1000; ++i) {
+      histogram.update(i);
+    }
+
+    Histogram.Statistics statistics = histogram.statistics();
+    Assertions.assertThat(statistics.size()).isEqualTo(1000);
+    Assertions.assertThat(statistics.mean()).isEqualTo(500.5);
+    Assertions.assertThat(statistics.percentile(0.50)).isCloseTo(500L, withinPercentage(3.125));
+  }
+
+  @Test
+  public void invalidHistogramType() {
+    MetricsContext metricsContext = new DefaultMetricsContext();
+    Assertions.assertThatThrownBy(
+            () ->
+                metricsContext.initialize(
+                    ImmutableMap.of(DefaultMetricsContext.HISTOGRAM_TYPE, "unknown")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid histogram type: unknown");
+  }
 }
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestLogLinearHistogram {
+  // the default precision of 5 bits bounds the relative error of percentiles to 1/32
+  private static final double MAX_ERROR_PERCENT = 100.0 / 32;
+
+  @Test
+  public void emptyHistogram() {
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    Assertions.assertThat(histogram.count()).isEqualTo(0);
+    Histogram.Statistics statistics = histogram.statistics();
+    Assertions.assertThat(statistics.size()).isEqualTo(0);
+    Assertions.assertThat(statistics.mean()).isEqualTo(0.0);
+    Assertions.assertThat(statistics.stdDev()).isEqualTo(0.0);
+    Assertions.assertThat(statistics.max()).isEqualTo(0L);
+    Assertions.assertThat(statistics.min()).isEqualTo(0L);
+    Assertions.assertThat(statistics.percentile(0.50)).isEqualTo(0L);
+    Assertions.assertThat(statistics.percentile(0.99)).isEqualTo(0L);
+  }
+
+  @Test
+  public void singleObservation() {
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    histogram.update(123L);
+    Assertions.assertThat(histogram.count()).isEqualTo(1);
+    Histogram.Statistics statistics = histogram.statistics();
+    Assertions.assertThat(statistics.size()).isEqualTo(1);
+    Assertions.assertThat(statistics.mean()).isEqualTo(123.0);
+    Assertions.assertThat(statistics.stdDev()).isEqualTo(0.0);
+    Assertions.assertThat(statistics.max()).isEqualTo(123L);
+    Assertions.assertThat(statistics.min()).isEqualTo(123L);
+    Assertions.assertThat(statistics.percentile(0.50)).isEqualTo(123L);
+    Assertions.assertThat(statistics.percentile(0.99)).isEqualTo(123L);
+  }
+
+  @Test
+  public void smallValuesAreExact() {
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    for (int i = 0; i < 32; ++i) {
+      histogram.update(i);
+    }
+
+    Histogram.Statistics statistics = histogram.statistics();
+    Assertions.assertThat(statistics.percentile(0.0)).isEqualTo(0L);
+    Assertions.assertThat(statistics.percentile(0.50)).isEqualTo(15L);
+    Assertions.assertThat(statistics.percentile(1.0)).isEqualTo(31L);
+  }
+
+  @Test
+  public void largeValues() {
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    histogram.update(1L);
+    histogram.update(Long.MAX_VALUE);
+
+    Histogram.Statistics statistics = histogram.statistics();
+    Assertions.assertThat(statistics.min()).isEqualTo(1L);
+    Assertions.assertThat(statistics.max()).isEqualTo(Long.MAX_VALUE);
+    Assertions.assertThat(statistics.percentile(0.50)).isEqualTo(1L);
+    Assertions.assertThat(statistics.percentile(1.0)).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  public void percentileAccuracy() {
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    for (long i = 1; i <= 1_000_000; i += 1) {
+      histogram.update(i);
+    }
+
+    Histogram.Statistics statistics = histogram.statistics();
+    Assertions.assertThat(statistics.size()).isEqualTo(1_000_000);
+    Assertions.assertThat(statistics.percentile(0.0)).isEqualTo(1L);
+    Assertions.assertThat(statistics.percentile(1.0)).isEqualTo(1_000_000L);
+    for (double percentile : new double[] {0.01, 0.25, 0.50, 0.75, 0.90, 0.99, 0.999}) {
+      long expected = (long) (percentile * 1_000_000);
+      Assertions.assertThat(statistics.percentile(percentile))
+          .isCloseTo(expected, withinPercentage(MAX_ERROR_PERCENT));
+    }
+  }
+
+  @Test
+  public void statisticsThenReset() {
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    histogram.update(10L);
+    histogram.update(20L);
+
+    Histogram.Statistics first = histogram.statisticsThenReset();
+    Assertions.assertThat(first.size()).isEqualTo(2);
+    Assertions.assertThat(first.mean()).isEqualTo(15.0);
+    Assertions.assertThat(first.min()).isEqualTo(10L);
+    Assertions.assertThat(first.max()).isEqualTo(20L);
+    Assertions.assertThat(histogram.count()).isEqualTo(0);
+    Assertions.assertThat(histogram.statistics().size()).isEqualTo(0);
+
+    histogram.update(100L);
+    Histogram.Statistics second = histogram.statisticsThenReset();
+    Assertions.assertThat(histogram.count()).isEqualTo(0);
+    Assertions.assertThat(second.size()).isEqualTo(1);
+    Assertions.assertThat(second.mean()).isEqualTo(100.0);
+    Assertions.assertThat(second.min()).isEqualTo(100L);
+    Assertions.assertThat(second.max()).isEqualTo(100L);
+  }
+
+  @Test
+  public void invalidValues() {
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    Assertions.assertThatThrownBy(() -> histogram.update(-1L))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot record negative value: -1");
+
+    Assertions.assertThatThrownBy(() -> new LogLinearHistogram(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid precision: 0 (must be between 1 and 10)");
+  }
+
+  @Test
+  public void invalidPercentilePoints() {
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    for (int i = 0; i < 100; ++i) {
+      histogram.update(i);
+    }
+
+    Histogram.Statistics statistics = histogram.statistics();
+
+    Assertions.assertThatThrownBy(() -> statistics.percentile(-0.1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Percentile point cannot be outside the range of [0.0 - 1.0]: " + -0.1);
+
+    Assertions.assertThatThrownBy(() -> statistics.percentile(1.1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Percentile point cannot be outside the range of [0.0 - 1.0]: " + 1.1);
+  }
+
+  @Test
+  public void testMultipleThreadWriters() throws InterruptedException {
+    int threads = 10;
+    int samplesPerThread = 100;
+    int totalSamples = threads * samplesPerThread;
+
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    CyclicBarrier barrier = new CyclicBarrier(threads);
+    ExecutorService executor = newFixedThreadPool(threads);
+
+    List<Future<Integer>> futures =
+        IntStream.range(0, threads)
+            .mapToObj(
+                threadIndex ->
+                    executor.submit(
+                        () -> {
+                          try {
+                            barrier.await(30, SECONDS);
+                            for (int i = 1; i <= 100; ++i) {
+                              histogram.update(threadIndex * samplesPerThread + i);
+                            }
+                            return threadIndex;
+                          } catch (Exception e) {
+                            throw new RuntimeException(e);
+                          }
+                        }))
+            .collect(Collectors.toList());
+
+    futures.stream()
+        .map(
+            f -> {
+              try {
+                return f.get(30, SECONDS);
+              } catch (Exception e) {
+                throw new RuntimeException(e);
+              }
+            })
+        .collect(Collectors.toList());
+
+    executor.shutdownNow();
+    executor.awaitTermination(5, SECONDS);
+    Histogram.Statistics statistics = histogram.statistics();
+
+    Assertions.assertThat(histogram.count()).isEqualTo(totalSamples);
+    Assertions.assertThat(statistics.size()).isEqualTo(totalSamples);
+    Assertions.assertThat(statistics.mean()).isEqualTo(500.5);
+    Assertions.assertThat(statistics.stdDev()).isCloseTo(288.67499, withinPercentage(0.001));
+    Assertions.assertThat(statistics.max()).isEqualTo(1000L);
+    Assertions.assertThat(statistics.min()).isEqualTo(1L);
+    Assertions.assertThat(statistics.percentile(0.50))
+        .isCloseTo(500L, withinPercentage(MAX_ERROR_PERCENT));
+    Assertions.assertThat(statistics.percentile(0.90))
+        .isCloseTo(900L, withinPercentage(MAX_ERROR_PERCENT));
+    Assertions.assertThat(statistics.percentile(0.99))
+        .isCloseTo(990L, withinPercentage(MAX_ERROR_PERCENT));
+  }
+}
@@ -20,6 +20,7 @@ package org.apache.iceberg.arrow.vectorized;
 
 import java.util.List;
 import java.util.Map;
+import org.apache.iceberg.parquet.SelectedRows;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
@@ -42,9 +43,10 @@ public abstract class BaseBatchReader<T> implements VectorizedReader<T> {
   @Override
   public void setRowGroupInfo(
       PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData, long rowPosition) {
+    SelectedRows selected = SelectedRows.of(pageStore);
     for (VectorizedArrowReader reader : readers) {
       if (reader != null) {
-        reader.setRowGroupInfo(pageStore, metaData, rowPosition);
+        reader.setRowGroupInfo(pageStore, metaData, rowPosition, selected);
       }
     }
   }
@@ -31,13 +31,28 @@ public class NullabilityHolder {
   private int numNulls;
   private final byte[] nonNulls;
   private final byte[] nulls;
+  private final byte[] nullDefinitionLevels;
 
   public NullabilityHolder(int size) {
+    this(size, false);
+  }
+
+  /**
+   * Creates a holder that optionally keeps the Parquet definition level of each null value.
+   *
+   * <p>Definition levels are needed to tell apart values that are null themselves from values
+   * that are null because one of their enclosing structs is null.
+   *
+   * @param size the number of values
+   * @param trackDefinitionLevels whether to keep definition levels of null values
+   */
+  public NullabilityHolder(int size, boolean trackDefinitionLevels) {
     this.isNull = new byte[size];
     this.nonNulls = new byte[size];
     Arrays.fill(nonNulls, (byte) 0);
     this.nulls = new byte[size];
     Arrays.fill(nulls, (byte) 1);
+    this.nullDefinitionLevels = trackDefinitionLevels ? new byte[size] : null;
   }
 
   public int size() {
@@ -62,6 +77,32 @@ public class NullabilityHolder {
     System.arraycopy(nonNulls, 0, isNull, startIndex, num);
   }
 
+  public void setNull(int index, int definitionLevel) {
+    setNull(index);
+    if (nullDefinitionLevels != null) {
+      nullDefinitionLevels[index] = (byte) definitionLevel;
+    }
+  }
+
+  public void setNulls(int startIndex, int num, int definitionLevel) {
+    setNulls(startIndex, num);
+    if (nullDefinitionLevels != null) {
+      Arrays.fill(nullDefinitionLevels, startIndex, startIndex + num, (byte) definitionLevel);
+    }
+  }
+
+  public boolean tracksDefinitionLevels() {
+    return nullDefinitionLevels != null;
+  }
+
+  /**
+   * Returns true if the value at the index is null and its definition level is lower than the
+   * given one, meaning that an enclosing struct defined at that level is null.
+   */
+  public boolean isNullBelowLevel(int index, int definitionLevel) {
+    return isNull[index] == 1 && nullDefinitionLevels[index] < definitionLevel;
+  }
+
   /** Returns 1 if null, 0 otherwise. */
   public byte isNullAt(int index) {
     return isNull[index];
@@ -167,6 +167,48 @@ public class VectorHolder {
     }
   }
 
+  /**
+   * A Vector Holder for struct fields. It does not hold a vector itself; the values of each field
+   * are kept in the field holders, while the nullability holder tracks which structs are null.
+   */
+  public static class StructVectorHolder extends VectorHolder {
+    private final VectorHolder[] fieldHolders;
+    private final NullabilityHolder definitionLevels;
+    private final int numRows;
+
+    public StructVectorHolder(
+        Types.NestedField icebergField,
+        VectorHolder[] fieldHolders,
+        NullabilityHolder nulls,
+        NullabilityHolder definitionLevels,
+        int numRows) {
+      super(null, icebergField, nulls);
+      this.fieldHolders = fieldHolders;
+      this.definitionLevels = definitionLevels;
+      this.numRows = numRows;
+    }
+
+    /** Returns the holders of the struct fields, in the order of the expected struct type. */
+    public VectorHolder[] fieldHolders() {
+      return fieldHolders;
+    }
+
+    /** Returns a nullability holder of a nested column that tracks definition levels. */
+    NullabilityHolder definitionLevels() {
+      return definitionLevels;
+    }
+
+    @Override
+    public int numValues() {
+      return numRows;
+    }
+
+    @Override
+    public boolean isDummy() {
+      return false;
+    }
+  }
+
   public static class DeletedVectorHolder extends VectorHolder {
     private final int numRows;
 
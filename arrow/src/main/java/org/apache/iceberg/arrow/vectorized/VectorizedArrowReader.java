@@ -18,7 +18,9 @@
  */
 package org.apache.iceberg.arrow.vectorized;
 
+import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.vector.BigIntVector;
@@ -42,6 +44,7 @@ import org.apache.iceberg.arrow.ArrowAllocation;
 import org.apache.iceberg.arrow.ArrowSchemaUtil;
 import org.apache.iceberg.arrow.vectorized.parquet.VectorizedColumnIterator;
 import org.apache.iceberg.parquet.ParquetUtil;
+import org.apache.iceberg.parquet.SelectedRows;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.types.Types;
@@ -52,6 +55,7 @@ import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
 import org.apache.parquet.schema.OriginalType;
 import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
 
 /**
  * {@link VectorizedReader VectorReader(s)} that read in a batch of values into Arrow vectors. It
@@ -67,6 +71,8 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
   private final VectorizedColumnIterator vectorizedColumnIterator;
   private final Types.NestedField icebergField;
   private final BufferAllocator rootAlloc;
+  // definition levels of nulls are kept for columns nested in optional structs
+  private final boolean trackDefinitionLevels;
 
   private int batchSize;
   private FieldVector vec;
@@ -90,6 +96,8 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     this.columnDescriptor = desc;
     this.rootAlloc = ra;
     this.vectorizedColumnIterator = new VectorizedColumnIterator(desc, "", setArrowValidityVector);
+    int ownDefinitionLevel = desc.getPrimitiveType().isRepetition(Type.Repetition.OPTIONAL) ? 1 : 0;
+    this.trackDefinitionLevels = desc.getMaxDefinitionLevel() > ownDefinitionLevel;
   }
 
   private VectorizedArrowReader() {
@@ -102,6 +110,12 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     this.columnDescriptor = null;
     this.rootAlloc = null;
     this.vectorizedColumnIterator = null;
+    this.trackDefinitionLevels = false;
+  }
+
+  /** Returns whether this reader keeps the definition levels of nested null values. */
+  boolean tracksDefinitionLevels() {
+    return trackDefinitionLevels;
   }
 
   private enum ReadType {
@@ -140,7 +154,7 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
         || (!dictEncoded && readType == ReadType.DICTIONARY)
         || (dictEncoded && readType != ReadType.DICTIONARY)) {
       allocateFieldVector(dictEncoded);
-      nullabilityHolder = new NullabilityHolder(batchSize);
+      nullabilityHolder = new NullabilityHolder(batchSize, trackDefinitionLevels);
     } else {
       vec.setValueCount(0);
       nullabilityHolder.reset();
@@ -432,11 +446,30 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
   @Override
   public void setRowGroupInfo(
       PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {
+    setRowGroupInfo(source, metadata, rowPosition, SelectedRows.of(source));
+  }
+
+  /**
+   * Sets the row group information along with the rows selected by page filtering.
+   *
+   * <p>The selected rows are computed once per row group and shared by all column readers.
+   *
+   * @param source row group information for all the columns
+   * @param metadata map of {@link ColumnPath} -&gt; {@link ColumnChunkMetaData} for the row group
+   * @param rowPosition the row group's row offset in the parquet file
+   * @param selected rows selected by page filtering, or null if all rows are read
+   */
+  public void setRowGroupInfo(
+      PageReadStore source,
+      Map<ColumnPath, ColumnChunkMetaData> metadata,
+      long rowPosition,
+      SelectedRows selected) {
     ColumnChunkMetaData chunkMetaData = metadata.get(ColumnPath.get(columnDescriptor.getPath()));
     this.dictionary =
         vectorizedColumnIterator.setRowGroupInfo(
             source.getPageReader(columnDescriptor),
-            !ParquetUtil.hasNonDictionaryPages(chunkMetaData));
+            !ParquetUtil.hasNonDictionaryPages(chunkMetaData),
+            selected != null ? selected.view() : null);
   }
 
   @Override
@@ -473,7 +506,10 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
 
     @Override
     public void setRowGroupInfo(
-        PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {}
+        PageReadStore source,
+        Map<ColumnPath, ColumnChunkMetaData> metadata,
+        long rowPosition,
+        SelectedRows selected) {}
 
     @Override
     public String toString() {
@@ -489,6 +525,8 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
         ArrowSchemaUtil.convert(MetadataColumns.ROW_POSITION);
     private final boolean setArrowValidityVector;
     private long rowStart;
+    // row indexes within the row group, only set when pages were filtered
+    private PrimitiveIterator.OfLong rowIndexes;
     private int batchSize;
     private NullabilityHolder nulls;
 
@@ -508,8 +546,14 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       }
 
       ArrowBuf dataBuffer = vec.getDataBuffer();
-      for (int i = 0; i < numValsToRead; i += 1) {
-        dataBuffer.setLong((long) i * Long.BYTES, rowStart + i);
+      if (rowIndexes != null) {
+        for (int i = 0; i < numValsToRead; i += 1) {
+          dataBuffer.setLong((long) i * Long.BYTES, rowStart + rowIndexes.nextLong());
+        }
+      } else {
+        for (int i = 0; i < numValsToRead; i += 1) {
+          dataBuffer.setLong((long) i * Long.BYTES, rowStart + i);
+        }
       }
 
       if (setArrowValidityVector) {
@@ -519,7 +563,10 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
         }
       }
 
-      rowStart += numValsToRead;
+      if (rowIndexes == null) {
+        rowStart += numValsToRead;
+      }
+
       vec.setValueCount(numValsToRead);
 
       return new VectorHolder.PositionVectorHolder(vec, MetadataColumns.ROW_POSITION, nulls);
@@ -540,8 +587,12 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
 
     @Override
     public void setRowGroupInfo(
-        PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {
+        PageReadStore source,
+        Map<ColumnPath, ColumnChunkMetaData> metadata,
+        long rowPosition,
+        SelectedRows selected) {
       this.rowStart = rowPosition;
+      this.rowIndexes = source.getRowIndexes().orElse(null);
     }
 
     @Override
@@ -584,7 +635,10 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
 
     @Override
     public void setRowGroupInfo(
-        PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {}
+        PageReadStore source,
+        Map<ColumnPath, ColumnChunkMetaData> metadata,
+        long rowPosition,
+        SelectedRows selected) {}
 
     @Override
     public String toString() {
@@ -595,6 +649,127 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     public void setBatchSize(int batchSize) {}
   }
 
+  /**
+   * A reader for struct fields without repeated descendants.
+   *
+   * <p>Each field of the struct is read by its own reader. A struct is null exactly when the
+   * definition levels of the columns nested in it are below the definition level of the struct, so
+   * the nullability of the struct is derived from the definition levels of one of its columns.
+   */
+  public static class StructVectorReader extends VectorizedArrowReader {
+    private final VectorizedArrowReader[] fieldReaders;
+    private final int definitionLevel;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private NullabilityHolder nulls = null;
+
+    public StructVectorReader(
+        Types.NestedField icebergField,
+        int definitionLevel,
+        List<VectorizedArrowReader> fieldReaders) {
+      super(icebergField);
+      this.definitionLevel = definitionLevel;
+      this.fieldReaders = fieldReaders.toArray(new VectorizedArrowReader[0]);
+    }
+
+    @Override
+    public VectorHolder read(VectorHolder reuse, int numValsToRead) {
+      VectorHolder[] reusedHolders = null;
+      if (reuse instanceof VectorHolder.StructVectorHolder) {
+        reusedHolders = ((VectorHolder.StructVectorHolder) reuse).fieldHolders();
+        nulls.reset();
+      } else {
+        // release the vectors of the previous batch like it is done for top-level columns
+        closeFieldReaders();
+        this.nulls = new NullabilityHolder(Math.max(batchSize, numValsToRead));
+      }
+
+      VectorHolder[] fieldHolders = new VectorHolder[fieldReaders.length];
+      NullabilityHolder levels = null;
+      for (int i = 0; i < fieldReaders.length; i += 1) {
+        VectorHolder reusedHolder = reusedHolders != null ? reusedHolders[i] : null;
+        fieldHolders[i] = fieldReaders[i].read(reusedHolder, numValsToRead);
+        if (levels == null) {
+          levels = definitionLevels(fieldHolders[i]);
+        }
+      }
+
+      if (definitionLevel == 0) {
+        nulls.setNotNulls(0, numValsToRead);
+      } else {
+        Preconditions.checkState(
+            levels != null,
+            "Cannot determine nullability of struct %s: no nested column is read",
+            icebergField().name());
+        for (int i = 0; i < numValsToRead; i += 1) {
+          if (levels.isNullBelowLevel(i, definitionLevel)) {
+            nulls.setNull(i);
+          } else {
+            nulls.setNotNull(i);
+          }
+        }
+      }
+
+      return new VectorHolder.StructVectorHolder(
+          icebergField(), fieldHolders, nulls, levels, numValsToRead);
+    }
+
+    private static NullabilityHolder definitionLevels(VectorHolder holder) {
+      if (holder instanceof VectorHolder.StructVectorHolder) {
+        return ((VectorHolder.StructVectorHolder) holder).definitionLevels();
+      } else if (!holder.isDummy() && holder.nullabilityHolder().tracksDefinitionLevels()) {
+        return holder.nullabilityHolder();
+      } else {
+        return null;
+      }
+    }
+
+    @Override
+    boolean tracksDefinitionLevels() {
+      for (VectorizedArrowReader reader : fieldReaders) {
+        if (reader.tracksDefinitionLevels()) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    @Override
+    public void setRowGroupInfo(
+        PageReadStore source,
+        Map<ColumnPath, ColumnChunkMetaData> metadata,
+        long rowPosition,
+        SelectedRows selected) {
+      for (VectorizedArrowReader reader : fieldReaders) {
+        reader.setRowGroupInfo(source, metadata, rowPosition, selected);
+      }
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+      this.batchSize = (batchSize == 0) ? DEFAULT_BATCH_SIZE : batchSize;
+      for (VectorizedArrowReader reader : fieldReaders) {
+        reader.setBatchSize(batchSize);
+      }
+    }
+
+    @Override
+    public void close() {
+      closeFieldReaders();
+    }
+
+    private void closeFieldReaders() {
+      for (VectorizedArrowReader reader : fieldReaders) {
+        reader.close();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return String.format("StructReader: %s", icebergField().name());
+    }
+  }
+
   /**
    * A Dummy Vector Reader which doesn't actually read files. Instead, it returns a Deleted Vector
    * Holder which indicates whether a given row is deleted.
@@ -611,7 +786,10 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
 
     @Override
     public void setRowGroupInfo(
-        PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {}
+        PageReadStore source,
+        Map<ColumnPath, ColumnChunkMetaData> metadata,
+        long rowPosition,
+        SelectedRows selected) {}
 
     @Override
     public String toString() {
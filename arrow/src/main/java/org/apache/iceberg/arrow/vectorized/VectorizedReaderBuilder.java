@@ -28,6 +28,7 @@ import org.apache.iceberg.Schema;
 import org.apache.iceberg.arrow.ArrowAllocation;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader.ConstantVectorReader;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader.DeletedVectorReader;
+import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader.StructVectorReader;
 import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
@@ -107,14 +108,68 @@ public class VectorizedReaderBuilder extends TypeWithSchemaVisitor<VectorizedRea
     return readerFactory.apply(reorderedFields);
   }
 
+  /**
+   * Returns whether struct fields without repeated descendants are read into {@link
+   * VectorHolder.StructVectorHolder struct holders}. Readers must be able to consume struct holders
+   * to enable this.
+   */
+  protected boolean supportsStructs() {
+    return false;
+  }
+
   @Override
   public VectorizedReader<?> struct(
       Types.StructType expected, GroupType groupType, List<VectorizedReader<?>> fieldReaders) {
-    if (expected != null) {
+    if (expected != null && !supportsStructs()) {
       throw new UnsupportedOperationException(
           "Vectorized reads are not supported yet for struct fields");
     }
-    return null;
+
+    if (expected == null || groupType.getId() == null) {
+      return null;
+    }
+
+    Types.NestedField icebergField = icebergSchema.findField(groupType.getId().intValue());
+    if (icebergField == null) {
+      return null;
+    }
+
+    // fields that are present in the file but have no reader can't be read in batches yet
+    Map<Integer, VectorizedReader<?>> readersById = Maps.newHashMap();
+    List<Type> fields = groupType.getFields();
+    IntStream.range(0, fields.size())
+        .filter(pos -> fields.get(pos).getId() != null)
+        .forEach(pos -> readersById.put(fields.get(pos).getId().intValue(), fieldReaders.get(pos)));
+
+    List<VectorizedArrowReader> reorderedFields =
+        Lists.newArrayListWithExpectedSize(expected.fields().size());
+
+    for (Types.NestedField field : expected.fields()) {
+      int id = field.fieldId();
+      VectorizedReader<?> reader = readersById.get(id);
+      if (reader != null) {
+        reorderedFields.add((VectorizedArrowReader) reader);
+      } else if (!readersById.containsKey(id)) {
+        reorderedFields.add(new ConstantVectorReader<>(field, null));
+      } else {
+        throw new UnsupportedOperationException(
+            String.format(
+                "Vectorized reads are not supported yet for field %s of struct %s",
+                field.name(), icebergField.name()));
+      }
+    }
+
+    int definitionLevel = parquetSchema.getMaxDefinitionLevel(currentPath());
+    StructVectorReader reader =
+        new StructVectorReader(icebergField, definitionLevel, reorderedFields);
+
+    // null structs can only be detected from the definition levels of a column read from the file;
+    // without one, row reads return null structs, so return them in batches too
+    if (definitionLevel > 0 && !reader.tracksDefinitionLevels()) {
+      return new ConstantVectorReader<>(icebergField, null);
+    }
+
+    return reader;
   }
 
   @Override
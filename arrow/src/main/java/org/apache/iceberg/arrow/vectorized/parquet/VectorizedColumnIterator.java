@@ -23,6 +23,7 @@ import org.apache.arrow.vector.IntVector;
 import org.apache.iceberg.arrow.vectorized.NullabilityHolder;
 import org.apache.iceberg.parquet.BaseColumnIterator;
 import org.apache.iceberg.parquet.BasePageIterator;
+import org.apache.iceberg.parquet.SelectedRows;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Dictionary;
@@ -52,10 +53,15 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
   }
 
   public Dictionary setRowGroupInfo(PageReader store, boolean allPagesDictEncoded) {
+    return setRowGroupInfo(store, allPagesDictEncoded, null);
+  }
+
+  public Dictionary setRowGroupInfo(
+      PageReader store, boolean allPagesDictEncoded, SelectedRows selected) {
     // setPageSource can result in a data page read. If that happens, we need
     // to know in advance whether all the pages in the row group are dictionary encoded or not
     this.vectorizedPageIterator.setAllPagesDictEncoded(allPagesDictEncoded);
-    super.setPageSource(store);
+    super.setPageSource(store, selected);
     return dictionary;
   }
 
@@ -73,8 +79,22 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
       int rowsReadSoFar = 0;
       while (rowsReadSoFar < batchSize && hasNext()) {
         advance();
+        int expectedBatchSize = batchSize - rowsReadSoFar;
+        if (selectedRows != null) {
+          // columns are flat, so each triple is a row
+          long rowIndex = vectorizedPageIterator.currentRowIndex();
+          long rowsToSkip = selectedRows.unselectedFrom(rowIndex);
+          if (rowsToSkip > 0) {
+            triplesRead += vectorizedPageIterator.skip((int) Math.min(rowsToSkip, Integer.MAX_VALUE));
+            continue;
+          }
+
+          long selected = selectedRows.selectedFrom(rowIndex);
+          expectedBatchSize = (int) Math.min(expectedBatchSize, selected);
+        }
+
         int rowsInThisBatch =
-            nextBatchOf(fieldVector, batchSize - rowsReadSoFar, rowsReadSoFar, typeWidth, holder);
+            nextBatchOf(fieldVector, expectedBatchSize, rowsReadSoFar, typeWidth, holder);
         rowsReadSoFar += rowsInThisBatch;
         triplesRead += rowsInThisBatch;
         fieldVector.setValueCount(rowsReadSoFar);
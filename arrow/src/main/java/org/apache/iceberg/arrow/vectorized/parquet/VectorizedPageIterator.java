@@ -142,6 +142,67 @@ public class VectorizedPageIterator extends BasePageIterator {
         dataPageV2.getValueCount(), dataPageV2.getDefinitionLevels().toInputStream());
   }
 
+  /** Returns the index in the row group of the next row in the current page. */
+  public long currentRowIndex() {
+    return firstRowIndex() + triplesRead;
+  }
+
+  /**
+   * Skips rows in the current page without reading their values into vectors.
+   *
+   * @param maxRows the max number of rows to skip
+   * @return the number of skipped rows, limited by the number of rows left in the page
+   */
+  public int skip(int maxRows) {
+    final int numRows = getActualBatchSize(maxRows);
+    if (numRows <= 0) {
+      return 0;
+    }
+
+    for (int i = 0; i < numRows; i += 1) {
+      if (vectorizedDefinitionLevelReader.readInteger() == desc.getMaxDefinitionLevel()) {
+        skipValue();
+      }
+    }
+
+    triplesRead += numRows;
+    this.hasNext = triplesRead < triplesCount;
+    return numRows;
+  }
+
+  private void skipValue() {
+    if (dictionaryDecodeMode != DictionaryDecodeMode.NONE) {
+      dictionaryEncodedValuesReader.readInteger();
+      return;
+    }
+
+    switch (desc.getPrimitiveType().getPrimitiveTypeName()) {
+      case BOOLEAN:
+        plainValuesReader.readBoolean();
+        break;
+      case INT32:
+      case FLOAT:
+        plainValuesReader.getBuffer(Integer.BYTES);
+        break;
+      case INT64:
+      case DOUBLE:
+        plainValuesReader.getBuffer(Long.BYTES);
+        break;
+      case INT96:
+        plainValuesReader.getBuffer(12);
+        break;
+      case FIXED_LEN_BYTE_ARRAY:
+        plainValuesReader.getBuffer(desc.getPrimitiveType().getTypeLength());
+        break;
+      case BINARY:
+        plainValuesReader.getBuffer(plainValuesReader.readInteger());
+        break;
+      default:
+        throw new UnsupportedOperationException(
+            "Cannot skip values of type: " + desc.getPrimitiveType());
+    }
+  }
+
   /**
    * Method for reading a batch of dictionary ids from the dictionary encoded data pages. Like
    * definition levels, dictionary ids in Parquet are RLE/bin-packed encoded as well.
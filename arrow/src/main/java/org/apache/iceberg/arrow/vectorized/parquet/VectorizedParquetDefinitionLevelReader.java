@@ -764,17 +764,19 @@ public final class VectorizedParquetDefinitionLevelReader
     }
   }
 
+  // single nulls are only set for bit-packed runs, after their definition level was consumed
   private void setNull(
       NullabilityHolder nullabilityHolder, int bufferIdx, ArrowBuf validityBuffer) {
-    nullabilityHolder.setNull(bufferIdx);
+    nullabilityHolder.setNull(bufferIdx, packedValuesBuffer[packedValuesBufferIdx - 1]);
     if (setArrowValidityVector) {
       BitVectorHelper.setValidityBit(validityBuffer, bufferIdx, 0);
     }
   }
 
+  // multiple nulls are only set for RLE runs, which share the current definition level
   private void setNulls(
       NullabilityHolder nullabilityHolder, int idx, int numValues, ArrowBuf validityBuffer) {
-    nullabilityHolder.setNulls(idx, numValues);
+    nullabilityHolder.setNulls(idx, numValues, currentValue);
     if (setArrowValidityVector) {
       for (int i = 0; i < numValues; i++) {
         BitVectorHelper.setValidityBit(validityBuffer, idx + i, 0);
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.aws.s3;
+
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A bounded pool of reusable buffers for staging multipart upload parts in memory.
+ *
+ * <p>At most {@code maxBuffers} buffers are handed out at any time. Buffers are allocated lazily
+ * and kept for reuse once released. Callers of {@link #acquire(long)} wait while all buffers are in
+ * use, which bounds memory and applies backpressure to writers until in-flight uploads complete.
+ */
+class MultipartBufferPool {
+  private final int bufferSize;
+  private final boolean direct;
+  private final Semaphore permits;
+  private final Queue<ByteBuffer> freeBuffers = new ConcurrentLinkedQueue<>();
+
+  MultipartBufferPool(int bufferSize, int maxBuffers, boolean direct) {
+    Preconditions.checkArgument(
+        bufferSize > 0, "Invalid buffer size: %s (must be positive)", bufferSize);
+    Preconditions.checkArgument(
+        maxBuffers > 0, "Invalid number of buffers: %s (must be positive)", maxBuffers);
+    this.bufferSize = bufferSize;
+    this.direct = direct;
+    this.permits = new Semaphore(maxBuffers, true /* fair */);
+  }
+
+  int bufferSize() {
+    return bufferSize;
+  }
+
+  /** Returns the number of buffers that can be acquired without waiting. */
+  int availableBuffers() {
+    return permits.availablePermits();
+  }
+
+  /**
+   * Acquires an empty buffer, waiting for one to be released if all buffers are in use.
+   *
+   * @param timeoutMs max time to wait for a buffer in milliseconds
+   * @return an empty buffer with {@link #bufferSize()} capacity, or null if the timeout elapsed
+   * @throws InterruptedIOException if the thread is interrupted while waiting
+   */
+  ByteBuffer acquire(long timeoutMs) throws InterruptedIOException {
+    try {
+      if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+        return null;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a multipart buffer");
+    }
+
+    ByteBuffer buffer = freeBuffers.poll();
+    if (buffer == null) {
+      buffer = direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+    }
+
+    buffer.clear();
+    return buffer;
+  }
+
+  /** Returns a buffer acquired from this pool so that it can be reused. */
+  void release(ByteBuffer buffer) {
+    freeBuffers.offer(buffer);
+    permits.release();
+  }
+}
@@ -153,6 +153,43 @@ public class S3FileIOProperties implements Serializable {
    */
   public static final String STAGING_DIRECTORY = "s3.staging-dir";
 
+  /**
+   * Where multipart upload parts are staged before they are uploaded, default to {@link
+   * #MULTIPART_BUFFER_TYPE_DISK}.
+   *
+   * <p>Parts are staged as files in {@link #STAGING_DIRECTORY} for {@link
+   * #MULTIPART_BUFFER_TYPE_DISK}. For {@link #MULTIPART_BUFFER_TYPE_HEAP} and {@link
+   * #MULTIPART_BUFFER_TYPE_DIRECT}, parts are staged in heap or direct memory buffers from a pool
+   * shared across output streams in the JVM; see {@link #MULTIPART_BUFFER_COUNT}.
+   */
+  public static final String MULTIPART_BUFFER_TYPE = "s3.multipart.buffer-type";
+
+  public static final String MULTIPART_BUFFER_TYPE_DISK = "disk";
+  public static final String MULTIPART_BUFFER_TYPE_HEAP = "heap";
+  public static final String MULTIPART_BUFFER_TYPE_DIRECT = "direct";
+
+  /**
+   * Number of part buffers in the pool shared by output streams when parts are staged in memory,
+   * default to 16. Each buffer holds a single part, so the pool uses at most this number times
+   * {@link #MULTIPART_SIZE} bytes.
+   *
+   * <p>Pools are JVM-wide and shared by all output streams that use the same {@link
+   * #MULTIPART_BUFFER_TYPE}, {@link #MULTIPART_SIZE}, and buffer count, so file IO instances with
+   * different settings use separate pools.
+   */
+  public static final String MULTIPART_BUFFER_COUNT = "s3.multipart.buffer-count";
+
+  public static final int MULTIPART_BUFFER_COUNT_DEFAULT = 16;
+
+  /**
+   * Max time in milliseconds that a write waits for a part buffer when all buffers are in flight,
+   * default to 60 seconds. If no buffer is released in time, the part is staged on disk instead.
+   */
+  public static final String MULTIPART_BUFFER_WAIT_TIMEOUT_MS =
+      "s3.multipart.buffer-wait-timeout-ms";
+
+  public static final long MULTIPART_BUFFER_WAIT_TIMEOUT_MS_DEFAULT = 60_000L;
+
   /**
    * Used to configure canned access control list (ACL) for S3 client to use during write. If not
    * set, ACL will not be set for requests.
@@ -338,6 +375,43 @@ public class S3FileIOProperties implements Serializable {
 
   public static final boolean DELETE_ENABLED_DEFAULT = true;
 
+  /**
+   * Determines if readers such as Parquet use vectored reads to prefetch the ranges they read next,
+   * default to false.
+   *
+   * <p>Prefetched ranges are held in memory until they are read. For Parquet, each reader may hold
+   * the projected column chunks of up to two row groups.
+   */
+  public static final String VECTORED_READ_ENABLED = "s3.vectored-read.enabled";
+
+  public static final boolean VECTORED_READ_ENABLED_DEFAULT = false;
+
+  /**
+   * Ranges of a vectored read that are separated by at most this many bytes are fetched with a
+   * single ranged GET request, default to 256 KB. Reading the bytes in between is usually cheaper
+   * than issuing another request.
+   */
+  public static final String VECTORED_READ_MAX_MERGE_GAP = "s3.vectored-read.max-merge-gap-bytes";
+
+  public static final int VECTORED_READ_MAX_MERGE_GAP_DEFAULT = 256 * 1024;
+
+  /**
+   * Maximum size of a single ranged GET request that is created by merging ranges of a vectored
+   * read, default to 8 MB. Ranges larger than this size are still read with one request.
+   */
+  public static final String VECTORED_READ_MAX_MERGED_SIZE =
+      "s3.vectored-read.max-merged-size-bytes";
+
+  public static final int VECTORED_READ_MAX_MERGED_SIZE_DEFAULT = 8 * 1024 * 1024;
+
+  /**
+   * Number of threads to use for fetching the ranges of vectored reads in parallel, default to
+   * {@link Runtime#availableProcessors()}
+   *
+   * <p>Thread pools are JVM-wide and shared by all S3 input streams that use the same thread count.
+   */
+  public static final String VECTORED_READ_THREADS = "s3.vectored-read.num-threads";
+
   /**
    * Determines if S3 client will use the Acceleration Mode, default to false.
    *
@@ -398,6 +472,9 @@ public class S3FileIOProperties implements Serializable {
   private int deleteBatchSize;
   private double multipartThresholdFactor;
   private String stagingDirectory;
+  private String multipartBufferType;
+  private int multipartBufferCount;
+  private long multipartBufferWaitTimeoutMs;
   private ObjectCannedACL acl;
   private boolean isChecksumEnabled;
   private final Set<Tag> writeTags;
@@ -406,6 +483,10 @@ public class S3FileIOProperties implements Serializable {
   private final Set<Tag> deleteTags;
   private int deleteThreads;
   private boolean isDeleteEnabled;
+  private boolean isVectoredReadEnabled;
+  private int vectoredReadMaxMergeGap;
+  private int vectoredReadMaxMergedSize;
+  private int vectoredReadThreads;
   private final Map<String, String> bucketToAccessPointMapping;
   private boolean isPreloadClientEnabled;
   private boolean isDualStackEnabled;
@@ -431,6 +512,9 @@ public class S3FileIOProperties implements Serializable {
     this.multipartThresholdFactor = MULTIPART_THRESHOLD_FACTOR_DEFAULT;
     this.deleteBatchSize = DELETE_BATCH_SIZE_DEFAULT;
     this.stagingDirectory = System.getProperty("java.io.tmpdir");
+    this.multipartBufferType = MULTIPART_BUFFER_TYPE_DISK;
+    this.multipartBufferCount = MULTIPART_BUFFER_COUNT_DEFAULT;
+    this.multipartBufferWaitTimeoutMs = MULTIPART_BUFFER_WAIT_TIMEOUT_MS_DEFAULT;
     this.isChecksumEnabled = CHECKSUM_ENABLED_DEFAULT;
     this.writeTags = Sets.newHashSet();
     this.isWriteTableTagEnabled = WRITE_TABLE_TAG_ENABLED_DEFAULT;
@@ -438,6 +522,10 @@ public class S3FileIOProperties implements Serializable {
     this.deleteTags = Sets.newHashSet();
     this.deleteThreads = Runtime.getRuntime().availableProcessors();
     this.isDeleteEnabled = DELETE_ENABLED_DEFAULT;
+    this.isVectoredReadEnabled = VECTORED_READ_ENABLED_DEFAULT;
+    this.vectoredReadMaxMergeGap = VECTORED_READ_MAX_MERGE_GAP_DEFAULT;
+    this.vectoredReadMaxMergedSize = VECTORED_READ_MAX_MERGED_SIZE_DEFAULT;
+    this.vectoredReadThreads = Runtime.getRuntime().availableProcessors();
     this.bucketToAccessPointMapping = Collections.emptyMap();
     this.isPreloadClientEnabled = PRELOAD_CLIENT_ENABLED_DEFAULT;
     this.isDualStackEnabled = DUALSTACK_ENABLED_DEFAULT;
@@ -502,6 +590,24 @@ public class S3FileIOProperties implements Serializable {
     this.stagingDirectory =
         PropertyUtil.propertyAsString(
             properties, STAGING_DIRECTORY, System.getProperty("java.io.tmpdir"));
+    this.multipartBufferType =
+        PropertyUtil.propertyAsString(
+            properties, MULTIPART_BUFFER_TYPE, MULTIPART_BUFFER_TYPE_DISK);
+    Preconditions.checkArgument(
+        MULTIPART_BUFFER_TYPE_DISK.equals(multipartBufferType)
+            || MULTIPART_BUFFER_TYPE_HEAP.equals(multipartBufferType)
+            || MULTIPART_BUFFER_TYPE_DIRECT.equals(multipartBufferType),
+        "Invalid multipart buffer type: %s (must be %s, %s or %s)",
+        multipartBufferType,
+        MULTIPART_BUFFER_TYPE_DISK,
+        MULTIPART_BUFFER_TYPE_HEAP,
+        MULTIPART_BUFFER_TYPE_DIRECT);
+    this.multipartBufferCount =
+        PropertyUtil.propertyAsInt(
+            properties, MULTIPART_BUFFER_COUNT, MULTIPART_BUFFER_COUNT_DEFAULT);
+    this.multipartBufferWaitTimeoutMs =
+        PropertyUtil.propertyAsLong(
+            properties, MULTIPART_BUFFER_WAIT_TIMEOUT_MS, MULTIPART_BUFFER_WAIT_TIMEOUT_MS_DEFAULT);
     String aclType = properties.get(ACL);
     this.acl = ObjectCannedACL.fromValue(aclType);
     Preconditions.checkArgument(
@@ -527,6 +633,30 @@ public class S3FileIOProperties implements Serializable {
             properties, DELETE_THREADS, Runtime.getRuntime().availableProcessors());
     this.isDeleteEnabled =
         PropertyUtil.propertyAsBoolean(properties, DELETE_ENABLED, DELETE_ENABLED_DEFAULT);
+    this.isVectoredReadEnabled =
+        PropertyUtil.propertyAsBoolean(
+            properties, VECTORED_READ_ENABLED, VECTORED_READ_ENABLED_DEFAULT);
+    this.vectoredReadMaxMergeGap =
+        PropertyUtil.propertyAsInt(
+            properties, VECTORED_READ_MAX_MERGE_GAP, VECTORED_READ_MAX_MERGE_GAP_DEFAULT);
+    Preconditions.checkArgument(
+        vectoredReadMaxMergeGap >= 0,
+        "Invalid vectored read merge gap: %s (must be >= 0)",
+        vectoredReadMaxMergeGap);
+    this.vectoredReadMaxMergedSize =
+        PropertyUtil.propertyAsInt(
+            properties, VECTORED_READ_MAX_MERGED_SIZE, VECTORED_READ_MAX_MERGED_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        vectoredReadMaxMergedSize > 0,
+        "Invalid vectored read max merged size: %s (must be > 0)",
+        vectoredReadMaxMergedSize);
+    this.vectoredReadThreads =
+        PropertyUtil.propertyAsInt(
+            properties, VECTORED_READ_THREADS, Runtime.getRuntime().availableProcessors());
+    Preconditions.checkArgument(
+        vectoredReadThreads > 0,
+        "Invalid vectored read thread count: %s (must be > 0)",
+        vectoredReadThreads);
     this.bucketToAccessPointMapping =
         PropertyUtil.propertiesWithPrefix(properties, ACCESS_POINTS_PREFIX);
     this.isPreloadClientEnabled =
@@ -615,6 +745,30 @@ public class S3FileIOProperties implements Serializable {
     this.stagingDirectory = directory;
   }
 
+  public String multipartBufferType() {
+    return multipartBufferType;
+  }
+
+  public void setMultipartBufferType(String bufferType) {
+    this.multipartBufferType = bufferType;
+  }
+
+  public int multipartBufferCount() {
+    return multipartBufferCount;
+  }
+
+  public void setMultipartBufferCount(int bufferCount) {
+    this.multipartBufferCount = bufferCount;
+  }
+
+  public long multipartBufferWaitTimeoutMs() {
+    return multipartBufferWaitTimeoutMs;
+  }
+
+  public void setMultipartBufferWaitTimeoutMs(long timeoutMs) {
+    this.multipartBufferWaitTimeoutMs = timeoutMs;
+  }
+
   public ObjectCannedACL acl() {
     return this.acl;
   }
@@ -695,6 +849,46 @@ public class S3FileIOProperties implements Serializable {
     this.deleteThreads = threads;
   }
 
+  public boolean isVectoredReadEnabled() {
+    return isVectoredReadEnabled;
+  }
+
+  public void setVectoredReadEnabled(boolean vectoredReadEnabled) {
+    this.isVectoredReadEnabled = vectoredReadEnabled;
+  }
+
+  public int vectoredReadMaxMergeGap() {
+    return vectoredReadMaxMergeGap;
+  }
+
+  public void setVectoredReadMaxMergeGap(int maxMergeGap) {
+    Preconditions.checkArgument(
+        maxMergeGap >= 0, "Invalid vectored read merge gap: %s (must be >= 0)", maxMergeGap);
+    this.vectoredReadMaxMergeGap = maxMergeGap;
+  }
+
+  public int vectoredReadMaxMergedSize() {
+    return vectoredReadMaxMergedSize;
+  }
+
+  public void setVectoredReadMaxMergedSize(int maxMergedSize) {
+    Preconditions.checkArgument(
+        maxMergedSize > 0,
+        "Invalid vectored read max merged size: %s (must be > 0)",
+        maxMergedSize);
+    this.vectoredReadMaxMergedSize = maxMergedSize;
+  }
+
+  public int vectoredReadThreads() {
+    return vectoredReadThreads;
+  }
+
+  public void setVectoredReadThreads(int threads) {
+    Preconditions.checkArgument(
+        threads > 0, "Invalid vectored read thread count: %s (must be > 0)", threads);
+    this.vectoredReadThreads = threads;
+  }
+
   public boolean isDeleteEnabled() {
     return isDeleteEnabled;
   }
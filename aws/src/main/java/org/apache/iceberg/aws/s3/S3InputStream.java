@@ -20,9 +20,16 @@ package org.apache.iceberg.aws.s3;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntFunction;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.FileRange;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
@@ -31,7 +38,10 @@ import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
@@ -43,6 +53,10 @@ import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 class S3InputStream extends SeekableInputStream implements RangeReadable {
   private static final Logger LOG = LoggerFactory.getLogger(S3InputStream.class);
 
+  // pools are shared by all streams that use the same thread count
+  private static final ConcurrentMap<Integer, ExecutorService> VECTORED_READ_POOLS =
+      Maps.newConcurrentMap();
+
   private final StackTraceElement[] createStack;
   private final S3Client s3;
   private final S3URI location;
@@ -51,7 +65,8 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
   private InputStream stream;
   private long pos = 0;
   private long next = 0;
-  private boolean closed = false;
+  // read by vectored read threads to skip ranges of closed streams
+  private volatile boolean closed = false;
 
   private final Counter readBytes;
   private final Counter readOperations;
@@ -133,6 +148,122 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     return IOUtil.readRemaining(readRange(range), buffer, offset, length);
   }
 
+  /**
+   * Reads the given ranges using parallel ranged GET requests.
+   *
+   * <p>Ranges that are close to each other are merged into a single request, according to {@link
+   * S3FileIOProperties#VECTORED_READ_MAX_MERGE_GAP} and {@link
+   * S3FileIOProperties#VECTORED_READ_MAX_MERGED_SIZE}. Requests are submitted to a shared pool and
+   * this method returns without waiting for them, so {@code allocate} may be called concurrently
+   * from pool threads. Reads do not change the position of this stream.
+   */
+  @Override
+  public boolean isVectoredReadEnabled() {
+    return s3FileIOProperties.isVectoredReadEnabled();
+  }
+
+  @Override
+  public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+
+    List<FileRange> sortedRanges = Lists.newArrayListWithExpectedSize(ranges.size());
+    for (FileRange range : ranges) {
+      if (range.length() > 0) {
+        sortedRanges.add(range);
+      } else {
+        range.byteBuffer().complete(allocate.apply(0));
+      }
+    }
+
+    sortedRanges.sort(Comparator.comparingLong(FileRange::offset));
+    for (int i = 1; i < sortedRanges.size(); i += 1) {
+      FileRange previous = sortedRanges.get(i - 1);
+      FileRange current = sortedRanges.get(i);
+      Preconditions.checkArgument(
+          current.offset() >= previous.end(), "Overlapping ranges: %s, %s", previous, current);
+    }
+
+    ExecutorService pool = vectoredReadPool(s3FileIOProperties.vectoredReadThreads());
+    for (List<FileRange> mergedRange : mergeRanges(sortedRanges)) {
+      pool.execute(() -> readMergedRange(mergedRange, allocate));
+    }
+  }
+
+  private List<List<FileRange>> mergeRanges(List<FileRange> sortedRanges) {
+    long maxGap = s3FileIOProperties.vectoredReadMaxMergeGap();
+    long maxSize = s3FileIOProperties.vectoredReadMaxMergedSize();
+
+    List<List<FileRange>> mergedRanges = Lists.newArrayList();
+    List<FileRange> current = null;
+    long currentStart = 0L;
+    long currentEnd = 0L;
+    for (FileRange range : sortedRanges) {
+      if (current != null
+          && range.offset() - currentEnd <= maxGap
+          && range.end() - currentStart <= maxSize) {
+        current.add(range);
+        currentEnd = range.end();
+      } else {
+        current = Lists.newArrayList(range);
+        currentStart = range.offset();
+        currentEnd = range.end();
+        mergedRanges.add(current);
+      }
+    }
+
+    return mergedRanges;
+  }
+
+  private void readMergedRange(List<FileRange> mergedRange, IntFunction<ByteBuffer> allocate) {
+    long start = mergedRange.get(0).offset();
+    long end = mergedRange.get(mergedRange.size() - 1).end();
+
+    // ranges are cancelled by callers that no longer need them, for example when they are closed
+    if (closed || mergedRange.stream().allMatch(range -> range.byteBuffer().isDone())) {
+      mergedRange.forEach(range -> range.byteBuffer().cancel(false));
+      return;
+    }
+
+    try (InputStream rangeStream = readRange(String.format("bytes=%s-%s", start, end - 1))) {
+      long rangeStreamPos = start;
+      for (FileRange range : mergedRange) {
+        ByteStreams.skipFully(rangeStream, range.offset() - rangeStreamPos);
+        range.byteBuffer().complete(readIntoBuffer(rangeStream, range.length(), allocate));
+        rangeStreamPos = range.end();
+      }
+
+      readBytes.increment(end - start);
+      readOperations.increment();
+
+    } catch (Exception e) {
+      LOG.warn("Failed to read range [{}, {}) of {}", start, end, location, e);
+      mergedRange.forEach(range -> range.byteBuffer().completeExceptionally(e));
+    }
+  }
+
+  // reads a range directly into its buffer to avoid copying heap buffers
+  private static ByteBuffer readIntoBuffer(
+      InputStream rangeStream, int length, IntFunction<ByteBuffer> allocate) throws IOException {
+    ByteBuffer buffer = allocate.apply(length);
+    if (buffer.hasArray()) {
+      IOUtil.readFully(
+          rangeStream, buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+    } else {
+      byte[] bytes = new byte[length];
+      IOUtil.readFully(rangeStream, bytes, 0, length);
+      buffer.duplicate().put(bytes);
+    }
+
+    ByteBuffer result = buffer.slice();
+    result.limit(length);
+    return result;
+  }
+
+  private static ExecutorService vectoredReadPool(int threads) {
+    return VECTORED_READ_POOLS.computeIfAbsent(
+        threads, poolSize -> ThreadPools.newWorkerPool("iceberg-s3-vectored-read", poolSize));
+  }
+
   private InputStream readRange(String range) {
     GetObjectRequest.Builder requestBuilder =
         GetObjectRequest.builder().bucket(location.bucket()).key(location.key()).range(range);
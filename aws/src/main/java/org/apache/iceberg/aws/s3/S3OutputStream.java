@@ -27,6 +27,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.SequenceInputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
@@ -38,10 +39,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
+import org.apache.iceberg.io.ByteBufferInputStream;
 import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.PositionOutputStream;
 import org.apache.iceberg.metrics.Counter;
@@ -50,6 +53,7 @@ import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.base.Predicates;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.io.CountingOutputStream;
@@ -79,6 +83,9 @@ class S3OutputStream extends PositionOutputStream {
   private static final String digestAlgorithm = "MD5";
 
   private static volatile ExecutorService executorService;
+  // pools are shared by all streams that use the same part size, buffer type, and buffer count
+  private static final ConcurrentMap<List<Object>, MultipartBufferPool> BUFFER_POOLS =
+      Maps.newConcurrentMap();
 
   private final StackTraceElement[] createStack;
   private final S3Client s3;
@@ -87,11 +94,14 @@ class S3OutputStream extends PositionOutputStream {
   private final Set<Tag> writeTags;
 
   private CountingOutputStream stream;
-  private final List<FileAndDigest> stagingFiles = Lists.newArrayList();
+  private final List<StagedPart> stagedParts = Lists.newArrayList();
   private final File stagingDirectory;
-  private File currentStagingFile;
+  private final MultipartBufferPool partBufferPool;
+  private final long partBufferWaitTimeoutMs;
+  private StagedPart currentPart;
   private String multipartUploadId;
-  private final Map<File, CompletableFuture<CompletedPart>> multiPartMap = Maps.newHashMap();
+  private final Map<StagedPart, CompletableFuture<CompletedPart>> multiPartMap =
+      Maps.newHashMap();
   private final int multiPartSize;
   private final int multiPartThresholdSize;
   private final boolean isChecksumEnabled;
@@ -135,6 +145,8 @@ class S3OutputStream extends PositionOutputStream {
     this.multiPartThresholdSize =
         (int) (multiPartSize * s3FileIOProperties.multipartThresholdFactor());
     this.stagingDirectory = new File(s3FileIOProperties.stagingDirectory());
+    this.partBufferPool = partBufferPool(s3FileIOProperties);
+    this.partBufferWaitTimeoutMs = s3FileIOProperties.multipartBufferWaitTimeoutMs();
     this.isChecksumEnabled = s3FileIOProperties.isChecksumEnabled();
     try {
       this.completeMessageDigest =
@@ -164,7 +176,6 @@ class S3OutputStream extends PositionOutputStream {
   public void write(int b) throws IOException {
     if (stream.getCount() >= multiPartSize) {
       newStream();
-      uploadParts();
     }
 
     stream.write(b);
@@ -184,8 +195,8 @@ class S3OutputStream extends PositionOutputStream {
     int remaining = len;
     int relativeOffset = off;
 
-    // Write the remainder of the part size to the staging file
-    // and continue to write new staging files if the write is
+    // Write the remainder of the part size to the staged part
+    // and continue to write new staged parts if the write is
     // larger than the part size.
     while (stream.getCount() + remaining > multiPartSize) {
       int writeSize = multiPartSize - (int) stream.getCount();
@@ -195,7 +206,6 @@ class S3OutputStream extends PositionOutputStream {
       relativeOffset += writeSize;
 
       newStream();
-      uploadParts();
     }
 
     stream.write(b, relativeOffset, remaining);
@@ -213,11 +223,11 @@ class S3OutputStream extends PositionOutputStream {
   private void newStream() throws IOException {
     if (stream != null) {
       stream.close();
+      // upload the completed part before waiting for a buffer for the next part
+      currentPart = null;
+      uploadParts();
     }
 
-    createStagingDirectoryIfNotExists();
-    currentStagingFile = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
-    currentStagingFile.deleteOnExit();
     try {
       currentPartMessageDigest =
           isChecksumEnabled ? MessageDigest.getInstance(digestAlgorithm) : null;
@@ -226,29 +236,70 @@ class S3OutputStream extends PositionOutputStream {
           "Failed to create message digest needed for s3 checksum checks.", e);
     }
 
-    stagingFiles.add(new FileAndDigest(currentStagingFile, currentPartMessageDigest));
-    OutputStream outputStream = Files.newOutputStream(currentStagingFile.toPath());
+    currentPart = newPart(currentPartMessageDigest);
+    stagedParts.add(currentPart);
+    OutputStream outputStream = currentPart.newOutputStream();
 
     if (isChecksumEnabled) {
       DigestOutputStream digestOutputStream;
 
       // if switched over to multipart threshold already, no need to update complete message digest
       if (multipartUploadId != null) {
-        digestOutputStream =
-            new DigestOutputStream(
-                new BufferedOutputStream(outputStream), currentPartMessageDigest);
+        digestOutputStream = new DigestOutputStream(outputStream, currentPartMessageDigest);
       } else {
         digestOutputStream =
             new DigestOutputStream(
-                new DigestOutputStream(
-                    new BufferedOutputStream(outputStream), currentPartMessageDigest),
+                new DigestOutputStream(outputStream, currentPartMessageDigest),
                 completeMessageDigest);
       }
 
       stream = new CountingOutputStream(digestOutputStream);
     } else {
-      stream = new CountingOutputStream(new BufferedOutputStream(outputStream));
+      stream = new CountingOutputStream(outputStream);
+    }
+  }
+
+  /**
+   * Creates a part in a pooled buffer, waiting while all buffers are in flight, or in a staging
+   * file if parts are not buffered in memory or no buffer was released in time.
+   */
+  private StagedPart newPart(MessageDigest digest) throws IOException {
+    if (partBufferPool != null) {
+      // parts are only uploaded and their buffers released once the multipart upload is started,
+      // so waiting for a buffer before that may wait for buffers that this stream holds itself
+      long timeoutMs = multipartUploadId != null ? partBufferWaitTimeoutMs : 0L;
+      ByteBuffer buffer = partBufferPool.acquire(timeoutMs);
+      if (buffer != null) {
+        return new BufferPart(partBufferPool, buffer, digest);
+      }
+
+      LOG.debug(
+          "No multipart buffer was available within {} ms, staging part on disk: {}",
+          timeoutMs,
+          location);
     }
+
+    createStagingDirectoryIfNotExists();
+    File stagingFile = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
+    stagingFile.deleteOnExit();
+    return new FilePart(stagingFile, digest);
+  }
+
+  private static MultipartBufferPool partBufferPool(S3FileIOProperties properties) {
+    String bufferType = properties.multipartBufferType();
+    if (S3FileIOProperties.MULTIPART_BUFFER_TYPE_DISK.equals(bufferType)) {
+      return null;
+    }
+
+    int bufferSize = properties.multiPartSize();
+    int bufferCount = properties.multipartBufferCount();
+    return BUFFER_POOLS.computeIfAbsent(
+        ImmutableList.of(bufferType, bufferSize, bufferCount),
+        key ->
+            new MultipartBufferPool(
+                bufferSize,
+                bufferCount,
+                S3FileIOProperties.MULTIPART_BUFFER_TYPE_DIRECT.equals(bufferType)));
   }
 
   @Override
@@ -264,7 +315,7 @@ class S3OutputStream extends PositionOutputStream {
       stream.close();
       completeUploads();
     } finally {
-      cleanUpStagingFiles();
+      cleanUpStagedParts();
     }
   }
 
@@ -291,24 +342,23 @@ class S3OutputStream extends PositionOutputStream {
       return;
     }
 
-    stagingFiles.stream()
-        // do not upload the file currently being written
-        .filter(f -> closed || !f.file().equals(currentStagingFile))
-        // do not upload any files that have already been processed
-        .filter(Predicates.not(f -> multiPartMap.containsKey(f.file())))
+    stagedParts.stream()
+        // do not upload the part currently being written
+        .filter(part -> closed || part != currentPart)
+        // do not upload any parts that have already been processed
+        .filter(Predicates.not(multiPartMap::containsKey))
         .forEach(
-            fileAndDigest -> {
-              File f = fileAndDigest.file();
+            part -> {
               UploadPartRequest.Builder requestBuilder =
                   UploadPartRequest.builder()
                       .bucket(location.bucket())
                       .key(location.key())
                       .uploadId(multipartUploadId)
-                      .partNumber(stagingFiles.indexOf(fileAndDigest) + 1)
-                      .contentLength(f.length());
+                      .partNumber(stagedParts.indexOf(part) + 1)
+                      .contentLength(part.length());
 
-              if (fileAndDigest.hasDigest()) {
-                requestBuilder.contentMD5(BinaryUtils.toBase64(fileAndDigest.digest()));
+              if (part.hasDigest()) {
+                requestBuilder.contentMD5(BinaryUtils.toBase64(part.digest()));
               }
 
               S3RequestUtil.configureEncryption(s3FileIOProperties, requestBuilder);
@@ -319,7 +369,7 @@ class S3OutputStream extends PositionOutputStream {
                   CompletableFuture.supplyAsync(
                           () -> {
                             UploadPartResponse response =
-                                s3.uploadPart(uploadRequest, RequestBody.fromFile(f));
+                                s3.uploadPart(uploadRequest, part.requestBody());
                             return CompletedPart.builder()
                                 .eTag(response.eTag())
                                 .partNumber(uploadRequest.partNumber())
@@ -328,11 +378,7 @@ class S3OutputStream extends PositionOutputStream {
                           executorService)
                       .whenComplete(
                           (result, thrown) -> {
-                            try {
-                              Files.deleteIfExists(f.toPath());
-                            } catch (IOException e) {
-                              LOG.warn("Failed to delete staging file: {}", f, e);
-                            }
+                            part.release();
 
                             if (thrown != null) {
                               // Exception observed here will be thrown as part of
@@ -342,7 +388,7 @@ class S3OutputStream extends PositionOutputStream {
                             }
                           });
 
-              multiPartMap.put(f, future);
+              multiPartMap.put(part, future);
             });
   }
 
@@ -392,28 +438,26 @@ class S3OutputStream extends PositionOutputStream {
                 .uploadId(multipartUploadId)
                 .build());
       } finally {
-        cleanUpStagingFiles();
+        cleanUpStagedParts();
       }
     }
   }
 
-  private void cleanUpStagingFiles() {
-    Tasks.foreach(stagingFiles.stream().map(FileAndDigest::file))
+  private void cleanUpStagedParts() {
+    Tasks.foreach(stagedParts)
         .suppressFailureWhenFinished()
-        .onFailure((file, thrown) -> LOG.warn("Failed to delete staging file: {}", file, thrown))
-        .run(File::delete);
+        .onFailure((part, thrown) -> LOG.warn("Failed to release staged part: {}", part, thrown))
+        .run(StagedPart::release);
   }
 
   private void completeUploads() {
     if (multipartUploadId == null) {
-      long contentLength =
-          stagingFiles.stream().map(FileAndDigest::file).mapToLong(File::length).sum();
+      long contentLength = stagedParts.stream().mapToLong(StagedPart::length).sum();
       ContentStreamProvider contentProvider =
           () ->
               new BufferedInputStream(
-                  stagingFiles.stream()
-                      .map(FileAndDigest::file)
-                      .map(S3OutputStream::uncheckedInputStream)
+                  stagedParts.stream()
+                      .map(StagedPart::newInputStream)
                       .reduce(SequenceInputStream::new)
                       .orElseGet(() -> new ByteArrayInputStream(new byte[0])));
 
@@ -445,14 +489,6 @@ class S3OutputStream extends PositionOutputStream {
     }
   }
 
-  private static InputStream uncheckedInputStream(File file) {
-    try {
-      return Files.newInputStream(file.toPath());
-    } catch (IOException e) {
-      throw new UncheckedIOException(e);
-    }
-  }
-
   private void createStagingDirectoryIfNotExists() throws IOException, SecurityException {
     if (!stagingDirectory.exists()) {
       LOG.info(
@@ -486,25 +522,139 @@ class S3OutputStream extends PositionOutputStream {
     }
   }
 
-  private static class FileAndDigest {
-    private final File file;
+  /** A part of the upload that is staged locally until it is uploaded. */
+  private abstract static class StagedPart {
     private final MessageDigest digest;
 
-    FileAndDigest(File file, MessageDigest digest) {
-      this.file = file;
+    StagedPart(MessageDigest digest) {
       this.digest = digest;
     }
 
-    File file() {
-      return file;
-    }
+    /** Returns a stream to write the content of this part. */
+    abstract OutputStream newOutputStream() throws IOException;
+
+    /** Returns a stream to read the content of this part. */
+    abstract InputStream newInputStream();
+
+    /** Returns the number of bytes written to this part. */
+    abstract long length();
+
+    /** Returns a request body to upload the content of this part. */
+    abstract RequestBody requestBody();
+
+    /** Releases the resources held by this part. This may be called more than once. */
+    abstract void release();
 
     byte[] digest() {
       return digest.digest();
     }
 
-    public boolean hasDigest() {
+    boolean hasDigest() {
       return digest != null;
     }
   }
+
+  private static class FilePart extends StagedPart {
+    private final File file;
+
+    FilePart(File file, MessageDigest digest) {
+      super(digest);
+      this.file = file;
+    }
+
+    @Override
+    OutputStream newOutputStream() throws IOException {
+      return new BufferedOutputStream(Files.newOutputStream(file.toPath()));
+    }
+
+    @Override
+    InputStream newInputStream() {
+      try {
+        return Files.newInputStream(file.toPath());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    long length() {
+      return file.length();
+    }
+
+    @Override
+    RequestBody requestBody() {
+      return RequestBody.fromFile(file);
+    }
+
+    @Override
+    void release() {
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (IOException e) {
+        LOG.warn("Failed to delete staging file: {}", file, e);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return file.toString();
+    }
+  }
+
+  private static class BufferPart extends StagedPart {
+    private final MultipartBufferPool pool;
+    private ByteBuffer buffer;
+
+    BufferPart(MultipartBufferPool pool, ByteBuffer buffer, MessageDigest digest) {
+      super(digest);
+      this.pool = pool;
+      this.buffer = buffer;
+    }
+
+    @Override
+    OutputStream newOutputStream() {
+      return new OutputStream() {
+        @Override
+        public void write(int b) {
+          buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int off, int len) {
+          buffer.put(bytes, off, len);
+        }
+      };
+    }
+
+    @Override
+    InputStream newInputStream() {
+      ByteBuffer content = buffer.duplicate();
+      content.flip();
+      return ByteBufferInputStream.wrap(content);
+    }
+
+    @Override
+    long length() {
+      return buffer.position();
+    }
+
+    @Override
+    RequestBody requestBody() {
+      return RequestBody.fromContentProvider(
+          this::newInputStream, length(), Mimetype.MIMETYPE_OCTET_STREAM);
+    }
+
+    @Override
+    synchronized void release() {
+      if (buffer != null) {
+        pool.release(buffer);
+        this.buffer = null;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "buffer part (" + (buffer != null ? buffer.position() + " bytes" : "released") + ")";
+    }
+  }
 }
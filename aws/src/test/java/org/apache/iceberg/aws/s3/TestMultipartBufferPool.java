@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.aws.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class TestMultipartBufferPool {
+
+  @Test
+  public void testAcquireAndRelease() throws Exception {
+    MultipartBufferPool pool = new MultipartBufferPool(1024, 2, false /* heap */);
+
+    ByteBuffer first = pool.acquire(0);
+    ByteBuffer second = pool.acquire(0);
+    assertThat(first).isNotNull();
+    assertThat(second).isNotNull().isNotSameAs(first);
+    assertThat(first.capacity()).isEqualTo(1024);
+    assertThat(first.isDirect()).isFalse();
+    assertThat(pool.availableBuffers()).isEqualTo(0);
+
+    assertThat(pool.acquire(10)).as("Should time out when all buffers are in use").isNull();
+
+    first.put(new byte[100]);
+    pool.release(first);
+    ByteBuffer reused = pool.acquire(0);
+    assertThat(reused).as("Should reuse released buffers").isSameAs(first);
+    assertThat(reused.position()).as("Reused buffers should be empty").isEqualTo(0);
+    assertThat(reused.remaining()).isEqualTo(1024);
+  }
+
+  @Test
+  public void testDirectBuffers() throws Exception {
+    MultipartBufferPool pool = new MultipartBufferPool(1024, 1, true /* direct */);
+    assertThat(pool.acquire(0).isDirect()).isTrue();
+  }
+
+  @Test
+  public void testAcquireWaitsForRelease() throws Exception {
+    MultipartBufferPool pool = new MultipartBufferPool(1024, 1, false);
+    ByteBuffer buffer = pool.acquire(0);
+
+    CompletableFuture<ByteBuffer> waiting =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return pool.acquire(TimeUnit.MINUTES.toMillis(1));
+              } catch (InterruptedIOException e) {
+                throw new RuntimeException(e);
+              }
+            });
+
+    Thread.sleep(50);
+    assertThat(waiting).as("Should wait while all buffers are in use").isNotDone();
+
+    pool.release(buffer);
+    assertThat(waiting.get(10, TimeUnit.SECONDS)).isSameAs(buffer);
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    assertThatThrownBy(() -> new MultipartBufferPool(0, 1, false))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid buffer size: 0 (must be positive)");
+    assertThatThrownBy(() -> new MultipartBufferPool(1024, 0, false))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid number of buffers: 0 (must be positive)");
+  }
+}
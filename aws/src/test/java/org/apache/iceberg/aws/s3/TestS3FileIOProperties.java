@@ -371,6 +371,34 @@ public class TestS3FileIOProperties {
         .hasMessage("Deletion batch size must be between 1 and 1000");
   }
 
+  @Test
+  public void testS3VectoredReadThreadsInvalid() {
+    Map<String, String> map = Maps.newHashMap();
+    map.put(S3FileIOProperties.VECTORED_READ_THREADS, "0");
+
+    Assertions.assertThatThrownBy(() -> new S3FileIOProperties(map))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid vectored read thread count: 0 (must be > 0)");
+
+    Assertions.assertThatThrownBy(() -> new S3FileIOProperties().setVectoredReadThreads(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid vectored read thread count: -1 (must be > 0)");
+  }
+
+  @Test
+  public void testS3VectoredReadMaxMergedSizeInvalid() {
+    Map<String, String> map = Maps.newHashMap();
+    map.put(S3FileIOProperties.VECTORED_READ_MAX_MERGED_SIZE, "0");
+
+    Assertions.assertThatThrownBy(() -> new S3FileIOProperties(map))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid vectored read max merged size: 0 (must be > 0)");
+
+    Assertions.assertThatThrownBy(() -> new S3FileIOProperties().setVectoredReadMaxMergedSize(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid vectored read max merged size: -1 (must be > 0)");
+  }
+
   private Map<String, String> getTestProperties() {
     Map<String, String> map = Maps.newHashMap();
     map.put(S3FileIOProperties.SSE_TYPE, "sse_type");
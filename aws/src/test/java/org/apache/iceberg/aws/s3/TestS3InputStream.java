@@ -20,11 +20,18 @@ package org.apache.iceberg.aws.s3;
 
 import com.adobe.testing.s3mock.junit5.S3MockExtension;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.io.FileRange;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -149,6 +156,75 @@ public class TestS3InputStream {
         .isEqualTo(Arrays.copyOfRange(original, offset, offset + length));
   }
 
+  @Test
+  public void testVectoredRead() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/vectored-read.dat");
+    int dataSize = 1024 * 1024 * 4;
+    byte[] expected = randomData(dataSize);
+
+    writeS3Data(uri, expected);
+
+    S3FileIOProperties properties =
+        new S3FileIOProperties(
+            ImmutableMap.of(
+                S3FileIOProperties.VECTORED_READ_MAX_MERGE_GAP, "4096",
+                S3FileIOProperties.VECTORED_READ_MAX_MERGED_SIZE, "65536"));
+
+    List<FileRange> ranges =
+        ImmutableList.of(
+            // out of order and separated by more than the merge gap
+            new FileRange(dataSize - 1024, 1024),
+            new FileRange(0, 1024),
+            // merged with the previous range
+            new FileRange(2048, 1024),
+            // too large to be merged with the previous range
+            new FileRange(4096, 128 * 1024),
+            new FileRange(1024 * 1024, 0),
+            new FileRange(2 * 1024 * 1024, 100));
+
+    try (S3InputStream in = new S3InputStream(s3, uri, properties, MetricsContext.nullMetrics())) {
+      in.readVectored(ranges, ByteBuffer::allocate);
+
+      for (FileRange range : ranges) {
+        ByteBuffer buffer = range.byteBuffer().get(10, TimeUnit.SECONDS);
+        byte[] actual = new byte[buffer.remaining()];
+        buffer.get(actual);
+        Assertions.assertThat(actual)
+            .as("Bytes of range %s", range)
+            .isEqualTo(Arrays.copyOfRange(expected, (int) range.offset(), (int) range.end()));
+      }
+    }
+  }
+
+  @Test
+  public void testVectoredReadEnabled() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/vectored-read-enabled.dat");
+    writeS3Data(uri, randomData(1024));
+
+    try (S3InputStream in = new S3InputStream(s3, uri)) {
+      Assertions.assertThat(in.isVectoredReadEnabled()).isFalse();
+    }
+
+    S3FileIOProperties properties =
+        new S3FileIOProperties(ImmutableMap.of(S3FileIOProperties.VECTORED_READ_ENABLED, "true"));
+    try (S3InputStream in = new S3InputStream(s3, uri, properties, MetricsContext.nullMetrics())) {
+      Assertions.assertThat(in.isVectoredReadEnabled()).isTrue();
+    }
+  }
+
+  @Test
+  public void testVectoredReadOverlappingRanges() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/vectored-read-overlap.dat");
+    writeS3Data(uri, randomData(4096));
+
+    List<FileRange> ranges = ImmutableList.of(new FileRange(0, 1024), new FileRange(512, 1024));
+    try (S3InputStream in = new S3InputStream(s3, uri)) {
+      Assertions.assertThatThrownBy(() -> in.readVectored(ranges, ByteBuffer::allocate))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageStartingWith("Overlapping ranges");
+    }
+  }
+
   @Test
   public void testClose() throws Exception {
     S3URI uri = new S3URI("s3://bucket/path/to/closed.dat");
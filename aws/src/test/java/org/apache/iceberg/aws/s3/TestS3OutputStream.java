@@ -47,6 +47,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.mockito.ArgumentCaptor;
@@ -102,6 +103,7 @@ public class TestS3OutputStream {
   @BeforeEach
   public void before() {
     properties.setChecksumEnabled(false);
+    properties.setMultipartBufferType(S3FileIOProperties.MULTIPART_BUFFER_TYPE_DISK);
     createBucket(BUCKET);
   }
 
@@ -179,6 +181,40 @@ public class TestS3OutputStream {
     writeTest();
   }
 
+  @Test
+  public void testWriteWithHeapBuffers() {
+    properties.setMultipartBufferType(S3FileIOProperties.MULTIPART_BUFFER_TYPE_HEAP);
+    writeTest();
+  }
+
+  @Test
+  public void testWriteWithHeapBuffersAndChecksumEnabled() {
+    properties.setMultipartBufferType(S3FileIOProperties.MULTIPART_BUFFER_TYPE_HEAP);
+    properties.setChecksumEnabled(true);
+    writeTest();
+  }
+
+  @Test
+  @Timeout(30)
+  public void testWriteWithSingleHeapBuffer() {
+    // the only buffer is held by the first part until the multipart upload starts, so the second
+    // part must not wait for it
+    properties.setMultipartBufferType(S3FileIOProperties.MULTIPART_BUFFER_TYPE_HEAP);
+    properties.setMultipartBufferCount(1);
+    properties.setMultipartBufferWaitTimeoutMs(60_000L);
+    writeTest();
+  }
+
+  @Test
+  public void testInvalidBufferType() {
+    Assertions.assertThatThrownBy(
+            () ->
+                new S3FileIOProperties(
+                    ImmutableMap.of(S3FileIOProperties.MULTIPART_BUFFER_TYPE, "offheap")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid multipart buffer type: offheap");
+  }
+
   @Test
   public void testDoubleClose() throws IOException {
     IllegalStateException mockException =
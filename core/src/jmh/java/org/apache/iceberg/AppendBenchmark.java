@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.inmemory.InMemoryCatalog;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ThreadPools;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark that measures commit time for appends that add a large number of data files.
+ *
+ * <p>Tables are kept in memory so that the results show the cost of producing manifests rather
+ * than storage latency. The number of worker threads controls how many threads write new manifests
+ * and a single thread approximates writing all new manifests on the committing thread.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=AppendBenchmark
+ *       -PjmhOutputPath=benchmark/append-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@Timeout(time = 30, timeUnit = TimeUnit.MINUTES)
+public class AppendBenchmark {
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), required(2, "data", Types.StringType.get()));
+  private static final PartitionSpec SPEC =
+      PartitionSpec.builderFor(SCHEMA).bucket("id", 1024).build();
+  private static final TableIdentifier TABLE_IDENT = TableIdentifier.of("db", "table");
+
+  @Param({"1000000"})
+  private int numFiles;
+
+  @Param({"1", "8"})
+  private int numWorkerThreads;
+
+  private List<DataFile> dataFiles;
+  private ExecutorService workerPool;
+  private InMemoryCatalog catalog;
+  private Table table;
+
+  @Setup
+  public void setupBenchmark() {
+    this.dataFiles = Lists.newArrayListWithExpectedSize(numFiles);
+    for (int i = 0; i < numFiles; i += 1) {
+      dataFiles.add(
+          DataFiles.builder(SPEC)
+              .withFormat(FileFormat.PARQUET)
+              .withPath(String.format("/path/to/data-%d.parquet", i))
+              .withFileSizeInBytes(128 * 1024 * 1024)
+              .withPartitionPath("id_bucket=" + (i % 1024))
+              .withRecordCount(1_000_000)
+              .build());
+    }
+
+    this.workerPool = ThreadPools.newWorkerPool("append-benchmark", numWorkerThreads);
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    workerPool.shutdownNow();
+  }
+
+  @Setup(Level.Iteration)
+  public void setupTable() {
+    // use a new in-memory catalog for each iteration so that commits start from an empty table
+    this.catalog = new InMemoryCatalog();
+    catalog.initialize("append-benchmark", ImmutableMap.of());
+    catalog.createNamespace(Namespace.of("db"));
+    this.table =
+        catalog.createTable(
+            TABLE_IDENT, SCHEMA, SPEC, ImmutableMap.of(TableProperties.FORMAT_VERSION, "2"));
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDownTable() throws IOException {
+    catalog.close();
+    this.catalog = null;
+    this.table = null;
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void fastAppend() {
+    AppendFiles append = table.newFastAppend().scanManifestsWith(workerPool);
+    dataFiles.forEach(append::appendFile);
+    append.commit();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void mergeAppend() {
+    AppendFiles append = table.newAppend().scanManifestsWith(workerPool);
+    dataFiles.forEach(append::appendFile);
+    append.commit();
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares reading table metadata through a JSON tree with streaming and lazy
+ * snapshot reads, and measures writing metadata files.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=TableMetadataParserBenchmark
+ *       -PjmhOutputPath=benchmark/table-metadata-parser-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.SingleShotTime)
+@Timeout(time = 10, timeUnit = TimeUnit.MINUTES)
+public class TableMetadataParserBenchmark {
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), required(2, "data", Types.StringType.get()));
+  private static final int NUM_TAGS = 10;
+
+  @Param({"100", "10000"})
+  private int numSnapshots;
+
+  private Path tempDir;
+  private TableMetadata metadata;
+  private InputFile metadataFile;
+  private OutputFile outputFile;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    this.tempDir = Files.createTempDirectory("metadata-benchmark-");
+    this.metadata = syntheticMetadata(numSnapshots);
+
+    File file = tempDir.resolve("v1.metadata.json").toFile();
+    TableMetadataParser.write(metadata, org.apache.iceberg.Files.localOutput(file));
+    this.metadataFile = org.apache.iceberg.Files.localInput(file);
+
+    File outFile = tempDir.resolve("v2.metadata.json").toFile();
+    this.outputFile = org.apache.iceberg.Files.localOutput(outFile);
+  }
+
+  @TearDown
+  public void tearDownBenchmark() throws IOException {
+    Files.deleteIfExists(tempDir.resolve("v1.metadata.json"));
+    Files.deleteIfExists(tempDir.resolve("v2.metadata.json"));
+    Files.deleteIfExists(tempDir);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readTree(Blackhole blackhole) {
+    try (InputStream in = metadataFile.newStream()) {
+      JsonNode node = JsonUtil.mapper().readValue(in, JsonNode.class);
+      blackhole.consume(TableMetadataParser.fromJson(metadataFile.location(), node));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readStreaming(Blackhole blackhole) {
+    blackhole.consume(TableMetadataParser.read(metadataFile, false));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readLazySnapshots(Blackhole blackhole) {
+    TableMetadata lazyMetadata = TableMetadataParser.read(metadataFile, true);
+    blackhole.consume(lazyMetadata.currentSnapshot());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void write() {
+    TableMetadataParser.overwrite(metadata, outputFile);
+  }
+
+  private static TableMetadata syntheticMetadata(int numSnapshots) {
+    TableMetadata base =
+        TableMetadata.newTableMetadata(
+            SCHEMA, PartitionSpec.unpartitioned(), "file:/tmp/db/table", ImmutableMap.of());
+    TableMetadata.Builder builder = TableMetadata.buildFrom(base);
+
+    for (long id = 1; id <= numSnapshots; id += 1) {
+      Snapshot snapshot =
+          new BaseSnapshot(
+              id,
+              id,
+              id > 1 ? id - 1 : null,
+              base.lastUpdatedMillis() + id,
+              DataOperations.APPEND,
+              ImmutableMap.of(
+                  SnapshotSummary.ADDED_FILES_PROP,
+                  "10",
+                  SnapshotSummary.ADDED_RECORDS_PROP,
+                  "10000",
+                  SnapshotSummary.TOTAL_DATA_FILES_PROP,
+                  String.valueOf(id * 10),
+                  SnapshotSummary.TOTAL_RECORDS_PROP,
+                  String.valueOf(id * 10000)),
+              base.currentSchemaId(),
+              String.format("file:/tmp/db/table/metadata/snap-%d.avro", id));
+      builder.setBranchSnapshot(snapshot, SnapshotRef.MAIN_BRANCH);
+
+      if (id % 10 == 0) {
+        builder.setStatistics(
+            id,
+            new GenericStatisticsFile(
+                id,
+                String.format("file:/tmp/db/table/metadata/stats-%d.puffin", id),
+                1024L,
+                128L,
+                ImmutableList.of(
+                    new GenericBlobMetadata(
+                        "apache-datasketches-theta-v1",
+                        id,
+                        id,
+                        ImmutableList.of(1, 2),
+                        ImmutableMap.of("ndv", "1000")))));
+      }
+    }
+
+    for (int tag = 0; tag < NUM_TAGS && tag < numSnapshots; tag += 1) {
+      builder.setRef("tag-" + tag, SnapshotRef.tagBuilder(tag + 1L).build());
+    }
+
+    return builder.build();
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares the synchronized {@link FixedReservoirHistogram} with the lock-free
+ * {@link LogLinearHistogram} when many threads record values, like read latencies in FileIO.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=HistogramBenchmark
+ *       -PjmhOutputPath=benchmark/histogram-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Measurement(iterations = 25)
+@BenchmarkMode(Mode.SingleShotTime)
+@Timeout(time = 10, timeUnit = TimeUnit.MINUTES)
+public class HistogramBenchmark {
+
+  private static final int NUM_OPERATIONS = 1_000_000;
+  private static final int WORKER_POOL_SIZE = 16;
+  private static final int RESERVOIR_SIZE = 10_000;
+
+  @Benchmark
+  @Threads(1)
+  public void fixedReservoirHistogramMultipleThreads(Blackhole blackhole) {
+    Histogram histogram = new FixedReservoirHistogram(RESERVOIR_SIZE);
+    updateConcurrently(histogram);
+    blackhole.consume(histogram.statistics());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void logLinearHistogramMultipleThreads(Blackhole blackhole) {
+    Histogram histogram = new LogLinearHistogram();
+    updateConcurrently(histogram);
+    blackhole.consume(histogram.statistics());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void fixedReservoirHistogramSingleThread(Blackhole blackhole) {
+    Histogram histogram = new FixedReservoirHistogram(RESERVOIR_SIZE);
+    for (int operation = 0; operation < WORKER_POOL_SIZE * NUM_OPERATIONS; operation++) {
+      histogram.update(value(operation));
+    }
+
+    blackhole.consume(histogram.statistics());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void logLinearHistogramSingleThread(Blackhole blackhole) {
+    Histogram histogram = new LogLinearHistogram();
+    for (int operation = 0; operation < WORKER_POOL_SIZE * NUM_OPERATIONS; operation++) {
+      histogram.update(value(operation));
+    }
+
+    blackhole.consume(histogram.statistics());
+  }
+
+  private static void updateConcurrently(Histogram histogram) {
+    ExecutorService workerPool = ThreadPools.newWorkerPool("bench-pool", WORKER_POOL_SIZE);
+
+    try {
+      Tasks.range(WORKER_POOL_SIZE)
+          .executeWith(workerPool)
+          .run(
+              id -> {
+                for (int operation = 0; operation < NUM_OPERATIONS; operation++) {
+                  histogram.update(value(operation));
+                }
+              });
+    } finally {
+      workerPool.shutdown();
+    }
+  }
+
+  // spreads values over several orders of magnitude, similar to request latencies in micros
+  private static long value(int operation) {
+    return 100L + (operation % 1000) * (operation % 97);
+  }
+}
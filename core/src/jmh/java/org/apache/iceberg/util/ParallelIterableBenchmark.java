@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares the unbounded and the bounded modes of {@link ParallelIterable} when
+ * producers emit many tasks, similar to planning a table with a large number of manifests.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=ParallelIterableBenchmark
+ *       -PjmhOutputPath=benchmark/parallel-iterable-benchmark.txt
+ * </code>
+ *
+ * <p>The {@code peakHeapBytes} secondary result reports the highest heap usage sampled by the
+ * consumer during each iteration.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.SingleShotTime)
+@Timeout(time = 10, timeUnit = TimeUnit.MINUTES)
+public class ParallelIterableBenchmark {
+
+  private static final int NUM_MANIFESTS = 20_000;
+  private static final int NUM_TASKS_PER_MANIFEST = 100;
+  private static final int TASK_SIZE_BYTES = 256;
+  private static final int HEAP_SAMPLE_INTERVAL = 10_000;
+  private static final int WORKER_POOL_SIZE = 16;
+
+  @Param({"0", "10000"})
+  private int maxQueueSize;
+
+  private ExecutorService workerPool;
+  private List<Iterable<byte[]>> manifests;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class HeapCounters {
+    public long peakHeapBytes = 0L;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      this.peakHeapBytes = 0L;
+    }
+
+    void sample() {
+      Runtime runtime = Runtime.getRuntime();
+      this.peakHeapBytes = Math.max(peakHeapBytes, runtime.totalMemory() - runtime.freeMemory());
+    }
+  }
+
+  @Setup
+  public void setupBenchmark() {
+    this.workerPool = ThreadPools.newWorkerPool("bench-pool", WORKER_POOL_SIZE);
+    this.manifests = Lists.newArrayListWithExpectedSize(NUM_MANIFESTS);
+    for (int manifest = 0; manifest < NUM_MANIFESTS; manifest += 1) {
+      manifests.add(
+          () ->
+              new Iterator<byte[]>() {
+                private int produced = 0;
+
+                @Override
+                public boolean hasNext() {
+                  return produced < NUM_TASKS_PER_MANIFEST;
+                }
+
+                @Override
+                public byte[] next() {
+                  produced += 1;
+                  return new byte[TASK_SIZE_BYTES];
+                }
+              });
+    }
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    workerPool.shutdownNow();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void latencyToFirstTask(Blackhole blackhole) {
+    try (CloseableIterator<byte[]> iterator = newIterable().iterator()) {
+      blackhole.consume(iterator.next());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void slowConsumer(Blackhole blackhole, HeapCounters counters) {
+    long count = 0L;
+    try (CloseableIterator<byte[]> iterator = newIterable().iterator()) {
+      while (iterator.hasNext()) {
+        blackhole.consume(iterator.next());
+        Blackhole.consumeCPU(100);
+        count += 1;
+        if (count % HEAP_SAMPLE_INTERVAL == 0) {
+          counters.sample();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    blackhole.consume(count);
+  }
+
+  private ParallelIterable<byte[]> newIterable() {
+    if (maxQueueSize > 0) {
+      return new ParallelIterable<>(manifests, workerPool, maxQueueSize);
+    } else {
+      return new ParallelIterable<>(manifests, workerPool, Integer.MAX_VALUE);
+    }
+  }
+}
@@ -20,6 +20,7 @@ package org.apache.iceberg;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Locale;
 import java.util.Map;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.TableIdentifier;
@@ -45,7 +46,7 @@ public abstract class BaseMetastoreCatalog implements Catalog, Closeable {
   public Table loadTable(TableIdentifier identifier) {
     Table result;
     if (isValidIdentifier(identifier)) {
-      TableOperations ops = newTableOps(identifier);
+      TableOperations ops = newLoadTableOps(identifier);
       if (ops.current() == null) {
         // the identifier may be valid for both tables and metadata tables
         if (isValidMetadataIdentifier(identifier)) {
@@ -101,7 +102,7 @@ public abstract class BaseMetastoreCatalog implements Catalog, Closeable {
     MetadataTableType type = MetadataTableType.from(tableName);
     if (type != null) {
       TableIdentifier baseTableIdentifier = TableIdentifier.of(identifier.namespace().levels());
-      TableOperations ops = newTableOps(baseTableIdentifier);
+      TableOperations ops = newLoadTableOps(baseTableIdentifier);
       if (ops.current() == null) {
         throw new NoSuchTableException("Table does not exist: %s", baseTableIdentifier);
       }
@@ -113,6 +114,15 @@ public abstract class BaseMetastoreCatalog implements Catalog, Closeable {
     }
   }
 
+  private TableOperations newLoadTableOps(TableIdentifier identifier) {
+    TableOperations ops = newTableOps(identifier);
+    if (ops instanceof BaseMetastoreTableOperations && refsOnlySnapshotLoading()) {
+      ((BaseMetastoreTableOperations) ops).setRefsOnlySnapshotLoading(true);
+    }
+
+    return ops;
+  }
+
   private boolean isValidMetadataIdentifier(TableIdentifier identifier) {
     return MetadataTableType.from(identifier.name()) != null
         && isValidIdentifier(TableIdentifier.of(identifier.namespace().levels()));
@@ -127,6 +137,26 @@ public abstract class BaseMetastoreCatalog implements Catalog, Closeable {
     return ImmutableMap.of();
   }
 
+  /**
+   * Returns whether tables are loaded with only the snapshots referenced by branches and tags.
+   *
+   * @see CatalogProperties#SNAPSHOT_LOADING_MODE
+   */
+  protected boolean refsOnlySnapshotLoading() {
+    String mode =
+        PropertyUtil.propertyAsString(
+                properties(),
+                CatalogProperties.SNAPSHOT_LOADING_MODE,
+                CatalogProperties.SNAPSHOT_LOADING_MODE_DEFAULT)
+            .toLowerCase(Locale.ROOT);
+    Preconditions.checkArgument(
+        CatalogProperties.SNAPSHOT_LOADING_MODE_ALL.equals(mode)
+            || CatalogProperties.SNAPSHOT_LOADING_MODE_REFS.equals(mode),
+        "Invalid snapshot loading mode: %s",
+        mode);
+    return CatalogProperties.SNAPSHOT_LOADING_MODE_REFS.equals(mode);
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this).toString();
@@ -53,6 +53,7 @@ public abstract class BaseMetastoreTableOperations extends BaseMetastoreOperatio
   private TableMetadata currentMetadata = null;
   private String currentMetadataLocation = null;
   private boolean shouldRefresh = true;
+  private boolean refsOnlySnapshotLoading = false;
   private int version = -1;
 
   protected BaseMetastoreTableOperations() {}
@@ -137,6 +138,18 @@ public abstract class BaseMetastoreTableOperations extends BaseMetastoreOperatio
     throw new UnsupportedOperationException("Not implemented: doCommit");
   }
 
+  /**
+   * Sets whether metadata is refreshed with only the snapshots referenced by branches and tags.
+   *
+   * <p>When enabled, other snapshots are loaded from the metadata file the first time {@link
+   * TableMetadata#snapshots()} is called.
+   *
+   * @param enabled whether to load only referenced snapshots
+   */
+  protected void setRefsOnlySnapshotLoading(boolean enabled) {
+    this.refsOnlySnapshotLoading = enabled;
+  }
+
   protected void requestRefresh() {
     this.shouldRefresh = true;
   }
@@ -177,7 +190,10 @@ public abstract class BaseMetastoreTableOperations extends BaseMetastoreOperatio
         newLocation,
         shouldRetry,
         numRetries,
-        metadataLocation -> TableMetadataParser.read(io(), metadataLocation));
+        metadataLocation ->
+            refsOnlySnapshotLoading
+                ? TableMetadataParser.readRefsOnly(io(), metadataLocation)
+                : TableMetadataParser.read(io(), metadataLocation));
   }
 
   protected void refreshFromMetadataLocation(
@@ -117,6 +117,43 @@ public class CatalogProperties {
 
   public static final long IO_MANIFEST_CACHE_MAX_CONTENT_LENGTH_DEFAULT = 8 * 1024 * 1024;
 
+  /**
+   * Controls whether to cache decoded manifest entries during scan planning or not.
+   *
+   * <p>When enabled, entries read from data manifests are kept in memory per {@link
+   * org.apache.iceberg.io.FileIO}, keyed by manifest location, partition spec and projected
+   * columns, so that planning the same manifests again skips Avro decoding. The cache is bounded by
+   * {@link #IO_MANIFEST_ENTRY_CACHE_MAX_TOTAL_BYTES}.
+   */
+  public static final String IO_MANIFEST_ENTRY_CACHE_ENABLED = "io.manifest.entry-cache-enabled";
+
+  public static final boolean IO_MANIFEST_ENTRY_CACHE_ENABLED_DEFAULT = false;
+
+  /**
+   * Controls the maximum estimated size in bytes of decoded manifest entries to cache.
+   *
+   * <p>Must be a positive value.
+   */
+  public static final String IO_MANIFEST_ENTRY_CACHE_MAX_TOTAL_BYTES =
+      "io.manifest.entry-cache.max-total-bytes";
+
+  public static final long IO_MANIFEST_ENTRY_CACHE_MAX_TOTAL_BYTES_DEFAULT = 256 * 1024 * 1024;
+
+  /**
+   * Controls which snapshots are loaded with table metadata by catalogs that read metadata files.
+   *
+   * <ul>
+   *   <li>all - all snapshots are loaded when a table is loaded or refreshed
+   *   <li>refs - only snapshots referenced by branches and tags are loaded; other snapshots are
+   *       loaded the first time {@link TableMetadata#snapshots()} is called
+   * </ul>
+   */
+  public static final String SNAPSHOT_LOADING_MODE = "snapshot-loading-mode";
+
+  public static final String SNAPSHOT_LOADING_MODE_ALL = "all";
+  public static final String SNAPSHOT_LOADING_MODE_REFS = "refs";
+  public static final String SNAPSHOT_LOADING_MODE_DEFAULT = SNAPSHOT_LOADING_MODE_ALL;
+
   public static final String URI = "uri";
   public static final String CLIENT_POOL_SIZE = "clients";
   public static final int CLIENT_POOL_SIZE_DEFAULT = 2;
@@ -0,0 +1,375 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.SnapshotUtil;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Combines changes from many writers in the same JVM into fewer commits to one table.
+ *
+ * <p>Writers submit the files they produced and receive a future that completes with the ID of the
+ * snapshot that contains them. Submitted changes are committed together when the commit window
+ * elapses or when the number of pending files reaches a limit. Commits are made one at a time by a
+ * background thread, so concurrent writers no longer conflict with each other and create fewer,
+ * larger snapshots.
+ *
+ * <p>Changes without delete files are committed using {@link Table#newAppend()}. If any pending
+ * change has delete files, the changes are committed using {@link Table#newRowDelta()} without
+ * conflict validation. Writers that need to validate conflicts must commit directly.
+ *
+ * <p>Equality deletes only apply to rows with a lower data sequence number, so a change with
+ * equality deletes is never combined with changes that were submitted before it. Such a change
+ * starts a new snapshot and pending changes are committed in submission order.
+ *
+ * <p>If a commit fails, the futures of the changes in that commit and of all changes submitted
+ * after them complete exceptionally.
+ */
+public class CommitCoalescer implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(CommitCoalescer.class);
+
+  public static final long COMMIT_WINDOW_MS_DEFAULT = 1000L;
+  public static final int MAX_FILES_DEFAULT = 10_000;
+
+  private static final String BATCH_ID_PROP = "commit-coalescer.batch-id";
+
+  private final Table table;
+  private final String branch;
+  private final long commitWindowMs;
+  private final int maxFiles;
+  private final Map<String, String> snapshotProperties;
+  private final ScheduledExecutorService scheduler;
+
+  private List<PendingChange> pending = Lists.newArrayList();
+  private int pendingFileCount = 0;
+  private ScheduledFuture<?> scheduledCommit = null;
+  private boolean closed = false;
+
+  private CommitCoalescer(
+      Table table,
+      String branch,
+      long commitWindowMs,
+      int maxFiles,
+      Map<String, String> snapshotProperties) {
+    this.table = table;
+    this.branch = branch;
+    this.commitWindowMs = commitWindowMs;
+    this.maxFiles = maxFiles;
+    this.snapshotProperties = snapshotProperties;
+    this.scheduler = ThreadPools.newScheduledPool("iceberg-commit-coalescer", 1);
+  }
+
+  public static Builder builderFor(Table table) {
+    return new Builder(table);
+  }
+
+  /**
+   * Submits data files to append to the table.
+   *
+   * @param dataFiles data files to add
+   * @return a future that completes with the ID of the snapshot that added the files
+   */
+  public CompletableFuture<Long> append(Iterable<DataFile> dataFiles) {
+    return submit(new PendingChange(dataFiles, ImmutableList.of()));
+  }
+
+  /**
+   * Submits data and delete files to add to the table.
+   *
+   * @param dataFiles data files to add
+   * @param deleteFiles delete files to add
+   * @return a future that completes with the ID of the snapshot that added the files
+   */
+  public CompletableFuture<Long> rowDelta(
+      Iterable<DataFile> dataFiles, Iterable<DeleteFile> deleteFiles) {
+    return submit(new PendingChange(dataFiles, deleteFiles));
+  }
+
+  /** Commits pending changes without waiting for the commit window to elapse. */
+  public void flush() {
+    synchronized (this) {
+      Preconditions.checkState(!closed, "Cannot flush: coalescer is closed");
+      scheduleCommit(0L);
+    }
+  }
+
+  /** Commits pending changes and stops the background thread. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+
+      this.closed = true;
+    }
+
+    try {
+      scheduler.submit(this::commitPending).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while committing pending changes", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Failed to commit pending changes", e.getCause());
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+
+  private synchronized CompletableFuture<Long> submit(PendingChange change) {
+    Preconditions.checkState(!closed, "Cannot submit changes: coalescer is closed");
+    pending.add(change);
+    this.pendingFileCount += change.fileCount();
+
+    if (pendingFileCount >= maxFiles) {
+      scheduleCommit(0L);
+    } else if (scheduledCommit == null) {
+      scheduleCommit(commitWindowMs);
+    }
+
+    return change.future();
+  }
+
+  private void scheduleCommit(long delayMs) {
+    if (scheduledCommit != null) {
+      scheduledCommit.cancel(false /* do not interrupt a running commit */);
+    }
+
+    this.scheduledCommit = scheduler.schedule(this::commitPending, delayMs, TimeUnit.MILLISECONDS);
+  }
+
+  private void commitPending() {
+    List<PendingChange> batch;
+    synchronized (this) {
+      batch = pending;
+      this.pending = Lists.newArrayList();
+      this.pendingFileCount = 0;
+      this.scheduledCommit = null;
+    }
+
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    List<List<PendingChange>> commits = splitAtEqualityDeletes(batch);
+    int committed = 0;
+    try {
+      for (List<PendingChange> changes : commits) {
+        long snapshotId = commit(changes);
+        LOG.info(
+            "Committed {} changes to table {} in snapshot {}", changes.size(), table, snapshotId);
+        changes.forEach(change -> change.future().complete(snapshotId));
+        committed += 1;
+      }
+    } catch (RuntimeException e) {
+      // later changes are not committed so that they are not applied before the failed changes
+      List<PendingChange> failed = Lists.newArrayList();
+      commits.subList(committed, commits.size()).forEach(failed::addAll);
+      LOG.warn("Failed to commit {} changes to table {}", failed.size(), table, e);
+      failed.forEach(change -> change.future().completeExceptionally(e));
+    }
+  }
+
+  private static List<List<PendingChange>> splitAtEqualityDeletes(List<PendingChange> batch) {
+    List<List<PendingChange>> commits = Lists.newArrayList();
+    List<PendingChange> changes = Lists.newArrayList();
+    for (PendingChange change : batch) {
+      if (change.hasEqualityDeletes() && !changes.isEmpty()) {
+        commits.add(changes);
+        changes = Lists.newArrayList();
+      }
+
+      changes.add(change);
+    }
+
+    commits.add(changes);
+    return commits;
+  }
+
+  private long commit(List<PendingChange> batch) {
+    boolean hasDeletes = batch.stream().anyMatch(PendingChange::hasDeleteFiles);
+
+    SnapshotUpdate<?> update;
+    if (hasDeletes) {
+      RowDelta rowDelta = table.newRowDelta();
+      for (PendingChange change : batch) {
+        change.dataFiles().forEach(rowDelta::addRows);
+        change.deleteFiles().forEach(rowDelta::addDeletes);
+      }
+
+      update = rowDelta;
+    } else {
+      AppendFiles append = table.newAppend();
+      for (PendingChange change : batch) {
+        change.dataFiles().forEach(append::appendFile);
+      }
+
+      update = append;
+    }
+
+    snapshotProperties.forEach(update::set);
+    update.toBranch(branch);
+
+    if (update instanceof SnapshotProducer) {
+      // the snapshot ID is assigned once and reused by retries, so it identifies the committed
+      // snapshot even if other writers committed to the branch after this update
+      update.commit();
+      return ((SnapshotProducer<?>) update).snapshotId();
+    }
+
+    String batchId = UUID.randomUUID().toString();
+    update.set(BATCH_ID_PROP, batchId);
+    update.commit();
+
+    return findSnapshot(batchId).snapshotId();
+  }
+
+  private Snapshot findSnapshot(String batchId) {
+    table.refresh();
+    long headId = table.snapshot(branch).snapshotId();
+    for (Snapshot snapshot : SnapshotUtil.ancestorsOf(headId, table::snapshot)) {
+      if (batchId.equals(snapshot.summary().get(BATCH_ID_PROP))) {
+        return snapshot;
+      }
+    }
+
+    throw new IllegalStateException(
+        String.format("Cannot find committed snapshot for batch %s in branch %s", batchId, branch));
+  }
+
+  private static class PendingChange {
+    private final List<DataFile> dataFiles;
+    private final List<DeleteFile> deleteFiles;
+    private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+    private PendingChange(Iterable<DataFile> dataFiles, Iterable<DeleteFile> deleteFiles) {
+      Preconditions.checkArgument(dataFiles != null, "Invalid data files: null");
+      Preconditions.checkArgument(deleteFiles != null, "Invalid delete files: null");
+      this.dataFiles = ImmutableList.copyOf(dataFiles);
+      this.deleteFiles = ImmutableList.copyOf(deleteFiles);
+    }
+
+    List<DataFile> dataFiles() {
+      return dataFiles;
+    }
+
+    List<DeleteFile> deleteFiles() {
+      return deleteFiles;
+    }
+
+    boolean hasDeleteFiles() {
+      return !deleteFiles.isEmpty();
+    }
+
+    boolean hasEqualityDeletes() {
+      return deleteFiles.stream()
+          .anyMatch(deleteFile -> deleteFile.content() == FileContent.EQUALITY_DELETES);
+    }
+
+    int fileCount() {
+      return dataFiles.size() + deleteFiles.size();
+    }
+
+    CompletableFuture<Long> future() {
+      return future;
+    }
+  }
+
+  public static class Builder {
+    private final Table table;
+    private String branch = SnapshotRef.MAIN_BRANCH;
+    private long commitWindowMs = COMMIT_WINDOW_MS_DEFAULT;
+    private int maxFiles = MAX_FILES_DEFAULT;
+    private final Map<String, String> snapshotProperties = Maps.newHashMap();
+
+    private Builder(Table table) {
+      Preconditions.checkArgument(table != null, "Invalid table: null");
+      this.table = table;
+    }
+
+    /**
+     * Sets how long changes are collected before they are committed.
+     *
+     * @param windowMs time in milliseconds from the first pending change to the commit
+     * @return this for method chaining
+     */
+    public Builder commitWindowMs(long windowMs) {
+      Preconditions.checkArgument(windowMs >= 0, "Invalid commit window: %s (< 0)", windowMs);
+      this.commitWindowMs = windowMs;
+      return this;
+    }
+
+    /**
+     * Sets the number of pending files that triggers a commit before the window elapses.
+     *
+     * @param numFiles number of data and delete files
+     * @return this for method chaining
+     */
+    public Builder maxFiles(int numFiles) {
+      Preconditions.checkArgument(numFiles > 0, "Invalid max files: %s (<= 0)", numFiles);
+      this.maxFiles = numFiles;
+      return this;
+    }
+
+    /**
+     * Sets the branch that changes are committed to.
+     *
+     * @param branchName a branch name
+     * @return this for method chaining
+     */
+    public Builder toBranch(String branchName) {
+      Preconditions.checkArgument(branchName != null, "Invalid branch name: null");
+      this.branch = branchName;
+      return this;
+    }
+
+    /**
+     * Sets a summary property on every snapshot committed by the coalescer.
+     *
+     * @param property a property name
+     * @param value a property value
+     * @return this for method chaining
+     */
+    public Builder set(String property, String value) {
+      snapshotProperties.put(property, value);
+      return this;
+    }
+
+    public CommitCoalescer build() {
+      return new CommitCoalescer(
+          table, branch, commitWindowMs, maxFiles, ImmutableMap.copyOf(snapshotProperties));
+    }
+  }
+}
@@ -616,6 +616,7 @@ class DeleteFileIndex {
           if (buffer != null) {
             this.files = indexFiles(buffer);
             this.seqs = indexSeqs(files);
+            this.boundsIndex = EqualityBoundsIndex.build(files);
             this.buffer = null;
           }
         }
@@ -648,6 +649,7 @@ class DeleteFileIndex {
     // indexed state
     private long[] seqs = null;
     private EqualityDeleteFile[] files = null;
+    private EqualityBoundsIndex boundsIndex = null;
 
     // a buffer that is used to hold files before indexing
     private volatile List<EqualityDeleteFile> buffer = Lists.newArrayList();
@@ -666,6 +668,11 @@ class DeleteFileIndex {
         return EMPTY_DELETES;
       }
 
+      int[] candidates = boundsIndex != null ? boundsIndex.candidates(dataFile) : null;
+      if (candidates != null) {
+        return filterCandidates(start, candidates, dataFile);
+      }
+
       List<DeleteFile> matchingFiles = Lists.newArrayList();
 
       for (int index = start; index < files.length; index++) {
@@ -678,6 +685,28 @@ class DeleteFileIndex {
       return matchingFiles.toArray(EMPTY_DELETES);
     }
 
+    // candidates are positions in the sequence number order, sort matches to preserve that order
+    private DeleteFile[] filterCandidates(int start, int[] candidates, DataFile dataFile) {
+      int[] matches = new int[candidates.length];
+      int matchCount = 0;
+
+      for (int index : candidates) {
+        if (index >= start && canContainEqDeletesForFile(dataFile, files[index])) {
+          matches[matchCount] = index;
+          matchCount += 1;
+        }
+      }
+
+      Arrays.sort(matches, 0, matchCount);
+
+      DeleteFile[] matchingFiles = new DeleteFile[matchCount];
+      for (int pos = 0; pos < matchCount; pos++) {
+        matchingFiles[pos] = files[matches[pos]].wrapped();
+      }
+
+      return matchingFiles;
+    }
+
     public Iterable<DeleteFile> referencedDeleteFiles() {
       indexIfNeeded();
       return Iterables.transform(Arrays.asList(files), EqualityDeleteFile::wrapped);
@@ -694,6 +723,7 @@ class DeleteFileIndex {
           if (buffer != null) {
             this.files = indexFiles(buffer);
             this.seqs = indexSeqs(files);
+            this.boundsIndex = EqualityBoundsIndex.build(files);
             this.buffer = null;
           }
         }
@@ -717,6 +747,191 @@ class DeleteFileIndex {
     }
   }
 
+  /**
+   * An index of equality delete files by the lower and upper bounds of one equality field.
+   *
+   * <p>Files are sorted by their lower bound and the running maximum of upper bounds is kept, so
+   * files whose ranges may overlap a data file range are found with two binary searches instead of
+   * checking every file in the group. Only files that have bounds and no nulls for the indexed
+   * field can be skipped based on their range; all other files are always returned as candidates.
+   */
+  private static class EqualityBoundsIndex {
+    // indexing only pays off for groups with many delete files
+    private static final int MIN_INDEXED_FILES = 16;
+
+    private final Types.NestedField field;
+    private final Comparator<Object> comparator;
+    private final Object[] lowers;
+    private final Object[] maxUppers;
+    private final int[] positions;
+    private final int[] unindexedPositions;
+
+    private EqualityBoundsIndex(
+        Types.NestedField field,
+        Object[] lowers,
+        Object[] maxUppers,
+        int[] positions,
+        int[] unindexedPositions) {
+      this.field = field;
+      this.comparator = Comparators.forType(field.type().asPrimitiveType());
+      this.lowers = lowers;
+      this.maxUppers = maxUppers;
+      this.positions = positions;
+      this.unindexedPositions = unindexedPositions;
+    }
+
+    /**
+     * Returns positions of delete files that may overlap with the data file range, or null if the
+     * data file has no bounds for the indexed field and every file must be checked.
+     */
+    int[] candidates(DataFile dataFile) {
+      Map<Integer, ByteBuffer> dataLowers = dataFile.lowerBounds();
+      Map<Integer, ByteBuffer> dataUppers = dataFile.upperBounds();
+      if (dataLowers == null || dataUppers == null) {
+        return null;
+      }
+
+      ByteBuffer dataLowerBuf = dataLowers.get(field.fieldId());
+      ByteBuffer dataUpperBuf = dataUppers.get(field.fieldId());
+      if (dataLowerBuf == null || dataUpperBuf == null) {
+        return null;
+      }
+
+      Type.PrimitiveType type = field.type().asPrimitiveType();
+      Object dataLower = Conversions.fromByteBuffer(type, dataLowerBuf);
+      Object dataUpper = Conversions.fromByteBuffer(type, dataUpperBuf);
+
+      // files with a lower bound above the data upper bound cannot overlap
+      int end = firstGreaterThan(lowers, dataUpper);
+      // files before the first running max upper bound that reaches the data lower bound cannot
+      // overlap because the running max is non-decreasing
+      int begin = firstGreaterOrEqual(maxUppers, dataLower, end);
+
+      int[] candidates = new int[(end - begin) + unindexedPositions.length];
+      System.arraycopy(positions, begin, candidates, 0, end - begin);
+      System.arraycopy(unindexedPositions, 0, candidates, end - begin, unindexedPositions.length);
+
+      return candidates;
+    }
+
+    private int firstGreaterThan(Object[] values, Object value) {
+      int low = 0;
+      int high = values.length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (comparator.compare(values[mid], value) > 0) {
+          high = mid;
+        } else {
+          low = mid + 1;
+        }
+      }
+
+      return low;
+    }
+
+    private int firstGreaterOrEqual(Object[] values, Object value, int limit) {
+      int low = 0;
+      int high = limit;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (comparator.compare(values[mid], value) >= 0) {
+          high = mid;
+        } else {
+          low = mid + 1;
+        }
+      }
+
+      return low;
+    }
+
+    static EqualityBoundsIndex build(EqualityDeleteFile[] files) {
+      if (files.length < MIN_INDEXED_FILES) {
+        return null;
+      }
+
+      Types.NestedField field = selectField(files);
+      if (field == null) {
+        return null;
+      }
+
+      List<Integer> indexed = Lists.newArrayList();
+      List<Integer> unindexed = Lists.newArrayList();
+      for (int pos = 0; pos < files.length; pos++) {
+        if (isIndexable(files[pos], field)) {
+          indexed.add(pos);
+        } else {
+          unindexed.add(pos);
+        }
+      }
+
+      Comparator<Object> comparator = Comparators.forType(field.type().asPrimitiveType());
+      int id = field.fieldId();
+      indexed.sort(Comparator.comparing(pos -> files[pos].<Object>lowerBound(id), comparator));
+
+      Object[] lowers = new Object[indexed.size()];
+      Object[] maxUppers = new Object[indexed.size()];
+      int[] positions = new int[indexed.size()];
+      Object maxUpper = null;
+      for (int index = 0; index < positions.length; index++) {
+        int pos = indexed.get(index);
+        Object upper = files[pos].upperBound(id);
+        if (maxUpper == null || comparator.compare(upper, maxUpper) > 0) {
+          maxUpper = upper;
+        }
+
+        lowers[index] = files[pos].lowerBound(id);
+        maxUppers[index] = maxUpper;
+        positions[index] = pos;
+      }
+
+      int[] unindexedPositions = unindexed.stream().mapToInt(Integer::intValue).toArray();
+      return new EqualityBoundsIndex(field, lowers, maxUppers, positions, unindexedPositions);
+    }
+
+    // selects the equality field for which the most files can be indexed
+    private static Types.NestedField selectField(EqualityDeleteFile[] files) {
+      Map<Integer, Integer> counts = Maps.newHashMap();
+      Map<Integer, Types.NestedField> fields = Maps.newHashMap();
+      for (EqualityDeleteFile file : files) {
+        for (Types.NestedField field : file.equalityFields()) {
+          Types.NestedField indexField = fields.computeIfAbsent(field.fieldId(), id -> field);
+          if (isIndexable(file, indexField)) {
+            counts.merge(field.fieldId(), 1, Integer::sum);
+          }
+        }
+      }
+
+      Types.NestedField selected = null;
+      int selectedCount = 0;
+      for (Map.Entry<Integer, Integer> entry : counts.entrySet()) {
+        if (entry.getValue() > selectedCount) {
+          selected = fields.get(entry.getKey());
+          selectedCount = entry.getValue();
+        }
+      }
+
+      return selectedCount >= MIN_INDEXED_FILES ? selected : null;
+    }
+
+    // a file can be skipped by range only if the range check in canContainEqDeletesForFile applies
+    private static boolean isIndexable(EqualityDeleteFile file, Types.NestedField indexField) {
+      if (!indexField.type().isPrimitiveType() || !file.hasLowerAndUpperBounds()) {
+        return false;
+      }
+
+      for (Types.NestedField field : file.equalityFields()) {
+        if (field.fieldId() == indexField.fieldId()) {
+          return field.type().equals(indexField.type())
+              && allNonNull(file.nullValueCounts(), field)
+              && file.lowerBound(field.fieldId()) != null
+              && file.upperBound(field.fieldId()) != null;
+        }
+      }
+
+      return false;
+    }
+  }
+
   // an equality delete file wrapper that caches the converted boundaries for faster boundary checks
   // this class is not meant to be exposed beyond the delete file index
   private static class EqualityDeleteFile {
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.PeekingIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A set of strings that keeps at most a fixed number of items in memory.
+ *
+ * <p>When the buffer is full, items are sorted and written to a run file in a local directory.
+ * Iterating merges the runs and returns distinct items in sorted order. Run files are removed when
+ * the set is closed.
+ */
+class ExternalSortedSet implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(ExternalSortedSet.class);
+  private static final int MAX_MERGE_WIDTH = 128;
+
+  private final File directory;
+  private final int maxBufferedItems;
+  private final List<File> runs = Lists.newArrayList();
+  private List<String> buffer = Lists.newArrayList();
+
+  ExternalSortedSet(File directory, int maxBufferedItems) {
+    Preconditions.checkArgument(
+        maxBufferedItems > 0, "Invalid max buffered items: %s", maxBufferedItems);
+    this.directory = directory;
+    this.maxBufferedItems = maxBufferedItems;
+  }
+
+  synchronized void add(String item) {
+    buffer.add(item);
+    if (buffer.size() >= maxBufferedItems) {
+      spill();
+    }
+  }
+
+  synchronized boolean isEmpty() {
+    return buffer.isEmpty() && runs.isEmpty();
+  }
+
+  /** Returns an iterator of distinct items in sorted order. */
+  synchronized CloseableIterator<String> sortedIterator() {
+    if (runs.isEmpty()) {
+      Collections.sort(buffer);
+      return CloseableIterator.withClose(distinct(buffer.iterator()));
+    }
+
+    spill();
+
+    while (runs.size() > MAX_MERGE_WIDTH) {
+      List<File> toMerge = Lists.newArrayList(runs.subList(0, MAX_MERGE_WIDTH));
+      runs.subList(0, MAX_MERGE_WIDTH).clear();
+      File merged = newRunFile();
+      try (MergedRuns items = new MergedRuns(toMerge)) {
+        writeRun(merged, items);
+      }
+
+      toMerge.forEach(ExternalSortedSet::deleteRun);
+      runs.add(merged);
+    }
+
+    return new MergedRuns(runs);
+  }
+
+  @Override
+  public synchronized void close() {
+    runs.forEach(ExternalSortedSet::deleteRun);
+    runs.clear();
+    this.buffer = Lists.newArrayList();
+  }
+
+  private void spill() {
+    if (buffer.isEmpty()) {
+      return;
+    }
+
+    Collections.sort(buffer);
+    File run = newRunFile();
+    writeRun(run, distinct(buffer.iterator()));
+    runs.add(run);
+    this.buffer = Lists.newArrayList();
+  }
+
+  private File newRunFile() {
+    try {
+      return File.createTempFile("sorted-run-", ".bin", directory);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to create run file in %s", directory);
+    }
+  }
+
+  private static void writeRun(File run, Iterator<String> items) {
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run.toPath())))) {
+      while (items.hasNext()) {
+        out.writeBoolean(true);
+        out.writeUTF(items.next());
+      }
+
+      out.writeBoolean(false);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to write run file: %s", run);
+    }
+  }
+
+  private static void deleteRun(File run) {
+    try {
+      Files.deleteIfExists(run.toPath());
+    } catch (IOException e) {
+      LOG.warn("Failed to delete run file: {}", run, e);
+    }
+  }
+
+  private static Iterator<String> distinct(Iterator<String> sorted) {
+    PeekingIterator<String> items = Iterators.peekingIterator(sorted);
+    return new Iterator<String>() {
+      @Override
+      public boolean hasNext() {
+        return items.hasNext();
+      }
+
+      @Override
+      public String next() {
+        String item = items.next();
+        while (items.hasNext() && items.peek().equals(item)) {
+          items.next();
+        }
+
+        return item;
+      }
+    };
+  }
+
+  private static class MergedRuns implements CloseableIterator<String> {
+    private final List<RunIterator> runIterators = Lists.newArrayList();
+    private final Iterator<String> merged;
+
+    private MergedRuns(List<File> runs) {
+      try {
+        for (File run : runs) {
+          runIterators.add(new RunIterator(run));
+        }
+      } catch (RuntimeException e) {
+        close();
+        throw e;
+      }
+
+      this.merged = distinct(Iterators.mergeSorted(runIterators, Comparator.naturalOrder()));
+    }
+
+    @Override
+    public boolean hasNext() {
+      return merged.hasNext();
+    }
+
+    @Override
+    public String next() {
+      return merged.next();
+    }
+
+    @Override
+    public void close() {
+      runIterators.forEach(RunIterator::close);
+    }
+  }
+
+  private static class RunIterator implements Iterator<String> {
+    private final File run;
+    private final DataInputStream in;
+    private String next;
+
+    private RunIterator(File run) {
+      this.run = run;
+      try {
+        this.in =
+            new DataInputStream(new BufferedInputStream(Files.newInputStream(run.toPath())));
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to open run file: %s", run);
+      }
+
+      advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public String next() {
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+
+      String current = next;
+      advance();
+      return current;
+    }
+
+    private void advance() {
+      try {
+        this.next = in.readBoolean() ? in.readUTF() : null;
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to read run file: %s", run);
+      }
+    }
+
+    private void close() {
+      try {
+        in.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close run file: {}", run, e);
+      }
+    }
+  }
+}
@@ -18,14 +18,12 @@
  */
 package org.apache.iceberg;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.apache.iceberg.encryption.EncryptedOutputFile;
 import org.apache.iceberg.events.CreateSnapshotEvent;
 import org.apache.iceberg.exceptions.CommitFailedException;
-import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
@@ -137,13 +135,9 @@ class FastAppend extends SnapshotProducer<AppendFiles> implements AppendFiles {
   public List<ManifestFile> apply(TableMetadata base, Snapshot snapshot) {
     List<ManifestFile> manifests = Lists.newArrayList();
 
-    try {
-      List<ManifestFile> newWrittenManifests = writeNewManifests();
-      if (newWrittenManifests != null) {
-        manifests.addAll(newWrittenManifests);
-      }
-    } catch (IOException e) {
-      throw new RuntimeIOException(e, "Failed to write manifest");
+    List<ManifestFile> newWrittenManifests = writeNewManifests();
+    if (newWrittenManifests != null) {
+      manifests.addAll(newWrittenManifests);
     }
 
     Iterable<ManifestFile> appendManifestsWithMetadata =
@@ -192,21 +186,14 @@ class FastAppend extends SnapshotProducer<AppendFiles> implements AppendFiles {
     }
   }
 
-  private List<ManifestFile> writeNewManifests() throws IOException {
+  private List<ManifestFile> writeNewManifests() {
     if (hasNewFiles && newManifests != null) {
       newManifests.forEach(file -> deleteFile(file.path()));
       newManifests = null;
     }
 
     if (newManifests == null && !newFiles.isEmpty()) {
-      RollingManifestWriter<DataFile> writer = newRollingManifestWriter(spec);
-      try {
-        newFiles.forEach(writer::add);
-      } finally {
-        writer.close();
-      }
-
-      this.newManifests = writer.toManifestFiles();
+      this.newManifests = writeDataManifests(newFiles, null /* inherit data seq */, spec);
       hasNewFiles = false;
     }
 
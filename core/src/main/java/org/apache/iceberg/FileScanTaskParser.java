@@ -45,7 +45,7 @@ public class FileScanTaskParser {
         generator -> FileScanTaskParser.toJson(fileScanTask, generator), false);
   }
 
-  private static void toJson(FileScanTask fileScanTask, JsonGenerator generator)
+  public static void toJson(FileScanTask fileScanTask, JsonGenerator generator)
       throws IOException {
     Preconditions.checkArgument(fileScanTask != null, "Invalid file scan task: null");
     Preconditions.checkArgument(generator != null, "Invalid JSON generator: null");
@@ -87,7 +87,7 @@ public class FileScanTaskParser {
     return JsonUtil.parse(json, node -> FileScanTaskParser.fromJson(node, caseSensitive));
   }
 
-  private static FileScanTask fromJson(JsonNode jsonNode, boolean caseSensitive) {
+  public static FileScanTask fromJson(JsonNode jsonNode, boolean caseSensitive) {
     Preconditions.checkArgument(jsonNode != null, "Invalid JSON node for file scan task: null");
     Preconditions.checkArgument(
         jsonNode.isObject(), "Invalid JSON node for file scan task: non-object (%s)", jsonNode);
@@ -131,6 +131,11 @@ public class FileScanTaskParser {
     ResidualEvaluator residualEvaluator = ResidualEvaluator.of(spec, filter, caseSensitive);
     BaseFileScanTask baseFileScanTask =
         new BaseFileScanTask(dataFile, deleteFiles, schemaString, specString, residualEvaluator);
+    if (dataFile != null && start == 0 && length == dataFile.fileSizeInBytes()) {
+      // a task for a whole file can still be split by the scan that receives it
+      return baseFileScanTask;
+    }
+
     return new BaseFileScanTask.SplitScanTask(start, length, baseFileScanTask);
   }
 }
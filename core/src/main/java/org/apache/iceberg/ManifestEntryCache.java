@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.metrics.ScanMetrics;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.types.TypeUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A weight-bounded cache of decoded manifest entries.
+ *
+ * <p>Entries are keyed by manifest location, partition spec ID and the IDs of the projected
+ * manifest fields, so that readers with different projections do not share entries. Manifests are
+ * immutable once written, which makes the location a stable identity for their content.
+ *
+ * <p>Cached entries are shared by all readers and must not be modified. Callers that keep entries
+ * or files beyond the iteration must copy them, as they would with entries from a regular reader.
+ */
+class ManifestEntryCache {
+  private static final Logger LOG = LoggerFactory.getLogger(ManifestEntryCache.class);
+
+  // rough object sizes used to weigh cached entries
+  private static final long ENTRY_OVERHEAD = 256L;
+  private static final long MAP_ENTRY_OVERHEAD = 48L;
+  private static final long BUFFER_OVERHEAD = 64L;
+  private static final long PARTITION_VALUE_SIZE = 16L;
+
+  private final long maxTotalBytes;
+  private final Cache<Key, ManifestEntry<?>[]> cache;
+
+  ManifestEntryCache(long maxTotalBytes) {
+    ValidationException.check(maxTotalBytes > 0, "maxTotalBytes is equal or less than 0");
+    this.maxTotalBytes = maxTotalBytes;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxTotalBytes)
+            .weigher((Weigher<Key, ManifestEntry<?>[]>) (key, entries) -> weigh(entries))
+            .softValues()
+            .removalListener(
+                (key, entries, cause) ->
+                    LOG.debug("Evicted {} from ManifestEntryCache ({})", key, cause))
+            .recordStats()
+            .build();
+  }
+
+  long maxTotalBytes() {
+    return maxTotalBytes;
+  }
+
+  long estimatedCacheSize() {
+    return cache.estimatedSize();
+  }
+
+  CacheStats stats() {
+    return cache.stats();
+  }
+
+  void invalidateAll() {
+    cache.invalidateAll();
+    cache.cleanUp();
+  }
+
+  /**
+   * Returns the cached entries for a manifest, loading them if they are not cached.
+   *
+   * @param location a manifest location
+   * @param specId the partition spec ID of the manifest
+   * @param projection the manifest entry projection used to read the manifest
+   * @param loader a supplier that reads and copies all entries of the manifest
+   * @param scanMetrics scan metrics to record cache hits and misses
+   * @return a list of cached entries that must not be modified
+   */
+  @SuppressWarnings("unchecked")
+  <F extends ContentFile<F>> List<ManifestEntry<F>> get(
+      String location,
+      int specId,
+      Schema projection,
+      Supplier<List<ManifestEntry<F>>> loader,
+      ScanMetrics scanMetrics) {
+    Key key = new Key(location, specId, TypeUtil.getProjectedIds(projection));
+
+    ManifestEntry<?>[] entries = cache.getIfPresent(key);
+    if (entries != null) {
+      scanMetrics.manifestEntryCacheHits().increment();
+    } else {
+      scanMetrics.manifestEntryCacheMisses().increment();
+      entries = cache.get(key, ignored -> loader.get().toArray(new ManifestEntry<?>[0]));
+    }
+
+    return (List<ManifestEntry<F>>) (List<?>) Arrays.asList(entries);
+  }
+
+  private static int weigh(ManifestEntry<?>[] entries) {
+    long size = 0L;
+    for (ManifestEntry<?> entry : entries) {
+      size += estimateSize(entry.file());
+    }
+
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+
+  static long estimateSize(ContentFile<?> file) {
+    long size = ENTRY_OVERHEAD;
+    size += 2L * file.path().length();
+    size += file.partition() != null ? PARTITION_VALUE_SIZE * file.partition().size() : 0L;
+    size += countsSize(file.columnSizes());
+    size += countsSize(file.valueCounts());
+    size += countsSize(file.nullValueCounts());
+    size += countsSize(file.nanValueCounts());
+    size += boundsSize(file.lowerBounds());
+    size += boundsSize(file.upperBounds());
+    size += listSize(file.splitOffsets());
+    size += listSize(file.equalityFieldIds());
+    size += file.keyMetadata() != null ? BUFFER_OVERHEAD + file.keyMetadata().remaining() : 0L;
+    return size;
+  }
+
+  private static long countsSize(Map<Integer, Long> counts) {
+    return counts != null ? MAP_ENTRY_OVERHEAD * counts.size() : 0L;
+  }
+
+  private static long boundsSize(Map<Integer, ByteBuffer> bounds) {
+    if (bounds == null) {
+      return 0L;
+    }
+
+    long size = 0L;
+    for (ByteBuffer bound : bounds.values()) {
+      size += MAP_ENTRY_OVERHEAD + BUFFER_OVERHEAD + (bound != null ? bound.remaining() : 0);
+    }
+
+    return size;
+  }
+
+  private static long listSize(List<? extends Number> values) {
+    return values != null ? PARTITION_VALUE_SIZE * values.size() : 0L;
+  }
+
+  private static class Key {
+    private final String location;
+    private final int specId;
+    private final Set<Integer> projectedIds;
+
+    private Key(String location, int specId, Set<Integer> projectedIds) {
+      this.location = location;
+      this.specId = specId;
+      this.projectedIds = ImmutableSet.copyOf(projectedIds);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      Key that = (Key) other;
+      return specId == that.specId
+          && location.equals(that.location)
+          && projectedIds.equals(that.projectedIds);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(location, specId, projectedIds);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("location", location)
+          .add("specId", specId)
+          .add("projectedIds", projectedIds)
+          .toString();
+    }
+  }
+}
@@ -80,10 +80,20 @@ public class ManifestFiles {
                 cacheDurationMs(fileIO), cacheTotalBytes(fileIO), cacheMaxContentLength(fileIO)));
   }
 
+  private static final Cache<FileIO, ManifestEntryCache> ENTRY_CACHES =
+      newManifestCacheBuilder().build();
+
+  @VisibleForTesting
+  static ManifestEntryCache entryCache(FileIO io) {
+    return ENTRY_CACHES.get(io, fileIO -> new ManifestEntryCache(entryCacheTotalBytes(fileIO)));
+  }
+
   /** Drop manifest file cache object for a FileIO if exists. */
   public static synchronized void dropCache(FileIO fileIO) {
     CONTENT_CACHES.invalidate(fileIO);
     CONTENT_CACHES.cleanUp();
+    ENTRY_CACHES.invalidate(fileIO);
+    ENTRY_CACHES.cleanUp();
   }
 
   /**
@@ -400,6 +410,24 @@ public class ManifestFiles {
     }
   }
 
+  static boolean entryCachingEnabled(FileIO io) {
+    try {
+      return PropertyUtil.propertyAsBoolean(
+          io.properties(),
+          CatalogProperties.IO_MANIFEST_ENTRY_CACHE_ENABLED,
+          CatalogProperties.IO_MANIFEST_ENTRY_CACHE_ENABLED_DEFAULT);
+    } catch (UnsupportedOperationException e) {
+      return false;
+    }
+  }
+
+  static long entryCacheTotalBytes(FileIO io) {
+    return PropertyUtil.propertyAsLong(
+        io.properties(),
+        CatalogProperties.IO_MANIFEST_ENTRY_CACHE_MAX_TOTAL_BYTES,
+        CatalogProperties.IO_MANIFEST_ENTRY_CACHE_MAX_TOTAL_BYTES_DEFAULT);
+  }
+
   static long cacheDurationMs(FileIO io) {
     return PropertyUtil.propertyAsLong(
         io.properties(),
@@ -298,6 +298,9 @@ class ManifestGroup {
     matchingManifests =
         CloseableIterable.count(scanMetrics.scannedDataManifests(), matchingManifests);
 
+    ManifestEntryCache entryCache =
+        ManifestFiles.entryCachingEnabled(io) ? ManifestFiles.entryCache(io) : null;
+
     return Iterables.transform(
         matchingManifests,
         manifest ->
@@ -312,7 +315,8 @@ class ManifestGroup {
                         .filterPartitions(partitionFilter)
                         .caseSensitive(caseSensitive)
                         .select(columns)
-                        .scanMetrics(scanMetrics);
+                        .scanMetrics(scanMetrics)
+                        .entryCache(entryCache);
 
                 CloseableIterable<ManifestEntry<DataFile>> entries;
                 if (ignoreDeleted) {
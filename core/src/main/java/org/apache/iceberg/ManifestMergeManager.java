@@ -29,11 +29,13 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import org.apache.iceberg.ManifestEntry.Status;
 import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.ListMultimap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Multimaps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.util.BinPacking.ListPacker;
 import org.apache.iceberg.util.Exceptions;
 import org.apache.iceberg.util.Tasks;
@@ -168,28 +170,25 @@ abstract class ManifestMergeManager<F extends ContentFile<F>> {
       return mergedManifests.get(bin);
     }
 
+    // when a retry picks up manifests from a concurrent commit, the bin is usually a previously
+    // merged bin plus the new manifests. reuse the earlier result so that only new manifests are
+    // read instead of reading every manifest in the bin again.
+    List<ManifestFile> reusedBin = largestMergedSubset(bin);
+    ManifestFile reused = reusedBin != null ? mergedManifests.get(reusedBin) : null;
+    Set<ManifestFile> reusedManifests =
+        reused != null ? Sets.newHashSet(reusedBin) : ImmutableSet.of();
+
     ManifestWriter<F> writer = newManifestWriter(spec(specId));
     boolean threw = true;
     try {
+      boolean reusedCopied = false;
       for (ManifestFile manifest : bin) {
-        try (ManifestReader<F> reader = newManifestReader(manifest)) {
-          for (ManifestEntry<F> entry : reader.entries()) {
-            if (entry.status() == Status.DELETED) {
-              // suppress deletes from previous snapshots. only files deleted by this snapshot
-              // should be added to the new manifest
-              if (entry.snapshotId() == snapshotId()) {
-                writer.delete(entry);
-              }
-            } else if (entry.status() == Status.ADDED && entry.snapshotId() == snapshotId()) {
-              // adds from this snapshot are still adds, otherwise they should be existing
-              writer.add(entry);
-            } else {
-              // add all files from the old manifest as existing files
-              writer.existing(entry);
-            }
-          }
-        } catch (IOException e) {
-          throw new RuntimeIOException(e, "Failed to close manifest reader");
+        if (!reusedManifests.contains(manifest)) {
+          copyEntries(writer, manifest);
+        } else if (!reusedCopied) {
+          // replace the first manifest of the reused bin with its merged result to keep the order
+          copyEntries(writer, reused);
+          reusedCopied = true;
         }
       }
       threw = false;
@@ -205,4 +204,43 @@ abstract class ManifestMergeManager<F extends ContentFile<F>> {
 
     return manifest;
   }
+
+  private void copyEntries(ManifestWriter<F> writer, ManifestFile manifest) {
+    try (ManifestReader<F> reader = newManifestReader(manifest)) {
+      for (ManifestEntry<F> entry : reader.entries()) {
+        if (entry.status() == Status.DELETED) {
+          // suppress deletes from previous snapshots. only files deleted by this snapshot
+          // should be added to the new manifest
+          if (entry.snapshotId() == snapshotId()) {
+            writer.delete(entry);
+          }
+        } else if (entry.status() == Status.ADDED && entry.snapshotId() == snapshotId()) {
+          // adds from this snapshot are still adds, otherwise they should be existing
+          writer.add(entry);
+        } else {
+          // add all files from the old manifest as existing files
+          writer.existing(entry);
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close manifest reader");
+    }
+  }
+
+  /**
+   * Returns the largest bin merged by an earlier attempt whose manifests are all in the given bin,
+   * or null if there is no such bin.
+   */
+  private List<ManifestFile> largestMergedSubset(List<ManifestFile> bin) {
+    Set<ManifestFile> binManifests = Sets.newHashSet(bin);
+    List<ManifestFile> largest = null;
+    for (List<ManifestFile> merged : mergedManifests.keySet()) {
+      boolean isLarger = largest == null || merged.size() > largest.size();
+      if (isLarger && merged.size() < bin.size() && binManifests.containsAll(merged)) {
+        largest = merged;
+      }
+    }
+
+    return largest;
+  }
 }
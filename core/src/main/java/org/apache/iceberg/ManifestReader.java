@@ -93,6 +93,7 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
   private Collection<String> columns = null;
   private boolean caseSensitive = true;
   private ScanMetrics scanMetrics = ScanMetrics.noop();
+  private ManifestEntryCache entryCache = null;
 
   // lazily initialized
   private Evaluator lazyEvaluator = null;
@@ -202,6 +203,16 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
     return this;
   }
 
+  /**
+   * Sets a cache of decoded entries that is used instead of reading the manifest when possible.
+   *
+   * <p>Entries served by the cache are shared with other readers and must not be modified.
+   */
+  ManifestReader<F> entryCache(ManifestEntryCache newEntryCache) {
+    this.entryCache = newEntryCache;
+    return this;
+  }
+
   CloseableIterable<ManifestEntry<F>> entries() {
     return entries(false /* all entries */);
   }
@@ -249,6 +260,29 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
   }
 
   private CloseableIterable<ManifestEntry<F>> open(Schema projection) {
+    if (entryCache != null) {
+      List<ManifestEntry<F>> cached =
+          entryCache.get(
+              file.location(),
+              spec.specId(),
+              projection,
+              () -> readAndCopy(projection),
+              scanMetrics);
+      return CloseableIterable.withNoopClose(cached);
+    }
+
+    return read(projection);
+  }
+
+  private List<ManifestEntry<F>> readAndCopy(Schema projection) {
+    try (CloseableIterable<ManifestEntry<F>> entries = read(projection)) {
+      return Lists.newArrayList(CloseableIterable.transform(entries, ManifestEntry::copy));
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close manifest: %s", file.location());
+    }
+  }
+
+  private CloseableIterable<ManifestEntry<F>> read(Schema projection) {
     FileFormat format = FileFormat.fromFileName(file.location());
     Preconditions.checkArgument(format != null, "Unable to determine format of manifest: %s", file);
 
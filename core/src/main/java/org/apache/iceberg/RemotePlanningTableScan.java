@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.metrics.MetricsReporter;
+
+/**
+ * A {@link DataTableScan} that asks a {@link ScanPlanner} to plan files and falls back to reading
+ * manifests locally when the planner cannot plan the scan.
+ */
+public class RemotePlanningTableScan extends DataTableScan {
+  private final ScanPlanner planner;
+
+  public RemotePlanningTableScan(Table table, MetricsReporter reporter, ScanPlanner planner) {
+    this(
+        table,
+        table.schema(),
+        ImmutableTableScanContext.builder().metricsReporter(reporter).build(),
+        planner);
+  }
+
+  protected RemotePlanningTableScan(
+      Table table, Schema schema, TableScanContext context, ScanPlanner planner) {
+    super(table, schema, context);
+    this.planner = planner;
+  }
+
+  @Override
+  protected TableScan newRefinedScan(Table table, Schema schema, TableScanContext context) {
+    return new RemotePlanningTableScan(table, schema, context, planner);
+  }
+
+  // scan settings that planners must pass on are exposed publicly
+
+  @Override
+  public Map<String, String> options() {
+    return super.options();
+  }
+
+  @Override
+  public boolean shouldReturnColumnStats() {
+    return super.shouldReturnColumnStats();
+  }
+
+  @Override
+  public Set<Integer> columnsToKeepStats() {
+    return super.columnsToKeepStats();
+  }
+
+  @Override
+  public boolean shouldIgnoreResiduals() {
+    return super.shouldIgnoreResiduals();
+  }
+
+  @Override
+  public CloseableIterable<FileScanTask> doPlanFiles() {
+    CloseableIterable<FileScanTask> tasks = planner.planFiles(this);
+    if (tasks != null) {
+      return tasks;
+    }
+
+    return super.doPlanFiles();
+  }
+}
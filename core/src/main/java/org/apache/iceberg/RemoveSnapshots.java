@@ -35,6 +35,7 @@ import static org.apache.iceberg.TableProperties.MAX_SNAPSHOT_AGE_MS_DEFAULT;
 import static org.apache.iceberg.TableProperties.MIN_SNAPSHOTS_TO_KEEP;
 import static org.apache.iceberg.TableProperties.MIN_SNAPSHOTS_TO_KEEP_DEFAULT;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.io.SupportsBulkOperations;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -84,6 +86,7 @@ class RemoveSnapshots implements ExpireSnapshots {
   private ExecutorService deleteExecutorService = DEFAULT_DELETE_EXECUTOR_SERVICE;
   private ExecutorService planExecutorService = ThreadPools.getWorkerPool();
   private Boolean incrementalCleanup;
+  private String spillDirectory = null;
 
   RemoveSnapshots(TableOperations ops) {
     this.ops = ops;
@@ -313,6 +316,16 @@ class RemoveSnapshots implements ExpireSnapshots {
     }
   }
 
+  @Override
+  public ExpireSnapshots spillDirectory(String directory) {
+    Preconditions.checkArgument(
+        directory != null && new File(directory).isDirectory(),
+        "Invalid spill directory: %s",
+        directory);
+    this.spillDirectory = directory;
+    return this;
+  }
+
   ExpireSnapshots withIncrementalCleanup(boolean useIncrementalCleanup) {
     this.incrementalCleanup = useIncrementalCleanup;
     return this;
@@ -321,6 +334,20 @@ class RemoveSnapshots implements ExpireSnapshots {
   private void cleanExpiredSnapshots() {
     TableMetadata current = ops.refresh();
 
+    if (spillDirectory != null) {
+      LOG.info("Cleaning up expired files (local, spilling)");
+      FileCleanupStrategy cleanupStrategy =
+          new SpillingFileCleanup(
+              ops.io(),
+              deleteExecutorService,
+              planExecutorService,
+              deleteFunc,
+              bulkOperations(),
+              spillDirectory);
+      cleanupStrategy.cleanFiles(base, current);
+      return;
+    }
+
     if (incrementalCleanup == null) {
       incrementalCleanup = current.refs().size() == 1;
     }
@@ -337,4 +364,13 @@ class RemoveSnapshots implements ExpireSnapshots {
 
     cleanupStrategy.cleanFiles(base, current);
   }
+
+  // bulk deletes can only be used when files are deleted by the table's FileIO
+  private SupportsBulkOperations bulkOperations() {
+    if (deleteFunc == defaultDelete && ops.io() instanceof SupportsBulkOperations) {
+      return (SupportsBulkOperations) ops.io();
+    }
+
+    return null;
+  }
 }
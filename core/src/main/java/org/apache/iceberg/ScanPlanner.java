@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import org.apache.iceberg.io.CloseableIterable;
+
+/** Plans the files of table scans outside of the scan, for example in a catalog service. */
+public interface ScanPlanner {
+
+  /**
+   * Plans the files of a scan.
+   *
+   * <p>Implementations must honor all settings of the scan, including its options, column stats
+   * and residuals. They return null when they cannot plan the scan, in which case the scan is
+   * planned locally by reading manifests.
+   *
+   * @param scan a configured table scan
+   * @return planned file scan tasks, or null if the scan must be planned locally
+   */
+  CloseableIterable<FileScanTask> planFiles(RemotePlanningTableScan scan);
+}
@@ -34,7 +34,10 @@ import static org.apache.iceberg.TableProperties.SNAPSHOT_ID_INHERITANCE_ENABLED
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import java.io.IOException;
+import java.lang.reflect.Array;
+import java.math.RoundingMode;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -61,8 +64,11 @@ import org.apache.iceberg.metrics.MetricsReporter;
 import org.apache.iceberg.metrics.Timer.Timed;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.math.IntMath;
+import org.apache.iceberg.types.Comparators;
 import org.apache.iceberg.util.Exceptions;
 import org.apache.iceberg.util.SnapshotUtil;
 import org.apache.iceberg.util.Tasks;
@@ -75,6 +81,9 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
   private static final Logger LOG = LoggerFactory.getLogger(SnapshotProducer.class);
   static final Set<ManifestFile> EMPTY_SET = Sets.newHashSet();
 
+  // minimum number of new files per group when writing manifests in parallel
+  private static final int MIN_FILE_GROUP_SIZE = 10_000;
+
   /** Default callback used to delete files. */
   private final Consumer<String> defaultDelete =
       new Consumer<String>() {
@@ -540,6 +549,81 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
         () -> newDeleteManifestWriter(spec), targetManifestSizeBytes);
   }
 
+  /**
+   * Writes new data files to manifests.
+   *
+   * <p>Large numbers of files are clustered by partition and split into contiguous groups that are
+   * written in parallel using the worker pool, so that each manifest covers a narrow range of
+   * partitions. Smaller numbers of files are written in order by a single writer.
+   *
+   * @param files data files to write
+   * @param dataSeq a data sequence number to assign to all files, or null to assign it at commit
+   * @param spec the partition spec of the files
+   * @return the new manifests
+   */
+  @SuppressWarnings("unchecked")
+  protected List<ManifestFile> writeDataManifests(
+      List<DataFile> files, Long dataSeq, PartitionSpec spec) {
+    int groupCount =
+        Math.min(
+            ThreadPools.WORKER_THREAD_POOL_SIZE,
+            IntMath.divide(files.size(), MIN_FILE_GROUP_SIZE, RoundingMode.FLOOR));
+    if (groupCount <= 1) {
+      return writeDataFileGroup(files, dataSeq, spec);
+    }
+
+    List<DataFile> clustered = clusterByPartition(files, spec);
+    int groupSize = IntMath.divide(clustered.size(), groupCount, RoundingMode.CEILING);
+    List<List<DataFile>> groups = Lists.partition(clustered, groupSize);
+
+    // write groups in parallel, but keep the results in the order of the groups
+    List<ManifestFile>[] groupManifests =
+        (List<ManifestFile>[]) Array.newInstance(List.class, groups.size());
+
+    Tasks.range(groups.size())
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .executeWith(workerPool)
+        .revertWith(index -> groupManifests[index].forEach(file -> deleteFile(file.path())))
+        .run(index -> groupManifests[index] = writeDataFileGroup(groups.get(index), dataSeq, spec));
+
+    return Lists.newArrayList(Iterables.concat(groupManifests));
+  }
+
+  private List<ManifestFile> writeDataFileGroup(
+      List<DataFile> files, Long dataSeq, PartitionSpec spec) {
+    RollingManifestWriter<DataFile> writer = newRollingManifestWriter(spec);
+    try {
+      if (dataSeq == null) {
+        files.forEach(writer::add);
+      } else {
+        files.forEach(file -> writer.add(file, dataSeq));
+      }
+    } finally {
+      try {
+        writer.close();
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to close manifest writer");
+      }
+    }
+
+    return writer.toManifestFiles();
+  }
+
+  private static List<DataFile> clusterByPartition(List<DataFile> files, PartitionSpec spec) {
+    boolean canSort =
+        spec.isPartitioned() && files.stream().allMatch(file -> file.specId() == spec.specId());
+    if (!canSort) {
+      return files;
+    }
+
+    // the sort is stable, so files in the same partition keep the order they were added in
+    List<DataFile> sorted = Lists.newArrayList(files);
+    Comparator<StructLike> comparator = Comparators.forType(spec.partitionType());
+    sorted.sort(Comparator.comparing(DataFile::partition, comparator));
+    return sorted;
+  }
+
   protected ManifestReader<DataFile> newManifestReader(ManifestFile manifest) {
     return ManifestFiles.read(manifest, ops.io(), ops.current().specsById());
   }
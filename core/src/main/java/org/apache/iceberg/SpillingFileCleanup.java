@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.BulkDeletionFailureException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.relocated.com.google.common.base.Joiner;
+import org.apache.iceberg.relocated.com.google.common.base.Splitter;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
+import org.apache.iceberg.relocated.com.google.common.collect.PeekingIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.Tasks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * File cleanup strategy for snapshot expiration which determines, via sorted runs spilled to a
+ * local directory, metadata and data files that are not reachable given the previous and current
+ * table states.
+ *
+ * <p>Manifests and live file paths of expired and retained snapshots are collected into sets that
+ * keep a bounded number of paths in memory. The sorted sets are then merged to find paths that are
+ * only reachable from expired snapshots. Files are deleted in batches while the merge is running,
+ * using bulk deletes when the table's {@link FileIO} supports them.
+ */
+class SpillingFileCleanup extends FileCleanupStrategy {
+  private static final Logger LOG = LoggerFactory.getLogger(SpillingFileCleanup.class);
+
+  private static final int MAX_BUFFERED_PATHS_DEFAULT = 250_000;
+  private static final int MANIFEST_BATCH_SIZE = 1_000;
+  private static final int DELETE_BATCH_SIZE = 10_000;
+  private static final int MAX_PENDING_DELETE_BATCHES = 4;
+  private static final Joiner MANIFEST_JOINER = Joiner.on('\u0000');
+  private static final Splitter MANIFEST_SPLITTER = Splitter.on('\u0000');
+
+  private final ExecutorService deleteExecutorService;
+  private final SupportsBulkOperations bulkIO;
+  private final File spillDirectory;
+  private final int maxBufferedPaths;
+
+  SpillingFileCleanup(
+      FileIO fileIO,
+      ExecutorService deleteExecutorService,
+      ExecutorService planExecutorService,
+      Consumer<String> deleteFunc,
+      SupportsBulkOperations bulkIO,
+      String spillDirectory) {
+    this(
+        fileIO,
+        deleteExecutorService,
+        planExecutorService,
+        deleteFunc,
+        bulkIO,
+        spillDirectory,
+        MAX_BUFFERED_PATHS_DEFAULT);
+  }
+
+  SpillingFileCleanup(
+      FileIO fileIO,
+      ExecutorService deleteExecutorService,
+      ExecutorService planExecutorService,
+      Consumer<String> deleteFunc,
+      SupportsBulkOperations bulkIO,
+      String spillDirectory,
+      int maxBufferedPaths) {
+    super(fileIO, deleteExecutorService, planExecutorService, deleteFunc);
+    this.deleteExecutorService = deleteExecutorService;
+    this.bulkIO = bulkIO;
+    this.spillDirectory = new File(spillDirectory);
+    this.maxBufferedPaths = maxBufferedPaths;
+  }
+
+  @Override
+  public void cleanFiles(TableMetadata beforeExpiration, TableMetadata afterExpiration) {
+    Set<String> manifestListsToDelete = Sets.newHashSet();
+
+    Set<Snapshot> snapshotsAfterExpiration = Sets.newHashSet(afterExpiration.snapshots());
+    Set<Snapshot> expiredSnapshots = Sets.newHashSet();
+    for (Snapshot snapshot : beforeExpiration.snapshots()) {
+      if (!snapshotsAfterExpiration.contains(snapshot)) {
+        expiredSnapshots.add(snapshot);
+        if (snapshot.manifestListLocation() != null) {
+          manifestListsToDelete.add(snapshot.manifestListLocation());
+        }
+      }
+    }
+
+    try (ExternalSortedSet expiredManifests = newSortedSet();
+        ExternalSortedSet retainedManifests = newSortedSet()) {
+      collectManifests(expiredSnapshots, expiredManifests);
+      if (!expiredManifests.isEmpty()) {
+        collectManifests(snapshotsAfterExpiration, retainedManifests);
+        deleteUnreachableFiles(expiredManifests, retainedManifests);
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close sorted paths");
+    }
+
+    deleteFiles(manifestListsToDelete, "manifest list");
+
+    if (hasAnyStatisticsFiles(beforeExpiration)) {
+      deleteFiles(
+          expiredStatisticsFilesLocations(beforeExpiration, afterExpiration), "statistics files");
+    }
+  }
+
+  private void deleteUnreachableFiles(
+      ExternalSortedSet expiredManifests, ExternalSortedSet retainedManifests) throws IOException {
+    try (ExternalSortedSet manifestsToDelete = newSortedSet();
+        ExternalSortedSet expiredFiles = newSortedSet();
+        ExternalSortedSet retainedFiles = newSortedSet()) {
+      try (CloseableIterator<String> expired = expiredManifests.sortedIterator();
+          CloseableIterator<String> retained = retainedManifests.sortedIterator()) {
+        Iterator<String> unreachable =
+            difference(expired, retained, SpillingFileCleanup::manifestPath);
+        manifestBatches(unreachable)
+            .forEachRemaining(
+                manifests -> {
+                  readLivePaths(manifests, expiredFiles, true /* ignore failures */);
+                  manifests.forEach(manifest -> manifestsToDelete.add(manifest.path()));
+                });
+      }
+
+      if (manifestsToDelete.isEmpty()) {
+        return;
+      }
+
+      if (!expiredFiles.isEmpty() && collectRetainedFiles(retainedManifests, retainedFiles)) {
+        try (CloseableIterator<String> expired = expiredFiles.sortedIterator();
+            CloseableIterator<String> retained = retainedFiles.sortedIterator()) {
+          deleteInBatches(difference(expired, retained, Function.identity()), "data");
+        }
+      }
+
+      try (CloseableIterator<String> manifests = manifestsToDelete.sortedIterator()) {
+        deleteInBatches(manifests, "manifest");
+      }
+    }
+  }
+
+  private boolean collectRetainedFiles(
+      ExternalSortedSet retainedManifests, ExternalSortedSet retainedFiles) {
+    try (CloseableIterator<String> manifests = retainedManifests.sortedIterator()) {
+      manifestBatches(manifests)
+          .forEachRemaining(batch -> readLivePaths(batch, retainedFiles, false /* ignore failures */));
+      return true;
+    } catch (Throwable e) {
+      LOG.warn("Failed to list all reachable files", e);
+      return false;
+    }
+  }
+
+  private void collectManifests(Set<Snapshot> snapshots, ExternalSortedSet manifests) {
+    Tasks.foreach(snapshots)
+        .retry(3)
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .executeWith(planExecutorService)
+        .onFailure(
+            (snapshot, exc) ->
+                LOG.warn(
+                    "Failed to determine manifests for snapshot {}", snapshot.snapshotId(), exc))
+        .run(
+            snapshot -> {
+              try (CloseableIterable<ManifestFile> manifestFiles = readManifests(snapshot)) {
+                for (ManifestFile manifestFile : manifestFiles) {
+                  manifests.add(encode(manifestFile));
+                }
+              } catch (IOException e) {
+                throw new RuntimeIOException(
+                    e, "Failed to close manifest list: %s", snapshot.manifestListLocation());
+              }
+            });
+  }
+
+  private void readLivePaths(
+      List<ManifestFile> manifests, ExternalSortedSet paths, boolean ignoreFailures) {
+    Tasks.Builder<ManifestFile> tasks =
+        Tasks.foreach(manifests)
+            .retry(3)
+            .executeWith(planExecutorService)
+            .onFailure(
+                (item, exc) ->
+                    LOG.warn(
+                        "Failed to determine live files in manifest {}. Retrying",
+                        item.path(),
+                        exc));
+
+    if (ignoreFailures) {
+      tasks.suppressFailureWhenFinished();
+    } else {
+      tasks.stopOnFailure().throwFailureWhenFinished();
+    }
+
+    tasks.run(
+        manifest -> {
+          try (CloseableIterable<String> livePaths = ManifestFiles.readPaths(manifest, fileIO)) {
+            livePaths.forEach(paths::add);
+          } catch (IOException e) {
+            throw new RuntimeIOException(e, "Failed to read manifest file: %s", manifest);
+          }
+        });
+  }
+
+  private void deleteInBatches(Iterator<String> paths, String fileType) {
+    Deque<CompletableFuture<Void>> pendingDeletes = Queues.newArrayDeque();
+    Iterators.partition(paths, DELETE_BATCH_SIZE)
+        .forEachRemaining(
+            batch -> {
+              if (bulkIO != null) {
+                if (pendingDeletes.size() >= MAX_PENDING_DELETE_BATCHES) {
+                  pendingDeletes.removeFirst().join();
+                }
+
+                pendingDeletes.addLast(
+                    CompletableFuture.runAsync(
+                        () -> bulkDelete(batch, fileType), deleteExecutorService));
+              } else {
+                deleteFiles(Sets.newHashSet(batch), fileType);
+              }
+            });
+
+    pendingDeletes.forEach(CompletableFuture::join);
+  }
+
+  private void bulkDelete(List<String> paths, String fileType) {
+    try {
+      bulkIO.deleteFiles(paths);
+    } catch (BulkDeletionFailureException e) {
+      LOG.warn(
+          "Bulk delete failed for {} of {} {} files",
+          e.numberFailedObjects(),
+          paths.size(),
+          fileType,
+          e);
+    } catch (RuntimeException e) {
+      LOG.warn("Bulk delete failed for {} {} files", paths.size(), fileType, e);
+    }
+  }
+
+  private ExternalSortedSet newSortedSet() {
+    return new ExternalSortedSet(spillDirectory, maxBufferedPaths);
+  }
+
+  /**
+   * Returns the candidates whose key is not the key of any retained item.
+   *
+   * <p>Both iterators must be sorted by key.
+   */
+  private static Iterator<String> difference(
+      Iterator<String> candidates, Iterator<String> retained, Function<String, String> keyFunc) {
+    PeekingIterator<String> retainedItems = Iterators.peekingIterator(retained);
+    return Iterators.filter(
+        candidates,
+        candidate -> {
+          String key = keyFunc.apply(candidate);
+          while (retainedItems.hasNext()
+              && keyFunc.apply(retainedItems.peek()).compareTo(key) < 0) {
+            retainedItems.next();
+          }
+
+          return !retainedItems.hasNext() || !keyFunc.apply(retainedItems.peek()).equals(key);
+        });
+  }
+
+  private static Iterator<List<ManifestFile>> manifestBatches(Iterator<String> encoded) {
+    return Iterators.partition(
+        Iterators.transform(encoded, SpillingFileCleanup::decode), MANIFEST_BATCH_SIZE);
+  }
+
+  // the manifest path is the first field so encoded manifests sort by path
+  private static String encode(ManifestFile manifest) {
+    return MANIFEST_JOINER.join(
+        manifest.path(),
+        manifest.length(),
+        manifest.partitionSpecId(),
+        manifest.snapshotId() != null ? manifest.snapshotId() : "");
+  }
+
+  private static String manifestPath(String encoded) {
+    return encoded.substring(0, encoded.indexOf('\u0000'));
+  }
+
+  private static ManifestFile decode(String encoded) {
+    List<String> fields = MANIFEST_SPLITTER.splitToList(encoded);
+    Long snapshotId = fields.get(3).isEmpty() ? null : Long.parseLong(fields.get(3));
+    return new GenericManifestFile(
+        fields.get(0),
+        Long.parseLong(fields.get(1)),
+        Integer.parseInt(fields.get(2)),
+        ManifestContent.DATA,
+        0L,
+        0L,
+        snapshotId,
+        0,
+        0L,
+        0,
+        0L,
+        0,
+        0L,
+        null,
+        null);
+  }
+}
@@ -19,6 +19,7 @@
 package org.apache.iceberg;
 
 import java.util.function.Function;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,6 +62,53 @@ public class SystemConfigs {
           true,
           Boolean::parseBoolean);
 
+  /**
+   * Sets the maximum number of items that a {@link org.apache.iceberg.util.ParallelIterable} will
+   * buffer before its producers yield their worker threads. The default is unbounded, which keeps
+   * producers running until their inputs are exhausted regardless of how fast results are consumed.
+   */
+  public static final ConfigEntry<Integer> PARALLEL_ITERABLE_MAX_QUEUE_SIZE =
+      new ConfigEntry<>(
+          "iceberg.parallel-iterable.max-queue-size",
+          "ICEBERG_PARALLEL_ITERABLE_MAX_QUEUE_SIZE",
+          Integer.MAX_VALUE,
+          SystemConfigs::parsePositiveInt);
+
+  /**
+   * Whether to cache delete files in a JVM-wide cache shared by all generic delete filters, such as
+   * those used by the generic, Flink and MapReduce readers.
+   */
+  public static final ConfigEntry<Boolean> DELETE_CACHE_ENABLED =
+      new ConfigEntry<>(
+          "iceberg.delete-cache.enabled",
+          "ICEBERG_DELETE_CACHE_ENABLED",
+          false,
+          Boolean::parseBoolean);
+
+  /** Sets the maximum estimated size in bytes of all delete files held by the delete cache. */
+  public static final ConfigEntry<Long> DELETE_CACHE_MAX_TOTAL_SIZE =
+      new ConfigEntry<>(
+          "iceberg.delete-cache.max-total-size",
+          "ICEBERG_DELETE_CACHE_MAX_TOTAL_SIZE",
+          128L * 1024 * 1024, // 128 MB
+          Long::parseUnsignedLong);
+
+  /** Sets the maximum estimated size in bytes of a single delete file held by the delete cache. */
+  public static final ConfigEntry<Long> DELETE_CACHE_MAX_ENTRY_SIZE =
+      new ConfigEntry<>(
+          "iceberg.delete-cache.max-entry-size",
+          "ICEBERG_DELETE_CACHE_MAX_ENTRY_SIZE",
+          64L * 1024 * 1024, // 64 MB
+          Long::parseUnsignedLong);
+
+  /** Sets the time in milliseconds after which unused delete cache entries are evicted. */
+  public static final ConfigEntry<Long> DELETE_CACHE_TIMEOUT_MS =
+      new ConfigEntry<>(
+          "iceberg.delete-cache.timeout-ms",
+          "ICEBERG_DELETE_CACHE_TIMEOUT_MS",
+          10L * 60 * 1000, // 10 minutes
+          Long::parseUnsignedLong);
+
   /**
    * Maximum number of distinct {@link org.apache.iceberg.io.FileIO} that is allowed to have
    * associated {@link org.apache.iceberg.io.ContentCache} in memory at a time.
@@ -85,6 +133,12 @@ public class SystemConfigs {
             return Boolean.parseBoolean(s);
           });
 
+  private static int parsePositiveInt(String value) {
+    int parsed = Integer.parseInt(value);
+    Preconditions.checkArgument(parsed > 0, "Invalid value: %s (must be positive)", parsed);
+    return parsed;
+  }
+
   public static class ConfigEntry<T> {
     private final String propertyKey;
     private final String envKey;
@@ -18,18 +18,24 @@
  */
 package org.apache.iceberg;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.StringWriter;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 import org.apache.iceberg.TableMetadata.MetadataLogEntry;
@@ -42,7 +48,9 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.util.JsonUtil;
+import org.apache.iceberg.util.SerializableSupplier;
 
 public class TableMetadataParser {
 
@@ -123,12 +131,8 @@ public class TableMetadataParser {
       TableMetadata metadata, OutputFile outputFile, boolean overwrite) {
     boolean isGzip = Codec.fromFileName(outputFile.location()) == Codec.GZIP;
     OutputStream stream = overwrite ? outputFile.createOrOverwrite() : outputFile.create();
-    try (OutputStream ou = isGzip ? new GZIPOutputStream(stream) : stream;
-        OutputStreamWriter writer = new OutputStreamWriter(ou, StandardCharsets.UTF_8)) {
-      JsonGenerator generator = JsonUtil.factory().createGenerator(writer);
-      generator.useDefaultPrettyPrinter();
-      toJson(metadata, generator);
-      generator.flush();
+    try (OutputStream ou = isGzip ? new GZIPOutputStream(stream) : stream) {
+      toJson(metadata, ou);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to write json to file: %s", outputFile);
     }
@@ -147,6 +151,24 @@ public class TableMetadataParser {
     return ".metadata.json" + codec.extension;
   }
 
+  /**
+   * Writes pretty-printed table metadata JSON to a stream.
+   *
+   * <p>UTF-8 bytes are generated directly without an intermediate writer or string. The stream is
+   * flushed but not closed.
+   *
+   * @param metadata table metadata
+   * @param out an output stream
+   * @throws IOException if writing to the stream fails
+   */
+  public static void toJson(TableMetadata metadata, OutputStream out) throws IOException {
+    JsonGenerator generator = JsonUtil.factory().createGenerator(out, JsonEncoding.UTF8);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    generator.useDefaultPrettyPrinter();
+    toJson(metadata, generator);
+    generator.close();
+  }
+
   public static String toJson(TableMetadata metadata) {
     try (StringWriter writer = new StringWriter()) {
       JsonGenerator generator = JsonUtil.factory().createGenerator(writer);
@@ -274,15 +296,144 @@ public class TableMetadataParser {
   }
 
   public static TableMetadata read(FileIO io, InputFile file) {
+    return read(file, false);
+  }
+
+  /**
+   * Reads table metadata with only the snapshots that are referenced by branches and tags.
+   *
+   * <p>Other snapshots are skipped while parsing and are not held in memory. They are loaded by
+   * reading the metadata file again the first time all snapshots are needed, so the file must still
+   * exist at that time.
+   *
+   * @param io a {@link FileIO} to read the metadata file
+   * @param path a metadata file location
+   * @return table metadata
+   */
+  public static TableMetadata readRefsOnly(FileIO io, String path) {
+    return read(io.newInputFile(path), true, () -> read(io, path).snapshots());
+  }
+
+  /**
+   * Reads table metadata from a file without building a JSON tree for the whole document.
+   *
+   * <p>Large sections such as snapshots, statistics and the snapshot and metadata logs are parsed
+   * one entry at a time. When snapshots are loaded lazily, only the current snapshot and snapshots
+   * referenced by branches or tags are parsed. The serialized snapshot list is kept and parsed the
+   * first time all snapshots are needed.
+   *
+   * @param file a metadata file
+   * @param lazySnapshots whether to defer parsing snapshots that are not referenced
+   * @return table metadata
+   */
+  public static TableMetadata read(InputFile file, boolean lazySnapshots) {
+    return read(file, lazySnapshots, null);
+  }
+
+  private static TableMetadata read(
+      InputFile file,
+      boolean lazySnapshots,
+      SerializableSupplier<List<Snapshot>> snapshotsLoader) {
     Codec codec = Codec.fromFileName(file.location());
     try (InputStream is =
-        codec == Codec.GZIP ? new GZIPInputStream(file.newStream()) : file.newStream()) {
-      return fromJson(file, JsonUtil.mapper().readValue(is, JsonNode.class));
+            codec == Codec.GZIP ? new GZIPInputStream(file.newStream()) : file.newStream();
+        JsonParser parser = JsonUtil.factory().createParser(is)) {
+      return fromJson(file.location(), parser, lazySnapshots, snapshotsLoader);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to read file: %s", file);
     }
   }
 
+  /**
+   * Reads table metadata from a JSON parser positioned before the metadata object.
+   *
+   * @param metadataLocation metadata location for the returned {@link TableMetadata}
+   * @param parser a JSON parser
+   * @param lazySnapshots whether to defer parsing snapshots that are not referenced
+   * @return table metadata
+   * @throws IOException if reading from the parser fails
+   */
+  public static TableMetadata fromJson(
+      String metadataLocation, JsonParser parser, boolean lazySnapshots) throws IOException {
+    return fromJson(metadataLocation, parser, lazySnapshots, null);
+  }
+
+  private static TableMetadata fromJson(
+      String metadataLocation,
+      JsonParser parser,
+      boolean lazySnapshots,
+      SerializableSupplier<List<Snapshot>> snapshotsLoader)
+      throws IOException {
+    JsonToken start = parser.nextToken();
+    Preconditions.checkArgument(
+        start == JsonToken.START_OBJECT, "Cannot parse metadata from a non-object: %s", start);
+
+    // small fields are collected into a tree and parsed like any other metadata
+    ObjectNode node = JsonUtil.mapper().createObjectNode();
+    StreamedFields streamed = new StreamedFields();
+    byte[] serializedSnapshots = null;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (value != JsonToken.START_ARRAY) {
+        // invalid values are passed to the tree parser to produce the usual errors
+        node.set(field, JsonUtil.mapper().readTree(parser));
+        continue;
+      }
+
+      switch (field) {
+        case SNAPSHOTS:
+          if (snapshotsLoader != null && node.has(CURRENT_SNAPSHOT_ID) && node.has(REFS)) {
+            // refs were already parsed so unreferenced snapshots can be skipped without a copy
+            streamed.snapshots = snapshotsFromJson(parser, referencedSnapshotIds(node));
+            streamed.snapshotsSupplier = snapshotsLoader;
+          } else if (lazySnapshots) {
+            serializedSnapshots = copyArray(parser);
+          } else {
+            streamed.snapshots = snapshotsFromJson(parser, null);
+          }
+          break;
+        case STATISTICS:
+          streamed.statisticsFiles = arrayFromJson(parser, StatisticsFileParser::fromJson);
+          break;
+        case PARTITION_STATISTICS:
+          streamed.partitionStatisticsFiles =
+              arrayFromJson(parser, PartitionStatisticsFileParser::fromJson);
+          break;
+        case SNAPSHOT_LOG:
+          streamed.snapshotLog =
+              arrayFromJson(
+                  parser,
+                  entry ->
+                      new SnapshotLogEntry(
+                          JsonUtil.getLong(TIMESTAMP_MS, entry),
+                          JsonUtil.getLong(SNAPSHOT_ID, entry)));
+          break;
+        case METADATA_LOG:
+          streamed.metadataLog =
+              arrayFromJson(
+                  parser,
+                  entry ->
+                      new MetadataLogEntry(
+                          JsonUtil.getLong(TIMESTAMP_MS, entry),
+                          JsonUtil.getString(METADATA_FILE, entry)));
+          break;
+        default:
+          node.set(field, JsonUtil.mapper().readTree(parser));
+      }
+    }
+
+    if (serializedSnapshots != null) {
+      byte[] snapshotBytes = serializedSnapshots;
+      streamed.snapshots = snapshotsFromJson(snapshotBytes, referencedSnapshotIds(node));
+      streamed.snapshotsSupplier =
+          snapshotsLoader != null ? snapshotsLoader : () -> snapshotsFromJson(snapshotBytes, null);
+    }
+
+    return fromJson(metadataLocation, node, streamed);
+  }
+
   /**
    * Read TableMetadata from a JSON string.
    *
@@ -303,7 +454,11 @@ public class TableMetadataParser {
    * @return a TableMetadata object
    */
   public static TableMetadata fromJson(String metadataLocation, String json) {
-    return JsonUtil.parse(json, node -> TableMetadataParser.fromJson(metadataLocation, node));
+    try (JsonParser parser = JsonUtil.factory().createParser(json)) {
+      return fromJson(metadataLocation, parser, false);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   public static TableMetadata fromJson(InputFile file, JsonNode node) {
@@ -314,8 +469,13 @@ public class TableMetadataParser {
     return fromJson((String) null, node);
   }
 
-  @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MethodLength"})
   public static TableMetadata fromJson(String metadataLocation, JsonNode node) {
+    return fromJson(metadataLocation, node, new StreamedFields());
+  }
+
+  @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MethodLength"})
+  private static TableMetadata fromJson(
+      String metadataLocation, JsonNode node, StreamedFields streamed) {
     Preconditions.checkArgument(
         node.isObject(), "Cannot parse metadata from a non-object: %s", node);
 
@@ -467,7 +627,9 @@ public class TableMetadataParser {
     }
 
     List<Snapshot> snapshots;
-    if (node.has(SNAPSHOTS)) {
+    if (streamed.snapshots != null) {
+      snapshots = streamed.snapshots;
+    } else if (node.has(SNAPSHOTS)) {
       JsonNode snapshotArray = JsonUtil.get(SNAPSHOTS, node);
       Preconditions.checkArgument(
           snapshotArray.isArray(), "Cannot parse snapshots from non-array: %s", snapshotArray);
@@ -482,21 +644,27 @@ public class TableMetadataParser {
     }
 
     List<StatisticsFile> statisticsFiles;
-    if (node.has(STATISTICS)) {
+    if (streamed.statisticsFiles != null) {
+      statisticsFiles = streamed.statisticsFiles;
+    } else if (node.has(STATISTICS)) {
       statisticsFiles = statisticsFilesFromJson(node.get(STATISTICS));
     } else {
       statisticsFiles = ImmutableList.of();
     }
 
     List<PartitionStatisticsFile> partitionStatisticsFiles;
-    if (node.has(PARTITION_STATISTICS)) {
+    if (streamed.partitionStatisticsFiles != null) {
+      partitionStatisticsFiles = streamed.partitionStatisticsFiles;
+    } else if (node.has(PARTITION_STATISTICS)) {
       partitionStatisticsFiles = partitionStatsFilesFromJson(node.get(PARTITION_STATISTICS));
     } else {
       partitionStatisticsFiles = ImmutableList.of();
     }
 
     ImmutableList.Builder<HistoryEntry> entries = ImmutableList.builder();
-    if (node.has(SNAPSHOT_LOG)) {
+    if (streamed.snapshotLog != null) {
+      entries.addAll(streamed.snapshotLog);
+    } else if (node.has(SNAPSHOT_LOG)) {
       Iterator<JsonNode> logIterator = node.get(SNAPSHOT_LOG).elements();
       while (logIterator.hasNext()) {
         JsonNode entryNode = logIterator.next();
@@ -508,7 +676,9 @@ public class TableMetadataParser {
     }
 
     ImmutableList.Builder<MetadataLogEntry> metadataEntries = ImmutableList.builder();
-    if (node.has(METADATA_LOG)) {
+    if (streamed.metadataLog != null) {
+      metadataEntries.addAll(streamed.metadataLog);
+    } else if (node.has(METADATA_LOG)) {
       Iterator<JsonNode> logIterator = node.get(METADATA_LOG).elements();
       while (logIterator.hasNext()) {
         JsonNode entryNode = logIterator.next();
@@ -537,7 +707,7 @@ public class TableMetadataParser {
         properties,
         currentSnapshotId,
         snapshots,
-        null,
+        streamed.snapshotsSupplier,
         entries.build(),
         metadataEntries.build(),
         refs,
@@ -590,4 +760,72 @@ public class TableMetadataParser {
 
     return statsFileBuilder.build();
   }
+
+  /** Sections of table metadata that were parsed from a stream instead of a tree. */
+  private static class StreamedFields {
+    private List<Snapshot> snapshots = null;
+    private SerializableSupplier<List<Snapshot>> snapshotsSupplier = null;
+    private List<StatisticsFile> statisticsFiles = null;
+    private List<PartitionStatisticsFile> partitionStatisticsFiles = null;
+    private List<HistoryEntry> snapshotLog = null;
+    private List<MetadataLogEntry> metadataLog = null;
+  }
+
+  private static Set<Long> referencedSnapshotIds(JsonNode node) {
+    Set<Long> referenced = Sets.newHashSet();
+    Long currentSnapshotId = JsonUtil.getLongOrNull(CURRENT_SNAPSHOT_ID, node);
+    if (currentSnapshotId != null) {
+      referenced.add(currentSnapshotId);
+    }
+
+    if (node.has(REFS)) {
+      for (SnapshotRef ref : refsFromJson(node.get(REFS)).values()) {
+        referenced.add(ref.snapshotId());
+      }
+    }
+
+    return referenced;
+  }
+
+  private static byte[] copyArray(JsonParser parser) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JsonGenerator generator = JsonUtil.factory().createGenerator(out, JsonEncoding.UTF8)) {
+      generator.copyCurrentStructure(parser);
+    }
+
+    return out.toByteArray();
+  }
+
+  private static List<Snapshot> snapshotsFromJson(byte[] json, Set<Long> snapshotIds) {
+    try (JsonParser parser = JsonUtil.factory().createParser(json)) {
+      parser.nextToken();
+      return snapshotsFromJson(parser, snapshotIds);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to parse snapshots", e);
+    }
+  }
+
+  /** Parses the snapshots of an array, or only the snapshots with the given IDs if not null. */
+  private static List<Snapshot> snapshotsFromJson(JsonParser parser, Set<Long> snapshotIds)
+      throws IOException {
+    List<Snapshot> snapshots = Lists.newArrayList();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      JsonNode snapshotNode = JsonUtil.mapper().readTree(parser);
+      if (snapshotIds == null || snapshotIds.contains(snapshotNode.path(SNAPSHOT_ID).asLong())) {
+        snapshots.add(SnapshotParser.fromJson(snapshotNode));
+      }
+    }
+
+    return snapshots;
+  }
+
+  private static <T> List<T> arrayFromJson(JsonParser parser, Function<JsonNode, T> fromJson)
+      throws IOException {
+    ImmutableList.Builder<T> builder = ImmutableList.builder();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      builder.add(fromJson.apply(JsonUtil.mapper().readTree(parser)));
+    }
+
+    return builder.build();
+  }
 }
@@ -231,6 +231,9 @@ public class TableProperties {
   public static final String PARQUET_BATCH_SIZE = "read.parquet.vectorization.batch-size";
   public static final int PARQUET_BATCH_SIZE_DEFAULT = 5000;
 
+  public static final String PARQUET_PAGE_FILTER_ENABLED = "read.parquet.page-filter.enabled";
+  public static final boolean PARQUET_PAGE_FILTER_ENABLED_DEFAULT = false;
+
   public static final String ORC_VECTORIZATION_ENABLED = "read.orc.vectorization.enabled";
   public static final boolean ORC_VECTORIZATION_ENABLED_DEFAULT = false;
 
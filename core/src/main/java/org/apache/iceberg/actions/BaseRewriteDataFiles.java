@@ -75,5 +75,11 @@ interface BaseRewriteDataFiles extends RewriteDataFiles {
   interface FileGroupFailureResult extends RewriteDataFiles.FileGroupFailureResult {}
 
   @Value.Immutable
-  interface FileGroupInfo extends RewriteDataFiles.FileGroupInfo {}
+  interface FileGroupInfo extends RewriteDataFiles.FileGroupInfo {
+    @Override
+    @Value.Default
+    default double benefit() {
+      return RewriteDataFiles.FileGroupInfo.super.benefit();
+    }
+  }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.actions;
+
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.math.LongMath;
+
+/**
+ * A {@link RewriteCostModel} that scores file groups by the work saved for readers.
+ *
+ * <p>The score of a group is the sum of:
+ *
+ * <ul>
+ *   <li>the number of files that are removed by combining the group into files of the target size,
+ *   <li>the number of delete files that no longer need to be applied to the group's data files,
+ *   <li>the number of data files that are not written in the target sort order, if there is one.
+ * </ul>
+ *
+ * <p>The sum is multiplied by the weight of the group's partition, which can be used to prefer
+ * partitions that are read often. By default, all partitions have a weight of 1.
+ */
+public class ReadBenefitCostModel implements RewriteCostModel {
+  private final long targetFileSize;
+  private final Integer sortOrderId;
+  private final ToDoubleFunction<StructLike> partitionWeights;
+
+  public ReadBenefitCostModel(long targetFileSize) {
+    this(targetFileSize, null, partition -> 1.0);
+  }
+
+  /**
+   * Creates a cost model.
+   *
+   * @param targetFileSize the size of files produced by the rewrite
+   * @param sortOrderId the ID of the sort order used by the rewrite, or null if it does not sort
+   * @param partitionWeights a function that returns the weight of a partition, for example based on
+   *     the number of times it was scanned
+   */
+  public ReadBenefitCostModel(
+      long targetFileSize, Integer sortOrderId, ToDoubleFunction<StructLike> partitionWeights) {
+    Preconditions.checkArgument(
+        targetFileSize > 0, "Invalid target file size: %s (not positive)", targetFileSize);
+    Preconditions.checkArgument(partitionWeights != null, "Invalid partition weights: null");
+    this.targetFileSize = targetFileSize;
+    this.sortOrderId = sortOrderId;
+    this.partitionWeights = partitionWeights;
+  }
+
+  @Override
+  public double benefit(StructLike partition, List<FileScanTask> group) {
+    long inputSize = 0L;
+    long deleteFilesApplied = 0L;
+    long unsortedFiles = 0L;
+    for (FileScanTask task : group) {
+      inputSize += task.length();
+      deleteFilesApplied += task.deletes().size();
+      if (sortOrderId != null && !sortOrderId.equals(sortOrderId(task.file()))) {
+        unsortedFiles += 1;
+      }
+    }
+
+    long outputFiles =
+        Math.max(1L, LongMath.divide(inputSize, targetFileSize, RoundingMode.CEILING));
+    long removedFiles = Math.max(0L, group.size() - outputFiles);
+
+    double weight = Math.max(0.0, partitionWeights.applyAsDouble(partition));
+    return weight * (removedFiles + deleteFilesApplied + unsortedFiles);
+  }
+
+  private static Integer sortOrderId(DataFile file) {
+    return file != null ? file.sortOrderId() : null;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.actions;
+
+import java.util.List;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.StructLike;
+
+/**
+ * A model that scores file groups planned by a data rewrite by the expected read benefit of
+ * rewriting them.
+ *
+ * <p>Scores are used to rank file groups, so that a rewrite with a limited budget rewrites the
+ * groups that improve reads the most. Scores are only compared with each other, higher scores
+ * indicate a larger benefit.
+ */
+public interface RewriteCostModel {
+
+  /**
+   * Returns the expected read benefit of rewriting a group of files.
+   *
+   * @param partition the partition of the file group
+   * @param group the tasks of the file group
+   * @return a non-negative score, higher is better
+   */
+  double benefit(StructLike partition, List<FileScanTask> group);
+}
@@ -105,6 +105,9 @@ public class RewriteFileGroup {
         return Comparator.comparing(RewriteFileGroup::numFiles);
       case FILES_DESC:
         return Comparator.comparing(RewriteFileGroup::numFiles, Comparator.reverseOrder());
+      case BENEFIT_DESC:
+        return Comparator.comparing(
+            (RewriteFileGroup fileGroup) -> fileGroup.info().benefit(), Comparator.reverseOrder());
       default:
         return (fileGroupOne, fileGroupTwo) -> 0;
     }
@@ -227,7 +227,11 @@ public class HadoopCatalog extends BaseMetastoreCatalog
   @Override
   protected TableOperations newTableOps(TableIdentifier identifier) {
     return new HadoopTableOperations(
-        new Path(defaultWarehouseLocation(identifier)), fileIO, conf, lockManager);
+        new Path(defaultWarehouseLocation(identifier)),
+        fileIO,
+        conf,
+        lockManager,
+        refsOnlySnapshotLoading());
   }
 
   @Override
@@ -25,6 +25,8 @@ import java.util.function.LongSupplier;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.metrics.Histogram;
+import org.apache.iceberg.metrics.LogLinearHistogram;
 
 /**
  * FileIO Metrics implementation that delegates to Hadoop FileSystem statistics implementation using
@@ -158,6 +160,18 @@ public class HadoopMetricsContext implements FileIOMetricsContext {
     };
   }
 
+  /**
+   * Hadoop FileSystem statistics do not track distributions, so histograms are kept in memory using
+   * a lock-free {@link LogLinearHistogram} that can be updated by many threads.
+   *
+   * @param name name of the metric
+   * @return histogram
+   */
+  @Override
+  public Histogram histogram(String name) {
+    return new LogLinearHistogram();
+  }
+
   private FileSystem.Statistics statistics() {
     if (statistics == null) {
       synchronized (this) {
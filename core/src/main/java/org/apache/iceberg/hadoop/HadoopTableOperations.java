@@ -67,6 +67,7 @@ public class HadoopTableOperations implements TableOperations {
   private final Path location;
   private final FileIO fileIO;
   private final LockManager lockManager;
+  private final boolean refsOnlySnapshotLoading;
 
   private volatile TableMetadata currentMetadata = null;
   private volatile Integer version = null;
@@ -74,10 +75,25 @@ public class HadoopTableOperations implements TableOperations {
 
   protected HadoopTableOperations(
       Path location, FileIO fileIO, Configuration conf, LockManager lockManager) {
+    this(location, fileIO, conf, lockManager, false);
+  }
+
+  /**
+   * Creates table operations that optionally load only the snapshots referenced by branches and
+   * tags when refreshing. Other snapshots are loaded from the metadata file the first time {@link
+   * TableMetadata#snapshots()} is called.
+   */
+  protected HadoopTableOperations(
+      Path location,
+      FileIO fileIO,
+      Configuration conf,
+      LockManager lockManager,
+      boolean refsOnlySnapshotLoading) {
     this.conf = conf;
     this.location = location;
     this.fileIO = fileIO;
     this.lockManager = lockManager;
+    this.refsOnlySnapshotLoading = refsOnlySnapshotLoading;
   }
 
   @Override
@@ -96,8 +112,11 @@ public class HadoopTableOperations implements TableOperations {
     // update if the current version is out of date
     if (version == null || version != newVersion) {
       this.version = newVersion;
-      this.currentMetadata =
-          checkUUID(currentMetadata, TableMetadataParser.read(io(), metadataFile));
+      TableMetadata newMetadata =
+          refsOnlySnapshotLoading
+              ? TableMetadataParser.readRefsOnly(io(), metadataFile)
+              : TableMetadataParser.read(io(), metadataFile);
+      this.currentMetadata = checkUUID(currentMetadata, newMetadata);
     }
   }
 
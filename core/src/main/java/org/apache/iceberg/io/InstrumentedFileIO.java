@@ -0,0 +1,634 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.CatalogUtil;
+import org.apache.iceberg.EnvironmentContext;
+import org.apache.iceberg.hadoop.HadoopConfigurable;
+import org.apache.iceberg.hadoop.SerializableConfiguration;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.CounterResult;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.FileIOMetrics;
+import org.apache.iceberg.metrics.FileIOMetricsResult;
+import org.apache.iceberg.metrics.FileIOReport;
+import org.apache.iceberg.metrics.Histogram;
+import org.apache.iceberg.metrics.HistogramResult;
+import org.apache.iceberg.metrics.ImmutableFileIOMetricsResult;
+import org.apache.iceberg.metrics.ImmutableFileIOReport;
+import org.apache.iceberg.metrics.LogLinearHistogram;
+import org.apache.iceberg.metrics.MetricsReporter;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.util.SerializableMap;
+import org.apache.iceberg.util.SerializableSupplier;
+
+/**
+ * FileIO implementation that wraps another {@link DelegateFileIO} and records the latency of its
+ * operations in {@link FileIOMetrics}.
+ *
+ * <p>Latencies are recorded for opening input streams, the first read after opening, reads, range
+ * reads, tail reads, creating and closing output streams, and single and bulk deletes. The metrics
+ * are sent as a {@link FileIOReport} to the {@link MetricsReporter} configured by {@link
+ * org.apache.iceberg.CatalogProperties#METRICS_REPORTER_IMPL} when {@link #report()} is called and
+ * when this FileIO is closed. Each report carries the metrics recorded since the previous report.
+ *
+ * <p>To instrument a FileIO that is loaded from catalog properties, set {@code io-impl} to this
+ * class and {@link #DELEGATE_IMPL} to the FileIO that should be wrapped, for example {@code
+ * org.apache.iceberg.aws.s3.S3FileIO}.
+ *
+ * <p>Metrics are not serialized. A deserialized instance starts with empty metrics. Engines that
+ * use deserialized copies in their tasks and never close them, such as Spark executors, should call
+ * {@link #report()} when a task completes.
+ */
+public class InstrumentedFileIO implements HadoopConfigurable, DelegateFileIO {
+  public static final String DELEGATE_IMPL = "io.instrumented.delegate-impl";
+  public static final String DELEGATE_IMPL_DEFAULT = ResolvingFileIO.class.getName();
+
+  private final AtomicBoolean isClosed = new AtomicBoolean(false);
+  private DelegateFileIO io;
+  private SerializableMap<String, String> properties = null;
+  private SerializableSupplier<Configuration> hadoopConf = null;
+  private transient volatile FileIOMetrics metrics = null;
+  private transient volatile MetricsReporter reporter = null;
+  // counters cannot be reset, so reports carry the difference to the values of the last report
+  private transient long reportedBytesRead = 0L;
+  private transient long reportedBytesWritten = 0L;
+  private transient long reportedFailedOperations = 0L;
+
+  /**
+   * No-arg constructor to load the FileIO dynamically.
+   *
+   * <p>The delegate FileIO is loaded by calling {@link InstrumentedFileIO#initialize(Map)} later.
+   */
+  public InstrumentedFileIO() {}
+
+  public InstrumentedFileIO(DelegateFileIO io, MetricsReporter reporter) {
+    Preconditions.checkArgument(null != io, "Invalid delegate FileIO: null");
+    this.io = io;
+    this.reporter = reporter;
+  }
+
+  /** Returns the wrapped FileIO. */
+  public DelegateFileIO delegate() {
+    return io;
+  }
+
+  /**
+   * Returns the metrics that are recorded for this FileIO.
+   *
+   * <p>Histograms are reset by each report, while counters keep counting across reports.
+   */
+  public FileIOMetrics metrics() {
+    // read the field once because a concurrent initialize may reset it
+    FileIOMetrics current = metrics;
+    if (current == null) {
+      synchronized (this) {
+        if (metrics == null) {
+          DefaultMetricsContext context = new DefaultMetricsContext();
+          // log-linear histograms are lock-free and keep all observations for accurate tails
+          context.initialize(
+              ImmutableMap.of(
+                  DefaultMetricsContext.HISTOGRAM_TYPE,
+                  DefaultMetricsContext.HISTOGRAM_TYPE_LOG_LINEAR));
+          this.metrics = FileIOMetrics.of(context);
+        }
+
+        current = metrics;
+      }
+    }
+
+    return current;
+  }
+
+  /**
+   * Sends a {@link FileIOReport} with the metrics recorded since the last report to the metrics
+   * reporter and starts recording new metrics.
+   *
+   * <p>Nothing is reported if no operation was recorded since the last report.
+   */
+  public void report() {
+    MetricsReporter metricsReporter = reporter();
+    FileIOMetricsResult result = resultThenReset();
+    if (metricsReporter != null && result != null) {
+      FileIOReport report =
+          ImmutableFileIOReport.builder()
+              .fileIOImpl(io.getClass().getName())
+              .fileIOMetrics(result)
+              .metadata(EnvironmentContext.get())
+              .build();
+      metricsReporter.report(report);
+    }
+  }
+
+  /**
+   * Returns the metrics recorded since the last report, or null if nothing was recorded.
+   *
+   * <p>Metrics are reset in place rather than replaced, so operations that are in progress in
+   * other threads are counted either by this report or by the next one.
+   */
+  private synchronized FileIOMetricsResult resultThenReset() {
+    FileIOMetrics current = metrics;
+    if (current == null) {
+      return null;
+    }
+
+    long bytesRead = current.bytesRead().value();
+    long bytesWritten = current.bytesWritten().value();
+    long failedOperations = current.failedOperations().value();
+
+    FileIOMetricsResult result =
+        ImmutableFileIOMetricsResult.builder()
+            .openLatency(resultThenReset(current.openLatency()))
+            .firstByteLatency(resultThenReset(current.firstByteLatency()))
+            .readLatency(resultThenReset(current.readLatency()))
+            .rangeReadLatency(resultThenReset(current.rangeReadLatency()))
+            .readTailLatency(resultThenReset(current.readTailLatency()))
+            .createLatency(resultThenReset(current.createLatency()))
+            .closeLatency(resultThenReset(current.closeLatency()))
+            .deleteLatency(resultThenReset(current.deleteLatency()))
+            .bulkDeleteLatency(resultThenReset(current.bulkDeleteLatency()))
+            .bytesRead(delta(current.bytesRead(), bytesRead, reportedBytesRead))
+            .bytesWritten(delta(current.bytesWritten(), bytesWritten, reportedBytesWritten))
+            .failedOperations(
+                delta(current.failedOperations(), failedOperations, reportedFailedOperations))
+            .build();
+
+    this.reportedBytesRead = bytesRead;
+    this.reportedBytesWritten = bytesWritten;
+    this.reportedFailedOperations = failedOperations;
+
+    return hasObservations(result) ? result : null;
+  }
+
+  private static HistogramResult resultThenReset(Histogram histogram) {
+    // metrics are always created with log-linear histograms, see metrics()
+    return HistogramResult.fromStatistics(((LogLinearHistogram) histogram).statisticsThenReset());
+  }
+
+  private static CounterResult delta(Counter counter, long value, long reportedValue) {
+    return CounterResult.of(counter.unit(), value - reportedValue);
+  }
+
+  private static boolean hasObservations(FileIOMetricsResult result) {
+    return result.openLatency() != null
+        || result.firstByteLatency() != null
+        || result.readLatency() != null
+        || result.rangeReadLatency() != null
+        || result.readTailLatency() != null
+        || result.createLatency() != null
+        || result.closeLatency() != null
+        || result.deleteLatency() != null
+        || result.bulkDeleteLatency() != null
+        || result.bytesRead().value() > 0
+        || result.bytesWritten().value() > 0
+        || result.failedOperations().value() > 0;
+  }
+
+  @Override
+  public InputFile newInputFile(String path) {
+    return new InstrumentedInputFile(io.newInputFile(path), this::metrics);
+  }
+
+  @Override
+  public InputFile newInputFile(String path, long length) {
+    return new InstrumentedInputFile(io.newInputFile(path, length), this::metrics);
+  }
+
+  @Override
+  public OutputFile newOutputFile(String path) {
+    return new InstrumentedOutputFile(io.newOutputFile(path), this::metrics);
+  }
+
+  @Override
+  public void deleteFile(String path) {
+    FileIOMetrics fileIOMetrics = metrics();
+    timed(
+        fileIOMetrics,
+        fileIOMetrics.deleteLatency(),
+        () -> {
+          io.deleteFile(path);
+          return null;
+        });
+  }
+
+  @Override
+  public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
+    FileIOMetrics fileIOMetrics = metrics();
+    timed(
+        fileIOMetrics,
+        fileIOMetrics.bulkDeleteLatency(),
+        () -> {
+          io.deleteFiles(pathsToDelete);
+          return null;
+        });
+  }
+
+  @Override
+  public Iterable<FileInfo> listPrefix(String prefix) {
+    return io.listPrefix(prefix);
+  }
+
+  @Override
+  public void deletePrefix(String prefix) {
+    io.deletePrefix(prefix);
+  }
+
+  @Override
+  public Map<String, String> properties() {
+    return properties != null ? properties.immutableMap() : io.properties();
+  }
+
+  @Override
+  public void initialize(Map<String, String> newProperties) {
+    String impl = newProperties.getOrDefault(DELEGATE_IMPL, DELEGATE_IMPL_DEFAULT);
+    Preconditions.checkArgument(
+        !InstrumentedFileIO.class.getName().equals(impl),
+        "Cannot wrap %s in itself",
+        impl);
+
+    close(); // close and discard any existing FileIO instance
+
+    FileIO fileIO =
+        CatalogUtil.loadFileIO(impl, newProperties, hadoopConf != null ? hadoopConf.get() : null);
+    Preconditions.checkArgument(
+        fileIO instanceof DelegateFileIO,
+        "FileIO does not implement DelegateFileIO: %s",
+        fileIO.getClass().getName());
+
+    this.io = (DelegateFileIO) fileIO;
+    this.properties = SerializableMap.copyOf(newProperties);
+    this.reporter = CatalogUtil.loadMetricsReporter(newProperties);
+    synchronized (this) {
+      this.metrics = null;
+      this.reportedBytesRead = 0L;
+      this.reportedBytesWritten = 0L;
+      this.reportedFailedOperations = 0L;
+    }
+    isClosed.set(false);
+  }
+
+  @Override
+  public void close() {
+    if (io != null && isClosed.compareAndSet(false, true)) {
+      try {
+        report();
+      } finally {
+        io.close();
+      }
+    }
+  }
+
+  @Override
+  public void serializeConfWith(
+      Function<Configuration, SerializableSupplier<Configuration>> confSerializer) {
+    if (hadoopConf != null) {
+      this.hadoopConf = confSerializer.apply(hadoopConf.get());
+    }
+
+    if (io instanceof HadoopConfigurable) {
+      ((HadoopConfigurable) io).serializeConfWith(confSerializer);
+    }
+  }
+
+  @Override
+  public void setConf(Configuration conf) {
+    this.hadoopConf = new SerializableConfiguration(conf)::get;
+    if (io instanceof HadoopConfigurable) {
+      ((HadoopConfigurable) io).setConf(conf);
+    }
+  }
+
+  @Override
+  public Configuration getConf() {
+    return hadoopConf != null ? hadoopConf.get() : null;
+  }
+
+  private MetricsReporter reporter() {
+    if (reporter == null && properties != null) {
+      synchronized (this) {
+        if (reporter == null) {
+          // the reporter is not serialized and is loaded again from the properties
+          this.reporter = CatalogUtil.loadMetricsReporter(properties);
+        }
+      }
+    }
+
+    return reporter;
+  }
+
+  @FunctionalInterface
+  private interface Operation<T, E extends Exception> {
+    T run() throws E;
+  }
+
+  private static <T, E extends Exception> T timed(
+      FileIOMetrics metrics, Histogram latency, Operation<T, E> operation) throws E {
+    long start = System.nanoTime();
+    boolean succeeded = false;
+    try {
+      T result = operation.run();
+      succeeded = true;
+      return result;
+    } finally {
+      latency.update(System.nanoTime() - start);
+      if (!succeeded) {
+        metrics.failedOperations().increment();
+      }
+    }
+  }
+
+  private static class InstrumentedInputFile implements InputFile {
+    private final InputFile file;
+    private final Supplier<FileIOMetrics> metrics;
+
+    private InstrumentedInputFile(InputFile file, Supplier<FileIOMetrics> metrics) {
+      this.file = file;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public long getLength() {
+      return file.getLength();
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      long openNanos = System.nanoTime();
+      FileIOMetrics current = metrics.get();
+      SeekableInputStream stream = timed(current, current.openLatency(), file::newStream);
+      if (stream instanceof RangeReadable) {
+        return new InstrumentedRangeReadableInputStream(stream, metrics, openNanos);
+      }
+
+      return new InstrumentedInputStream(stream, metrics, openNanos);
+    }
+
+    @Override
+    public String location() {
+      return file.location();
+    }
+
+    @Override
+    public boolean exists() {
+      return file.exists();
+    }
+
+    @Override
+    public String toString() {
+      return file.toString();
+    }
+  }
+
+  private static class InstrumentedOutputFile implements OutputFile {
+    private final OutputFile file;
+    private final Supplier<FileIOMetrics> metrics;
+
+    private InstrumentedOutputFile(OutputFile file, Supplier<FileIOMetrics> metrics) {
+      this.file = file;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public PositionOutputStream create() {
+      FileIOMetrics current = metrics.get();
+      return new InstrumentedOutputStream(
+          timed(current, current.createLatency(), file::create), metrics);
+    }
+
+    @Override
+    public PositionOutputStream createOrOverwrite() {
+      FileIOMetrics current = metrics.get();
+      return new InstrumentedOutputStream(
+          timed(current, current.createLatency(), file::createOrOverwrite), metrics);
+    }
+
+    @Override
+    public String location() {
+      return file.location();
+    }
+
+    @Override
+    public InputFile toInputFile() {
+      return new InstrumentedInputFile(file.toInputFile(), metrics);
+    }
+
+    @Override
+    public String toString() {
+      return file.toString();
+    }
+  }
+
+  /**
+   * Input stream that records the latency of reads.
+   *
+   * <p>The wrapped stream's delegate is intentionally not exposed through {@link
+   * DelegatingInputStream}, so that file formats read through this stream and reads are recorded.
+   */
+  private static class InstrumentedInputStream extends SeekableInputStream {
+    private final SeekableInputStream stream;
+    private final Supplier<FileIOMetrics> metrics;
+    private final long openNanos;
+    private boolean firstByteRecorded = false;
+
+    private InstrumentedInputStream(
+        SeekableInputStream stream, Supplier<FileIOMetrics> metrics, long openNanos) {
+      this.stream = stream;
+      this.metrics = metrics;
+      this.openNanos = openNanos;
+    }
+
+    // metrics are looked up for each operation because they are created lazily
+    protected FileIOMetrics metrics() {
+      return metrics.get();
+    }
+
+    @Override
+    public long getPos() throws IOException {
+      return stream.getPos();
+    }
+
+    @Override
+    public void seek(long newPos) throws IOException {
+      stream.seek(newPos);
+    }
+
+    @Override
+    public int read() throws IOException {
+      // single byte reads are usually buffered and are not timed
+      int value = stream.read();
+      recordFirstByte();
+      if (value >= 0) {
+        metrics().bytesRead().increment();
+      }
+
+      return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      FileIOMetrics current = metrics();
+      int bytesRead =
+          timed(current, current.readLatency(), () -> stream.read(buffer, offset, length));
+      recordFirstByte();
+      if (bytesRead > 0) {
+        current.bytesRead().increment(bytesRead);
+      }
+
+      return bytesRead;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      return stream.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+      return stream.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+      stream.close();
+    }
+
+    protected void recordFirstByte() {
+      if (!firstByteRecorded) {
+        this.firstByteRecorded = true;
+        metrics().firstByteLatency().update(System.nanoTime() - openNanos);
+      }
+    }
+  }
+
+  private static class InstrumentedRangeReadableInputStream extends InstrumentedInputStream
+      implements RangeReadable {
+    private final RangeReadable stream;
+
+    private InstrumentedRangeReadableInputStream(
+        SeekableInputStream stream, Supplier<FileIOMetrics> metrics, long openNanos) {
+      super(stream, metrics, openNanos);
+      this.stream = (RangeReadable) stream;
+    }
+
+    @Override
+    public void readFully(long position, byte[] buffer, int offset, int length)
+        throws IOException {
+      FileIOMetrics current = metrics();
+      timed(
+          current,
+          current.rangeReadLatency(),
+          () -> {
+            stream.readFully(position, buffer, offset, length);
+            return null;
+          });
+      recordFirstByte();
+      current.bytesRead().increment(length);
+    }
+
+    @Override
+    public int readTail(byte[] buffer, int offset, int length) throws IOException {
+      FileIOMetrics current = metrics();
+      int bytesRead =
+          timed(current, current.readTailLatency(), () -> stream.readTail(buffer, offset, length));
+      recordFirstByte();
+      if (bytesRead > 0) {
+        current.bytesRead().increment(bytesRead);
+      }
+
+      return bytesRead;
+    }
+
+    @Override
+    public boolean isVectoredReadEnabled() {
+      return stream.isVectoredReadEnabled();
+    }
+
+    @Override
+    public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate)
+        throws IOException {
+      // ranges may complete asynchronously, so only the delegate can time them
+      stream.readVectored(ranges, allocate);
+    }
+  }
+
+  private static class InstrumentedOutputStream extends PositionOutputStream {
+    private final PositionOutputStream stream;
+    private final Supplier<FileIOMetrics> metrics;
+    private boolean closed = false;
+
+    private InstrumentedOutputStream(PositionOutputStream stream, Supplier<FileIOMetrics> metrics) {
+      this.stream = stream;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public long getPos() throws IOException {
+      return stream.getPos();
+    }
+
+    @Override
+    public long storedLength() throws IOException {
+      return stream.storedLength();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      stream.write(b);
+      metrics.get().bytesWritten().increment();
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+      stream.write(buffer, offset, length);
+      metrics.get().bytesWritten().increment(length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      stream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+
+      this.closed = true;
+      FileIOMetrics current = metrics.get();
+      timed(
+          current,
+          current.closeLatency(),
+          () -> {
+            stream.close();
+            return null;
+          });
+    }
+  }
+}
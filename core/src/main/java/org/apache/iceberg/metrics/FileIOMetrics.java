@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import org.immutables.value.Value;
+
+/**
+ * Carries all metrics for operations of a {@link org.apache.iceberg.io.FileIO}.
+ *
+ * <p>Latency histograms record durations in nanoseconds.
+ */
+@Value.Immutable
+public abstract class FileIOMetrics {
+  public static final String OPEN_LATENCY = "open-latency";
+  public static final String FIRST_BYTE_LATENCY = "first-byte-latency";
+  public static final String READ_LATENCY = "read-latency";
+  public static final String RANGE_READ_LATENCY = "range-read-latency";
+  public static final String READ_TAIL_LATENCY = "read-tail-latency";
+  public static final String CREATE_LATENCY = "create-latency";
+  public static final String CLOSE_LATENCY = "close-latency";
+  public static final String DELETE_LATENCY = "delete-latency";
+  public static final String BULK_DELETE_LATENCY = "bulk-delete-latency";
+  public static final String BYTES_READ = "bytes-read";
+  public static final String BYTES_WRITTEN = "bytes-written";
+  public static final String FAILED_OPERATIONS = "failed-operations";
+
+  public abstract MetricsContext metricsContext();
+
+  /** Time to open an input stream. */
+  @Value.Derived
+  public Histogram openLatency() {
+    return metricsContext().histogram(OPEN_LATENCY);
+  }
+
+  /** Time from opening an input stream until the first read returns. */
+  @Value.Derived
+  public Histogram firstByteLatency() {
+    return metricsContext().histogram(FIRST_BYTE_LATENCY);
+  }
+
+  @Value.Derived
+  public Histogram readLatency() {
+    return metricsContext().histogram(READ_LATENCY);
+  }
+
+  @Value.Derived
+  public Histogram rangeReadLatency() {
+    return metricsContext().histogram(RANGE_READ_LATENCY);
+  }
+
+  @Value.Derived
+  public Histogram readTailLatency() {
+    return metricsContext().histogram(READ_TAIL_LATENCY);
+  }
+
+  /** Time to create an output stream. */
+  @Value.Derived
+  public Histogram createLatency() {
+    return metricsContext().histogram(CREATE_LATENCY);
+  }
+
+  /** Time to close an output stream, which usually completes the upload to the object store. */
+  @Value.Derived
+  public Histogram closeLatency() {
+    return metricsContext().histogram(CLOSE_LATENCY);
+  }
+
+  @Value.Derived
+  public Histogram deleteLatency() {
+    return metricsContext().histogram(DELETE_LATENCY);
+  }
+
+  @Value.Derived
+  public Histogram bulkDeleteLatency() {
+    return metricsContext().histogram(BULK_DELETE_LATENCY);
+  }
+
+  @Value.Derived
+  public Counter bytesRead() {
+    return metricsContext().counter(BYTES_READ, MetricsContext.Unit.BYTES);
+  }
+
+  @Value.Derived
+  public Counter bytesWritten() {
+    return metricsContext().counter(BYTES_WRITTEN, MetricsContext.Unit.BYTES);
+  }
+
+  @Value.Derived
+  public Counter failedOperations() {
+    return metricsContext().counter(FAILED_OPERATIONS);
+  }
+
+  public static FileIOMetrics of(MetricsContext metricsContext) {
+    return ImmutableFileIOMetrics.builder().metricsContext(metricsContext).build();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import javax.annotation.Nullable;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+
+/** A serializable version of {@link FileIOMetrics} that carries its results. */
+@Value.Immutable
+public interface FileIOMetricsResult {
+  @Nullable
+  HistogramResult openLatency();
+
+  @Nullable
+  HistogramResult firstByteLatency();
+
+  @Nullable
+  HistogramResult readLatency();
+
+  @Nullable
+  HistogramResult rangeReadLatency();
+
+  @Nullable
+  HistogramResult readTailLatency();
+
+  @Nullable
+  HistogramResult createLatency();
+
+  @Nullable
+  HistogramResult closeLatency();
+
+  @Nullable
+  HistogramResult deleteLatency();
+
+  @Nullable
+  HistogramResult bulkDeleteLatency();
+
+  @Nullable
+  CounterResult bytesRead();
+
+  @Nullable
+  CounterResult bytesWritten();
+
+  @Nullable
+  CounterResult failedOperations();
+
+  static FileIOMetricsResult fromFileIOMetrics(FileIOMetrics fileIOMetrics) {
+    Preconditions.checkArgument(null != fileIOMetrics, "Invalid FileIO metrics: null");
+    return ImmutableFileIOMetricsResult.builder()
+        .openLatency(HistogramResult.fromHistogram(fileIOMetrics.openLatency()))
+        .firstByteLatency(HistogramResult.fromHistogram(fileIOMetrics.firstByteLatency()))
+        .readLatency(HistogramResult.fromHistogram(fileIOMetrics.readLatency()))
+        .rangeReadLatency(HistogramResult.fromHistogram(fileIOMetrics.rangeReadLatency()))
+        .readTailLatency(HistogramResult.fromHistogram(fileIOMetrics.readTailLatency()))
+        .createLatency(HistogramResult.fromHistogram(fileIOMetrics.createLatency()))
+        .closeLatency(HistogramResult.fromHistogram(fileIOMetrics.closeLatency()))
+        .deleteLatency(HistogramResult.fromHistogram(fileIOMetrics.deleteLatency()))
+        .bulkDeleteLatency(HistogramResult.fromHistogram(fileIOMetrics.bulkDeleteLatency()))
+        .bytesRead(CounterResult.fromCounter(fileIOMetrics.bytesRead()))
+        .bytesWritten(CounterResult.fromCounter(fileIOMetrics.bytesWritten()))
+        .failedOperations(CounterResult.fromCounter(fileIOMetrics.failedOperations()))
+        .build();
+  }
+}
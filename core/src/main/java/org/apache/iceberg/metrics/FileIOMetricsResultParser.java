@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.JsonUtil;
+
+class FileIOMetricsResultParser {
+  private FileIOMetricsResultParser() {}
+
+  static String toJson(FileIOMetricsResult metrics) {
+    return toJson(metrics, false);
+  }
+
+  static String toJson(FileIOMetricsResult metrics, boolean pretty) {
+    return JsonUtil.generate(gen -> toJson(metrics, gen), pretty);
+  }
+
+  static void toJson(FileIOMetricsResult metrics, JsonGenerator gen) throws IOException {
+    Preconditions.checkArgument(null != metrics, "Invalid FileIO metrics: null");
+
+    gen.writeStartObject();
+
+    writeHistogram(FileIOMetrics.OPEN_LATENCY, metrics.openLatency(), gen);
+    writeHistogram(FileIOMetrics.FIRST_BYTE_LATENCY, metrics.firstByteLatency(), gen);
+    writeHistogram(FileIOMetrics.READ_LATENCY, metrics.readLatency(), gen);
+    writeHistogram(FileIOMetrics.RANGE_READ_LATENCY, metrics.rangeReadLatency(), gen);
+    writeHistogram(FileIOMetrics.READ_TAIL_LATENCY, metrics.readTailLatency(), gen);
+    writeHistogram(FileIOMetrics.CREATE_LATENCY, metrics.createLatency(), gen);
+    writeHistogram(FileIOMetrics.CLOSE_LATENCY, metrics.closeLatency(), gen);
+    writeHistogram(FileIOMetrics.DELETE_LATENCY, metrics.deleteLatency(), gen);
+    writeHistogram(FileIOMetrics.BULK_DELETE_LATENCY, metrics.bulkDeleteLatency(), gen);
+
+    if (null != metrics.bytesRead()) {
+      gen.writeFieldName(FileIOMetrics.BYTES_READ);
+      CounterResultParser.toJson(metrics.bytesRead(), gen);
+    }
+
+    if (null != metrics.bytesWritten()) {
+      gen.writeFieldName(FileIOMetrics.BYTES_WRITTEN);
+      CounterResultParser.toJson(metrics.bytesWritten(), gen);
+    }
+
+    if (null != metrics.failedOperations()) {
+      gen.writeFieldName(FileIOMetrics.FAILED_OPERATIONS);
+      CounterResultParser.toJson(metrics.failedOperations(), gen);
+    }
+
+    gen.writeEndObject();
+  }
+
+  private static void writeHistogram(String name, HistogramResult histogram, JsonGenerator gen)
+      throws IOException {
+    if (null != histogram) {
+      gen.writeFieldName(name);
+      HistogramResultParser.toJson(histogram, gen);
+    }
+  }
+
+  static FileIOMetricsResult fromJson(String json) {
+    return JsonUtil.parse(json, FileIOMetricsResultParser::fromJson);
+  }
+
+  static FileIOMetricsResult fromJson(JsonNode json) {
+    Preconditions.checkArgument(null != json, "Cannot parse FileIO metrics from null object");
+    Preconditions.checkArgument(
+        json.isObject(), "Cannot parse FileIO metrics from non-object: %s", json);
+
+    return ImmutableFileIOMetricsResult.builder()
+        .openLatency(HistogramResultParser.fromJson(FileIOMetrics.OPEN_LATENCY, json))
+        .firstByteLatency(HistogramResultParser.fromJson(FileIOMetrics.FIRST_BYTE_LATENCY, json))
+        .readLatency(HistogramResultParser.fromJson(FileIOMetrics.READ_LATENCY, json))
+        .rangeReadLatency(HistogramResultParser.fromJson(FileIOMetrics.RANGE_READ_LATENCY, json))
+        .readTailLatency(HistogramResultParser.fromJson(FileIOMetrics.READ_TAIL_LATENCY, json))
+        .createLatency(HistogramResultParser.fromJson(FileIOMetrics.CREATE_LATENCY, json))
+        .closeLatency(HistogramResultParser.fromJson(FileIOMetrics.CLOSE_LATENCY, json))
+        .deleteLatency(HistogramResultParser.fromJson(FileIOMetrics.DELETE_LATENCY, json))
+        .bulkDeleteLatency(
+            HistogramResultParser.fromJson(FileIOMetrics.BULK_DELETE_LATENCY, json))
+        .bytesRead(CounterResultParser.fromJson(FileIOMetrics.BYTES_READ, json))
+        .bytesWritten(CounterResultParser.fromJson(FileIOMetrics.BYTES_WRITTEN, json))
+        .failedOperations(CounterResultParser.fromJson(FileIOMetrics.FAILED_OPERATIONS, json))
+        .build();
+  }
+}
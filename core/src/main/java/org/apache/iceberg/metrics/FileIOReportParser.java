@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.JsonUtil;
+
+public class FileIOReportParser {
+  private static final String FILE_IO_IMPL = "file-io-impl";
+  private static final String METRICS = "metrics";
+  private static final String METADATA = "metadata";
+
+  private FileIOReportParser() {}
+
+  public static String toJson(FileIOReport fileIOReport) {
+    return toJson(fileIOReport, false);
+  }
+
+  public static String toJson(FileIOReport fileIOReport, boolean pretty) {
+    return JsonUtil.generate(gen -> toJson(fileIOReport, gen), pretty);
+  }
+
+  public static void toJson(FileIOReport fileIOReport, JsonGenerator gen) throws IOException {
+    Preconditions.checkArgument(null != fileIOReport, "Invalid FileIO report: null");
+
+    gen.writeStartObject();
+    toJsonWithoutStartEnd(fileIOReport, gen);
+    gen.writeEndObject();
+  }
+
+  /**
+   * This serializes the {@link FileIOReport} without writing a start/end object and is mainly used
+   * by {@link org.apache.iceberg.rest.requests.ReportMetricsRequestParser}.
+   *
+   * @param fileIOReport The {@link FileIOReport} to serialize
+   * @param gen The {@link JsonGenerator} to use
+   * @throws IOException If an error occurs while serializing
+   */
+  public static void toJsonWithoutStartEnd(FileIOReport fileIOReport, JsonGenerator gen)
+      throws IOException {
+    Preconditions.checkArgument(null != fileIOReport, "Invalid FileIO report: null");
+
+    gen.writeStringField(FILE_IO_IMPL, fileIOReport.fileIOImpl());
+
+    gen.writeFieldName(METRICS);
+    FileIOMetricsResultParser.toJson(fileIOReport.fileIOMetrics(), gen);
+
+    if (!fileIOReport.metadata().isEmpty()) {
+      JsonUtil.writeStringMap(METADATA, fileIOReport.metadata(), gen);
+    }
+  }
+
+  public static FileIOReport fromJson(String json) {
+    return JsonUtil.parse(json, FileIOReportParser::fromJson);
+  }
+
+  public static FileIOReport fromJson(JsonNode json) {
+    Preconditions.checkArgument(null != json, "Cannot parse FileIO report from null object");
+    Preconditions.checkArgument(
+        json.isObject(), "Cannot parse FileIO report from non-object: %s", json);
+
+    ImmutableFileIOReport.Builder builder =
+        ImmutableFileIOReport.builder()
+            .fileIOImpl(JsonUtil.getString(FILE_IO_IMPL, json))
+            .fileIOMetrics(FileIOMetricsResultParser.fromJson(JsonUtil.get(METRICS, json)));
+
+    if (json.has(METADATA)) {
+      builder.metadata(JsonUtil.getStringMap(METADATA, json));
+    }
+
+    return builder.build();
+  }
+}
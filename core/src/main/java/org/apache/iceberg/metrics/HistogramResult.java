@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+
+/** A serializable version of a {@link Histogram} that carries its statistics. */
+@Value.Immutable
+public interface HistogramResult {
+
+  long count();
+
+  long min();
+
+  long max();
+
+  double mean();
+
+  double stdDev();
+
+  long p50();
+
+  long p90();
+
+  long p99();
+
+  long p999();
+
+  static HistogramResult fromHistogram(Histogram histogram) {
+    Preconditions.checkArgument(null != histogram, "Invalid histogram: null");
+    if (histogram.count() == 0) {
+      return null;
+    }
+
+    return fromStatistics(histogram.statistics());
+  }
+
+  static HistogramResult fromStatistics(Histogram.Statistics statistics) {
+    Preconditions.checkArgument(null != statistics, "Invalid histogram statistics: null");
+    if (statistics.size() == 0) {
+      return null;
+    }
+
+    return ImmutableHistogramResult.builder()
+        .count(statistics.size())
+        .min(statistics.min())
+        .max(statistics.max())
+        .mean(statistics.mean())
+        .stdDev(statistics.stdDev())
+        .p50(statistics.percentile(0.50))
+        .p90(statistics.percentile(0.90))
+        .p99(statistics.percentile(0.99))
+        .p999(statistics.percentile(0.999))
+        .build();
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.JsonUtil;
+
+class HistogramResultParser {
+  private static final String COUNT = "count";
+  private static final String MIN = "min";
+  private static final String MAX = "max";
+  private static final String MEAN = "mean";
+  private static final String STD_DEV = "std-dev";
+  private static final String P50 = "p50";
+  private static final String P90 = "p90";
+  private static final String P99 = "p99";
+  private static final String P999 = "p999";
+
+  private HistogramResultParser() {}
+
+  static String toJson(HistogramResult histogram) {
+    return toJson(histogram, false);
+  }
+
+  static String toJson(HistogramResult histogram, boolean pretty) {
+    return JsonUtil.generate(gen -> toJson(histogram, gen), pretty);
+  }
+
+  static void toJson(HistogramResult histogram, JsonGenerator gen) throws IOException {
+    Preconditions.checkArgument(null != histogram, "Invalid histogram: null");
+
+    gen.writeStartObject();
+    gen.writeNumberField(COUNT, histogram.count());
+    gen.writeNumberField(MIN, histogram.min());
+    gen.writeNumberField(MAX, histogram.max());
+    gen.writeNumberField(MEAN, histogram.mean());
+    gen.writeNumberField(STD_DEV, histogram.stdDev());
+    gen.writeNumberField(P50, histogram.p50());
+    gen.writeNumberField(P90, histogram.p90());
+    gen.writeNumberField(P99, histogram.p99());
+    gen.writeNumberField(P999, histogram.p999());
+    gen.writeEndObject();
+  }
+
+  static HistogramResult fromJson(String json) {
+    return JsonUtil.parse(json, HistogramResultParser::fromJson);
+  }
+
+  static HistogramResult fromJson(JsonNode json) {
+    Preconditions.checkArgument(null != json, "Cannot parse histogram from null object");
+    Preconditions.checkArgument(
+        json.isObject(), "Cannot parse histogram from non-object: %s", json);
+
+    return ImmutableHistogramResult.builder()
+        .count(JsonUtil.getLong(COUNT, json))
+        .min(JsonUtil.getLong(MIN, json))
+        .max(JsonUtil.getLong(MAX, json))
+        .mean(JsonUtil.getDouble(MEAN, json))
+        .stdDev(JsonUtil.getDouble(STD_DEV, json))
+        .p50(JsonUtil.getLong(P50, json))
+        .p90(JsonUtil.getLong(P90, json))
+        .p99(JsonUtil.getLong(P99, json))
+        .p999(JsonUtil.getLong(P999, json))
+        .build();
+  }
+
+  /**
+   * This is mainly used from {@link FileIOMetricsResultParser} where the histogram name is already
+   * part of the parent {@link JsonNode}, so we omit checking and reading the histogram name here.
+   *
+   * @param histogramName The histogram name
+   * @param json The {@link JsonNode} containing all other histogram information
+   * @return A {@link HistogramResult} instance, or null if the histogram is missing
+   */
+  static HistogramResult fromJson(String histogramName, JsonNode json) {
+    Preconditions.checkArgument(null != json, "Cannot parse histogram from null object");
+    Preconditions.checkArgument(
+        json.isObject(), "Cannot parse histogram from non-object: %s", json);
+
+    if (!json.has(histogramName)) {
+      return null;
+    }
+
+    return fromJson(json.get(histogramName));
+  }
+}
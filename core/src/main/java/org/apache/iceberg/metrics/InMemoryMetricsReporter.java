@@ -35,4 +35,11 @@ public class InMemoryMetricsReporter implements MetricsReporter {
         "Metrics report is not a scan report");
     return (ScanReport) metricsReport;
   }
+
+  public FileIOReport fileIOReport() {
+    Preconditions.checkArgument(
+        metricsReport == null || metricsReport instanceof FileIOReport,
+        "Metrics report is not a FileIO report");
+    return (FileIOReport) metricsReport;
+  }
 }
@@ -40,6 +40,8 @@ public abstract class ScanMetrics {
   public static final String INDEXED_DELETE_FILES = "indexed-delete-files";
   public static final String EQUALITY_DELETE_FILES = "equality-delete-files";
   public static final String POSITIONAL_DELETE_FILES = "positional-delete-files";
+  public static final String MANIFEST_ENTRY_CACHE_HITS = "manifest-entry-cache-hits";
+  public static final String MANIFEST_ENTRY_CACHE_MISSES = "manifest-entry-cache-misses";
 
   public static ScanMetrics noop() {
     return ScanMetrics.of(MetricsContext.nullMetrics());
@@ -127,6 +129,16 @@ public abstract class ScanMetrics {
     return metricsContext().counter(POSITIONAL_DELETE_FILES);
   }
 
+  @Value.Derived
+  public Counter manifestEntryCacheHits() {
+    return metricsContext().counter(MANIFEST_ENTRY_CACHE_HITS);
+  }
+
+  @Value.Derived
+  public Counter manifestEntryCacheMisses() {
+    return metricsContext().counter(MANIFEST_ENTRY_CACHE_MISSES);
+  }
+
   public static ScanMetrics of(MetricsContext metricsContext) {
     return ImmutableScanMetrics.builder().metricsContext(metricsContext).build();
   }
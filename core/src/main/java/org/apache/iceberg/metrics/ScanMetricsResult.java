@@ -73,6 +73,12 @@ public interface ScanMetricsResult {
   @Nullable
   CounterResult positionalDeleteFiles();
 
+  @Nullable
+  CounterResult manifestEntryCacheHits();
+
+  @Nullable
+  CounterResult manifestEntryCacheMisses();
+
   static ScanMetricsResult fromScanMetrics(ScanMetrics scanMetrics) {
     Preconditions.checkArgument(null != scanMetrics, "Invalid scan metrics: null");
     return ImmutableScanMetricsResult.builder()
@@ -93,6 +99,9 @@ public interface ScanMetricsResult {
         .indexedDeleteFiles(CounterResult.fromCounter(scanMetrics.indexedDeleteFiles()))
         .equalityDeleteFiles(CounterResult.fromCounter(scanMetrics.equalityDeleteFiles()))
         .positionalDeleteFiles(CounterResult.fromCounter(scanMetrics.positionalDeleteFiles()))
+        .manifestEntryCacheHits(CounterResult.fromCounter(scanMetrics.manifestEntryCacheHits()))
+        .manifestEntryCacheMisses(
+            CounterResult.fromCounter(scanMetrics.manifestEntryCacheMisses()))
         .build();
   }
 }
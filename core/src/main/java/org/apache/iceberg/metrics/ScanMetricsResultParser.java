@@ -121,6 +121,16 @@ class ScanMetricsResultParser {
       CounterResultParser.toJson(metrics.positionalDeleteFiles(), gen);
     }
 
+    if (null != metrics.manifestEntryCacheHits()) {
+      gen.writeFieldName(ScanMetrics.MANIFEST_ENTRY_CACHE_HITS);
+      CounterResultParser.toJson(metrics.manifestEntryCacheHits(), gen);
+    }
+
+    if (null != metrics.manifestEntryCacheMisses()) {
+      gen.writeFieldName(ScanMetrics.MANIFEST_ENTRY_CACHE_MISSES);
+      CounterResultParser.toJson(metrics.manifestEntryCacheMisses(), gen);
+    }
+
     gen.writeEndObject();
   }
 
@@ -159,6 +169,10 @@ class ScanMetricsResultParser {
         .equalityDeleteFiles(CounterResultParser.fromJson(ScanMetrics.EQUALITY_DELETE_FILES, json))
         .positionalDeleteFiles(
             CounterResultParser.fromJson(ScanMetrics.POSITIONAL_DELETE_FILES, json))
+        .manifestEntryCacheHits(
+            CounterResultParser.fromJson(ScanMetrics.MANIFEST_ENTRY_CACHE_HITS, json))
+        .manifestEntryCacheMisses(
+            CounterResultParser.fromJson(ScanMetrics.MANIFEST_ENTRY_CACHE_MISSES, json))
         .build();
   }
 }
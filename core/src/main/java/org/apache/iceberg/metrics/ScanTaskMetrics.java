@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import java.util.concurrent.TimeUnit;
+import org.immutables.value.Value;
+
+/**
+ * Carries metrics for reading the files of scan tasks.
+ *
+ * <p>File readers and delete filters update these metrics once per row group, batch or delete
+ * file, so a single instance can be shared by all tasks of a scan to aggregate their metrics.
+ */
+@Value.Immutable
+public abstract class ScanTaskMetrics {
+  public static final String TOTAL_ROW_GROUPS = "total-row-groups";
+  public static final String SKIPPED_ROW_GROUPS_BY_STATS = "skipped-row-groups-by-stats";
+  public static final String SKIPPED_ROW_GROUPS_BY_DICTIONARY = "skipped-row-groups-by-dictionary";
+  public static final String SKIPPED_ROW_GROUPS_BY_BLOOM_FILTER =
+      "skipped-row-groups-by-bloom-filter";
+  public static final String SKIPPED_ROW_GROUPS_BY_PAGE_INDEX = "skipped-row-groups-by-page-index";
+  public static final String BYTES_READ = "bytes-read";
+  public static final String ROWS_READ = "rows-read";
+  public static final String DELETED_ROWS = "deleted-rows";
+  public static final String DELETE_CACHE_HITS = "delete-cache-hits";
+  public static final String DELETE_CACHE_MISSES = "delete-cache-misses";
+  public static final String READ_DURATION = "read-duration";
+  public static final String DECODE_DURATION = "decode-duration";
+  public static final String DELETE_LOAD_DURATION = "delete-load-duration";
+
+  public static ScanTaskMetrics noop() {
+    return ScanTaskMetrics.of(MetricsContext.nullMetrics());
+  }
+
+  public abstract MetricsContext metricsContext();
+
+  @Value.Derived
+  public Counter totalRowGroups() {
+    return metricsContext().counter(TOTAL_ROW_GROUPS);
+  }
+
+  @Value.Derived
+  public Counter skippedRowGroupsByStats() {
+    return metricsContext().counter(SKIPPED_ROW_GROUPS_BY_STATS);
+  }
+
+  @Value.Derived
+  public Counter skippedRowGroupsByDictionary() {
+    return metricsContext().counter(SKIPPED_ROW_GROUPS_BY_DICTIONARY);
+  }
+
+  @Value.Derived
+  public Counter skippedRowGroupsByBloomFilter() {
+    return metricsContext().counter(SKIPPED_ROW_GROUPS_BY_BLOOM_FILTER);
+  }
+
+  @Value.Derived
+  public Counter skippedRowGroupsByPageIndex() {
+    return metricsContext().counter(SKIPPED_ROW_GROUPS_BY_PAGE_INDEX);
+  }
+
+  /** Compressed size of the projected column chunks that were read. */
+  @Value.Derived
+  public Counter bytesRead() {
+    return metricsContext().counter(BYTES_READ, MetricsContext.Unit.BYTES);
+  }
+
+  /** Number of rows decoded by file readers, before deletes and residual filters are applied. */
+  @Value.Derived
+  public Counter rowsRead() {
+    return metricsContext().counter(ROWS_READ);
+  }
+
+  @Value.Derived
+  public Counter deletedRows() {
+    return metricsContext().counter(DELETED_ROWS);
+  }
+
+  /** Number of delete files that were served from a delete cache. */
+  @Value.Derived
+  public Counter deleteCacheHits() {
+    return metricsContext().counter(DELETE_CACHE_HITS);
+  }
+
+  /** Number of delete files that were loaded into a delete cache. */
+  @Value.Derived
+  public Counter deleteCacheMisses() {
+    return metricsContext().counter(DELETE_CACHE_MISSES);
+  }
+
+  /** Time spent reading row groups from storage. */
+  @Value.Derived
+  public Timer readDuration() {
+    return metricsContext().timer(READ_DURATION, TimeUnit.NANOSECONDS);
+  }
+
+  /** Time spent decoding batches of rows. */
+  @Value.Derived
+  public Timer decodeDuration() {
+    return metricsContext().timer(DECODE_DURATION, TimeUnit.NANOSECONDS);
+  }
+
+  /** Time spent loading position and equality deletes. */
+  @Value.Derived
+  public Timer deleteLoadDuration() {
+    return metricsContext().timer(DELETE_LOAD_DURATION, TimeUnit.NANOSECONDS);
+  }
+
+  public static ScanTaskMetrics of(MetricsContext metricsContext) {
+    return ImmutableScanTaskMetrics.builder().metricsContext(metricsContext).build();
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import javax.annotation.Nullable;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+
+/** A serializable version of {@link ScanTaskMetrics} that carries its results. */
+@Value.Immutable
+public interface ScanTaskMetricsResult {
+  @Nullable
+  CounterResult totalRowGroups();
+
+  @Nullable
+  CounterResult skippedRowGroupsByStats();
+
+  @Nullable
+  CounterResult skippedRowGroupsByDictionary();
+
+  @Nullable
+  CounterResult skippedRowGroupsByBloomFilter();
+
+  @Nullable
+  CounterResult skippedRowGroupsByPageIndex();
+
+  @Nullable
+  CounterResult bytesRead();
+
+  @Nullable
+  CounterResult rowsRead();
+
+  @Nullable
+  CounterResult deletedRows();
+
+  @Nullable
+  CounterResult deleteCacheHits();
+
+  @Nullable
+  CounterResult deleteCacheMisses();
+
+  @Nullable
+  TimerResult readDuration();
+
+  @Nullable
+  TimerResult decodeDuration();
+
+  @Nullable
+  TimerResult deleteLoadDuration();
+
+  static ScanTaskMetricsResult fromScanTaskMetrics(ScanTaskMetrics metrics) {
+    Preconditions.checkArgument(null != metrics, "Invalid scan task metrics: null");
+    return ImmutableScanTaskMetricsResult.builder()
+        .totalRowGroups(CounterResult.fromCounter(metrics.totalRowGroups()))
+        .skippedRowGroupsByStats(CounterResult.fromCounter(metrics.skippedRowGroupsByStats()))
+        .skippedRowGroupsByDictionary(
+            CounterResult.fromCounter(metrics.skippedRowGroupsByDictionary()))
+        .skippedRowGroupsByBloomFilter(
+            CounterResult.fromCounter(metrics.skippedRowGroupsByBloomFilter()))
+        .skippedRowGroupsByPageIndex(
+            CounterResult.fromCounter(metrics.skippedRowGroupsByPageIndex()))
+        .bytesRead(CounterResult.fromCounter(metrics.bytesRead()))
+        .rowsRead(CounterResult.fromCounter(metrics.rowsRead()))
+        .deletedRows(CounterResult.fromCounter(metrics.deletedRows()))
+        .deleteCacheHits(CounterResult.fromCounter(metrics.deleteCacheHits()))
+        .deleteCacheMisses(CounterResult.fromCounter(metrics.deleteCacheMisses()))
+        .readDuration(TimerResult.fromTimer(metrics.readDuration()))
+        .decodeDuration(TimerResult.fromTimer(metrics.decodeDuration()))
+        .deleteLoadDuration(TimerResult.fromTimer(metrics.deleteLoadDuration()))
+        .build();
+  }
+}
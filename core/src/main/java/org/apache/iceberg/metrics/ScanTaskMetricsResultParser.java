@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.JsonUtil;
+
+class ScanTaskMetricsResultParser {
+  private ScanTaskMetricsResultParser() {}
+
+  static String toJson(ScanTaskMetricsResult metrics) {
+    return toJson(metrics, false);
+  }
+
+  static String toJson(ScanTaskMetricsResult metrics, boolean pretty) {
+    return JsonUtil.generate(gen -> toJson(metrics, gen), pretty);
+  }
+
+  @SuppressWarnings("checkstyle:CyclomaticComplexity")
+  static void toJson(ScanTaskMetricsResult metrics, JsonGenerator gen) throws IOException {
+    Preconditions.checkArgument(null != metrics, "Invalid scan task metrics: null");
+
+    gen.writeStartObject();
+
+    if (null != metrics.totalRowGroups()) {
+      gen.writeFieldName(ScanTaskMetrics.TOTAL_ROW_GROUPS);
+      CounterResultParser.toJson(metrics.totalRowGroups(), gen);
+    }
+
+    if (null != metrics.skippedRowGroupsByStats()) {
+      gen.writeFieldName(ScanTaskMetrics.SKIPPED_ROW_GROUPS_BY_STATS);
+      CounterResultParser.toJson(metrics.skippedRowGroupsByStats(), gen);
+    }
+
+    if (null != metrics.skippedRowGroupsByDictionary()) {
+      gen.writeFieldName(ScanTaskMetrics.SKIPPED_ROW_GROUPS_BY_DICTIONARY);
+      CounterResultParser.toJson(metrics.skippedRowGroupsByDictionary(), gen);
+    }
+
+    if (null != metrics.skippedRowGroupsByBloomFilter()) {
+      gen.writeFieldName(ScanTaskMetrics.SKIPPED_ROW_GROUPS_BY_BLOOM_FILTER);
+      CounterResultParser.toJson(metrics.skippedRowGroupsByBloomFilter(), gen);
+    }
+
+    if (null != metrics.skippedRowGroupsByPageIndex()) {
+      gen.writeFieldName(ScanTaskMetrics.SKIPPED_ROW_GROUPS_BY_PAGE_INDEX);
+      CounterResultParser.toJson(metrics.skippedRowGroupsByPageIndex(), gen);
+    }
+
+    if (null != metrics.bytesRead()) {
+      gen.writeFieldName(ScanTaskMetrics.BYTES_READ);
+      CounterResultParser.toJson(metrics.bytesRead(), gen);
+    }
+
+    if (null != metrics.rowsRead()) {
+      gen.writeFieldName(ScanTaskMetrics.ROWS_READ);
+      CounterResultParser.toJson(metrics.rowsRead(), gen);
+    }
+
+    if (null != metrics.deletedRows()) {
+      gen.writeFieldName(ScanTaskMetrics.DELETED_ROWS);
+      CounterResultParser.toJson(metrics.deletedRows(), gen);
+    }
+
+    if (null != metrics.deleteCacheHits()) {
+      gen.writeFieldName(ScanTaskMetrics.DELETE_CACHE_HITS);
+      CounterResultParser.toJson(metrics.deleteCacheHits(), gen);
+    }
+
+    if (null != metrics.deleteCacheMisses()) {
+      gen.writeFieldName(ScanTaskMetrics.DELETE_CACHE_MISSES);
+      CounterResultParser.toJson(metrics.deleteCacheMisses(), gen);
+    }
+
+    if (null != metrics.readDuration()) {
+      gen.writeFieldName(ScanTaskMetrics.READ_DURATION);
+      TimerResultParser.toJson(metrics.readDuration(), gen);
+    }
+
+    if (null != metrics.decodeDuration()) {
+      gen.writeFieldName(ScanTaskMetrics.DECODE_DURATION);
+      TimerResultParser.toJson(metrics.decodeDuration(), gen);
+    }
+
+    if (null != metrics.deleteLoadDuration()) {
+      gen.writeFieldName(ScanTaskMetrics.DELETE_LOAD_DURATION);
+      TimerResultParser.toJson(metrics.deleteLoadDuration(), gen);
+    }
+
+    gen.writeEndObject();
+  }
+
+  static ScanTaskMetricsResult fromJson(String json) {
+    return JsonUtil.parse(json, ScanTaskMetricsResultParser::fromJson);
+  }
+
+  static ScanTaskMetricsResult fromJson(JsonNode json) {
+    Preconditions.checkArgument(null != json, "Cannot parse scan task metrics from null object");
+    Preconditions.checkArgument(
+        json.isObject(), "Cannot parse scan task metrics from non-object: %s", json);
+
+    return ImmutableScanTaskMetricsResult.builder()
+        .totalRowGroups(CounterResultParser.fromJson(ScanTaskMetrics.TOTAL_ROW_GROUPS, json))
+        .skippedRowGroupsByStats(
+            CounterResultParser.fromJson(ScanTaskMetrics.SKIPPED_ROW_GROUPS_BY_STATS, json))
+        .skippedRowGroupsByDictionary(
+            CounterResultParser.fromJson(ScanTaskMetrics.SKIPPED_ROW_GROUPS_BY_DICTIONARY, json))
+        .skippedRowGroupsByBloomFilter(
+            CounterResultParser.fromJson(ScanTaskMetrics.SKIPPED_ROW_GROUPS_BY_BLOOM_FILTER, json))
+        .skippedRowGroupsByPageIndex(
+            CounterResultParser.fromJson(ScanTaskMetrics.SKIPPED_ROW_GROUPS_BY_PAGE_INDEX, json))
+        .bytesRead(CounterResultParser.fromJson(ScanTaskMetrics.BYTES_READ, json))
+        .rowsRead(CounterResultParser.fromJson(ScanTaskMetrics.ROWS_READ, json))
+        .deletedRows(CounterResultParser.fromJson(ScanTaskMetrics.DELETED_ROWS, json))
+        .deleteCacheHits(CounterResultParser.fromJson(ScanTaskMetrics.DELETE_CACHE_HITS, json))
+        .deleteCacheMisses(
+            CounterResultParser.fromJson(ScanTaskMetrics.DELETE_CACHE_MISSES, json))
+        .readDuration(TimerResultParser.fromJson(ScanTaskMetrics.READ_DURATION, json))
+        .decodeDuration(TimerResultParser.fromJson(ScanTaskMetrics.DECODE_DURATION, json))
+        .deleteLoadDuration(
+            TimerResultParser.fromJson(ScanTaskMetrics.DELETE_LOAD_DURATION, json))
+        .build();
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.JsonUtil;
+
+public class ScanTaskReportParser {
+  private static final String TABLE_NAME = "table-name";
+  private static final String SNAPSHOT_ID = "snapshot-id";
+  private static final String METRICS = "metrics";
+  private static final String METADATA = "metadata";
+
+  private ScanTaskReportParser() {}
+
+  public static String toJson(ScanTaskReport scanTaskReport) {
+    return toJson(scanTaskReport, false);
+  }
+
+  public static String toJson(ScanTaskReport scanTaskReport, boolean pretty) {
+    return JsonUtil.generate(gen -> toJson(scanTaskReport, gen), pretty);
+  }
+
+  public static void toJson(ScanTaskReport scanTaskReport, JsonGenerator gen) throws IOException {
+    Preconditions.checkArgument(null != scanTaskReport, "Invalid scan task report: null");
+
+    gen.writeStartObject();
+    toJsonWithoutStartEnd(scanTaskReport, gen);
+    gen.writeEndObject();
+  }
+
+  /**
+   * This serializes the {@link ScanTaskReport} without writing a start/end object and is mainly
+   * used by {@link org.apache.iceberg.rest.requests.ReportMetricsRequestParser}.
+   *
+   * @param scanTaskReport The {@link ScanTaskReport} to serialize
+   * @param gen The {@link JsonGenerator} to use
+   * @throws IOException If an error occurs while serializing
+   */
+  public static void toJsonWithoutStartEnd(ScanTaskReport scanTaskReport, JsonGenerator gen)
+      throws IOException {
+    Preconditions.checkArgument(null != scanTaskReport, "Invalid scan task report: null");
+
+    gen.writeStringField(TABLE_NAME, scanTaskReport.tableName());
+    gen.writeNumberField(SNAPSHOT_ID, scanTaskReport.snapshotId());
+
+    gen.writeFieldName(METRICS);
+    ScanTaskMetricsResultParser.toJson(scanTaskReport.scanTaskMetrics(), gen);
+
+    if (!scanTaskReport.metadata().isEmpty()) {
+      JsonUtil.writeStringMap(METADATA, scanTaskReport.metadata(), gen);
+    }
+  }
+
+  public static ScanTaskReport fromJson(String json) {
+    return JsonUtil.parse(json, ScanTaskReportParser::fromJson);
+  }
+
+  public static ScanTaskReport fromJson(JsonNode json) {
+    Preconditions.checkArgument(null != json, "Cannot parse scan task report from null object");
+    Preconditions.checkArgument(
+        json.isObject(), "Cannot parse scan task report from non-object: %s", json);
+
+    ImmutableScanTaskReport.Builder builder =
+        ImmutableScanTaskReport.builder()
+            .tableName(JsonUtil.getString(TABLE_NAME, json))
+            .snapshotId(JsonUtil.getLong(SNAPSHOT_ID, json))
+            .scanTaskMetrics(ScanTaskMetricsResultParser.fromJson(JsonUtil.get(METRICS, json)));
+
+    if (json.has(METADATA)) {
+      builder.metadata(JsonUtil.getStringMap(METADATA, json));
+    }
+
+    return builder.build();
+  }
+}
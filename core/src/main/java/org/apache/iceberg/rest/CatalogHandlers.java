@@ -23,22 +23,31 @@ import static org.apache.iceberg.TableProperties.COMMIT_MIN_RETRY_WAIT_MS_DEFAUL
 import static org.apache.iceberg.TableProperties.COMMIT_NUM_RETRIES_DEFAULT;
 import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import org.apache.iceberg.BaseMetadataTable;
 import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.BaseTransaction;
+import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.TableScan;
 import org.apache.iceberg.Transaction;
 import org.apache.iceberg.UpdateRequirement;
 import org.apache.iceberg.catalog.Catalog;
@@ -47,16 +56,20 @@ import org.apache.iceberg.catalog.SupportsNamespaces;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.catalog.ViewCatalog;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.exceptions.BadRequestException;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.exceptions.NoSuchViewException;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.CreateViewRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.RegisterTableRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.UpdateNamespacePropertiesRequest;
@@ -64,11 +77,14 @@ import org.apache.iceberg.rest.requests.UpdateTableRequest;
 import org.apache.iceberg.rest.responses.CreateNamespaceResponse;
 import org.apache.iceberg.rest.responses.GetNamespaceResponse;
 import org.apache.iceberg.rest.responses.ImmutableLoadViewResponse;
+import org.apache.iceberg.rest.responses.ImmutablePlanTableScanResponse;
 import org.apache.iceberg.rest.responses.ListNamespacesResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.rest.responses.LoadViewResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 import org.apache.iceberg.rest.responses.UpdateNamespacePropertiesResponse;
+import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.view.BaseView;
 import org.apache.iceberg.view.SQLViewRepresentation;
@@ -81,6 +97,15 @@ import org.apache.iceberg.view.ViewRepresentation;
 public class CatalogHandlers {
   private static final Schema EMPTY_SCHEMA = new Schema();
   private static final String INTIAL_PAGE_TOKEN = "";
+  private static final String PAGE_TOKEN_SEPARATOR = ":";
+  private static final Duration SCAN_PLAN_EXPIRATION = Duration.ofMinutes(5);
+  private static final long MAX_CACHED_SCAN_TASKS = 1_000_000L;
+  private static final Cache<Pair<TableIdentifier, String>, List<FileScanTask>> PLANNED_SCANS =
+      Caffeine.newBuilder()
+          .expireAfterAccess(SCAN_PLAN_EXPIRATION)
+          .maximumWeight(MAX_CACHED_SCAN_TASKS)
+          .<Pair<TableIdentifier, String>, List<FileScanTask>>weigher((key, tasks) -> tasks.size())
+          .build();
 
   private CatalogHandlers() {}
 
@@ -321,6 +346,127 @@ public class CatalogHandlers {
     throw new IllegalStateException("Cannot wrap catalog that does not produce BaseTable");
   }
 
+  /**
+   * Plans a page of file scan tasks for a table scan.
+   *
+   * <p>A scan is planned once when its first page is requested. If the tasks do not fit in one
+   * page, they are cached under a new plan ID and the page token carries the plan ID and the offset
+   * of the next page. Cached plans expire when they are not used for five minutes; if a page is
+   * requested for an expired plan, the scan is planned again. Because planning may run in
+   * parallel, tasks are ordered by file location so that pages of a plan that is planned again are
+   * stable.
+   */
+  public static PlanTableScanResponse planTableScan(
+      Catalog catalog, TableIdentifier ident, PlanTableScanRequest request) {
+    request.validate();
+    String planId = null;
+    int start = 0;
+    if (request.pageToken() != null) {
+      Pair<String, Integer> token = parsePageToken(request.pageToken());
+      planId = token.first();
+      start = token.second();
+    }
+
+    Table table = catalog.loadTable(ident);
+    if (table instanceof BaseMetadataTable) {
+      // metadata tables are loaded and planned on the client side
+      throw new NoSuchTableException("Table does not exist: %s", ident.toString());
+    }
+
+    List<FileScanTask> tasks =
+        planId != null ? PLANNED_SCANS.getIfPresent(planKey(ident, planId)) : null;
+    if (tasks == null) {
+      tasks = planTasks(table, request);
+    }
+
+    if (start > 0 && start >= tasks.size()) {
+      throw new BadRequestException(
+          "Invalid page token: %s (scan has %s tasks)", request.pageToken(), tasks.size());
+    }
+
+    int end =
+        request.pageSize() != null
+            ? (int) Math.min((long) start + request.pageSize(), tasks.size())
+            : tasks.size();
+
+    String nextToken = null;
+    if (end < tasks.size()) {
+      String nextPlanId = planId != null ? planId : UUID.randomUUID().toString();
+      PLANNED_SCANS.put(planKey(ident, nextPlanId), tasks);
+      nextToken = nextPlanId + PAGE_TOKEN_SEPARATOR + end;
+    } else if (planId != null) {
+      PLANNED_SCANS.invalidate(planKey(ident, planId));
+    }
+
+    return ImmutablePlanTableScanResponse.builder()
+        .fileScanTasks(tasks.subList(start, end))
+        .nextPageToken(nextToken)
+        .build();
+  }
+
+  private static List<FileScanTask> planTasks(Table table, PlanTableScanRequest request) {
+    TableScan scan =
+        table.newScan().filter(request.filter()).caseSensitive(request.caseSensitive());
+    if (request.snapshotId() != null) {
+      scan = scan.useSnapshot(request.snapshotId());
+    }
+
+    if (request.select() != null) {
+      scan = scan.select(request.select());
+    }
+
+    if (request.statsFields() != null) {
+      scan = scan.includeColumnStats(request.statsFields());
+    } else if (request.returnColumnStats()) {
+      scan = scan.includeColumnStats();
+    }
+
+    if (request.ignoreResiduals()) {
+      scan = scan.ignoreResiduals();
+    }
+
+    for (Map.Entry<String, String> option : request.options().entrySet()) {
+      scan = scan.option(option.getKey(), option.getValue());
+    }
+
+    List<FileScanTask> tasks;
+    try (CloseableIterable<FileScanTask> planned = scan.planFiles()) {
+      tasks = Lists.newArrayList(planned);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close scan planning: " + table.name(), e);
+    }
+
+    tasks.sort(
+        Comparator.comparing((FileScanTask task) -> task.file().path().toString())
+            .thenComparingLong(FileScanTask::start));
+
+    return tasks;
+  }
+
+  private static Pair<TableIdentifier, String> planKey(TableIdentifier ident, String planId) {
+    return Pair.of(ident, planId);
+  }
+
+  private static Pair<String, Integer> parsePageToken(String pageToken) {
+    int separator = pageToken.lastIndexOf(PAGE_TOKEN_SEPARATOR);
+    if (separator <= 0) {
+      throw new BadRequestException("Invalid page token: %s", pageToken);
+    }
+
+    int start;
+    try {
+      start = Integer.parseInt(pageToken.substring(separator + 1));
+    } catch (NumberFormatException e) {
+      throw new BadRequestException("Invalid page token: %s", pageToken);
+    }
+
+    if (start < 0) {
+      throw new BadRequestException("Invalid page token: %s", pageToken);
+    }
+
+    return Pair.of(pageToken.substring(0, separator), start);
+  }
+
   public static LoadTableResponse updateTable(
       Catalog catalog, TableIdentifier ident, UpdateTableRequest request) {
     TableMetadata finalMetadata;
@@ -68,6 +68,10 @@ public class ErrorHandlers {
     return CommitErrorHandler.INSTANCE;
   }
 
+  public static Consumer<ErrorResponse> scanPlanningErrorHandler() {
+    return ScanPlanningErrorHandler.INSTANCE;
+  }
+
   public static Consumer<ErrorResponse> defaultErrorHandler() {
     return DefaultErrorHandler.INSTANCE;
   }
@@ -119,6 +123,36 @@ public class ErrorHandlers {
     }
   }
 
+  /**
+   * Scan planning error handler.
+   *
+   * <p>Services that do not support scan planning respond with 404 for the unknown route or with
+   * 405 or 501, which are reported as {@link UnsupportedOperationException}.
+   */
+  private static class ScanPlanningErrorHandler extends DefaultErrorHandler {
+    private static final ErrorHandler INSTANCE = new ScanPlanningErrorHandler();
+
+    @Override
+    public void accept(ErrorResponse error) {
+      switch (error.code()) {
+        case 404:
+          if (NoSuchNamespaceException.class.getSimpleName().equals(error.type())) {
+            throw new NoSuchNamespaceException("%s", error.message());
+          } else if (NoSuchTableException.class.getSimpleName().equals(error.type())) {
+            throw new NoSuchTableException("%s", error.message());
+          }
+
+          throw new UnsupportedOperationException(
+              String.format("Scan planning is not supported: %s", error.message()));
+        case 405:
+          throw new UnsupportedOperationException(
+              String.format("Scan planning is not supported: %s", error.message()));
+      }
+
+      super.accept(error);
+    }
+  }
+
   /** View commit error handler. */
   private static class ViewCommitErrorHandler extends DefaultErrorHandler {
     private static final ErrorHandler INSTANCE = new ViewCommitErrorHandler();
@@ -311,7 +311,9 @@ public class HTTPClient implements RESTClient {
       responseHeaders.accept(respHeaders);
 
       // Skip parsing the response stream for any successful request not expecting a response body
+      // and for conditional requests that were not modified
       if (response.getCode() == HttpStatus.SC_NO_CONTENT
+          || response.getCode() == HttpStatus.SC_NOT_MODIFIED
           || (responseType == null && isSuccessful(response))) {
         return null;
       }
@@ -358,6 +360,25 @@ public class HTTPClient implements RESTClient {
     return execute(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
   }
 
+  @Override
+  public <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return execute(
+        Method.GET,
+        path,
+        queryParams,
+        null,
+        responseType,
+        headers,
+        errorHandler,
+        responseHeaders != null ? responseHeaders : h -> {});
+  }
+
   @Override
   public <T extends RESTResponse> T post(
       String path,
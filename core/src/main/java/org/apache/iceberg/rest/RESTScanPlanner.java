@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.RemotePlanningTableScan;
+import org.apache.iceberg.ScanPlanner;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.rest.requests.ImmutablePlanTableScanRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+import org.apache.iceberg.types.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plans data table scans using the plan endpoint of a REST catalog service.
+ *
+ * <p>The first page of tasks is requested when a scan is planned and later pages are requested
+ * while tasks are consumed. If the service does not support scan planning, this returns null so
+ * that the scan is planned locally, and later scans skip the request.
+ *
+ * <p>Scan options, column stats and residual settings are sent with the request. Scans that keep
+ * stats for columns that are not in the current table schema are planned locally.
+ */
+class RESTScanPlanner implements ScanPlanner {
+  private static final Logger LOG = LoggerFactory.getLogger(RESTScanPlanner.class);
+
+  private final RESTClient client;
+  private final String path;
+  private final Supplier<Map<String, String>> headers;
+  private final Integer pageSize;
+  private volatile boolean supported = true;
+
+  RESTScanPlanner(
+      RESTClient client, String path, Supplier<Map<String, String>> headers, Integer pageSize) {
+    this.client = client;
+    this.path = path;
+    this.headers = headers;
+    this.pageSize = pageSize;
+  }
+
+  @Override
+  public CloseableIterable<FileScanTask> planFiles(RemotePlanningTableScan scan) {
+    if (!supported) {
+      return null;
+    }
+
+    List<String> statsFields = null;
+    Set<Integer> columnsToKeepStats = scan.columnsToKeepStats();
+    if (scan.shouldReturnColumnStats() && columnsToKeepStats != null) {
+      statsFields = columnNames(scan.table().schema(), columnsToKeepStats);
+      if (statsFields == null) {
+        return null;
+      }
+    }
+
+    List<String> columns =
+        scan.schema().columns().stream()
+            .map(Types.NestedField::name)
+            .collect(Collectors.toList());
+    PlanTableScanRequest request =
+        ImmutablePlanTableScanRequest.builder()
+            .snapshotId(scan.snapshot().snapshotId())
+            .select(columns)
+            .filter(scan.filter())
+            .caseSensitive(scan.isCaseSensitive())
+            .returnColumnStats(scan.shouldReturnColumnStats())
+            .statsFields(statsFields)
+            .ignoreResiduals(scan.shouldIgnoreResiduals())
+            .options(scan.options())
+            .pageSize(pageSize)
+            .build();
+
+    PlanTableScanResponse firstPage;
+    try {
+      firstPage = plan(request);
+    } catch (UnsupportedOperationException e) {
+      LOG.info("Server-side scan planning is not available, planning locally: {}", e.getMessage());
+      this.supported = false;
+      return null;
+    }
+
+    Iterable<FileScanTask> tasks = () -> new PlannedTaskIterator(request, firstPage);
+    return CloseableIterable.withNoopClose(tasks);
+  }
+
+  private static List<String> columnNames(Schema schema, Set<Integer> fieldIds) {
+    List<String> names = Lists.newArrayList();
+    for (int fieldId : fieldIds) {
+      String name = schema.findColumnName(fieldId);
+      if (name == null) {
+        return null;
+      }
+
+      names.add(name);
+    }
+
+    return names;
+  }
+
+  private PlanTableScanResponse plan(PlanTableScanRequest request) {
+    return client.post(
+        path,
+        request,
+        PlanTableScanResponse.class,
+        headers,
+        ErrorHandlers.scanPlanningErrorHandler());
+  }
+
+  private class PlannedTaskIterator implements Iterator<FileScanTask> {
+    private final PlanTableScanRequest request;
+    private Iterator<FileScanTask> page;
+    private String nextPageToken;
+
+    private PlannedTaskIterator(PlanTableScanRequest request, PlanTableScanResponse firstPage) {
+      this.request = request;
+      this.page = firstPage.fileScanTasks().iterator();
+      this.nextPageToken = firstPage.nextPageToken();
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!page.hasNext() && nextPageToken != null) {
+        PlanTableScanResponse response =
+            plan(ImmutablePlanTableScanRequest.copyOf(request).withPageToken(nextPageToken));
+        this.page = response.fileScanTasks().iterator();
+        this.nextPageToken = response.nextPageToken();
+      }
+
+      return page.hasNext();
+    }
+
+    @Override
+    public FileScanTask next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      return page.next();
+    }
+  }
+}
@@ -32,7 +32,9 @@ import java.util.Set;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.iceberg.BaseTable;
@@ -114,6 +116,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
   private static final String DEFAULT_FILE_IO_IMPL = "org.apache.iceberg.io.ResolvingFileIO";
   private static final String REST_METRICS_REPORTING_ENABLED = "rest-metrics-reporting-enabled";
   private static final String REST_SNAPSHOT_LOADING_MODE = "snapshot-loading-mode";
+  private static final String REST_SCAN_PLANNING_ENABLED = "rest-scan-planning-enabled";
   public static final String REST_PAGE_SIZE = "rest-page-size";
   private static final List<String> TOKEN_PREFERENCE_ORDER =
       ImmutableList.of(
@@ -137,6 +140,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
   private FileIO io = null;
   private MetricsReporter reporter = null;
   private boolean reportingViaRestEnabled;
+  private boolean scanPlanningEnabled;
   private Integer pageSize = null;
   private CloseableGroup closeables = null;
 
@@ -254,6 +258,8 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
 
     this.reportingViaRestEnabled =
         PropertyUtil.propertyAsBoolean(mergedProps, REST_METRICS_REPORTING_ENABLED, true);
+    this.scanPlanningEnabled =
+        PropertyUtil.propertyAsBoolean(mergedProps, REST_SCAN_PLANNING_ENABLED, false);
     super.initialize(name, mergedProps);
   }
 
@@ -353,12 +359,21 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
 
   private LoadTableResponse loadInternal(
       SessionContext context, TableIdentifier identifier, SnapshotMode mode) {
+    return loadInternal(context, identifier, mode, null);
+  }
+
+  private LoadTableResponse loadInternal(
+      SessionContext context,
+      TableIdentifier identifier,
+      SnapshotMode mode,
+      Consumer<Map<String, String>> responseHeaders) {
     return client.get(
         paths.table(identifier),
         mode.params(),
         LoadTableResponse.class,
         headers(context),
-        ErrorHandlers.tableErrorHandler());
+        ErrorHandlers.tableErrorHandler(),
+        responseHeaders);
   }
 
   @Override
@@ -368,8 +383,11 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
     MetadataTableType metadataType;
     LoadTableResponse response;
     TableIdentifier loadedIdent;
+    AtomicReference<String> etag = new AtomicReference<>();
+    Consumer<Map<String, String>> etagConsumer =
+        responseHeaders -> etag.set(RESTTableOperations.etag(responseHeaders));
     try {
-      response = loadInternal(context, identifier, snapshotMode);
+      response = loadInternal(context, identifier, snapshotMode, etagConsumer);
       loadedIdent = identifier;
       metadataType = null;
 
@@ -379,7 +397,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
         // attempt to load a metadata table using the identifier's namespace as the base table
         TableIdentifier baseIdent = TableIdentifier.of(identifier.namespace().levels());
         try {
-          response = loadInternal(context, baseIdent, snapshotMode);
+          response = loadInternal(context, baseIdent, snapshotMode, etagConsumer);
           loadedIdent = baseIdent;
         } catch (NoSuchTableException ignored) {
           // the base table does not exist
@@ -417,15 +435,13 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
             paths.table(finalIdentifier),
             session::headers,
             tableFileIO(context, response.config()),
-            tableMetadata);
+            tableMetadata,
+            // refs-only metadata is not what a refresh loads, so it cannot be reused
+            snapshotMode == SnapshotMode.REFS ? null : etag.get());
 
     trackFileIO(ops);
 
-    BaseTable table =
-        new BaseTable(
-            ops,
-            fullTableName(finalIdentifier),
-            metricsReporter(paths.metrics(finalIdentifier), session::headers));
+    BaseTable table = newTable(ops, finalIdentifier, session);
     if (metadataType != null) {
       return MetadataTableUtils.createMetadataTableInstance(table, metadataType);
     }
@@ -433,6 +449,17 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
     return table;
   }
 
+  private BaseTable newTable(RESTTableOperations ops, TableIdentifier ident, AuthSession session) {
+    MetricsReporter tableReporter = metricsReporter(paths.metrics(ident), session::headers);
+    if (scanPlanningEnabled) {
+      RESTScanPlanner planner =
+          new RESTScanPlanner(client, paths.planTableScan(ident), session::headers, pageSize);
+      return new RESTTable(ops, fullTableName(ident), tableReporter, planner);
+    }
+
+    return new BaseTable(ops, fullTableName(ident), tableReporter);
+  }
+
   private void trackFileIO(RESTTableOperations ops) {
     if (io != ops.io()) {
       fileIOCloser.put(ops, ops.io());
@@ -494,8 +521,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
 
     trackFileIO(ops);
 
-    return new BaseTable(
-        ops, fullTableName(ident), metricsReporter(paths.metrics(ident), session::headers));
+    return newTable(ops, ident, session);
   }
 
   @Override
@@ -722,8 +748,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
 
       trackFileIO(ops);
 
-      return new BaseTable(
-          ops, fullTableName(ident), metricsReporter(paths.metrics(ident), session::headers));
+      return newTable(ops, ident, session);
     }
 
     @Override
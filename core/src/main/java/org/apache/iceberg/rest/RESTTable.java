@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.RemotePlanningTableScan;
+import org.apache.iceberg.ScanPlanner;
+import org.apache.iceberg.SerializableTable;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.TableScan;
+import org.apache.iceberg.metrics.MetricsReporter;
+
+/** A table loaded from a REST catalog that plans data scans through the catalog service. */
+class RESTTable extends BaseTable {
+  private final MetricsReporter reporter;
+  private final ScanPlanner planner;
+
+  RESTTable(TableOperations ops, String name, MetricsReporter reporter, ScanPlanner planner) {
+    super(ops, name, reporter);
+    this.reporter = reporter;
+    this.planner = planner;
+  }
+
+  @Override
+  public TableScan newScan() {
+    return new RemotePlanningTableScan(this, reporter, planner);
+  }
+
+  Object writeReplace() {
+    return SerializableTable.copyOf(this);
+  }
+}
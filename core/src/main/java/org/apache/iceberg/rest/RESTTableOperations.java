@@ -21,6 +21,7 @@ package org.apache.iceberg.rest;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.apache.iceberg.LocationProviders;
@@ -35,7 +36,9 @@ import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.LocationProvider;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
 import org.apache.iceberg.rest.responses.ErrorResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
@@ -43,6 +46,8 @@ import org.apache.iceberg.util.LocationUtil;
 
 class RESTTableOperations implements TableOperations {
   private static final String METADATA_FOLDER_NAME = "metadata";
+  private static final String ETAG_HEADER = "ETag";
+  private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
 
   enum UpdateType {
     CREATE,
@@ -58,6 +63,8 @@ class RESTTableOperations implements TableOperations {
   private final TableMetadata replaceBase;
   private UpdateType updateType;
   private TableMetadata current;
+  // entity tag of the last loaded metadata, used to skip refreshes when nothing has changed
+  private String etag = null;
 
   RESTTableOperations(
       RESTClient client,
@@ -68,6 +75,17 @@ class RESTTableOperations implements TableOperations {
     this(client, path, headers, io, UpdateType.SIMPLE, Lists.newArrayList(), current);
   }
 
+  RESTTableOperations(
+      RESTClient client,
+      String path,
+      Supplier<Map<String, String>> headers,
+      FileIO io,
+      TableMetadata current,
+      String etag) {
+    this(client, path, headers, io, UpdateType.SIMPLE, Lists.newArrayList(), current);
+    this.etag = etag;
+  }
+
   RESTTableOperations(
       RESTClient client,
       String path,
@@ -97,8 +115,47 @@ class RESTTableOperations implements TableOperations {
 
   @Override
   public TableMetadata refresh() {
-    return updateCurrentMetadata(
-        client.get(path, LoadTableResponse.class, headers, ErrorHandlers.tableErrorHandler()));
+    String knownETag = current != null ? etag : null;
+    AtomicReference<String> responseETag = new AtomicReference<>();
+    LoadTableResponse response =
+        client.get(
+            path,
+            ImmutableMap.of(),
+            LoadTableResponse.class,
+            () -> conditionalHeaders(knownETag),
+            ErrorHandlers.tableErrorHandler(),
+            responseHeaders -> responseETag.set(etag(responseHeaders)));
+
+    if (response == null && knownETag != null) {
+      // the server responded with 304 Not Modified
+      return current;
+    }
+
+    // only keep the entity tag once the metadata it belongs to is current
+    TableMetadata refreshed = updateCurrentMetadata(response);
+    this.etag = responseETag.get();
+    return refreshed;
+  }
+
+  private Map<String, String> conditionalHeaders(String knownETag) {
+    if (knownETag == null) {
+      return headers.get();
+    }
+
+    Map<String, String> conditional = Maps.newHashMap(headers.get());
+    conditional.put(IF_NONE_MATCH_HEADER, knownETag);
+    return conditional;
+  }
+
+  /** Returns the entity tag from response headers or null if there is none. */
+  static String etag(Map<String, String> responseHeaders) {
+    for (Map.Entry<String, String> header : responseHeaders.entrySet()) {
+      if (ETAG_HEADER.equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+
+    return null;
   }
 
   @Override
@@ -153,6 +210,8 @@ class RESTTableOperations implements TableOperations {
 
     // all future commits should be simple commits
     this.updateType = UpdateType.SIMPLE;
+    // the committed metadata was not loaded with an entity tag
+    this.etag = null;
 
     updateCurrentMetadata(response);
   }
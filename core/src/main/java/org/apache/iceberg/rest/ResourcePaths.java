@@ -90,6 +90,17 @@ public class ResourcePaths {
         "metrics");
   }
 
+  public String planTableScan(TableIdentifier ident) {
+    return SLASH.join(
+        "v1",
+        prefix,
+        "namespaces",
+        RESTUtil.encodeNamespace(ident.namespace()),
+        "tables",
+        RESTUtil.encodeString(ident.name()),
+        "plan");
+  }
+
   public String commitTransaction() {
     return SLASH.join("v1", prefix, "transactions", "commit");
   }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.requests;
+
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.rest.RESTRequest;
+import org.immutables.value.Value;
+
+@Value.Immutable
+public interface PlanTableScanRequest extends RESTRequest {
+
+  /** The snapshot to scan, or null to scan the current snapshot. */
+  @Nullable
+  Long snapshotId();
+
+  /** Column names to select, or null to select all columns. */
+  @Nullable
+  List<String> select();
+
+  @Value.Default
+  default Expression filter() {
+    return Expressions.alwaysTrue();
+  }
+
+  @Value.Default
+  default boolean caseSensitive() {
+    return true;
+  }
+
+  /** Whether to return column stats with data files. */
+  @Value.Default
+  default boolean returnColumnStats() {
+    return false;
+  }
+
+  /** Column names to return stats for, or null to return stats for all columns. */
+  @Nullable
+  List<String> statsFields();
+
+  /** Whether to ignore residuals and return tasks with an always true residual. */
+  @Value.Default
+  default boolean ignoreResiduals() {
+    return false;
+  }
+
+  /** Scan options, as set by {@link org.apache.iceberg.Scan#option(String, String)}. */
+  Map<String, String> options();
+
+  /** The token of the page to return, or null for the first page. */
+  @Nullable
+  String pageToken();
+
+  /** The max number of tasks to return in a page, or null to return all tasks in one page. */
+  @Nullable
+  Integer pageSize();
+
+  @Override
+  default void validate() {
+    Preconditions.checkArgument(
+        pageSize() == null || pageSize() > 0, "Invalid page size: %s", pageSize());
+    Preconditions.checkArgument(
+        statsFields() == null || returnColumnStats(),
+        "Invalid stats fields: %s (column stats are not returned)",
+        statsFields());
+  }
+}
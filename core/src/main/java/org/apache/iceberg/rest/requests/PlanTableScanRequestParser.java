@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.requests;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import org.apache.iceberg.expressions.ExpressionParser;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.JsonUtil;
+
+public class PlanTableScanRequestParser {
+
+  private static final String SNAPSHOT_ID = "snapshot-id";
+  private static final String SELECT = "select";
+  private static final String FILTER = "filter";
+  private static final String CASE_SENSITIVE = "case-sensitive";
+  private static final String RETURN_COLUMN_STATS = "return-column-stats";
+  private static final String STATS_FIELDS = "stats-fields";
+  private static final String IGNORE_RESIDUALS = "ignore-residuals";
+  private static final String OPTIONS = "options";
+  private static final String PAGE_TOKEN = "page-token";
+  private static final String PAGE_SIZE = "page-size";
+
+  private PlanTableScanRequestParser() {}
+
+  public static String toJson(PlanTableScanRequest request) {
+    return toJson(request, false);
+  }
+
+  public static String toJson(PlanTableScanRequest request, boolean pretty) {
+    return JsonUtil.generate(gen -> toJson(request, gen), pretty);
+  }
+
+  public static void toJson(PlanTableScanRequest request, JsonGenerator gen) throws IOException {
+    Preconditions.checkArgument(null != request, "Invalid plan table scan request: null");
+
+    gen.writeStartObject();
+
+    if (null != request.snapshotId()) {
+      gen.writeNumberField(SNAPSHOT_ID, request.snapshotId());
+    }
+
+    if (null != request.select()) {
+      JsonUtil.writeStringArray(SELECT, request.select(), gen);
+    }
+
+    if (!Expressions.alwaysTrue().equals(request.filter())) {
+      gen.writeFieldName(FILTER);
+      ExpressionParser.toJson(request.filter(), gen);
+    }
+
+    gen.writeBooleanField(CASE_SENSITIVE, request.caseSensitive());
+
+    if (request.returnColumnStats()) {
+      gen.writeBooleanField(RETURN_COLUMN_STATS, true);
+    }
+
+    if (null != request.statsFields()) {
+      JsonUtil.writeStringArray(STATS_FIELDS, request.statsFields(), gen);
+    }
+
+    if (request.ignoreResiduals()) {
+      gen.writeBooleanField(IGNORE_RESIDUALS, true);
+    }
+
+    if (!request.options().isEmpty()) {
+      JsonUtil.writeStringMap(OPTIONS, request.options(), gen);
+    }
+
+    if (null != request.pageToken()) {
+      gen.writeStringField(PAGE_TOKEN, request.pageToken());
+    }
+
+    if (null != request.pageSize()) {
+      gen.writeNumberField(PAGE_SIZE, request.pageSize());
+    }
+
+    gen.writeEndObject();
+  }
+
+  public static PlanTableScanRequest fromJson(String json) {
+    return JsonUtil.parse(json, PlanTableScanRequestParser::fromJson);
+  }
+
+  public static PlanTableScanRequest fromJson(JsonNode json) {
+    Preconditions.checkArgument(
+        null != json, "Cannot parse plan table scan request from null object");
+    Preconditions.checkArgument(
+        json.isObject(), "Cannot parse plan table scan request from non-object: %s", json);
+
+    ImmutablePlanTableScanRequest.Builder builder =
+        ImmutablePlanTableScanRequest.builder()
+            .snapshotId(JsonUtil.getLongOrNull(SNAPSHOT_ID, json))
+            .select(JsonUtil.getStringListOrNull(SELECT, json))
+            .statsFields(JsonUtil.getStringListOrNull(STATS_FIELDS, json))
+            .pageToken(JsonUtil.getStringOrNull(PAGE_TOKEN, json))
+            .pageSize(JsonUtil.getIntOrNull(PAGE_SIZE, json));
+
+    if (json.has(FILTER)) {
+      builder.filter(ExpressionParser.fromJson(JsonUtil.get(FILTER, json)));
+    }
+
+    if (json.has(CASE_SENSITIVE)) {
+      builder.caseSensitive(JsonUtil.getBool(CASE_SENSITIVE, json));
+    }
+
+    if (json.has(RETURN_COLUMN_STATS)) {
+      builder.returnColumnStats(JsonUtil.getBool(RETURN_COLUMN_STATS, json));
+    }
+
+    if (json.has(IGNORE_RESIDUALS)) {
+      builder.ignoreResiduals(JsonUtil.getBool(IGNORE_RESIDUALS, json));
+    }
+
+    if (json.has(OPTIONS)) {
+      builder.options(JsonUtil.getStringMap(OPTIONS, json));
+    }
+
+    return builder.build();
+  }
+}
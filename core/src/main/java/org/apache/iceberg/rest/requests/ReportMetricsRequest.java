@@ -20,8 +20,10 @@ package org.apache.iceberg.rest.requests;
 
 import java.util.Locale;
 import org.apache.iceberg.metrics.CommitReport;
+import org.apache.iceberg.metrics.FileIOReport;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.apache.iceberg.metrics.ScanReport;
+import org.apache.iceberg.metrics.ScanTaskReport;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.rest.RESTRequest;
 import org.immutables.value.Value;
@@ -32,7 +34,9 @@ public interface ReportMetricsRequest extends RESTRequest {
   enum ReportType {
     UNKNOWN,
     SCAN_REPORT,
-    COMMIT_REPORT;
+    COMMIT_REPORT,
+    FILE_IO_REPORT,
+    SCAN_TASK_REPORT;
 
     static ReportType fromString(String reportType) {
       Preconditions.checkArgument(null != reportType, "Invalid report type: null");
@@ -60,6 +64,10 @@ public interface ReportMetricsRequest extends RESTRequest {
       reportType = ReportType.SCAN_REPORT;
     } else if (report instanceof CommitReport) {
       reportType = ReportType.COMMIT_REPORT;
+    } else if (report instanceof FileIOReport) {
+      reportType = ReportType.FILE_IO_REPORT;
+    } else if (report instanceof ScanTaskReport) {
+      reportType = ReportType.SCAN_TASK_REPORT;
     }
 
     return ImmutableReportMetricsRequest.builder().reportType(reportType).report(report).build();
@@ -24,8 +24,12 @@ import java.io.IOException;
 import java.util.Locale;
 import org.apache.iceberg.metrics.CommitReport;
 import org.apache.iceberg.metrics.CommitReportParser;
+import org.apache.iceberg.metrics.FileIOReport;
+import org.apache.iceberg.metrics.FileIOReportParser;
 import org.apache.iceberg.metrics.ScanReport;
 import org.apache.iceberg.metrics.ScanReportParser;
+import org.apache.iceberg.metrics.ScanTaskReport;
+import org.apache.iceberg.metrics.ScanTaskReportParser;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.rest.requests.ReportMetricsRequest.ReportType;
 import org.apache.iceberg.util.JsonUtil;
@@ -59,6 +63,14 @@ public class ReportMetricsRequestParser {
       CommitReportParser.toJsonWithoutStartEnd((CommitReport) request.report(), gen);
     }
 
+    if (ReportType.FILE_IO_REPORT == request.reportType()) {
+      FileIOReportParser.toJsonWithoutStartEnd((FileIOReport) request.report(), gen);
+    }
+
+    if (ReportType.SCAN_TASK_REPORT == request.reportType()) {
+      ScanTaskReportParser.toJsonWithoutStartEnd((ScanTaskReport) request.report(), gen);
+    }
+
     gen.writeEndObject();
   }
 
@@ -94,6 +106,20 @@ public class ReportMetricsRequestParser {
           .build();
     }
 
+    if (ReportType.FILE_IO_REPORT == type) {
+      return ImmutableReportMetricsRequest.builder()
+          .reportType(type)
+          .report(FileIOReportParser.fromJson(json))
+          .build();
+    }
+
+    if (ReportType.SCAN_TASK_REPORT == type) {
+      return ImmutableReportMetricsRequest.builder()
+          .reportType(type)
+          .report(ScanTaskReportParser.fromJson(json))
+          .build();
+    }
+
     return ReportMetricsRequest.unknown();
   }
 }
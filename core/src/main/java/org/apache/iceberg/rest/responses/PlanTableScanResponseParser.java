@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.responses;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.FileScanTaskParser;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.JsonUtil;
+
+public class PlanTableScanResponseParser {
+
+  private static final String FILE_SCAN_TASKS = "file-scan-tasks";
+  private static final String NEXT_PAGE_TOKEN = "next-page-token";
+
+  private PlanTableScanResponseParser() {}
+
+  public static String toJson(PlanTableScanResponse response) {
+    return toJson(response, false);
+  }
+
+  public static String toJson(PlanTableScanResponse response, boolean pretty) {
+    return JsonUtil.generate(gen -> toJson(response, gen), pretty);
+  }
+
+  public static void toJson(PlanTableScanResponse response, JsonGenerator gen) throws IOException {
+    Preconditions.checkArgument(null != response, "Invalid plan table scan response: null");
+
+    gen.writeStartObject();
+
+    gen.writeArrayFieldStart(FILE_SCAN_TASKS);
+    for (FileScanTask task : response.fileScanTasks()) {
+      FileScanTaskParser.toJson(task, gen);
+    }
+    gen.writeEndArray();
+
+    if (null != response.nextPageToken()) {
+      gen.writeStringField(NEXT_PAGE_TOKEN, response.nextPageToken());
+    }
+
+    gen.writeEndObject();
+  }
+
+  public static PlanTableScanResponse fromJson(String json) {
+    return JsonUtil.parse(json, PlanTableScanResponseParser::fromJson);
+  }
+
+  public static PlanTableScanResponse fromJson(JsonNode json) {
+    Preconditions.checkArgument(
+        null != json, "Cannot parse plan table scan response from null object");
+    Preconditions.checkArgument(
+        json.isObject(), "Cannot parse plan table scan response from non-object: %s", json);
+
+    JsonNode tasks = JsonUtil.get(FILE_SCAN_TASKS, json);
+    Preconditions.checkArgument(
+        tasks.isArray(), "Cannot parse file scan tasks from non-array: %s", tasks);
+
+    ImmutablePlanTableScanResponse.Builder builder =
+        ImmutablePlanTableScanResponse.builder()
+            .nextPageToken(JsonUtil.getStringOrNull(NEXT_PAGE_TOKEN, json));
+    for (JsonNode task : tasks) {
+      // residuals were produced by binding the filter on the server, so they use the exact names
+      builder.addFileScanTasks(FileScanTaskParser.fromJson(task, true /* case sensitive */));
+    }
+
+    return builder.build();
+  }
+}
@@ -144,6 +144,17 @@ public class JsonUtil {
     return pNode.asLong();
   }
 
+  public static double getDouble(String property, JsonNode node) {
+    Preconditions.checkArgument(node.has(property), "Cannot parse missing double: %s", property);
+    JsonNode pNode = node.get(property);
+    Preconditions.checkArgument(
+        pNode != null && !pNode.isNull() && pNode.isNumber(),
+        "Cannot parse to a double value: %s: %s",
+        property,
+        pNode);
+    return pNode.asDouble();
+  }
+
   public static boolean getBool(String property, JsonNode node) {
     Preconditions.checkArgument(node.has(property), "Cannot parse missing boolean: %s", property);
     JsonNode pNode = node.get(property);
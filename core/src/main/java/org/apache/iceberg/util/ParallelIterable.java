@@ -20,78 +20,131 @@ package org.apache.iceberg.util;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.iceberg.SystemConfigs;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 
+/**
+ * An iterable that consumes a group of iterables in parallel using an {@link ExecutorService}.
+ *
+ * <p>Items produced by worker tasks are handed off to the consumer through a shared queue. When a
+ * maximum queue size is set, producers stop and give up their worker thread once the queue is full
+ * and are resumed after the consumer drains it, so that a slow consumer does not cause unbounded
+ * buffering. The consumer blocks until a producer signals that an item is available or a task has
+ * finished instead of polling the queue.
+ */
 public class ParallelIterable<T> extends CloseableGroup implements CloseableIterable<T> {
+  // upper bound on how long the consumer parks before re-checking tasks, in case a signal is missed
+  private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
   private final Iterable<? extends Iterable<T>> iterables;
   private final ExecutorService workerPool;
+  private final int maxQueueSize;
 
   public ParallelIterable(Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool) {
+    this(iterables, workerPool, SystemConfigs.PARALLEL_ITERABLE_MAX_QUEUE_SIZE.value());
+  }
+
+  public ParallelIterable(
+      Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool, int maxQueueSize) {
+    Preconditions.checkArgument(
+        maxQueueSize > 0, "Invalid max queue size: %s (must be positive)", maxQueueSize);
     this.iterables = iterables;
     this.workerPool = workerPool;
+    this.maxQueueSize = maxQueueSize;
   }
 
   @Override
   public CloseableIterator<T> iterator() {
-    ParallelIterator<T> iter = new ParallelIterator<>(iterables, workerPool);
+    ParallelIterator<T> iter = new ParallelIterator<>(iterables, workerPool, maxQueueSize);
     addCloseable(iter);
     return iter;
   }
 
   private static class ParallelIterator<T> implements CloseableIterator<T> {
-    private final Iterator<Runnable> tasks;
+    private final Iterator<Task<T>> tasks;
+    private final Deque<Task<T>> yieldedTasks = new ArrayDeque<>();
+    // tasks that were handed to the executor and may hold an open input
+    private final Set<Task<T>> submittedTasks = Sets.newConcurrentHashSet();
     private final ExecutorService workerPool;
-    private final Future<?>[] taskFutures;
+    private final Future<Optional<Task<T>>>[] taskFutures;
     private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger(0);
+    private final int maxQueueSize;
+    private volatile Thread waitingConsumer = null;
     private volatile boolean closed = false;
 
+    @SuppressWarnings("unchecked")
     private ParallelIterator(
-        Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool) {
+        Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool, int maxQueueSize) {
       this.tasks =
-          Iterables.transform(
-                  iterables,
-                  iterable ->
-                      (Runnable)
-                          () -> {
-                            try (Closeable ignored =
-                                (iterable instanceof Closeable) ? (Closeable) iterable : () -> {}) {
-                              for (T item : iterable) {
-                                queue.add(item);
-                              }
-                            } catch (IOException e) {
-                              throw new RuntimeIOException(e, "Failed to close iterable");
-                            }
-                          })
-              .iterator();
+          Iterables.transform(iterables, iterable -> new Task<>(iterable, this)).iterator();
       this.workerPool = workerPool;
+      this.maxQueueSize = maxQueueSize;
       // submit 2 tasks per worker at a time
       this.taskFutures = new Future[2 * ThreadPools.WORKER_THREAD_POOL_SIZE];
     }
 
     @Override
     public void close() {
-      // close first, avoid new task submit
+      // close first, avoid new task submit; a consumer waiting in hasNext stops on its next check
       this.closed = true;
+      signalConsumer();
 
-      // cancel background tasks
-      for (Future<?> taskFuture : taskFutures) {
-        if (taskFuture != null && !taskFuture.isDone()) {
-          taskFuture.cancel(true);
+      // task futures and yielded tasks are only modified while holding the consumer's lock
+      synchronized (this) {
+        // cancel background tasks
+        for (Future<Optional<Task<T>>> taskFuture : taskFutures) {
+          if (taskFuture != null && !taskFuture.isDone()) {
+            taskFuture.cancel(true);
+          }
+        }
+
+        // close every task that was submitted, whether it yielded, was cancelled before it ran or
+        // is still running and would yield after cancellation; closing waits for a running task
+        RuntimeIOException failure = null;
+        for (Task<T> task : submittedTasks) {
+          try {
+            task.close();
+          } catch (IOException e) {
+            if (failure == null) {
+              failure = new RuntimeIOException(e, "Failed to close iterable");
+            } else {
+              failure.addSuppressed(e);
+            }
+          }
+        }
+
+        submittedTasks.clear();
+        yieldedTasks.clear();
+
+        // clean queue
+        this.queue.clear();
+        this.queueSize.set(0);
+
+        if (failure != null) {
+          throw failure;
         }
       }
-      // clean queue
-      this.queue.clear();
     }
 
     /**
@@ -107,9 +160,9 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       for (int i = 0; i < taskFutures.length; i += 1) {
         if (taskFutures[i] == null || taskFutures[i].isDone()) {
           if (taskFutures[i] != null) {
-            // check for task failure and re-throw any exception
+            // check for task failure and re-throw any exception; keep tasks that yielded
             try {
-              taskFutures[i].get();
+              taskFutures[i].get().ifPresent(yieldedTasks::addLast);
             } catch (ExecutionException e) {
               if (e.getCause() instanceof RuntimeException) {
                 // rethrow a runtime exception
@@ -130,16 +183,61 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
         }
       }
 
-      return !closed && (tasks.hasNext() || hasRunningTask);
+      return !closed && (!yieldedTasks.isEmpty() || tasks.hasNext() || hasRunningTask);
     }
 
-    private Future<?> submitNextTask() {
-      if (!closed && tasks.hasNext()) {
-        return workerPool.submit(tasks.next());
+    private Future<Optional<Task<T>>> submitNextTask() {
+      // do not start or resume producers while the queue is full, they would immediately yield
+      if (!closed && queueSize.get() < maxQueueSize) {
+        if (!yieldedTasks.isEmpty()) {
+          return submit(yieldedTasks.poll());
+        } else if (tasks.hasNext()) {
+          return submit(tasks.next());
+        }
       }
+
       return null;
     }
 
+    private Future<Optional<Task<T>>> submit(Task<T> task) {
+      submittedTasks.add(task);
+      return workerPool.submit(task);
+    }
+
+    private boolean isQueueFull() {
+      return queueSize.get() >= maxQueueSize;
+    }
+
+    private void add(T item) {
+      queue.add(item);
+      queueSize.incrementAndGet();
+      signalConsumer();
+    }
+
+    private void signalConsumer() {
+      Thread consumer = waitingConsumer;
+      if (consumer != null) {
+        LockSupport.unpark(consumer);
+      }
+    }
+
+    private void awaitSignal() {
+      this.waitingConsumer = Thread.currentThread();
+      try {
+        // re-check after publishing the waiting thread so that a concurrent add is not missed
+        if (queue.isEmpty()) {
+          LockSupport.parkNanos(this, MAX_WAIT_NANOS);
+        }
+      } finally {
+        this.waitingConsumer = null;
+      }
+
+      if (Thread.interrupted()) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while waiting for parallel tasks");
+      }
+    }
+
     @Override
     public synchronized boolean hasNext() {
       Preconditions.checkState(!closed, "Already closed");
@@ -158,19 +256,14 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       }
 
       // this cannot conclude that there are no more records until tasks have finished. while some
-      // are running, return true when there is at least one item to return.
+      // are running, return true when there is at least one item to return. producers wake this
+      // thread when they add an item or finish, so the wait ends as soon as there is progress.
       while (checkTasks()) {
         if (!queue.isEmpty()) {
           return true;
         }
 
-        try {
-          Thread.sleep(10);
-
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          throw new RuntimeException(e);
-        }
+        awaitSignal();
       }
 
       // when tasks are no longer running, return whether the queue has items
@@ -183,7 +276,88 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       if (!hasNext()) {
         throw new NoSuchElementException();
       }
-      return queue.poll();
+
+      T item = queue.poll();
+      queueSize.decrementAndGet();
+      return item;
+    }
+  }
+
+  /**
+   * A producer that moves items from one input iterable to the shared queue.
+   *
+   * <p>When the queue is full, the task stops and returns itself so that it can be resubmitted
+   * later. The input iterator is kept open until the task completes or is closed.
+   */
+  private static class Task<T> implements Callable<Optional<Task<T>>>, Closeable {
+    private final Iterable<T> input;
+    private final ParallelIterator<T> parent;
+    private Iterator<T> iterator = null;
+    private boolean closed = false;
+
+    private Task(Iterable<T> input, ParallelIterator<T> parent) {
+      this.input = input;
+      this.parent = parent;
+    }
+
+    // synchronized so that the consumer cannot close the input while the task is running
+    @Override
+    public synchronized Optional<Task<T>> call() throws Exception {
+      if (closed) {
+        return Optional.empty();
+      }
+
+      try {
+        if (iterator == null) {
+          this.iterator = input.iterator();
+        }
+
+        while (!parent.closed && iterator.hasNext()) {
+          if (parent.isQueueFull()) {
+            // yield the worker thread until the consumer catches up
+            return Optional.of(this);
+          }
+
+          parent.add(iterator.next());
+        }
+
+      } catch (Throwable e) {
+        try {
+          complete();
+        } catch (IOException closeException) {
+          e.addSuppressed(closeException);
+        }
+
+        throw e;
+
+      } finally {
+        // wake the consumer so that it checks task state without waiting for the next item
+        parent.signalConsumer();
+      }
+
+      try {
+        complete();
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to close iterable");
+      }
+
+      return Optional.empty();
+    }
+
+    private void complete() throws IOException {
+      parent.submittedTasks.remove(this);
+      close();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+      if (!closed) {
+        this.closed = true;
+        this.iterator = null;
+        if (input instanceof Closeable) {
+          ((Closeable) input).close();
+        }
+      }
     }
   }
 }
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.roaringbitmap.longlong.PeekableLongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+/**
+ * A {@link StructLikeSet} for single-column int, long or string structs.
+ *
+ * <p>Instead of wrapping every added struct, this set keeps only the key values. Integral keys are
+ * stored in a Roaring bitmap and string keys are stored as {@link String}. Structs with a null key
+ * and null structs are tracked separately.
+ */
+class PrimitiveStructLikeSet extends StructLikeSet {
+
+  static boolean supports(Types.StructType type) {
+    if (type.fields().size() != 1) {
+      return false;
+    }
+
+    switch (type.fields().get(0).type().typeId()) {
+      case INTEGER:
+      case LONG:
+      case STRING:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private final Type.TypeID keyType;
+  private final Roaring64Bitmap longKeys;
+  private final Set<String> stringKeys;
+  private boolean containsNullKey = false;
+  private boolean containsNullStruct = false;
+
+  PrimitiveStructLikeSet(Types.StructType type) {
+    super(type, false /* keys are kept instead of wrapped structs */);
+    this.keyType = type.fields().get(0).type().typeId();
+    this.longKeys = keyType == Type.TypeID.STRING ? null : new Roaring64Bitmap();
+    this.stringKeys = keyType == Type.TypeID.STRING ? Sets.newHashSet() : null;
+  }
+
+  @Override
+  public int size() {
+    long keyCount = longKeys != null ? longKeys.getLongCardinality() : stringKeys.size();
+    long size = keyCount + (containsNullKey ? 1 : 0) + (containsNullStruct ? 1 : 0);
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean contains(Object obj) {
+    if (obj == null) {
+      return containsNullStruct;
+    } else if (!(obj instanceof StructLike)) {
+      return false;
+    }
+
+    StructLike struct = (StructLike) obj;
+    switch (keyType) {
+      case INTEGER:
+        Integer intKey = struct.get(0, Integer.class);
+        return intKey != null ? longKeys.contains(intKey) : containsNullKey;
+      case LONG:
+        Long longKey = struct.get(0, Long.class);
+        return longKey != null ? longKeys.contains(longKey) : containsNullKey;
+      default:
+        Object stringKey = struct.get(0, Object.class);
+        return stringKey != null ? stringKeys.contains(stringKey.toString()) : containsNullKey;
+    }
+  }
+
+  @Override
+  public boolean add(StructLike struct) {
+    if (contains(struct)) {
+      return false;
+    }
+
+    if (struct == null) {
+      this.containsNullStruct = true;
+      return true;
+    }
+
+    switch (keyType) {
+      case INTEGER:
+        Integer intKey = struct.get(0, Integer.class);
+        if (intKey != null) {
+          longKeys.addLong(intKey);
+        } else {
+          this.containsNullKey = true;
+        }
+        break;
+      case LONG:
+        Long longKey = struct.get(0, Long.class);
+        if (longKey != null) {
+          longKeys.addLong(longKey);
+        } else {
+          this.containsNullKey = true;
+        }
+        break;
+      default:
+        Object stringKey = struct.get(0, Object.class);
+        if (stringKey != null) {
+          stringKeys.add(stringKey.toString());
+        } else {
+          this.containsNullKey = true;
+        }
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends StructLike> structs) {
+    boolean changed = false;
+    if (structs != null) {
+      for (StructLike struct : structs) {
+        changed |= add(struct);
+      }
+    }
+    return changed;
+  }
+
+  @Override
+  public boolean remove(Object obj) {
+    if (!contains(obj)) {
+      return false;
+    }
+
+    if (obj == null) {
+      this.containsNullStruct = false;
+      return true;
+    }
+
+    StructLike struct = (StructLike) obj;
+    switch (keyType) {
+      case INTEGER:
+        Integer intKey = struct.get(0, Integer.class);
+        if (intKey != null) {
+          longKeys.removeLong(intKey);
+        } else {
+          this.containsNullKey = false;
+        }
+        break;
+      case LONG:
+        Long longKey = struct.get(0, Long.class);
+        if (longKey != null) {
+          longKeys.removeLong(longKey);
+        } else {
+          this.containsNullKey = false;
+        }
+        break;
+      default:
+        Object stringKey = struct.get(0, Object.class);
+        if (stringKey != null) {
+          stringKeys.remove(stringKey.toString());
+        } else {
+          this.containsNullKey = false;
+        }
+    }
+
+    return true;
+  }
+
+  @Override
+  public Iterator<StructLike> iterator() {
+    List<StructLike> nulls = Lists.newArrayListWithExpectedSize(2);
+    if (containsNullStruct) {
+      nulls.add(null);
+    }
+
+    if (containsNullKey) {
+      nulls.add(new KeyStruct(null));
+    }
+
+    return Iterators.concat(nulls.iterator(), keyIterator());
+  }
+
+  private Iterator<StructLike> keyIterator() {
+    if (stringKeys != null) {
+      return Iterators.transform(stringKeys.iterator(), KeyStruct::new);
+    }
+
+    PeekableLongIterator longIterator = longKeys.getLongIterator();
+    return new Iterator<StructLike>() {
+      @Override
+      public boolean hasNext() {
+        return longIterator.hasNext();
+      }
+
+      @Override
+      public StructLike next() {
+        long key = longIterator.next();
+        return new KeyStruct(keyType == Type.TypeID.INTEGER ? (Object) (int) key : (Object) key);
+      }
+    };
+  }
+
+  @Override
+  public void clear() {
+    if (longKeys != null) {
+      longKeys.clear();
+    } else {
+      stringKeys.clear();
+    }
+
+    this.containsNullKey = false;
+    this.containsNullStruct = false;
+  }
+
+  @Override
+  public int hashCode() {
+    StructLikeWrapper wrapper = StructLikeWrapper.forType(type());
+    int hash = Objects.hashCode(type());
+    for (StructLike struct : this) {
+      hash += wrapper.set(struct).hashCode();
+    }
+    return hash;
+  }
+
+  private static class KeyStruct implements StructLike {
+    private final Object key;
+
+    private KeyStruct(Object key) {
+      this.key = key;
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      return javaClass.cast(key);
+    }
+
+    @Override
+    public <T> void set(int pos, T value) {
+      throw new UnsupportedOperationException("Cannot modify keys of a compact StructLikeSet");
+    }
+  }
+}
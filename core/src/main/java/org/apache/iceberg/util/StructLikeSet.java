@@ -34,14 +34,57 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
     return new StructLikeSet(type);
   }
 
+  /**
+   * Creates a set that keeps the values of single-column int, long and string structs as
+   * primitive keys instead of wrapping the added structs.
+   *
+   * <p>Sets for other struct types use the default representation. Note that iterating a set with
+   * primitive keys returns new struct views instead of the structs that were added.
+   *
+   * @param type a struct type
+   * @return a new set for structs of the given type
+   * @see #hasCompactForm(Types.StructType)
+   */
+  public static StructLikeSet createCompact(Types.StructType type) {
+    if (hasCompactForm(type)) {
+      return new PrimitiveStructLikeSet(type);
+    }
+
+    return create(type);
+  }
+
+  /**
+   * Returns whether {@link #createCompact(Types.StructType)} keeps primitive keys for the type.
+   *
+   * <p>Sets with primitive keys copy the key values when structs are added, so callers may add
+   * reused struct instances without copying them first.
+   */
+  public static boolean hasCompactForm(Types.StructType type) {
+    return PrimitiveStructLikeSet.supports(type);
+  }
+
   private final Types.StructType type;
   private final Set<StructLikeWrapper> wrapperSet;
   private final ThreadLocal<StructLikeWrapper> wrappers;
 
   private StructLikeSet(Types.StructType type) {
+    this(type, true);
+  }
+
+  /**
+   * Creates a set for structs of the given type.
+   *
+   * <p>Subclasses that keep their own representation of structs can skip the wrapped structs. Such
+   * subclasses must override every method that accesses the wrapped structs.
+   *
+   * @param type a struct type
+   * @param wrapStructs whether to keep added structs in a set of wrappers
+   */
+  protected StructLikeSet(Types.StructType type, boolean wrapStructs) {
     this.type = type;
-    this.wrapperSet = Sets.newHashSet();
-    this.wrappers = ThreadLocal.withInitial(() -> StructLikeWrapper.forType(type));
+    this.wrapperSet = wrapStructs ? Sets.newHashSet() : null;
+    this.wrappers =
+        wrapStructs ? ThreadLocal.withInitial(() -> StructLikeWrapper.forType(type)) : null;
   }
 
   @Override
@@ -78,7 +121,7 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
   @Override
   @SuppressWarnings("unchecked")
   public <T> T[] toArray(T[] destArray) {
-    int size = wrapperSet.size();
+    int size = size();
     if (destArray.length < size) {
       return (T[]) toArray();
     }
@@ -157,7 +200,7 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
       return true;
     }
 
-    if (o == null || getClass() != o.getClass()) {
+    if (!(o instanceof StructLikeSet)) {
       return false;
     }
 
@@ -166,7 +209,7 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
       return false;
     }
 
-    if (wrapperSet.size() != that.wrapperSet.size()) {
+    if (size() != that.size()) {
       return false;
     }
 
@@ -177,4 +220,8 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
   public int hashCode() {
     return Objects.hashCode(type) + wrapperSet.stream().mapToInt(StructLikeWrapper::hashCode).sum();
   }
+
+  Types.StructType type() {
+    return type;
+  }
 }
@@ -35,6 +35,8 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.CharSequenceSet;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -616,4 +618,65 @@ public abstract class DeleteFileIndexTestBase<
     // it should not be possible to add more elements upon indexing
     assertThatThrownBy(() -> group.add(SPEC, file1)).isInstanceOf(IllegalStateException.class);
   }
+
+  @TestTemplate
+  public void testEqualityDeletesGroupWithBoundsIndex() {
+    EqualityDeletes group = new EqualityDeletes();
+    List<DeleteFile> rangeDeletes = Lists.newArrayList();
+    for (int index = 0; index < 32; index++) {
+      int lower = index * 10;
+      DeleteFile file =
+          withDataSequenceNumber(index + 1, eqDeletesWithBounds(lower, lower + 9, 0L));
+      rangeDeletes.add(file);
+      group.add(SPEC, file);
+    }
+
+    // files without bounds or with null values must always be checked
+    DeleteFile noBounds = withDataSequenceNumber(5, partitionedEqDeletes(SPEC, FILE_A.partition()));
+    group.add(SPEC, noBounds);
+
+    // data covering the ranges of the 11th and 12th files
+    DataFile dataFile = dataFileWithBounds(105, 115);
+    assertThat(group.filter(0, dataFile))
+        .isEqualTo(new DeleteFile[] {noBounds, rangeDeletes.get(10), rangeDeletes.get(11)});
+    assertThat(group.filter(11, dataFile)).isEqualTo(new DeleteFile[] {rangeDeletes.get(11)});
+    assertThat(group.filter(12, dataFile)).isEqualTo(new DeleteFile[] {});
+
+    // data outside of all ranges only matches files that can't be skipped
+    assertThat(group.filter(0, dataFileWithBounds(1000, 2000)))
+        .isEqualTo(new DeleteFile[] {noBounds});
+
+    // data without bounds matches all files
+    assertThat(group.filter(0, FILE_A)).hasSize(33);
+  }
+
+  private static DeleteFile eqDeletesWithBounds(int lower, int upper, long nullCount) {
+    return FileMetadata.deleteFileBuilder(SPEC)
+        .ofEqualityDeletes(3)
+        .withPartition(FILE_A.partition())
+        .withPath(UUID.randomUUID() + "/path/to/data-partitioned-eq-deletes.parquet")
+        .withFileSizeInBytes(10)
+        .withMetrics(boundsMetrics(lower, upper, nullCount))
+        .build();
+  }
+
+  private static DataFile dataFileWithBounds(int lower, int upper) {
+    return DataFiles.builder(SPEC)
+        .withPath(UUID.randomUUID() + "/path/to/data-a.parquet")
+        .withFileSizeInBytes(10)
+        .withPartition(FILE_A.partition())
+        .withMetrics(boundsMetrics(lower, upper, 0L))
+        .build();
+  }
+
+  private static Metrics boundsMetrics(int lower, int upper, long nullCount) {
+    return new Metrics(
+        10L,
+        null,
+        ImmutableMap.of(3, 10L),
+        ImmutableMap.of(3, nullCount),
+        null,
+        ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), lower)),
+        ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), upper)));
+  }
 }
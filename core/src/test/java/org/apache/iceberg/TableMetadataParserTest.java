@@ -23,6 +23,7 @@ import static org.apache.iceberg.TableMetadata.newTableMetadata;
 import static org.apache.iceberg.TableMetadataParser.getFileExtension;
 import static org.apache.iceberg.types.Types.NestedField.optional;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -38,8 +39,11 @@ import java.util.zip.ZipException;
 import org.apache.iceberg.TableMetadataParser.Codec;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.types.Types.BooleanType;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -73,6 +77,60 @@ public class TableMetadataParserTest {
     verifyMetadata(metadata, actualMetadata);
   }
 
+  @TestTemplate
+  public void testStreamingRead() {
+    Codec codec = Codec.fromName(codecName);
+    String fileName = "v3" + getFileExtension(codec);
+    TableMetadata metadata = metadataWithSnapshots(5);
+    TableMetadataParser.write(metadata, Files.localOutput(fileName));
+
+    TableMetadata treeMetadata =
+        TableMetadataParser.fromJson(fileName, TableMetadataParser.toJson(metadata));
+    TableMetadata streamedMetadata =
+        TableMetadataParser.read(Files.localInput(new File(fileName)), false);
+
+    assertThat(streamedMetadata.metadataFileLocation()).endsWith(fileName);
+    assertThat(streamedMetadata.snapshots()).hasSize(5);
+    assertThat(streamedMetadata.snapshotLog()).isEqualTo(treeMetadata.snapshotLog());
+    assertThat(streamedMetadata.statisticsFiles()).isEqualTo(treeMetadata.statisticsFiles());
+    assertThat(TableMetadataParser.toJson(streamedMetadata))
+        .isEqualTo(TableMetadataParser.toJson(treeMetadata));
+  }
+
+  @TestTemplate
+  public void testLazySnapshotRead() {
+    Codec codec = Codec.fromName(codecName);
+    String fileName = "v3" + getFileExtension(codec);
+    TableMetadata metadata = metadataWithSnapshots(5);
+    TableMetadataParser.write(metadata, Files.localOutput(fileName));
+
+    TableMetadata lazyMetadata =
+        TableMetadataParser.read(Files.localInput(new File(fileName)), true);
+
+    // don't call snapshots() directly as that would load all snapshots. Instead, make sure only
+    // the current snapshot and the tagged snapshot were parsed
+    assertThat(lazyMetadata)
+        .extracting("snapshots")
+        .asInstanceOf(InstanceOfAssertFactories.list(Snapshot.class))
+        .extracting(Snapshot::snapshotId)
+        .containsExactlyInAnyOrder(2L, 5L);
+    assertThat(lazyMetadata.currentSnapshot().snapshotId()).isEqualTo(5L);
+    assertThat(lazyMetadata.snapshot(2L)).isNotNull();
+
+    assertThat(lazyMetadata.snapshots())
+        .extracting(Snapshot::snapshotId)
+        .containsExactly(1L, 2L, 3L, 4L, 5L);
+    assertThat(TableMetadataParser.toJson(lazyMetadata))
+        .isEqualTo(TableMetadataParser.toJson(metadata));
+  }
+
+  @TestTemplate
+  public void testStreamingReadNonObject() {
+    assertThatThrownBy(() -> TableMetadataParser.fromJson("file:/tmp/v1.json", "[]"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Cannot parse metadata from a non-object");
+  }
+
   @AfterEach
   public void cleanup() throws IOException {
     Codec codec = Codec.fromName(codecName);
@@ -80,6 +138,38 @@ public class TableMetadataParserTest {
     java.nio.file.Files.deleteIfExists(metadataFilePath);
   }
 
+  private static TableMetadata metadataWithSnapshots(int numSnapshots) {
+    TableMetadata base =
+        newTableMetadata(SCHEMA, unpartitioned(), "file://tmp/db/table", ImmutableMap.of());
+    TableMetadata.Builder builder = TableMetadata.buildFrom(base);
+    for (long id = 1; id <= numSnapshots; id += 1) {
+      Snapshot snapshot =
+          new BaseSnapshot(
+              id,
+              id,
+              id > 1 ? id - 1 : null,
+              base.lastUpdatedMillis() + id,
+              DataOperations.APPEND,
+              ImmutableMap.of("added-data-files", "1"),
+              base.currentSchemaId(),
+              "file:/tmp/snap-" + id + ".avro");
+      builder.setBranchSnapshot(snapshot, SnapshotRef.MAIN_BRANCH);
+    }
+
+    builder.setRef("tag", SnapshotRef.tagBuilder(2L).build());
+    builder.setStatistics(
+        numSnapshots,
+        new GenericStatisticsFile(
+            numSnapshots,
+            "file:/tmp/stats.puffin",
+            100L,
+            42L,
+            ImmutableList.of(
+                new GenericBlobMetadata(
+                    "type", numSnapshots, numSnapshots, ImmutableList.of(1), ImmutableMap.of()))));
+    return builder.build();
+  }
+
   private void verifyMetadata(TableMetadata expected, TableMetadata actual) {
     assertThat(actual.schema().asStruct()).isEqualTo(expected.schema().asStruct());
     assertThat(actual.location()).isEqualTo(expected.location());
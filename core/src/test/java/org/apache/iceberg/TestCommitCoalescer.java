@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.iceberg.events.CreateSnapshotEvent;
+import org.apache.iceberg.events.Listeners;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ParameterizedTestExtension.class)
+public class TestCommitCoalescer extends TestBase {
+  @Parameters(name = "formatVersion = {0}")
+  protected static List<Object> parameters() {
+    return Arrays.asList(1, 2);
+  }
+
+  @TestTemplate
+  public void testAppendsAreCommittedTogether() throws Exception {
+    try (CommitCoalescer coalescer =
+        CommitCoalescer.builderFor(table).commitWindowMs(60_000).maxFiles(3).build()) {
+      CompletableFuture<Long> first = coalescer.append(ImmutableList.of(FILE_A));
+      CompletableFuture<Long> second = coalescer.append(ImmutableList.of(FILE_B, FILE_C));
+
+      long snapshotId = first.get(10, TimeUnit.SECONDS);
+      assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(snapshotId);
+    }
+
+    assertThat(table.snapshots()).hasSize(1);
+    Snapshot snapshot = table.currentSnapshot();
+    assertThat(snapshot.operation()).isEqualTo(DataOperations.APPEND);
+    validateSnapshot(null, snapshot, FILE_A, FILE_B, FILE_C);
+  }
+
+  @TestTemplate
+  public void testCommitAfterWindow() throws Exception {
+    try (CommitCoalescer coalescer =
+        CommitCoalescer.builderFor(table).commitWindowMs(10).set("writer", "test").build()) {
+      long snapshotId = coalescer.append(ImmutableList.of(FILE_A)).get(10, TimeUnit.SECONDS);
+
+      Snapshot snapshot = table.snapshot(snapshotId);
+      assertThat(snapshot).isNotNull();
+      assertThat(snapshot.summary()).containsEntry("writer", "test");
+      validateSnapshot(null, snapshot, FILE_A);
+    }
+  }
+
+  @TestTemplate
+  public void testCloseCommitsPendingChanges() throws Exception {
+    CompletableFuture<Long> future;
+    try (CommitCoalescer coalescer =
+        CommitCoalescer.builderFor(table).commitWindowMs(60_000).build()) {
+      future = coalescer.append(ImmutableList.of(FILE_A));
+    }
+
+    assertThat(future).isDone();
+    assertThat(future.get()).isEqualTo(table.currentSnapshot().snapshotId());
+
+    CommitCoalescer closed = CommitCoalescer.builderFor(table).build();
+    closed.close();
+    assertThatThrownBy(() -> closed.append(ImmutableList.of(FILE_B)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cannot submit changes: coalescer is closed");
+  }
+
+  @TestTemplate
+  public void testRowDeltaWithAppends() throws Exception {
+    assumeThat(formatVersion).isEqualTo(2);
+
+    try (CommitCoalescer coalescer =
+        CommitCoalescer.builderFor(table).commitWindowMs(60_000).build()) {
+      CompletableFuture<Long> append = coalescer.append(ImmutableList.of(FILE_A));
+      CompletableFuture<Long> rowDelta =
+          coalescer.rowDelta(ImmutableList.of(FILE_B), ImmutableList.of(FILE_A_DELETES));
+      coalescer.flush();
+
+      long snapshotId = append.get(10, TimeUnit.SECONDS);
+      assertThat(rowDelta.get(10, TimeUnit.SECONDS)).isEqualTo(snapshotId);
+    }
+
+    Snapshot snapshot = table.currentSnapshot();
+    assertThat(snapshot.operation()).isEqualTo(DataOperations.OVERWRITE);
+    assertThat(snapshot.summary())
+        .containsEntry(SnapshotSummary.ADDED_FILES_PROP, "2")
+        .containsEntry(SnapshotSummary.ADDED_DELETE_FILES_PROP, "1");
+  }
+
+  @TestTemplate
+  public void testEqualityDeletesStartNewSnapshot() throws Exception {
+    assumeThat(formatVersion).isEqualTo(2);
+
+    try (CommitCoalescer coalescer =
+        CommitCoalescer.builderFor(table).commitWindowMs(60_000).build()) {
+      CompletableFuture<Long> append = coalescer.append(ImmutableList.of(FILE_A));
+      CompletableFuture<Long> rowDelta =
+          coalescer.rowDelta(ImmutableList.of(), ImmutableList.of(FILE_A2_DELETES));
+      CompletableFuture<Long> nextAppend = coalescer.append(ImmutableList.of(FILE_B));
+      coalescer.flush();
+
+      long appendSnapshotId = append.get(10, TimeUnit.SECONDS);
+      long deleteSnapshotId = rowDelta.get(10, TimeUnit.SECONDS);
+      assertThat(deleteSnapshotId).isNotEqualTo(appendSnapshotId);
+      assertThat(nextAppend.get(10, TimeUnit.SECONDS)).isEqualTo(deleteSnapshotId);
+
+      Snapshot appendSnapshot = table.snapshot(appendSnapshotId);
+      Snapshot deleteSnapshot = table.snapshot(deleteSnapshotId);
+      assertThat(deleteSnapshot.parentId()).isEqualTo(appendSnapshotId);
+      assertThat(deleteSnapshot.sequenceNumber()).isGreaterThan(appendSnapshot.sequenceNumber());
+    }
+
+    assertThat(table.snapshots()).hasSize(2);
+  }
+
+  @TestTemplate
+  public void testConcurrentCommitAfterCoalescedCommit() throws Exception {
+    // commit FILE_D directly as soon as the coalesced snapshot is created, before the coalescer
+    // completes the futures of its changes
+    String batch = UUID.randomUUID().toString();
+    AtomicBoolean externalCommitted = new AtomicBoolean(false);
+    Listeners.register(
+        event -> {
+          if (batch.equals(event.summary().get("batch"))
+              && externalCommitted.compareAndSet(false, true)) {
+            table.newFastAppend().appendFile(FILE_D).commit();
+          }
+        },
+        CreateSnapshotEvent.class);
+
+    long snapshotId;
+    try (CommitCoalescer coalescer =
+        CommitCoalescer.builderFor(table).commitWindowMs(60_000).set("batch", batch).build()) {
+      CompletableFuture<Long> future = coalescer.append(ImmutableList.of(FILE_A, FILE_B));
+      coalescer.flush();
+      snapshotId = future.get(10, TimeUnit.SECONDS);
+    }
+
+    assertThat(externalCommitted).isTrue();
+    assertThat(table.snapshots()).hasSize(2);
+
+    Snapshot current = table.currentSnapshot();
+    assertThat(current.snapshotId()).isNotEqualTo(snapshotId);
+    assertThat(current.parentId()).isEqualTo(snapshotId);
+    validateSnapshot(table.snapshot(snapshotId), current, FILE_D);
+
+    Snapshot coalesced = table.snapshot(snapshotId);
+    assertThat(coalesced.summary()).containsEntry("batch", batch);
+    validateSnapshot(null, coalesced, FILE_A, FILE_B);
+  }
+
+  @TestTemplate
+  public void testFailedCommit() {
+    table.updateProperties().set(TableProperties.COMMIT_NUM_RETRIES, "0").commit();
+    table.ops().failCommits(1);
+
+    try (CommitCoalescer coalescer =
+        CommitCoalescer.builderFor(table).commitWindowMs(60_000).build()) {
+      CompletableFuture<Long> first = coalescer.append(ImmutableList.of(FILE_A));
+      CompletableFuture<Long> second = coalescer.append(ImmutableList.of(FILE_B));
+      coalescer.flush();
+
+      assertThatThrownBy(() -> first.get(10, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(CommitFailedException.class);
+      assertThatThrownBy(() -> second.get(10, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(CommitFailedException.class);
+    }
+
+    assertThat(table.currentSnapshot()).isNull();
+  }
+}
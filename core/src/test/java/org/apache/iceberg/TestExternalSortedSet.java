@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestExternalSortedSet {
+  @TempDir private Path temp;
+
+  @Test
+  public void testInMemory() throws IOException {
+    try (ExternalSortedSet set = new ExternalSortedSet(temp.toFile(), 10)) {
+      assertThat(set.isEmpty()).isTrue();
+      set.add("c");
+      set.add("a");
+      set.add("b");
+      set.add("a");
+
+      assertThat(set.isEmpty()).isFalse();
+      assertThat(sorted(set)).containsExactly("a", "b", "c");
+      assertThat(runFiles()).isEmpty();
+    }
+  }
+
+  @Test
+  public void testSpilledRuns() throws IOException {
+    List<String> expected =
+        IntStream.range(0, 1000)
+            .mapToObj(i -> String.format("file-%04d.parquet", i))
+            .collect(Collectors.toList());
+
+    try (ExternalSortedSet set = new ExternalSortedSet(temp.toFile(), 7)) {
+      // add every item twice in reverse order so that duplicates are in different runs
+      for (int i = 0; i < 2; i += 1) {
+        Lists.reverse(expected).forEach(set::add);
+      }
+
+      assertThat(runFiles()).isNotEmpty();
+      assertThat(sorted(set)).isEqualTo(expected);
+      // runs were pre-merged because there were more than can be merged at once
+      assertThat(runFiles().length).isLessThanOrEqualTo(128);
+    }
+
+    assertThat(runFiles()).as("Run files should be removed when closed").isEmpty();
+  }
+
+  private static List<String> sorted(ExternalSortedSet set) throws IOException {
+    try (CloseableIterator<String> items = set.sortedIterator()) {
+      return Lists.newArrayList(items);
+    }
+  }
+
+  private File[] runFiles() {
+    return temp.toFile().listFiles((dir, name) -> name.startsWith("sorted-run-"));
+  }
+}
@@ -32,6 +32,8 @@ import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -64,6 +66,42 @@ public class TestFastAppend extends TestBase {
         "Table should end with last-sequence-number 0", 0, base.lastSequenceNumber());
   }
 
+  @TestTemplate
+  public void testLargeAppendClustersManifestsByPartition() {
+    int numFiles = 25_000;
+    AppendFiles append = table.newFastAppend();
+    for (int i = 0; i < numFiles; i += 1) {
+      // add files in an order that does not cluster partitions
+      append.appendFile(
+          DataFiles.builder(SPEC)
+              .withPath("/path/to/data-" + i + ".parquet")
+              .withFileSizeInBytes(10)
+              .withPartitionPath("data_bucket=" + (i % BUCKETS_NUMBER))
+              .withRecordCount(1)
+              .build());
+    }
+
+    append.commit();
+
+    Snapshot snapshot = table.currentSnapshot();
+    assertThat(snapshot.summary())
+        .containsEntry(SnapshotSummary.ADDED_FILES_PROP, String.valueOf(numFiles));
+
+    List<ManifestFile> manifests = snapshot.allManifests(table.io());
+    assertThat(manifests.stream().mapToInt(ManifestFile::addedFilesCount).sum())
+        .isEqualTo(numFiles);
+
+    // manifests should cover contiguous, non-overlapping partition ranges
+    int lastUpperBound = Integer.MIN_VALUE;
+    for (ManifestFile manifest : manifests) {
+      ManifestFile.PartitionFieldSummary summary = manifest.partitions().get(0);
+      int lowerBound = Conversions.fromByteBuffer(Types.IntegerType.get(), summary.lowerBound());
+      int upperBound = Conversions.fromByteBuffer(Types.IntegerType.get(), summary.upperBound());
+      assertThat(lowerBound).isGreaterThanOrEqualTo(lastUpperBound);
+      lastUpperBound = upperBound;
+    }
+  }
+
   @TestTemplate
   public void testEmptyTableAppendManifest() throws IOException {
     assertThat(listManifestFiles()).isEmpty();
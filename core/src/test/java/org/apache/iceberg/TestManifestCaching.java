@@ -35,8 +35,11 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.hadoop.HadoopCatalog;
 import org.apache.iceberg.hadoop.HadoopFileIO;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.ContentCache;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.metrics.ScanMetricsResult;
+import org.apache.iceberg.metrics.ScanReport;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Types;
@@ -123,6 +126,73 @@ public class TestManifestCaching {
     ManifestFiles.dropCache(scan.table().io());
   }
 
+  @Test
+  public void testPlanWithEntryCache() throws Exception {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            CatalogProperties.FILE_IO_IMPL,
+            HadoopFileIO.class.getName(),
+            CatalogProperties.IO_MANIFEST_ENTRY_CACHE_ENABLED,
+            "true");
+    Table table = createTable(properties);
+    ManifestEntryCache cache = ManifestFiles.entryCache(table.io());
+    assertThat(cache.estimatedCacheSize()).isEqualTo(0);
+
+    int numFiles = 4;
+    List<DataFile> files16Mb = newFiles(numFiles, 16 * 1024 * 1024);
+    appendFiles(files16Mb, table);
+
+    List<ScanReport> reports = Lists.newArrayList();
+    TableScan scan1 = table.newScan().metricsReporter(report -> reports.add((ScanReport) report));
+    assertThat(planPaths(scan1)).hasSize(numFiles);
+    assertThat(cache.estimatedCacheSize())
+        .as("Entries of all manifest files should be cached")
+        .isEqualTo(numFiles);
+    assertThat(cache.stats().missCount()).isEqualTo(numFiles);
+
+    TableScan scan2 = table.newScan().metricsReporter(report -> reports.add((ScanReport) report));
+    assertThat(planPaths(scan2))
+        .containsExactlyInAnyOrderElementsOf(
+            files16Mb.stream().map(file -> file.path().toString()).collect(Collectors.toList()));
+    assertThat(cache.estimatedCacheSize()).isEqualTo(numFiles);
+    assertThat(cache.stats().hitCount())
+        .as("All manifest reads should hit cache")
+        .isEqualTo(numFiles);
+
+    assertThat(reports).hasSize(2);
+    ScanMetricsResult first = reports.get(0).scanMetrics();
+    assertThat(first.manifestEntryCacheMisses().value()).isEqualTo(numFiles);
+    assertThat(first.manifestEntryCacheHits().value()).isEqualTo(0);
+    ScanMetricsResult second = reports.get(1).scanMetrics();
+    assertThat(second.manifestEntryCacheMisses().value()).isEqualTo(0);
+    assertThat(second.manifestEntryCacheHits().value()).isEqualTo(numFiles);
+
+    ManifestFiles.dropCache(table.io());
+  }
+
+  @Test
+  public void testEntryCacheWithDifferentProjections() throws Exception {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            CatalogProperties.FILE_IO_IMPL,
+            HadoopFileIO.class.getName(),
+            CatalogProperties.IO_MANIFEST_ENTRY_CACHE_ENABLED,
+            "true");
+    Table table = createTable(properties);
+    ManifestEntryCache cache = ManifestFiles.entryCache(table.io());
+
+    int numFiles = 2;
+    appendFiles(newFiles(numFiles, 16 * 1024 * 1024), table);
+
+    assertThat(table.newScan().planFiles()).hasSize(numFiles);
+    assertThat(table.newScan().includeColumnStats().planFiles()).hasSize(numFiles);
+    assertThat(cache.estimatedCacheSize())
+        .as("Entries should be cached separately for each projection")
+        .isEqualTo(2 * numFiles);
+
+    ManifestFiles.dropCache(table.io());
+  }
+
   @Test
   public void testUniqueCache() throws Exception {
     Map<String, String> properties1 =
@@ -218,6 +288,13 @@ public class TestManifestCaching {
                 ManifestFiles.cacheMaxContentLength(fileIO)));
   }
 
+  private static List<String> planPaths(TableScan scan) throws IOException {
+    try (CloseableIterable<FileScanTask> tasks = scan.planFiles()) {
+      return Lists.newArrayList(
+          CloseableIterable.transform(tasks, task -> task.file().path().toString()));
+    }
+  }
+
   private FileIO cacheEnabledHadoopFileIO() {
     Map<String, String> properties =
         ImmutableMap.of(
@@ -1042,6 +1042,41 @@ public class TestMergeAppend extends TestBase {
         statuses(Status.ADDED, Status.EXISTING));
   }
 
+  @TestTemplate
+  public void testRetryReusesMergedManifest() {
+    // merge all manifests for this test
+    table.updateProperties().set("commit.manifest.min-count-to-merge", "1").commit();
+
+    Snapshot base = commit(table, table.newAppend().appendFile(FILE_A), branch);
+    long baseId = base.snapshotId();
+    ManifestFile initialManifest = base.allManifests(table.io()).get(0);
+
+    AppendFiles append = table.newAppend().appendFile(FILE_B);
+    Snapshot pending = apply(append, branch);
+    assertThat(pending.allManifests(table.io())).hasSize(1);
+    ManifestFile pendingManifest = pending.allManifests(table.io()).get(0);
+
+    // a concurrent commit adds a manifest without merging
+    Snapshot concurrent = commit(table, table.newFastAppend().appendFile(FILE_C), branch);
+    long concurrentId = concurrent.snapshotId();
+
+    // the retry should merge the pending manifest with the new one instead of reading the initial
+    // manifest again, so removing the initial manifest must not affect the commit
+    assertThat(new File(initialManifest.path()).delete()).isTrue();
+
+    Snapshot snapshot = commit(table, append, branch);
+    long snapshotId = snapshot.snapshotId();
+
+    assertThat(snapshot.allManifests(table.io())).hasSize(1);
+    validateManifestEntries(
+        snapshot.allManifests(table.io()).get(0),
+        ids(snapshotId, baseId, concurrentId),
+        files(FILE_B, FILE_A, FILE_C),
+        statuses(Status.ADDED, Status.EXISTING, Status.EXISTING));
+
+    assertThat(new File(pendingManifest.path())).doesNotExist();
+  }
+
   @TestTemplate
   public void testAppendManifestWithSnapshotIdInheritance() throws IOException {
     table.updateProperties().set(TableProperties.SNAPSHOT_ID_INHERITANCE_ENABLED, "true").commit();
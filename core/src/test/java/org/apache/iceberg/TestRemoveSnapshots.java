@@ -719,6 +719,56 @@ public class TestRemoveSnapshots extends TestBase {
     assertThat(deletedFiles).contains(FILE_B.path().toString());
   }
 
+  @TestTemplate
+  public void dataFilesCleanupWithSpilling() throws IOException {
+    table.newFastAppend().appendFile(FILE_A).commit();
+
+    table.newFastAppend().appendFile(FILE_B).commit();
+    Snapshot secondSnapshot = table.currentSnapshot();
+
+    table.newRewrite().rewriteFiles(ImmutableSet.of(FILE_B), ImmutableSet.of(FILE_D)).commit();
+    Snapshot thirdSnapshot = table.currentSnapshot();
+
+    table.newRewrite().rewriteFiles(ImmutableSet.of(FILE_A), ImmutableSet.of(FILE_C)).commit();
+
+    long t4 = waitUntilAfter(table.currentSnapshot().timestampMillis());
+
+    Set<String> deletedFiles = Sets.newHashSet();
+
+    removeSnapshots(table)
+        .spillDirectory(temp.toString())
+        .expireOlderThan(t4)
+        .deleteWith(deletedFiles::add)
+        .commit();
+
+    Set<String> currentManifests =
+        table.currentSnapshot().allManifests(table.io()).stream()
+            .map(ManifestFile::path)
+            .collect(Collectors.toSet());
+    Set<String> expiredManifests =
+        thirdSnapshot.allManifests(table.io()).stream()
+            .map(ManifestFile::path)
+            .filter(path -> !currentManifests.contains(path))
+            .collect(Collectors.toSet());
+
+    assertThat(deletedFiles)
+        .contains(FILE_A.path().toString(), FILE_B.path().toString())
+        .contains(secondSnapshot.manifestListLocation(), thirdSnapshot.manifestListLocation())
+        .containsAll(expiredManifests)
+        .doesNotContain(FILE_C.path().toString(), FILE_D.path().toString())
+        .doesNotContainAnyElementsOf(currentManifests);
+    assertThat(temp.toFile().list((dir, name) -> name.startsWith("sorted-run-")))
+        .as("Run files should be removed")
+        .isEmpty();
+  }
+
+  @TestTemplate
+  public void testInvalidSpillDirectory() {
+    assertThatThrownBy(() -> removeSnapshots(table).spillDirectory("/path/does/not/exist"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid spill directory: /path/does/not/exist");
+  }
+
   @TestTemplate
   public void dataFilesCleanupWithParallelTasks() throws IOException {
     table.newFastAppend().appendFile(FILE_A).commit();
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.actions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.MockFileScanTask;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+public class TestReadBenefitCostModel {
+  private static final long MB = 1024L * 1024L;
+  private static final StructLike PARTITION = Row.of(1);
+
+  @Test
+  public void testRemovedFiles() {
+    ReadBenefitCostModel model = new ReadBenefitCostModel(512 * MB);
+
+    // 8 files of 100 MB are combined into 2 files
+    List<FileScanTask> smallFiles = tasks(8, 100 * MB);
+    assertThat(model.benefit(PARTITION, smallFiles)).isEqualTo(6.0);
+
+    // a single file cannot be combined
+    assertThat(model.benefit(PARTITION, tasks(1, 100 * MB))).isEqualTo(0.0);
+
+    // files that are already larger than the target size are not combined
+    assertThat(model.benefit(PARTITION, tasks(3, 600 * MB))).isEqualTo(0.0);
+  }
+
+  @Test
+  public void testDeleteFiles() {
+    ReadBenefitCostModel model = new ReadBenefitCostModel(512 * MB);
+
+    List<FileScanTask> group =
+        ImmutableList.of(
+            MockFileScanTask.mockTaskWithDeletes(600 * MB, 3),
+            MockFileScanTask.mockTaskWithDeletes(600 * MB, 2));
+    assertThat(model.benefit(PARTITION, group)).isEqualTo(5.0);
+  }
+
+  @Test
+  public void testUnsortedFiles() {
+    ReadBenefitCostModel model = new ReadBenefitCostModel(512 * MB, 1, partition -> 1.0);
+
+    List<FileScanTask> group =
+        ImmutableList.of(
+            MockFileScanTask.mockTask(600 * MB, 0),
+            MockFileScanTask.mockTask(600 * MB, 1),
+            MockFileScanTask.mockTask(600 * MB, 2));
+    assertThat(model.benefit(PARTITION, group)).isEqualTo(2.0);
+  }
+
+  @Test
+  public void testPartitionWeights() {
+    StructLike hotPartition = Row.of(2);
+    ReadBenefitCostModel model =
+        new ReadBenefitCostModel(
+            512 * MB, null, partition -> partition.get(0, Integer.class) == 2 ? 10.0 : 1.0);
+
+    List<FileScanTask> group = tasks(8, 100 * MB);
+    assertThat(model.benefit(hotPartition, group))
+        .isGreaterThan(model.benefit(PARTITION, group))
+        .isEqualTo(60.0);
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    assertThatThrownBy(() -> new ReadBenefitCostModel(0L))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid target file size: 0 (not positive)");
+
+    assertThatThrownBy(() -> new ReadBenefitCostModel(512 * MB, null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid partition weights: null");
+  }
+
+  private static List<FileScanTask> tasks(int count, long length) {
+    ImmutableList.Builder<FileScanTask> tasks = ImmutableList.builder();
+    for (int i = 0; i < count; i += 1) {
+      tasks.add(MockFileScanTask.mockTask(length, 0));
+    }
+
+    return tasks.build();
+  }
+}
@@ -33,8 +33,10 @@ import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.HasTableOperations;
 import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.TableOperations;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.Transaction;
@@ -52,6 +54,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.transforms.Transform;
 import org.apache.iceberg.transforms.Transforms;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -238,6 +241,44 @@ public class TestHadoopCatalog extends HadoopTableTestBase {
     Assertions.assertThat(fileIO.properties()).containsEntry("io.manifest.cache-enabled", "true");
   }
 
+  @Test
+  public void testRefsOnlySnapshotLoading() throws IOException {
+    TableIdentifier tableIdent = TableIdentifier.of("db", "ns1", "ns2", "tbl");
+    Table table = hadoopCatalog().createTable(tableIdent, SCHEMA, SPEC);
+    table.newFastAppend().appendFile(FILE_A).commit();
+    table.newFastAppend().appendFile(FILE_B).commit();
+    table.newFastAppend().appendFile(FILE_C).commit();
+
+    HadoopCatalog catalog =
+        hadoopCatalog(
+            ImmutableMap.of(
+                CatalogProperties.SNAPSHOT_LOADING_MODE,
+                CatalogProperties.SNAPSHOT_LOADING_MODE_REFS));
+    Table refsTable = catalog.loadTable(tableIdent);
+    TableMetadata metadata = ((HasTableOperations) refsTable).operations().current();
+
+    // don't call snapshots() directly as that would load all snapshots. Instead, make sure the
+    // snapshots field holds only the current snapshot
+    Assertions.assertThat(metadata)
+        .extracting("snapshots")
+        .asInstanceOf(InstanceOfAssertFactories.list(Snapshot.class))
+        .hasSize(1);
+    Assertions.assertThat(refsTable.currentSnapshot().snapshotId())
+        .isEqualTo(table.currentSnapshot().snapshotId());
+
+    Assertions.assertThat(refsTable.snapshots()).hasSize(3);
+  }
+
+  @Test
+  public void testInvalidSnapshotLoadingMode() {
+    Assertions.assertThatThrownBy(
+            () ->
+                hadoopCatalog(ImmutableMap.of(CatalogProperties.SNAPSHOT_LOADING_MODE, "unknown"))
+                    .loadTable(TableIdentifier.of("db", "tbl")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid snapshot loading mode: unknown");
+  }
+
   @Test
   public void testCreateAndDropTableWithoutNamespace() throws Exception {
     HadoopCatalog catalog = hadoopCatalog();
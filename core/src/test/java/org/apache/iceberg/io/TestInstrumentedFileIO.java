@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.CatalogUtil;
+import org.apache.iceberg.hadoop.HadoopFileIO;
+import org.apache.iceberg.metrics.FileIOMetricsResult;
+import org.apache.iceberg.metrics.FileIOReport;
+import org.apache.iceberg.metrics.InMemoryMetricsReporter;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestInstrumentedFileIO {
+
+  @TempDir private java.nio.file.Path temp;
+
+  @Test
+  public void testReadWriteMetrics() throws IOException {
+    InMemoryMetricsReporter reporter = new InMemoryMetricsReporter();
+    InstrumentedFileIO io =
+        new InstrumentedFileIO(new HadoopFileIO(new Configuration()), reporter);
+
+    String location = temp.resolve("file").toUri().toString();
+    byte[] data = new byte[100];
+    try (OutputStream out = io.newOutputFile(location).create()) {
+      out.write(data);
+    }
+
+    byte[] buffer = new byte[data.length];
+    try (InputStream in = io.newInputFile(location).newStream()) {
+      IOUtil.readFully(in, buffer, 0, buffer.length);
+    }
+
+    io.deleteFile(location);
+    io.deleteFiles(ImmutableList.of(temp.resolve("missing").toUri().toString()));
+    io.close();
+
+    FileIOReport report = reporter.fileIOReport();
+    assertThat(report.fileIOImpl()).isEqualTo(HadoopFileIO.class.getName());
+
+    FileIOMetricsResult result = report.fileIOMetrics();
+    assertThat(result.createLatency().count()).isEqualTo(1L);
+    assertThat(result.closeLatency().count()).isEqualTo(1L);
+    assertThat(result.openLatency().count()).isEqualTo(1L);
+    assertThat(result.firstByteLatency().count()).isEqualTo(1L);
+    assertThat(result.readLatency().count()).isGreaterThanOrEqualTo(1L);
+    assertThat(result.deleteLatency().count()).isEqualTo(1L);
+    assertThat(result.bulkDeleteLatency().count()).isEqualTo(1L);
+    assertThat(result.rangeReadLatency()).isNull();
+    assertThat(result.readTailLatency()).isNull();
+    assertThat(result.bytesWritten().value()).isEqualTo(100L);
+    assertThat(result.bytesRead().value()).isEqualTo(100L);
+    assertThat(result.failedOperations().value()).isEqualTo(0L);
+  }
+
+  @Test
+  public void testReportStartsNewMetrics() throws IOException {
+    InMemoryMetricsReporter reporter = new InMemoryMetricsReporter();
+    InstrumentedFileIO io =
+        new InstrumentedFileIO(new HadoopFileIO(new Configuration()), reporter);
+
+    String location = temp.resolve("file").toUri().toString();
+    OutputFile outputFile = io.newOutputFile(location);
+    try (OutputStream out = outputFile.create()) {
+      out.write(new byte[10]);
+    }
+
+    io.report();
+    FileIOMetricsResult first = reporter.fileIOReport().fileIOMetrics();
+    assertThat(first.createLatency().count()).isEqualTo(1L);
+    assertThat(first.bytesWritten().value()).isEqualTo(10L);
+
+    // files created before the report record into the new metrics
+    try (OutputStream out = outputFile.createOrOverwrite()) {
+      out.write(new byte[20]);
+    }
+
+    io.report();
+    FileIOMetricsResult second = reporter.fileIOReport().fileIOMetrics();
+    assertThat(second.createLatency().count()).isEqualTo(1L);
+    assertThat(second.bytesWritten().value()).isEqualTo(20L);
+
+    // nothing was recorded since the last report
+    io.close();
+    assertThat(reporter.fileIOReport().fileIOMetrics()).isSameAs(second);
+  }
+
+  @Test
+  public void testInputStreamIsNotUnwrapped() throws IOException {
+    InstrumentedFileIO io = new InstrumentedFileIO(new HadoopFileIO(new Configuration()), null);
+
+    String location = temp.resolve("file").toUri().toString();
+    try (OutputStream out = io.newOutputFile(location).create()) {
+      out.write(new byte[10]);
+    }
+
+    // file formats unwrap delegating streams, which would skip recording reads
+    try (SeekableInputStream in = io.newInputFile(location).newStream()) {
+      assertThat(in).isNotInstanceOf(DelegatingInputStream.class);
+    }
+  }
+
+  @Test
+  public void testRangeReadMetrics() throws IOException {
+    SeekableInputStream stream =
+        mock(SeekableInputStream.class, withSettings().extraInterfaces(RangeReadable.class));
+    when(((RangeReadable) stream).readTail(any(), anyInt(), anyInt())).thenReturn(8);
+    InputFile file = mock(InputFile.class);
+    when(file.newStream()).thenReturn(stream);
+    DelegateFileIO delegate = mock(DelegateFileIO.class);
+    when(delegate.newInputFile(anyString(), anyLong())).thenReturn(file);
+
+    InstrumentedFileIO io = new InstrumentedFileIO(delegate, null);
+    try (SeekableInputStream in = io.newInputFile("s3://bucket/file", 100L).newStream()) {
+      assertThat(in).isInstanceOf(RangeReadable.class);
+      RangeReadable reader = (RangeReadable) in;
+      reader.readFully(10L, new byte[16]);
+      reader.readFully(50L, new byte[16]);
+      assertThat(reader.readTail(new byte[8])).isEqualTo(8);
+    }
+
+    FileIOMetricsResult result = FileIOMetricsResult.fromFileIOMetrics(io.metrics());
+    assertThat(result.rangeReadLatency().count()).isEqualTo(2L);
+    assertThat(result.readTailLatency().count()).isEqualTo(1L);
+    assertThat(result.firstByteLatency().count()).isEqualTo(1L);
+    assertThat(result.readLatency()).isNull();
+    assertThat(result.bytesRead().value()).isEqualTo(40L);
+  }
+
+  @Test
+  public void testFailedOperations() {
+    DelegateFileIO delegate = mock(DelegateFileIO.class);
+    doThrow(new RuntimeException("Delete failed")).when(delegate).deleteFile(anyString());
+
+    InstrumentedFileIO io = new InstrumentedFileIO(delegate, null);
+    assertThatThrownBy(() -> io.deleteFile("s3://bucket/file"))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("Delete failed");
+
+    FileIOMetricsResult result = FileIOMetricsResult.fromFileIOMetrics(io.metrics());
+    assertThat(result.deleteLatency().count()).isEqualTo(1L);
+    assertThat(result.failedOperations().value()).isEqualTo(1L);
+  }
+
+  @Test
+  public void testLoadFromProperties() {
+    FileIO io =
+        CatalogUtil.loadFileIO(
+            InstrumentedFileIO.class.getName(),
+            ImmutableMap.of(InstrumentedFileIO.DELEGATE_IMPL, HadoopFileIO.class.getName()),
+            new Configuration());
+
+    assertThat(io).isInstanceOf(InstrumentedFileIO.class);
+    assertThat(((InstrumentedFileIO) io).delegate()).isInstanceOf(HadoopFileIO.class);
+    assertThat(((HadoopFileIO) ((InstrumentedFileIO) io).delegate()).getConf()).isNotNull();
+    io.close();
+
+    assertThatThrownBy(
+            () ->
+                CatalogUtil.loadFileIO(
+                    InstrumentedFileIO.class.getName(),
+                    ImmutableMap.of(
+                        InstrumentedFileIO.DELEGATE_IMPL, InstrumentedFileIO.class.getName()),
+                    null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot wrap org.apache.iceberg.io.InstrumentedFileIO in itself");
+  }
+}
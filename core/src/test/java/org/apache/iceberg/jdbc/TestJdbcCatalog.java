@@ -54,6 +54,7 @@ import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableMetadata;
@@ -80,6 +81,7 @@ import org.apache.iceberg.transforms.Transform;
 import org.apache.iceberg.transforms.Transforms;
 import org.apache.iceberg.types.Types;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -948,6 +950,36 @@ public class TestJdbcCatalog extends CatalogTests<JdbcCatalog> {
     }
   }
 
+  @Test
+  public void testRefsOnlySnapshotLoading() {
+    try (JdbcCatalog jdbcCatalog =
+        initCatalog(
+            "refs_jdbc_catalog",
+            ImmutableMap.of(
+                CatalogProperties.SNAPSHOT_LOADING_MODE,
+                CatalogProperties.SNAPSHOT_LOADING_MODE_REFS))) {
+      TableIdentifier identifier = TableIdentifier.of("db", "tbl");
+      Table table = jdbcCatalog.createTable(identifier, SCHEMA);
+      table.newFastAppend().appendFile(FILE_A).commit();
+      table.newFastAppend().appendFile(FILE_B).commit();
+      table.manageSnapshots().createTag("tag", table.currentSnapshot().parentId()).commit();
+      table.newFastAppend().appendFile(FILE_C).commit();
+
+      Table loaded = jdbcCatalog.loadTable(identifier);
+      TableMetadata metadata = ((BaseTable) loaded).operations().current();
+
+      // don't call snapshots() directly as that would load all snapshots. Instead, make sure the
+      // snapshots field holds only the current and the tagged snapshots
+      Assertions.assertThat(metadata)
+          .extracting("snapshots")
+          .asInstanceOf(InstanceOfAssertFactories.list(Snapshot.class))
+          .hasSize(2);
+      Assertions.assertThat(loaded.snapshot("tag")).isNotNull();
+
+      Assertions.assertThat(loaded.snapshots()).hasSize(3);
+    }
+  }
+
   @Test
   public void testCreateNamespaceWithMetadata() {
     Namespace testNamespace = Namespace.of("testDb", "ns1", "ns2");
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestFileIOReportParser {
+
+  @Test
+  public void nullFileIOReport() {
+    Assertions.assertThatThrownBy(() -> FileIOReportParser.fromJson((JsonNode) null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse FileIO report from null object");
+
+    Assertions.assertThatThrownBy(() -> FileIOReportParser.toJson(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid FileIO report: null");
+  }
+
+  @Test
+  public void missingFields() {
+    Assertions.assertThatThrownBy(() -> FileIOReportParser.fromJson("{}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse missing string: file-io-impl");
+
+    Assertions.assertThatThrownBy(
+            () -> FileIOReportParser.fromJson("{\"file-io-impl\":\"S3FileIO\"}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse missing field: metrics");
+
+    Assertions.assertThatThrownBy(
+            () ->
+                FileIOReportParser.fromJson(
+                    "{\"file-io-impl\":\"S3FileIO\",\"metrics\":{\"open-latency\":{\"count\":1}}}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse missing long: min");
+  }
+
+  @Test
+  public void invalidHistogram() {
+    Assertions.assertThatThrownBy(
+            () ->
+                FileIOReportParser.fromJson(
+                    "{\"file-io-impl\":\"S3FileIO\",\"metrics\":{\"open-latency\":23}}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse histogram from non-object: 23");
+  }
+
+  @Test
+  public void roundTripSerde() {
+    FileIOReport fileIOReport =
+        ImmutableFileIOReport.builder()
+            .fileIOImpl("org.apache.iceberg.aws.s3.S3FileIO")
+            .fileIOMetrics(
+                ImmutableFileIOMetricsResult.builder()
+                    .openLatency(histogram(2L, 10L, 15L))
+                    .readLatency(histogram(4L, 1L, 3L))
+                    .bytesRead(CounterResult.of(MetricsContext.Unit.BYTES, 100L))
+                    .failedOperations(CounterResult.of(MetricsContext.Unit.COUNT, 1L))
+                    .build())
+            .metadata(ImmutableMap.of("engine", "spark"))
+            .build();
+
+    String expectedJson =
+        "{\n"
+            + "  \"file-io-impl\" : \"org.apache.iceberg.aws.s3.S3FileIO\",\n"
+            + "  \"metrics\" : {\n"
+            + "    \"open-latency\" : {\n"
+            + "      \"count\" : 2,\n"
+            + "      \"min\" : 10,\n"
+            + "      \"max\" : 15,\n"
+            + "      \"mean\" : 12.5,\n"
+            + "      \"std-dev\" : 2.5,\n"
+            + "      \"p50\" : 10,\n"
+            + "      \"p90\" : 15,\n"
+            + "      \"p99\" : 15,\n"
+            + "      \"p999\" : 15\n"
+            + "    },\n"
+            + "    \"read-latency\" : {\n"
+            + "      \"count\" : 4,\n"
+            + "      \"min\" : 1,\n"
+            + "      \"max\" : 3,\n"
+            + "      \"mean\" : 2.0,\n"
+            + "      \"std-dev\" : 1.0,\n"
+            + "      \"p50\" : 1,\n"
+            + "      \"p90\" : 3,\n"
+            + "      \"p99\" : 3,\n"
+            + "      \"p999\" : 3\n"
+            + "    },\n"
+            + "    \"bytes-read\" : {\n"
+            + "      \"unit\" : \"bytes\",\n"
+            + "      \"value\" : 100\n"
+            + "    },\n"
+            + "    \"failed-operations\" : {\n"
+            + "      \"unit\" : \"count\",\n"
+            + "      \"value\" : 1\n"
+            + "    }\n"
+            + "  },\n"
+            + "  \"metadata\" : {\n"
+            + "    \"engine\" : \"spark\"\n"
+            + "  }\n"
+            + "}";
+
+    String json = FileIOReportParser.toJson(fileIOReport, true);
+    Assertions.assertThat(FileIOReportParser.fromJson(json)).isEqualTo(fileIOReport);
+    Assertions.assertThat(json).isEqualTo(expectedJson);
+  }
+
+  @Test
+  public void roundTripSerdeWithRecordedMetrics() {
+    DefaultMetricsContext context = new DefaultMetricsContext();
+    context.initialize(
+        ImmutableMap.of(
+            DefaultMetricsContext.HISTOGRAM_TYPE, DefaultMetricsContext.HISTOGRAM_TYPE_LOG_LINEAR));
+    FileIOMetrics metrics = FileIOMetrics.of(context);
+    for (long latency = 1L; latency <= 1000L; latency += 1) {
+      metrics.readLatency().update(latency);
+    }
+    metrics.bytesWritten().increment(512L);
+
+    FileIOReport fileIOReport =
+        ImmutableFileIOReport.builder()
+            .fileIOImpl("org.apache.iceberg.hadoop.HadoopFileIO")
+            .fileIOMetrics(FileIOMetricsResult.fromFileIOMetrics(metrics))
+            .build();
+
+    String json = FileIOReportParser.toJson(fileIOReport);
+    Assertions.assertThat(FileIOReportParser.fromJson(json)).isEqualTo(fileIOReport);
+  }
+
+  private static HistogramResult histogram(long count, long min, long max) {
+    double mean = (min + max) / 2.0;
+    return ImmutableHistogramResult.builder()
+        .count(count)
+        .min(min)
+        .max(max)
+        .mean(mean)
+        .stdDev((max - min) / 2.0)
+        .p50(min)
+        .p90(max)
+        .p99(max)
+        .p999(max)
+        .build();
+  }
+}
@@ -177,6 +177,8 @@ public class TestScanMetricsResultParser {
     scanMetrics.indexedDeleteFiles().increment(10L);
     scanMetrics.positionalDeleteFiles().increment(6L);
     scanMetrics.equalityDeleteFiles().increment(4L);
+    scanMetrics.manifestEntryCacheHits().increment(2L);
+    scanMetrics.manifestEntryCacheMisses().increment(1L);
 
     ScanMetricsResult scanMetricsResult = ScanMetricsResult.fromScanMetrics(scanMetrics);
     Assertions.assertThat(
@@ -197,6 +199,8 @@ public class TestScanMetricsResultParser {
                     + "\"indexed-delete-files\":{\"unit\":\"count\",\"value\":10},"
                     + "\"equality-delete-files\":{\"unit\":\"count\",\"value\":4},"
                     + "\"positional-delete-files\":{\"unit\":\"count\",\"value\":6},"
+                    + "\"manifest-entry-cache-hits\":{\"unit\":\"count\",\"value\":2},"
+                    + "\"manifest-entry-cache-misses\":{\"unit\":\"count\",\"value\":1},"
                     + "\"extra\": \"value\",\"extra2\":23}"))
         .isEqualTo(scanMetricsResult);
   }
@@ -241,6 +245,8 @@ public class TestScanMetricsResultParser {
     scanMetrics.indexedDeleteFiles().increment(10L);
     scanMetrics.positionalDeleteFiles().increment(6L);
     scanMetrics.equalityDeleteFiles().increment(4L);
+    scanMetrics.manifestEntryCacheHits().increment(2L);
+    scanMetrics.manifestEntryCacheMisses().increment(1L);
 
     ScanMetricsResult scanMetricsResult = ScanMetricsResult.fromScanMetrics(scanMetrics);
 
@@ -310,6 +316,14 @@ public class TestScanMetricsResultParser {
             + "  \"positional-delete-files\" : {\n"
             + "    \"unit\" : \"count\",\n"
             + "    \"value\" : 6\n"
+            + "  },\n"
+            + "  \"manifest-entry-cache-hits\" : {\n"
+            + "    \"unit\" : \"count\",\n"
+            + "    \"value\" : 2\n"
+            + "  },\n"
+            + "  \"manifest-entry-cache-misses\" : {\n"
+            + "    \"unit\" : \"count\",\n"
+            + "    \"value\" : 1\n"
             + "  }\n"
             + "}";
 
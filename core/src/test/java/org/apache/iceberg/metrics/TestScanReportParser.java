@@ -84,6 +84,8 @@ public class TestScanReportParser {
     scanMetrics.indexedDeleteFiles().increment(10L);
     scanMetrics.positionalDeleteFiles().increment(6L);
     scanMetrics.equalityDeleteFiles().increment(4L);
+    scanMetrics.manifestEntryCacheHits().increment(2L);
+    scanMetrics.manifestEntryCacheMisses().increment(1L);
 
     String tableName = "roundTripTableName";
     ScanReport scanReport =
@@ -117,6 +119,8 @@ public class TestScanReportParser {
                     + "\"indexed-delete-files\":{\"unit\":\"count\",\"value\":10},"
                     + "\"equality-delete-files\":{\"unit\":\"count\",\"value\":4},"
                     + "\"positional-delete-files\":{\"unit\":\"count\",\"value\":6},"
+                    + "\"manifest-entry-cache-hits\":{\"unit\":\"count\",\"value\":2},"
+                    + "\"manifest-entry-cache-misses\":{\"unit\":\"count\",\"value\":1},"
                     + "\"extra-metric\":\"extra-val\"},"
                     + "\"extra\":\"extraVal\"}"))
         .isEqualTo(scanReport);
@@ -192,6 +196,8 @@ public class TestScanReportParser {
     scanMetrics.indexedDeleteFiles().increment(10L);
     scanMetrics.positionalDeleteFiles().increment(6L);
     scanMetrics.equalityDeleteFiles().increment(4L);
+    scanMetrics.manifestEntryCacheHits().increment(2L);
+    scanMetrics.manifestEntryCacheMisses().increment(1L);
 
     String tableName = "roundTripTableName";
     ScanReport scanReport =
@@ -278,6 +284,14 @@ public class TestScanReportParser {
             + "    \"positional-delete-files\" : {\n"
             + "      \"unit\" : \"count\",\n"
             + "      \"value\" : 6\n"
+            + "    },\n"
+            + "    \"manifest-entry-cache-hits\" : {\n"
+            + "      \"unit\" : \"count\",\n"
+            + "      \"value\" : 2\n"
+            + "    },\n"
+            + "    \"manifest-entry-cache-misses\" : {\n"
+            + "      \"unit\" : \"count\",\n"
+            + "      \"value\" : 1\n"
             + "    }\n"
             + "  }\n"
             + "}";
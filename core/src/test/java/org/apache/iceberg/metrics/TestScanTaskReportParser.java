@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestScanTaskReportParser {
+
+  @Test
+  public void nullScanTaskReport() {
+    Assertions.assertThatThrownBy(() -> ScanTaskReportParser.fromJson((JsonNode) null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse scan task report from null object");
+
+    Assertions.assertThatThrownBy(() -> ScanTaskReportParser.toJson(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid scan task report: null");
+  }
+
+  @Test
+  public void missingFields() {
+    Assertions.assertThatThrownBy(() -> ScanTaskReportParser.fromJson("{}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse missing string: table-name");
+
+    Assertions.assertThatThrownBy(
+            () -> ScanTaskReportParser.fromJson("{\"table-name\":\"roundTripTableName\"}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse missing long: snapshot-id");
+
+    Assertions.assertThatThrownBy(
+            () ->
+                ScanTaskReportParser.fromJson(
+                    "{\"table-name\":\"roundTripTableName\",\"snapshot-id\":23}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse missing field: metrics");
+  }
+
+  @Test
+  public void invalidMetrics() {
+    Assertions.assertThatThrownBy(
+            () ->
+                ScanTaskReportParser.fromJson(
+                    "{\"table-name\":\"roundTripTableName\",\"snapshot-id\":23,\"metrics\":23}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse scan task metrics from non-object: 23");
+  }
+
+  @Test
+  public void roundTripSerde() {
+    ScanTaskReport scanTaskReport =
+        ImmutableScanTaskReport.builder()
+            .tableName("roundTripTableName")
+            .snapshotId(23L)
+            .scanTaskMetrics(
+                ImmutableScanTaskMetricsResult.builder()
+                    .totalRowGroups(CounterResult.of(MetricsContext.Unit.COUNT, 5L))
+                    .skippedRowGroupsByStats(CounterResult.of(MetricsContext.Unit.COUNT, 2L))
+                    .bytesRead(CounterResult.of(MetricsContext.Unit.BYTES, 1024L))
+                    .rowsRead(CounterResult.of(MetricsContext.Unit.COUNT, 300L))
+                    .deletedRows(CounterResult.of(MetricsContext.Unit.COUNT, 7L))
+                    .readDuration(
+                        TimerResult.of(TimeUnit.NANOSECONDS, Duration.ofNanos(1500L), 3L))
+                    .build())
+            .metadata(ImmutableMap.of("engine", "spark"))
+            .build();
+
+    String expectedJson =
+        "{\n"
+            + "  \"table-name\" : \"roundTripTableName\",\n"
+            + "  \"snapshot-id\" : 23,\n"
+            + "  \"metrics\" : {\n"
+            + "    \"total-row-groups\" : {\n"
+            + "      \"unit\" : \"count\",\n"
+            + "      \"value\" : 5\n"
+            + "    },\n"
+            + "    \"skipped-row-groups-by-stats\" : {\n"
+            + "      \"unit\" : \"count\",\n"
+            + "      \"value\" : 2\n"
+            + "    },\n"
+            + "    \"bytes-read\" : {\n"
+            + "      \"unit\" : \"bytes\",\n"
+            + "      \"value\" : 1024\n"
+            + "    },\n"
+            + "    \"rows-read\" : {\n"
+            + "      \"unit\" : \"count\",\n"
+            + "      \"value\" : 300\n"
+            + "    },\n"
+            + "    \"deleted-rows\" : {\n"
+            + "      \"unit\" : \"count\",\n"
+            + "      \"value\" : 7\n"
+            + "    },\n"
+            + "    \"read-duration\" : {\n"
+            + "      \"count\" : 3,\n"
+            + "      \"time-unit\" : \"nanoseconds\",\n"
+            + "      \"total-duration\" : 1500\n"
+            + "    }\n"
+            + "  },\n"
+            + "  \"metadata\" : {\n"
+            + "    \"engine\" : \"spark\"\n"
+            + "  }\n"
+            + "}";
+
+    String json = ScanTaskReportParser.toJson(scanTaskReport, true);
+    Assertions.assertThat(ScanTaskReportParser.fromJson(json)).isEqualTo(scanTaskReport);
+    Assertions.assertThat(json).isEqualTo(expectedJson);
+  }
+
+  @Test
+  public void roundTripSerdeWithRecordedMetrics() {
+    ScanTaskMetrics metrics = ScanTaskMetrics.of(new DefaultMetricsContext());
+    metrics.totalRowGroups().increment(4L);
+    metrics.skippedRowGroupsByDictionary().increment();
+    metrics.skippedRowGroupsByBloomFilter().increment();
+    metrics.skippedRowGroupsByPageIndex().increment();
+    metrics.bytesRead().increment(2048L);
+    metrics.rowsRead().increment(100L);
+    metrics.deletedRows().increment(10L);
+    metrics.deleteCacheHits().increment(2L);
+    metrics.deleteCacheMisses().increment();
+    metrics.readDuration().record(10, TimeUnit.MILLISECONDS);
+    metrics.decodeDuration().record(5, TimeUnit.MILLISECONDS);
+    metrics.deleteLoadDuration().record(1, TimeUnit.MILLISECONDS);
+
+    ScanTaskReport scanTaskReport =
+        ImmutableScanTaskReport.builder()
+            .tableName("roundTripTableName")
+            .snapshotId(23L)
+            .scanTaskMetrics(ScanTaskMetricsResult.fromScanTaskMetrics(metrics))
+            .build();
+
+    String json = ScanTaskReportParser.toJson(scanTaskReport);
+    ScanTaskReport parsed = ScanTaskReportParser.fromJson(json);
+    Assertions.assertThat(parsed).isEqualTo(scanTaskReport);
+    Assertions.assertThat(parsed.scanTaskMetrics().deletedRows().value()).isEqualTo(10L);
+    Assertions.assertThat(parsed.scanTaskMetrics().deleteCacheHits().value()).isEqualTo(2L);
+    Assertions.assertThat(parsed.scanTaskMetrics().decodeDuration().count()).isEqualTo(1L);
+  }
+}
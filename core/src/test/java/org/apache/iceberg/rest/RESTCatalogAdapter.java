@@ -19,6 +19,7 @@
 package org.apache.iceberg.rest;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -33,6 +34,7 @@ import org.apache.iceberg.catalog.SupportsNamespaces;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.catalog.ViewCatalog;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.exceptions.BadRequestException;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.CommitStateUnknownException;
 import org.apache.iceberg.exceptions.ForbiddenException;
@@ -47,11 +49,13 @@ import org.apache.iceberg.exceptions.UnprocessableEntityException;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.relocated.com.google.common.base.Splitter;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.hash.Hashing;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.rest.requests.CommitTransactionRequest;
 import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.CreateViewRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.RegisterTableRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.ReportMetricsRequest;
@@ -66,6 +70,7 @@ import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.rest.responses.LoadViewResponse;
 import org.apache.iceberg.rest.responses.OAuthTokenResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 import org.apache.iceberg.rest.responses.UpdateNamespacePropertiesResponse;
 import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.PropertyUtil;
@@ -73,10 +78,13 @@ import org.apache.iceberg.util.PropertyUtil;
 /** Adaptor class to translate REST requests into {@link Catalog} API calls. */
 public class RESTCatalogAdapter implements RESTClient {
   private static final Splitter SLASH = Splitter.on('/');
+  private static final String ETAG_HEADER = "ETag";
+  private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
 
   private static final Map<Class<? extends Exception>, Integer> EXCEPTION_ERROR_CODES =
       ImmutableMap.<Class<? extends Exception>, Integer>builder()
           .put(IllegalArgumentException.class, 400)
+          .put(BadRequestException.class, 400)
           .put(ValidationException.class, 400)
           .put(NamespaceNotEmptyException.class, 400) // TODO: should this be more specific?
           .put(NotAuthorizedException.class, 401)
@@ -153,6 +161,11 @@ public class RESTCatalogAdapter implements RESTClient {
         "v1/namespaces/{namespace}/tables/{name}/metrics",
         ReportMetricsRequest.class,
         null),
+    PLAN_TABLE_SCAN(
+        HTTPMethod.POST,
+        "v1/namespaces/{namespace}/tables/{name}/plan",
+        PlanTableScanRequest.class,
+        PlanTableScanResponse.class),
     COMMIT_TRANSACTION(
         HTTPMethod.POST, "v1/transactions/commit", CommitTransactionRequest.class, null),
     LIST_VIEWS(HTTPMethod.GET, "v1/namespaces/{namespace}/views", null, ListTablesResponse.class),
@@ -418,6 +431,14 @@ public class RESTCatalogAdapter implements RESTClient {
           return null;
         }
 
+      case PLAN_TABLE_SCAN:
+        {
+          TableIdentifier ident = identFromPathVars(vars);
+          PlanTableScanRequest request = castRequest(PlanTableScanRequest.class, body);
+          return castResponse(
+              responseType, CatalogHandlers.planTableScan(catalog, ident, request));
+        }
+
       case COMMIT_TRANSACTION:
         {
           CommitTransactionRequest request = castRequest(CommitTransactionRequest.class, body);
@@ -609,6 +630,65 @@ public class RESTCatalogAdapter implements RESTClient {
     return execute(HTTPMethod.GET, path, queryParams, null, responseType, headers, errorHandler);
   }
 
+  @Override
+  public <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    T response = get(path, queryParams, responseType, headers, errorHandler);
+    if (response instanceof LoadTableResponse) {
+      String etag = etag((LoadTableResponse) response, queryParams);
+      if (etag != null && responseHeaders != null) {
+        responseHeaders.accept(ImmutableMap.of(ETAG_HEADER, etag));
+        if (etag.equals(ifNoneMatch(headers))) {
+          // not modified
+          return null;
+        }
+      }
+    }
+
+    return response;
+  }
+
+  /**
+   * Returns an entity tag for a load table response or null if the metadata location is unknown.
+   *
+   * <p>The tag changes whenever the metadata location changes. The snapshots mode is included
+   * because the response content depends on it; a missing mode is the same as loading all.
+   */
+  public static String etag(LoadTableResponse response, Map<String, String> queryParams) {
+    if (response.metadataLocation() == null) {
+      return null;
+    }
+
+    String snapshots = queryParams != null ? queryParams.get("snapshots") : null;
+    if (snapshots == null) {
+      snapshots = "all";
+    }
+
+    String hash =
+        Hashing.sha256()
+            .hashString(response.metadataLocation() + "#" + snapshots, StandardCharsets.UTF_8)
+            .toString();
+    return "\"" + hash + "\"";
+  }
+
+  /** Returns the value of the If-None-Match request header or null if it was not sent. */
+  public static String ifNoneMatch(Map<String, String> headers) {
+    if (headers != null) {
+      for (Map.Entry<String, String> header : headers.entrySet()) {
+        if (IF_NONE_MATCH_HEADER.equalsIgnoreCase(header.getKey())) {
+          return header.getValue();
+        }
+      }
+    }
+
+    return null;
+  }
+
   @Override
   public void head(String path, Map<String, String> headers, Consumer<ErrorResponse> errorHandler) {
     execute(HTTPMethod.HEAD, path, null, null, null, headers, errorHandler);
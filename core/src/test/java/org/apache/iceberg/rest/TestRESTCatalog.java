@@ -22,6 +22,7 @@ import static org.apache.iceberg.types.Types.NestedField.required;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.times;
@@ -32,6 +33,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,11 +42,13 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.BaseTransaction;
+import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.MetadataUpdate;
+import org.apache.iceberg.Metrics;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.Snapshot;
@@ -58,6 +62,9 @@ import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.SessionCatalog;
 import org.apache.iceberg.catalog.TableCommit;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.events.Listeners;
+import org.apache.iceberg.events.ScanEvent;
+import org.apache.iceberg.exceptions.BadRequestException;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.NotAuthorizedException;
 import org.apache.iceberg.exceptions.NotFoundException;
@@ -75,6 +82,7 @@ import org.apache.iceberg.rest.RESTSessionCatalog.SnapshotMode;
 import org.apache.iceberg.rest.auth.AuthSessionUtil;
 import org.apache.iceberg.rest.auth.OAuth2Properties;
 import org.apache.iceberg.rest.auth.OAuth2Util;
+import org.apache.iceberg.rest.requests.ImmutablePlanTableScanRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
 import org.apache.iceberg.rest.responses.ConfigResponse;
 import org.apache.iceberg.rest.responses.CreateNamespaceResponse;
@@ -83,6 +91,7 @@ import org.apache.iceberg.rest.responses.ListNamespacesResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.rest.responses.OAuthTokenResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 import org.apache.iceberg.types.Types;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -915,6 +924,358 @@ public class TestRESTCatalog extends CatalogTests<RESTCatalog> {
     assertThat(SnapshotMode.REFS.params()).isEqualTo(ImmutableMap.of("snapshots", "refs"));
   }
 
+  @Test
+  public void testConditionalTableRefresh() {
+    RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog));
+
+    RESTCatalog catalog =
+        new RESTCatalog(SessionCatalog.SessionContext.createEmpty(), (config) -> adapter);
+    catalog.initialize(
+        "test",
+        ImmutableMap.of(
+            CatalogProperties.URI,
+            "ignored",
+            CatalogProperties.FILE_IO_IMPL,
+            "org.apache.iceberg.inmemory.InMemoryFileIO"));
+
+    if (requiresNamespaceCreate()) {
+      catalog.createNamespace(TABLE.namespace());
+    }
+
+    catalog.createTable(TABLE, SCHEMA);
+    Table table = catalog.loadTable(TABLE);
+    TableMetadata loaded = ((BaseTable) table).operations().current();
+
+    // the table has not changed, so the server responds with 304 and the metadata is reused
+    table.refresh();
+    assertThat(((BaseTable) table).operations().current()).isSameAs(loaded);
+
+    ResourcePaths paths = ResourcePaths.forCatalogProperties(Maps.newHashMap());
+    verify(adapter, times(1))
+        .execute(
+            eq(HTTPMethod.GET),
+            eq(paths.table(TABLE)),
+            any(),
+            any(),
+            eq(LoadTableResponse.class),
+            argThat(headers -> RESTCatalogAdapter.ifNoneMatch(headers) != null),
+            any());
+
+    // a change made through another table instance must be picked up by the next refresh
+    catalog
+        .loadTable(TABLE)
+        .newFastAppend()
+        .appendFile(
+            DataFiles.builder(PartitionSpec.unpartitioned())
+                .withPath("/path/to/data-a.parquet")
+                .withFileSizeInBytes(10)
+                .withRecordCount(2)
+                .build())
+        .commit();
+
+    table.refresh();
+    TableMetadata refreshed = ((BaseTable) table).operations().current();
+    assertThat(refreshed).isNotSameAs(loaded);
+    assertThat(table.currentSnapshot()).isNotNull();
+
+    // the new entity tag is sent with the next refresh
+    table.refresh();
+    assertThat(((BaseTable) table).operations().current()).isSameAs(refreshed);
+    verify(adapter, times(3))
+        .execute(
+            eq(HTTPMethod.GET),
+            eq(paths.table(TABLE)),
+            any(),
+            any(),
+            eq(LoadTableResponse.class),
+            argThat(headers -> RESTCatalogAdapter.ifNoneMatch(headers) != null),
+            any());
+  }
+
+  @Test
+  public void testFailedRefreshKeepsEntityTag() {
+    RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog));
+
+    RESTCatalog catalog =
+        new RESTCatalog(SessionCatalog.SessionContext.createEmpty(), (config) -> adapter);
+    catalog.initialize(
+        "test",
+        ImmutableMap.of(
+            CatalogProperties.URI,
+            "ignored",
+            CatalogProperties.FILE_IO_IMPL,
+            "org.apache.iceberg.inmemory.InMemoryFileIO"));
+
+    if (requiresNamespaceCreate()) {
+      catalog.createNamespace(TABLE.namespace());
+    }
+
+    catalog.createTable(TABLE, SCHEMA);
+    Table table = catalog.loadTable(TABLE);
+    TableMetadata loaded = ((BaseTable) table).operations().current();
+
+    catalog
+        .loadTable(TABLE)
+        .newFastAppend()
+        .appendFile(
+            DataFiles.builder(PartitionSpec.unpartitioned())
+                .withPath("/path/to/data-a.parquet")
+                .withFileSizeInBytes(10)
+                .withRecordCount(2)
+                .build())
+        .commit();
+
+    // the refresh fails after the entity tag of the new metadata was received
+    ResourcePaths paths = ResourcePaths.forCatalogProperties(Maps.newHashMap());
+    Answer<Object> failAfterResponse =
+        invocation -> {
+          invocation.callRealMethod();
+          throw new IllegalStateException("Failed to read response");
+        };
+    Mockito.doAnswer(failAfterResponse)
+        .doCallRealMethod()
+        .when(adapter)
+        .get(
+            eq(paths.table(TABLE)),
+            Mockito.anyMap(),
+            eq(LoadTableResponse.class),
+            Mockito.anyMap(),
+            any(),
+            any());
+
+    assertThatThrownBy(table::refresh)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Failed to read response");
+    assertThat(((BaseTable) table).operations().current()).isSameAs(loaded);
+
+    // the next refresh must not claim to have the new metadata
+    table.refresh();
+    assertThat(((BaseTable) table).operations().current()).isNotSameAs(loaded);
+    assertThat(table.currentSnapshot()).isNotNull();
+  }
+
+  @Test
+  public void testServerSideScanPlanning() throws IOException {
+    RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog));
+    RESTCatalog catalog = scanPlanningCatalog(adapter);
+    Table table = createTableWithFiles(catalog);
+
+    ResourcePaths paths = ResourcePaths.forCatalogProperties(Maps.newHashMap());
+    List<FileScanTask> tasks;
+    try (CloseableIterable<FileScanTask> planned = table.newScan().planFiles()) {
+      tasks = Lists.newArrayList(planned);
+    }
+
+    assertThat(tasks)
+        .extracting(task -> task.file().path().toString())
+        .containsExactlyInAnyOrder("/path/to/data-a.parquet", "/path/to/data-b.parquet");
+
+    // the page size is 1, so each file is returned in its own page
+    verify(adapter, times(2))
+        .execute(
+            eq(HTTPMethod.POST),
+            eq(paths.planTableScan(TABLE)),
+            any(),
+            any(),
+            eq(PlanTableScanResponse.class),
+            any(),
+            any());
+  }
+
+  @Test
+  public void testScanPlanningFallsBackToLocalPlanning() throws IOException {
+    RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog));
+    RESTCatalog catalog = scanPlanningCatalog(adapter);
+    Table table = createTableWithFiles(catalog);
+
+    ResourcePaths paths = ResourcePaths.forCatalogProperties(Maps.newHashMap());
+    Answer<?> notImplemented =
+        invocation -> {
+          Consumer<ErrorResponse> errorHandler = invocation.getArgument(6);
+          errorHandler.accept(
+              ErrorResponse.builder()
+                  .responseCode(501)
+                  .withType("UnsupportedOperationException")
+                  .withMessage("Not implemented")
+                  .build());
+          return null;
+        };
+
+    Mockito.doAnswer(notImplemented)
+        .when(adapter)
+        .execute(
+            eq(HTTPMethod.POST),
+            eq(paths.planTableScan(TABLE)),
+            any(),
+            any(),
+            eq(PlanTableScanResponse.class),
+            any(),
+            any());
+
+    for (int i = 0; i < 2; i += 1) {
+      try (CloseableIterable<FileScanTask> planned = table.newScan().planFiles()) {
+        assertThat(Lists.newArrayList(planned)).hasSize(2);
+      }
+    }
+
+    // after the service reports that planning is not supported, scans are planned locally
+    verify(adapter, times(1))
+        .execute(
+            eq(HTTPMethod.POST),
+            eq(paths.planTableScan(TABLE)),
+            any(),
+            any(),
+            eq(PlanTableScanResponse.class),
+            any(),
+            any());
+  }
+
+  @Test
+  public void testServerSideScanPlanningWithScanSettings() throws IOException {
+    RESTCatalog catalog = scanPlanningCatalog(new RESTCatalogAdapter(backendCatalog));
+    Table table = createTableWithFiles(catalog);
+
+    List<FileScanTask> tasks;
+    try (CloseableIterable<FileScanTask> planned =
+        table.newScan().filter(Expressions.equal("id", 1)).planFiles()) {
+      tasks = Lists.newArrayList(planned);
+    }
+
+    assertThat(tasks).hasSize(2);
+    for (FileScanTask task : tasks) {
+      assertThat(task.residual()).isNotEqualTo(Expressions.alwaysTrue());
+      assertThat(task.file().valueCounts()).isNull();
+    }
+
+    try (CloseableIterable<FileScanTask> planned =
+        table
+            .newScan()
+            .filter(Expressions.equal("id", 1))
+            .includeColumnStats()
+            .ignoreResiduals()
+            .planFiles()) {
+      tasks = Lists.newArrayList(planned);
+    }
+
+    assertThat(tasks).hasSize(2);
+    for (FileScanTask task : tasks) {
+      assertThat(task.residual()).isEqualTo(Expressions.alwaysTrue());
+      assertThat(task.file().valueCounts()).isEqualTo(ImmutableMap.of(1, 2L));
+    }
+  }
+
+  @Test
+  public void testScanPlanningWithInvalidPageToken() {
+    RESTCatalog catalog = scanPlanningCatalog(new RESTCatalogAdapter(backendCatalog));
+    createTableWithFiles(catalog);
+
+    assertThatThrownBy(() -> planTableScanPage("abc"))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessage("Invalid page token: abc");
+
+    assertThatThrownBy(() -> planTableScanPage("1"))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessage("Invalid page token: 1");
+
+    assertThatThrownBy(() -> planTableScanPage("plan:abc"))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessage("Invalid page token: plan:abc");
+
+    assertThatThrownBy(() -> planTableScanPage("plan:-1"))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessage("Invalid page token: plan:-1");
+
+    // unknown or expired plans are planned again
+    assertThatThrownBy(() -> planTableScanPage("plan:2"))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessage("Invalid page token: plan:2 (scan has 2 tasks)");
+
+    assertThat(planTableScanPage("plan:1").fileScanTasks()).hasSize(1);
+  }
+
+  @Test
+  public void testScanPlanningPlansOncePerScan() {
+    RESTCatalog catalog = scanPlanningCatalog(new RESTCatalogAdapter(backendCatalog));
+    createTableWithFiles(catalog);
+
+    AtomicInteger plannedScans = new AtomicInteger(0);
+    Listeners.register(event -> plannedScans.incrementAndGet(), ScanEvent.class);
+
+    PlanTableScanResponse first = planTableScanPage(null);
+    assertThat(first.fileScanTasks()).hasSize(1);
+    assertThat(first.nextPageToken()).isNotNull();
+    assertThat(plannedScans.get()).isEqualTo(1);
+
+    PlanTableScanResponse second = planTableScanPage(first.nextPageToken());
+    assertThat(second.fileScanTasks()).hasSize(1);
+    assertThat(second.nextPageToken()).isNull();
+    assertThat(plannedScans.get()).isEqualTo(1);
+    assertThat(second.fileScanTasks().get(0).file().path())
+        .isNotEqualTo(first.fileScanTasks().get(0).file().path());
+
+    // the plan is removed after its last page, so requesting the page again plans the scan again
+    PlanTableScanResponse again = planTableScanPage(first.nextPageToken());
+    assertThat(plannedScans.get()).isEqualTo(2);
+    assertThat(again.fileScanTasks().get(0).file().path())
+        .isEqualTo(second.fileScanTasks().get(0).file().path());
+  }
+
+  private PlanTableScanResponse planTableScanPage(String pageToken) {
+    return CatalogHandlers.planTableScan(
+        backendCatalog,
+        TABLE,
+        ImmutablePlanTableScanRequest.builder().pageToken(pageToken).pageSize(1).build());
+  }
+
+  private RESTCatalog scanPlanningCatalog(RESTCatalogAdapter adapter) {
+    RESTCatalog catalog =
+        new RESTCatalog(SessionCatalog.SessionContext.createEmpty(), (config) -> adapter);
+    catalog.initialize(
+        "test",
+        ImmutableMap.of(
+            CatalogProperties.URI,
+            "ignored",
+            CatalogProperties.FILE_IO_IMPL,
+            "org.apache.iceberg.inmemory.InMemoryFileIO",
+            "rest-scan-planning-enabled",
+            "true",
+            RESTSessionCatalog.REST_PAGE_SIZE,
+            "1"));
+
+    if (requiresNamespaceCreate()) {
+      catalog.createNamespace(TABLE.namespace());
+    }
+
+    return catalog;
+  }
+
+  private Table createTableWithFiles(RESTCatalog catalog) {
+    catalog.createTable(TABLE, SCHEMA);
+    catalog
+        .loadTable(TABLE)
+        .newFastAppend()
+        .appendFile(
+            DataFiles.builder(PartitionSpec.unpartitioned())
+                .withPath("/path/to/data-a.parquet")
+                .withFileSizeInBytes(10)
+                .withMetrics(metrics(2L))
+                .build())
+        .appendFile(
+            DataFiles.builder(PartitionSpec.unpartitioned())
+                .withPath("/path/to/data-b.parquet")
+                .withFileSizeInBytes(10)
+                .withMetrics(metrics(2L))
+                .build())
+        .commit();
+
+    return catalog.loadTable(TABLE);
+  }
+
+  private static Metrics metrics(long recordCount) {
+    return new Metrics(
+        recordCount, null, ImmutableMap.of(1, recordCount), ImmutableMap.of(1, 0L), null);
+  }
+
   @Test
   public void testTableSnapshotLoading() {
     RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog));
@@ -144,6 +144,15 @@ public class TestResourcePaths {
     Assertions.assertThat(withoutPrefix.register(ns)).isEqualTo("v1/namespaces/ns/register");
   }
 
+  @Test
+  public void testPlanTableScan() {
+    TableIdentifier ident = TableIdentifier.of("ns", "table");
+    Assertions.assertThat(withPrefix.planTableScan(ident))
+        .isEqualTo("v1/ws/catalog/namespaces/ns/tables/table/plan");
+    Assertions.assertThat(withoutPrefix.planTableScan(ident))
+        .isEqualTo("v1/namespaces/ns/tables/table/plan");
+  }
+
   @Test
   public void views() {
     Namespace ns = Namespace.of("ns");
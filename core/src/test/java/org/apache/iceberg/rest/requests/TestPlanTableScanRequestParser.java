@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.requests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.iceberg.expressions.Expressions;
+import org.junit.jupiter.api.Test;
+
+public class TestPlanTableScanRequestParser {
+
+  @Test
+  public void nullCheck() {
+    assertThatThrownBy(() -> PlanTableScanRequestParser.toJson(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid plan table scan request: null");
+
+    assertThatThrownBy(() -> PlanTableScanRequestParser.fromJson((JsonNode) null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse plan table scan request from null object");
+  }
+
+  @Test
+  public void emptyRequest() {
+    PlanTableScanRequest request = PlanTableScanRequestParser.fromJson("{}");
+
+    assertThat(request.snapshotId()).isNull();
+    assertThat(request.select()).isNull();
+    assertThat(request.filter()).isEqualTo(Expressions.alwaysTrue());
+    assertThat(request.caseSensitive()).isTrue();
+    assertThat(request.returnColumnStats()).isFalse();
+    assertThat(request.statsFields()).isNull();
+    assertThat(request.ignoreResiduals()).isFalse();
+    assertThat(request.options()).isEmpty();
+    assertThat(request.pageToken()).isNull();
+    assertThat(request.pageSize()).isNull();
+  }
+
+  @Test
+  public void invalidPageSize() {
+    assertThatThrownBy(() -> ImmutablePlanTableScanRequest.builder().pageSize(0).build().validate())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid page size: 0");
+
+    assertThatThrownBy(
+            () -> ImmutablePlanTableScanRequest.builder().addStatsFields("id").build().validate())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid stats fields: [id] (column stats are not returned)");
+  }
+
+  @Test
+  public void roundTripSerde() {
+    PlanTableScanRequest request =
+        ImmutablePlanTableScanRequest.builder()
+            .snapshotId(1L)
+            .addSelect("id", "data")
+            .caseSensitive(false)
+            .pageToken("10")
+            .pageSize(5)
+            .build();
+
+    String expectedJson =
+        "{\n"
+            + "  \"snapshot-id\" : 1,\n"
+            + "  \"select\" : [ \"id\", \"data\" ],\n"
+            + "  \"case-sensitive\" : false,\n"
+            + "  \"page-token\" : \"10\",\n"
+            + "  \"page-size\" : 5\n"
+            + "}";
+
+    String json = PlanTableScanRequestParser.toJson(request, true);
+    assertThat(json).isEqualTo(expectedJson);
+    assertThat(PlanTableScanRequestParser.toJson(PlanTableScanRequestParser.fromJson(json), true))
+        .isEqualTo(expectedJson);
+  }
+
+  @Test
+  public void roundTripSerdeWithScanSettings() {
+    PlanTableScanRequest request =
+        ImmutablePlanTableScanRequest.builder()
+            .returnColumnStats(true)
+            .addStatsFields("id")
+            .ignoreResiduals(true)
+            .putOptions("split-size", "1024")
+            .build();
+
+    String expectedJson =
+        "{\n"
+            + "  \"case-sensitive\" : true,\n"
+            + "  \"return-column-stats\" : true,\n"
+            + "  \"stats-fields\" : [ \"id\" ],\n"
+            + "  \"ignore-residuals\" : true,\n"
+            + "  \"options\" : {\n"
+            + "    \"split-size\" : \"1024\"\n"
+            + "  }\n"
+            + "}";
+
+    String json = PlanTableScanRequestParser.toJson(request, true);
+    assertThat(json).isEqualTo(expectedJson);
+    assertThat(PlanTableScanRequestParser.fromJson(json)).isEqualTo(request);
+  }
+
+  @Test
+  public void roundTripSerdeWithFilter() {
+    PlanTableScanRequest request =
+        ImmutablePlanTableScanRequest.builder()
+            .filter(Expressions.and(Expressions.equal("id", 1), Expressions.notNull("data")))
+            .build();
+
+    String json = PlanTableScanRequestParser.toJson(request);
+    assertThat(json).contains("\"filter\"");
+    assertThat(PlanTableScanRequestParser.toJson(PlanTableScanRequestParser.fromJson(json)))
+        .isEqualTo(json);
+  }
+}
@@ -23,12 +23,20 @@ import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.metrics.CommitMetrics;
 import org.apache.iceberg.metrics.CommitMetricsResult;
 import org.apache.iceberg.metrics.CommitReport;
+import org.apache.iceberg.metrics.CounterResult;
+import org.apache.iceberg.metrics.FileIOReport;
+import org.apache.iceberg.metrics.ImmutableFileIOMetricsResult;
 import org.apache.iceberg.metrics.ImmutableCommitReport;
+import org.apache.iceberg.metrics.ImmutableFileIOReport;
 import org.apache.iceberg.metrics.ImmutableScanReport;
+import org.apache.iceberg.metrics.ImmutableScanTaskMetricsResult;
+import org.apache.iceberg.metrics.ImmutableScanTaskReport;
+import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.apache.iceberg.metrics.ScanMetrics;
 import org.apache.iceberg.metrics.ScanMetricsResult;
 import org.apache.iceberg.metrics.ScanReport;
+import org.apache.iceberg.metrics.ScanTaskReport;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -162,4 +170,78 @@ public class TestReportMetricsRequestParser {
     Assertions.assertThat(ReportMetricsRequestParser.fromJson(json).report())
         .isEqualTo(metricsRequest.report());
   }
+
+  @Test
+  public void roundTripSerdeWithFileIOReport() {
+    FileIOReport fileIOReport =
+        ImmutableFileIOReport.builder()
+            .fileIOImpl("org.apache.iceberg.aws.s3.S3FileIO")
+            .fileIOMetrics(
+                ImmutableFileIOMetricsResult.builder()
+                    .bytesRead(CounterResult.of(MetricsContext.Unit.BYTES, 100L))
+                    .build())
+            .build();
+
+    String expectedJson =
+        "{\n"
+            + "  \"report-type\" : \"file-io-report\",\n"
+            + "  \"file-io-impl\" : \"org.apache.iceberg.aws.s3.S3FileIO\",\n"
+            + "  \"metrics\" : {\n"
+            + "    \"bytes-read\" : {\n"
+            + "      \"unit\" : \"bytes\",\n"
+            + "      \"value\" : 100\n"
+            + "    }\n"
+            + "  }\n"
+            + "}";
+
+    ReportMetricsRequest metricsRequest = ReportMetricsRequest.of(fileIOReport);
+    Assertions.assertThat(metricsRequest.reportType())
+        .isEqualTo(ReportMetricsRequest.ReportType.FILE_IO_REPORT);
+
+    String json = ReportMetricsRequestParser.toJson(metricsRequest, true);
+    Assertions.assertThat(json).isEqualTo(expectedJson);
+
+    ReportMetricsRequest parsed = ReportMetricsRequestParser.fromJson(json);
+    Assertions.assertThat(parsed.reportType())
+        .isEqualTo(ReportMetricsRequest.ReportType.FILE_IO_REPORT);
+    Assertions.assertThat(parsed.report()).isEqualTo(metricsRequest.report());
+  }
+
+  @Test
+  public void roundTripSerdeWithScanTaskReport() {
+    ScanTaskReport scanTaskReport =
+        ImmutableScanTaskReport.builder()
+            .tableName("roundTripTableName")
+            .snapshotId(23L)
+            .scanTaskMetrics(
+                ImmutableScanTaskMetricsResult.builder()
+                    .deletedRows(CounterResult.of(MetricsContext.Unit.COUNT, 7L))
+                    .build())
+            .build();
+
+    String expectedJson =
+        "{\n"
+            + "  \"report-type\" : \"scan-task-report\",\n"
+            + "  \"table-name\" : \"roundTripTableName\",\n"
+            + "  \"snapshot-id\" : 23,\n"
+            + "  \"metrics\" : {\n"
+            + "    \"deleted-rows\" : {\n"
+            + "      \"unit\" : \"count\",\n"
+            + "      \"value\" : 7\n"
+            + "    }\n"
+            + "  }\n"
+            + "}";
+
+    ReportMetricsRequest metricsRequest = ReportMetricsRequest.of(scanTaskReport);
+    Assertions.assertThat(metricsRequest.reportType())
+        .isEqualTo(ReportMetricsRequest.ReportType.SCAN_TASK_REPORT);
+
+    String json = ReportMetricsRequestParser.toJson(metricsRequest, true);
+    Assertions.assertThat(json).isEqualTo(expectedJson);
+
+    ReportMetricsRequest parsed = ReportMetricsRequestParser.fromJson(json);
+    Assertions.assertThat(parsed.reportType())
+        .isEqualTo(ReportMetricsRequest.ReportType.SCAN_TASK_REPORT);
+    Assertions.assertThat(parsed.report()).isEqualTo(metricsRequest.report());
+  }
 }
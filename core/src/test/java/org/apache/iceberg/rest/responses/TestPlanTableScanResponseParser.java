@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.responses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.iceberg.BaseFileScanTask;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.PartitionSpecParser;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SchemaParser;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.ResidualEvaluator;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Test;
+
+public class TestPlanTableScanResponseParser {
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.IntegerType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()));
+
+  @Test
+  public void nullCheck() {
+    assertThatThrownBy(() -> PlanTableScanResponseParser.toJson(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid plan table scan response: null");
+
+    assertThatThrownBy(() -> PlanTableScanResponseParser.fromJson((JsonNode) null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse plan table scan response from null object");
+  }
+
+  @Test
+  public void missingFields() {
+    assertThatThrownBy(() -> PlanTableScanResponseParser.fromJson("{}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse missing field: file-scan-tasks");
+
+    assertThatThrownBy(() -> PlanTableScanResponseParser.fromJson("{\"file-scan-tasks\": 1}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse file scan tasks from non-array: 1");
+  }
+
+  @Test
+  public void emptyResponse() {
+    PlanTableScanResponse response = ImmutablePlanTableScanResponse.builder().build();
+
+    String json = PlanTableScanResponseParser.toJson(response);
+    assertThat(json).isEqualTo("{\"file-scan-tasks\":[]}");
+    assertThat(PlanTableScanResponseParser.fromJson(json).fileScanTasks()).isEmpty();
+  }
+
+  @Test
+  public void roundTripSerde() {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).bucket("data", 16).build();
+    DataFile dataFile =
+        DataFiles.builder(spec)
+            .withPath("/path/to/data-a.parquet")
+            .withFileSizeInBytes(10)
+            .withRecordCount(1)
+            .withPartitionPath("data_bucket=0")
+            .build();
+    FileScanTask task =
+        new BaseFileScanTask(
+            dataFile,
+            new DeleteFile[0],
+            SchemaParser.toJson(SCHEMA),
+            PartitionSpecParser.toJson(spec),
+            ResidualEvaluator.of(spec, Expressions.equal("id", 1), true));
+
+    PlanTableScanResponse response =
+        ImmutablePlanTableScanResponse.builder()
+            .addFileScanTasks(task)
+            .nextPageToken("1")
+            .build();
+
+    String json = PlanTableScanResponseParser.toJson(response);
+    PlanTableScanResponse parsed = PlanTableScanResponseParser.fromJson(json);
+
+    assertThat(parsed.nextPageToken()).isEqualTo("1");
+    assertThat(parsed.fileScanTasks()).hasSize(1);
+    FileScanTask parsedTask = parsed.fileScanTasks().get(0);
+    assertThat(parsedTask.file().path()).isEqualTo(dataFile.path());
+    assertThat(parsedTask.start()).isEqualTo(0);
+    assertThat(parsedTask.length()).isEqualTo(10);
+    assertThat(parsedTask.spec()).isEqualTo(spec);
+    assertThat(parsedTask.residual().toString()).isEqualTo(task.residual().toString());
+    assertThat(PlanTableScanResponseParser.toJson(parsed)).isEqualTo(json);
+
+    // whole-file tasks can be split again by the scan that receives them
+    assertThat(parsedTask.split(5)).hasSize(2);
+  }
+}
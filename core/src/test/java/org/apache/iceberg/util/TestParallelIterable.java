@@ -19,19 +19,31 @@
 package org.apache.iceberg.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
@@ -72,6 +84,150 @@ public class TestParallelIterable {
         .untilAsserted(() -> assertThat(queue).isEmpty());
   }
 
+  @Test
+  public void limitQueueSize() throws IOException {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    List<List<Integer>> iterables =
+        Lists.newArrayList(
+            IntStream.range(0, 100).boxed().collect(Collectors.toList()),
+            IntStream.range(100, 200).boxed().collect(Collectors.toList()),
+            IntStream.range(200, 300).boxed().collect(Collectors.toList()),
+            IntStream.range(300, 400).boxed().collect(Collectors.toList()));
+
+    int maxQueueSize = 10;
+    ParallelIterable<Integer> parallelIterable =
+        new ParallelIterable<>(iterables, executor, maxQueueSize);
+    Set<Integer> consumed = Sets.newHashSet();
+
+    try (CloseableIterator<Integer> iterator = parallelIterable.iterator()) {
+      Field queueField = iterator.getClass().getDeclaredField("queue");
+      queueField.setAccessible(true);
+      ConcurrentLinkedQueue<?> queue = (ConcurrentLinkedQueue<?>) queueField.get(iterator);
+
+      while (iterator.hasNext()) {
+        // producers check the limit before adding, so each running producer may add one more item
+        assertThat(queue).hasSizeLessThanOrEqualTo(maxQueueSize + iterables.size());
+        consumed.add(iterator.next());
+      }
+    } catch (IllegalAccessException | NoSuchFieldException e) {
+      throw new RuntimeException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(consumed)
+        .as("All items should be consumed")
+        .isEqualTo(IntStream.range(0, 400).boxed().collect(Collectors.toSet()));
+  }
+
+  @Test
+  public void closeReleasesInputsOfAllSubmittedTasks() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    List<TrackingIterable> inputs =
+        IntStream.range(0, 20)
+            .mapToObj(start -> new TrackingIterable(start * 100, 100))
+            .collect(Collectors.toList());
+
+    try {
+      ParallelIterable<Integer> parallelIterable = new ParallelIterable<>(inputs, executor, 1);
+      CloseableIterator<Integer> iterator = parallelIterable.iterator();
+      for (int i = 0; i < 10; i += 1) {
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.next()).isNotNull();
+      }
+
+      // tasks that yielded, are queued in the executor or are running all hold open inputs
+      iterator.close();
+
+      assertThat(inputs)
+          .as("Every opened input should be closed")
+          .allSatisfy(input -> assertThat(!input.opened || input.closed).isTrue());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void closeWhileConsumerIsWaiting() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    ExecutorService consumer = Executors.newSingleThreadExecutor();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch blocked = new CountDownLatch(1);
+    Iterable<Integer> blockingInput =
+        () ->
+            new Iterator<Integer>() {
+              @Override
+              public boolean hasNext() {
+                started.countDown();
+                try {
+                  blocked.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  throw new RuntimeException("Interrupted", e);
+                }
+                return false;
+              }
+
+              @Override
+              public Integer next() {
+                throw new NoSuchElementException();
+              }
+            };
+
+    try {
+      ParallelIterable<Integer> parallelIterable =
+          new ParallelIterable<>(ImmutableList.of(blockingInput), executor);
+      CloseableIterator<Integer> iterator = parallelIterable.iterator();
+      Future<Boolean> hasNext = consumer.submit(iterator::hasNext);
+      assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+      // the consumer holds the iterator's lock while it waits for the blocked producer
+      iterator.close();
+
+      assertThat(hasNext.get(10, TimeUnit.SECONDS)).isFalse();
+      assertThatThrownBy(iterator::hasNext)
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("Already closed");
+    } finally {
+      executor.shutdownNow();
+      consumer.shutdownNow();
+    }
+  }
+
+  @Test
+  public void invalidMaxQueueSize() {
+    assertThatThrownBy(
+            () ->
+                new ParallelIterable<Integer>(
+                    Collections.emptyList(), MoreExecutors.newDirectExecutorService(), 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid max queue size: 0 (must be positive)");
+  }
+
+  private static class TrackingIterable implements CloseableIterable<Integer> {
+    private final int start;
+    private final int count;
+    private volatile boolean opened = false;
+    private volatile boolean closed = false;
+
+    private TrackingIterable(int start, int count) {
+      this.start = start;
+      this.count = count;
+    }
+
+    @Override
+    public CloseableIterator<Integer> iterator() {
+      this.opened = true;
+      return CloseableIterator.withClose(IntStream.range(start, start + count).iterator());
+    }
+
+    @Override
+    public void close() {
+      this.closed = true;
+    }
+  }
+
   private void queueHasElements(CloseableIterator<Integer> iterator, Queue queue) {
     assertThat(iterator.hasNext()).isTrue();
     assertThat(iterator.next()).isNotNull();
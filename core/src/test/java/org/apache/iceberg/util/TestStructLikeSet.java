@@ -20,10 +20,12 @@ package org.apache.iceberg.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.Set;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Types;
 import org.junit.jupiter.api.Test;
 
@@ -67,4 +69,93 @@ public class TestStructLikeSet {
     boolean removed = set.remove(record3);
     assertThat(removed).isTrue();
   }
+
+  @Test
+  public void testCompactLongKeys() {
+    Types.StructType type =
+        Types.StructType.of(Types.NestedField.optional(1, "id", Types.LongType.get()));
+    Record recordTemplate = GenericRecord.create(type);
+
+    StructLikeSet set = StructLikeSet.createCompact(type);
+    assertThat(StructLikeSet.hasCompactForm(type)).isTrue();
+    assertThat(set.add(recordTemplate.copy("id", 1L))).isTrue();
+    assertThat(set.add(recordTemplate.copy("id", -5L))).isTrue();
+    assertThat(set.add(recordTemplate.copy("id", Long.MAX_VALUE))).isTrue();
+    assertThat(set.add(recordTemplate.copy("id", null))).isTrue();
+    assertThat(set.add(recordTemplate.copy("id", 1L))).isFalse();
+
+    assertThat(set).hasSize(4);
+    assertThat(set)
+        .contains(
+            recordTemplate.copy("id", 1L),
+            recordTemplate.copy("id", -5L),
+            recordTemplate.copy("id", Long.MAX_VALUE),
+            recordTemplate.copy("id", null));
+    assertThat(set).doesNotContain(recordTemplate.copy("id", 2L));
+
+    StructLikeSet expected = StructLikeSet.create(type);
+    for (StructLike struct : set) {
+      expected.add(struct);
+    }
+
+    assertThat(set).isEqualTo(expected);
+    assertThat(expected).isEqualTo(set);
+    assertThat(set.hashCode()).isEqualTo(expected.hashCode());
+
+    assertThat(set.remove(recordTemplate.copy("id", -5L))).isTrue();
+    assertThat(set.remove(recordTemplate.copy("id", null))).isTrue();
+    assertThat(set).hasSize(2);
+    assertThat(set).doesNotContain(recordTemplate.copy("id", -5L), recordTemplate.copy("id", null));
+  }
+
+  @Test
+  public void testCompactIntKeys() {
+    Types.StructType type =
+        Types.StructType.of(Types.NestedField.required(1, "id", Types.IntegerType.get()));
+    Record recordTemplate = GenericRecord.create(type);
+
+    StructLikeSet set = StructLikeSet.createCompact(type);
+    set.add(recordTemplate.copy("id", Integer.MIN_VALUE));
+    set.add(recordTemplate.copy("id", 7));
+
+    assertThat(set).contains(recordTemplate.copy("id", Integer.MIN_VALUE));
+    assertThat(set).doesNotContain(recordTemplate.copy("id", 8));
+
+    List<Integer> keys = Lists.newArrayList();
+    set.forEach(struct -> keys.add(struct.get(0, Integer.class)));
+    assertThat(keys).containsExactlyInAnyOrder(Integer.MIN_VALUE, 7);
+  }
+
+  @Test
+  public void testCompactStringKeys() {
+    Types.StructType type =
+        Types.StructType.of(Types.NestedField.required(1, "data", Types.StringType.get()));
+    Record recordTemplate = GenericRecord.create(type);
+
+    StructLikeSet set = StructLikeSet.createCompact(type);
+    set.add(recordTemplate.copy("data", "a"));
+    set.add(recordTemplate.copy("data", new StringBuilder("b")));
+
+    assertThat(set).hasSize(2);
+    assertThat(set).contains(recordTemplate.copy("data", new StringBuilder("a")));
+    assertThat(set).contains(recordTemplate.copy("data", "b"));
+    assertThat(set).doesNotContain(recordTemplate.copy("data", "c"));
+
+    set.clear();
+    assertThat(set).isEmpty();
+  }
+
+  @Test
+  public void testCompactFallsBackForOtherTypes() {
+    assertThat(StructLikeSet.hasCompactForm(STRUCT_TYPE)).isFalse();
+    assertThat(
+            StructLikeSet.hasCompactForm(
+                Types.StructType.of(Types.NestedField.required(1, "d", Types.DoubleType.get()))))
+        .isFalse();
+
+    Record record = GenericRecord.create(STRUCT_TYPE).copy("id", 1, "data", 2L);
+    StructLikeSet set = StructLikeSet.createCompact(STRUCT_TYPE);
+    set.add(record);
+    assertThat(set).containsExactly(record);
+  }
 }
@@ -50,6 +50,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.math.LongMath;
 import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.CharSequenceMap;
 import org.apache.iceberg.util.StructLikeSet;
 import org.apache.iceberg.util.Tasks;
@@ -106,7 +107,7 @@ public class BaseDeleteLoader implements DeleteLoader {
   public StructLikeSet loadEqualityDeletes(Iterable<DeleteFile> deleteFiles, Schema projection) {
     Iterable<Iterable<StructLike>> deletes =
         execute(deleteFiles, deleteFile -> getOrReadEqDeletes(deleteFile, projection));
-    StructLikeSet deleteSet = StructLikeSet.create(projection.asStruct());
+    StructLikeSet deleteSet = StructLikeSet.createCompact(projection.asStruct());
     Iterables.addAll(deleteSet, Iterables.concat(deletes));
     return deleteSet;
   }
@@ -123,6 +124,16 @@ public class BaseDeleteLoader implements DeleteLoader {
 
   private Iterable<StructLike> readEqDeletes(DeleteFile deleteFile, Schema projection) {
     CloseableIterable<Record> deletes = openDeletes(deleteFile, projection);
+
+    Types.StructType deleteType = projection.asStruct();
+    if (StructLikeSet.hasCompactForm(deleteType)) {
+      // compact sets copy key values on insert so records don't have to be copied or materialized
+      InternalRecordWrapper wrapper = new InternalRecordWrapper(deleteType);
+      CloseableIterable<StructLike> deletesAsStructs =
+          CloseableIterable.transform(deletes, wrapper::wrap);
+      return Deletes.toEqualitySet(deletesAsStructs, deleteType);
+    }
+
     CloseableIterable<Record> copiedDeletes = CloseableIterable.transform(deletes, Record::copy);
     CloseableIterable<StructLike> copiedDeletesAsStructs = toStructs(copiedDeletes, projection);
     return materialize(copiedDeletesAsStructs);
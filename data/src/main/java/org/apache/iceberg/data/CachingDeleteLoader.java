@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A {@link BaseDeleteLoader} that keeps loaded delete files in a {@link DeleteCache}.
+ *
+ * <p>Cache hits and misses of this loader are recorded in the given {@link ScanTaskMetrics}.
+ */
+public class CachingDeleteLoader extends BaseDeleteLoader {
+  private final DeleteCache cache;
+  private final ScanTaskMetrics metrics;
+
+  public CachingDeleteLoader(Function<DeleteFile, InputFile> loadInputFile, DeleteCache cache) {
+    this(loadInputFile, cache, ScanTaskMetrics.noop());
+  }
+
+  public CachingDeleteLoader(
+      Function<DeleteFile, InputFile> loadInputFile,
+      DeleteCache cache,
+      ScanTaskMetrics metrics) {
+    super(loadInputFile);
+    Preconditions.checkArgument(cache != null, "Invalid delete cache: null");
+    Preconditions.checkArgument(metrics != null, "Invalid scan task metrics: null");
+    this.cache = cache;
+    this.metrics = metrics;
+  }
+
+  @Override
+  protected boolean canCache(long size) {
+    return cache.canCache(size);
+  }
+
+  @Override
+  protected <V> V getOrLoad(String key, Supplier<V> valueSupplier, long valueSize) {
+    AtomicBoolean loaded = new AtomicBoolean(false);
+    V value =
+        cache.getOrLoad(
+            key,
+            () -> {
+              loaded.set(true);
+              return valueSupplier.get();
+            },
+            valueSize);
+
+    if (loaded.get()) {
+      metrics.deleteCacheMisses().increment();
+    } else {
+      metrics.deleteCacheHits().increment();
+    }
+
+    return value;
+  }
+}
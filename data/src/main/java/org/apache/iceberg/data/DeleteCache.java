@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.iceberg.SystemConfigs;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A memory-bounded cache of loaded delete files shared by all delete filters in a JVM.
+ *
+ * <p>The shared instance is configured through {@link SystemConfigs#DELETE_CACHE_ENABLED}, {@link
+ * SystemConfigs#DELETE_CACHE_MAX_TOTAL_SIZE}, {@link SystemConfigs#DELETE_CACHE_MAX_ENTRY_SIZE} and
+ * {@link SystemConfigs#DELETE_CACHE_TIMEOUT_MS}. Entries are weighted by their estimated size in
+ * memory; values larger than the max entry size are computed but never cached. Entries that have
+ * not been accessed for the configured timeout are evicted automatically.
+ *
+ * <p>Hits and misses of each scan task are recorded in its {@link
+ * org.apache.iceberg.metrics.ScanTaskMetrics} by {@link CachingDeleteLoader}. The hit rate,
+ * eviction count and size of the whole cache are available from {@link #hitRate()}, {@link
+ * #evictionCount()} and {@link #estimatedSize()}.
+ *
+ * <p>Note that {@link #getOrCreate()} employs the singleton pattern to ensure only one shared cache
+ * exists per JVM. Engines that manage their own lifecycle may create private instances instead.
+ */
+public class DeleteCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DeleteCache.class);
+
+  private static volatile DeleteCache instance = null;
+
+  private final Duration timeout;
+  private final long maxEntrySize;
+  private final long maxTotalSize;
+  private final Cache<String, CacheValue> state;
+
+  public DeleteCache(Duration timeout, long maxEntrySize, long maxTotalSize) {
+    Preconditions.checkArgument(
+        maxEntrySize > 0, "Invalid max entry size: %s (must be positive)", maxEntrySize);
+    Preconditions.checkArgument(
+        maxTotalSize > 0, "Invalid max total size: %s (must be positive)", maxTotalSize);
+    this.timeout = timeout;
+    this.maxEntrySize = maxEntrySize;
+    this.maxTotalSize = maxTotalSize;
+    this.state = initState();
+  }
+
+  /**
+   * Returns the shared cache if created or creates and returns it.
+   *
+   * <p>Note this method returns null if caching is disabled.
+   */
+  public static DeleteCache getOrCreate() {
+    if (instance == null && SystemConfigs.DELETE_CACHE_ENABLED.value()) {
+      synchronized (DeleteCache.class) {
+        if (instance == null) {
+          DeleteCache.instance =
+              new DeleteCache(
+                  Duration.ofMillis(SystemConfigs.DELETE_CACHE_TIMEOUT_MS.value()),
+                  SystemConfigs.DELETE_CACHE_MAX_ENTRY_SIZE.value(),
+                  SystemConfigs.DELETE_CACHE_MAX_TOTAL_SIZE.value());
+        }
+      }
+    }
+
+    return instance;
+  }
+
+  /** Returns the shared cache if already created or null otherwise. */
+  public static DeleteCache get() {
+    return instance;
+  }
+
+  /** Returns the max entry size in bytes that will be considered for caching. */
+  public long maxEntrySize() {
+    return maxEntrySize;
+  }
+
+  /** Returns whether a value of the given estimated size in bytes can be cached. */
+  public boolean canCache(long valueSize) {
+    return valueSize <= maxEntrySize;
+  }
+
+  /** Returns the max total size in bytes of all cached entries. */
+  public long maxTotalSize() {
+    return maxTotalSize;
+  }
+
+  /**
+   * Gets the cached value for the key or populates the cache with a new mapping.
+   *
+   * @param key a cache key
+   * @param valueSupplier a supplier to compute the value
+   * @param valueSize an estimated memory size of the value in bytes
+   * @return the cached or computed value
+   */
+  public <V> V getOrLoad(String key, Supplier<V> valueSupplier, long valueSize) {
+    if (!canCache(valueSize)) {
+      LOG.debug("{} exceeds max entry size: {} > {}", key, valueSize, maxEntrySize);
+      return valueSupplier.get();
+    }
+
+    CacheValue value = state.get(key, loadFunc(valueSupplier, valueSize));
+    Preconditions.checkNotNull(value, "Loaded value must not be null");
+    return value.get();
+  }
+
+  private <V> Function<String, CacheValue> loadFunc(Supplier<V> valueSupplier, long valueSize) {
+    return key -> {
+      long start = System.currentTimeMillis();
+      V value = valueSupplier.get();
+      long end = System.currentTimeMillis();
+      LOG.debug("Loaded {} with size {} in {} ms", key, valueSize, (end - start));
+      return new CacheValue(value, valueSize);
+    };
+  }
+
+  /**
+   * Invalidates the cached value for the given key.
+   *
+   * @param key a cache key
+   */
+  public void invalidate(String key) {
+    state.invalidate(key);
+  }
+
+  /** Invalidates all cached values. */
+  public void invalidateAll() {
+    LOG.info("Invalidating all keys, current cache stats {}", state.stats());
+    state.invalidateAll();
+  }
+
+  /** Returns the ratio of lookups that were served from the cache, or 1.0 if there were none. */
+  public double hitRate() {
+    return state.stats().hitRate();
+  }
+
+  /** Returns the number of entries that were evicted because of size limits or expiration. */
+  public long evictionCount() {
+    return state.stats().evictionCount();
+  }
+
+  /** Returns the estimated size in bytes of all values currently held by the cache. */
+  public long estimatedSize() {
+    return state.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
+  private Cache<String, CacheValue> initState() {
+    return Caffeine.newBuilder()
+        .expireAfterAccess(timeout)
+        .maximumWeight(maxTotalSize)
+        .weigher((String key, CacheValue value) -> value.weight())
+        .recordStats()
+        .removalListener((key, value, cause) -> LOG.debug("Evicted {} ({})", key, cause))
+        .build();
+  }
+
+  private static class CacheValue {
+    private final Object value;
+    private final long size;
+
+    CacheValue(Object value, long size) {
+      this.value = value;
+      this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V get() {
+      return (V) value;
+    }
+
+    public int weight() {
+      return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+  }
+}
@@ -33,6 +33,8 @@ import org.apache.iceberg.deletes.Deletes;
 import org.apache.iceberg.deletes.PositionDeleteIndex;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -58,6 +60,7 @@ public abstract class DeleteFilter<T> {
   private final boolean hasIsDeletedColumn;
   private final int isDeletedColumnPosition;
   private final DeleteCounter counter;
+  private final ScanTaskMetrics metrics;
 
   private volatile DeleteLoader deleteLoader = null;
   private PositionDeleteIndex deleteRowPositions = null;
@@ -70,8 +73,19 @@ public abstract class DeleteFilter<T> {
       Schema tableSchema,
       Schema requestedSchema,
       DeleteCounter counter) {
+    this(filePath, deletes, tableSchema, requestedSchema, counter, ScanTaskMetrics.noop());
+  }
+
+  protected DeleteFilter(
+      String filePath,
+      List<DeleteFile> deletes,
+      Schema tableSchema,
+      Schema requestedSchema,
+      DeleteCounter counter,
+      ScanTaskMetrics metrics) {
     this.filePath = filePath;
     this.counter = counter;
+    this.metrics = metrics;
 
     ImmutableList.Builder<DeleteFile> posDeleteBuilder = ImmutableList.builder();
     ImmutableList.Builder<DeleteFile> eqDeleteBuilder = ImmutableList.builder();
@@ -123,6 +137,7 @@ public abstract class DeleteFilter<T> {
 
   public void incrementDeleteCount() {
     counter.increment();
+    metrics.deletedRows().increment();
   }
 
   Accessor<StructLike> posAccessor() {
@@ -142,6 +157,11 @@ public abstract class DeleteFilter<T> {
   }
 
   protected DeleteLoader newDeleteLoader() {
+    DeleteCache cache = DeleteCache.getOrCreate();
+    if (cache != null) {
+      return new CachingDeleteLoader(this::loadInputFile, cache, metrics);
+    }
+
     return new BaseDeleteLoader(this::loadInputFile);
   }
 
@@ -187,7 +207,10 @@ public abstract class DeleteFilter<T> {
       // a projection to select and reorder fields of the file schema to match the delete rows
       StructProjection projectRow = StructProjection.create(requiredSchema, deleteSchema);
 
-      StructLikeSet deleteSet = deleteLoader().loadEqualityDeletes(deletes, deleteSchema);
+      StructLikeSet deleteSet =
+          metrics
+              .deleteLoadDuration()
+              .time(() -> deleteLoader().loadEqualityDeletes(deletes, deleteSchema));
       Predicate<T> isInDeleteSet =
           record -> deleteSet.contains(projectRow.wrap(asStructLike(record)));
       isInDeleteSets.add(isInDeleteSet);
@@ -206,6 +229,12 @@ public abstract class DeleteFilter<T> {
   private CloseableIterable<T> applyEqDeletes(CloseableIterable<T> records) {
     Predicate<T> isEqDeleted = applyEqDeletes().stream().reduce(Predicate::or).orElse(t -> false);
 
+    if (hasIsDeletedColumn && !posDeletes.isEmpty()) {
+      // rows deleted by position are already marked and counted, so they are not counted again
+      PositionDeleteIndex positionIndex = deletedRowPositions();
+      isEqDeleted = isEqDeleted.and(record -> !positionIndex.isDeleted(pos(record)));
+    }
+
     return createDeleteIterable(records, isEqDeleted);
   }
 
@@ -214,6 +243,12 @@ public abstract class DeleteFilter<T> {
         this.getClass().getName() + " does not implement markRowDeleted");
   }
 
+  private void markAndCountRowDeleted(T item) {
+    // implementations of markRowDeleted update the delete counter
+    markRowDeleted(item);
+    metrics.deletedRows().increment();
+  }
+
   public Predicate<T> eqDeletedRowFilter() {
     if (eqDeleteRows == null) {
       eqDeleteRows =
@@ -224,7 +259,10 @@ public abstract class DeleteFilter<T> {
 
   public PositionDeleteIndex deletedRowPositions() {
     if (deleteRowPositions == null && !posDeletes.isEmpty()) {
-      this.deleteRowPositions = deleteLoader().loadPositionDeletes(posDeletes, filePath);
+      this.deleteRowPositions =
+          metrics
+              .deleteLoadDuration()
+              .time(() -> deleteLoader().loadPositionDeletes(posDeletes, filePath));
     }
 
     return deleteRowPositions;
@@ -243,8 +281,24 @@ public abstract class DeleteFilter<T> {
   private CloseableIterable<T> createDeleteIterable(
       CloseableIterable<T> records, Predicate<T> isDeleted) {
     return hasIsDeletedColumn
-        ? Deletes.markDeleted(records, isDeleted, this::markRowDeleted)
-        : Deletes.filterDeleted(records, isDeleted, counter);
+        ? Deletes.markDeleted(records, isDeleted, this::markAndCountRowDeleted)
+        : Deletes.filterDeleted(records, countDeleted(isDeleted), counter);
+  }
+
+  private Predicate<T> countDeleted(Predicate<T> isDeleted) {
+    Counter deletedRows = metrics.deletedRows();
+    if (deletedRows.isNoop()) {
+      return isDeleted;
+    }
+
+    return record -> {
+      boolean deleted = isDeleted.test(record);
+      if (deleted) {
+        deletedRows.increment();
+      }
+
+      return deleted;
+    };
   }
 
   private static Schema fileProjection(
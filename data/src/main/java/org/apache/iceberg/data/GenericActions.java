@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import org.apache.iceberg.Table;
+import org.apache.iceberg.actions.ActionsProvider;
+
+/**
+ * An implementation of {@link ActionsProvider} that runs actions in the current JVM, using generic
+ * records to read and write data.
+ *
+ * <p>This allows table maintenance without a query engine, for example in a lightweight service
+ * that compacts small files written by streaming jobs.
+ */
+public class GenericActions implements ActionsProvider {
+
+  private static final GenericActions INSTANCE = new GenericActions();
+
+  private GenericActions() {}
+
+  public static GenericActions get() {
+    return INSTANCE;
+  }
+
+  @Override
+  public GenericRewriteDataFiles rewriteDataFiles(Table table) {
+    return new GenericRewriteDataFiles(table);
+  }
+}
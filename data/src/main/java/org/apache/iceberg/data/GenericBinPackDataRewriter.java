@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.MetricsConfig;
+import org.apache.iceberg.PartitionKey;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.actions.SizeBasedDataRewriter;
+import org.apache.iceberg.encryption.PlaintextEncryptionManager;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FanoutDataWriter;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.io.RollingDataWriter;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.parquet.ParquetSchemaUtil;
+import org.apache.iceberg.parquet.ParquetUtil;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.Tasks;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.schema.MessageType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bin-pack data rewriter that reads and writes generic records in the current JVM.
+ *
+ * <p>Records are read with deletes applied and written to files of the target size. Groups whose
+ * files all belong to the output spec are written to a single partition, other groups are
+ * partitioned by the output spec while writing.
+ *
+ * <p>When {@link #COPY_ROW_GROUPS} is enabled, groups of Parquet files without deletes are
+ * combined by copying their row groups instead of decoding and encoding every row.
+ */
+public class GenericBinPackDataRewriter extends SizeBasedDataRewriter {
+  private static final Logger LOG = LoggerFactory.getLogger(GenericBinPackDataRewriter.class);
+
+  /**
+   * Whether to combine Parquet files by copying their row groups as they are. Row groups are only
+   * copied if all files in a group are Parquet files with the same file schema, have no deletes,
+   * belong to the output spec and are not encrypted. Other groups are rewritten row by row.
+   *
+   * <p>Copying is much cheaper than rewriting rows, but the output files keep the row groups of the
+   * input files, so many tiny input files still produce many small row groups.
+   *
+   * <p>Defaults to false.
+   */
+  public static final String COPY_ROW_GROUPS = "copy-row-groups";
+
+  public static final boolean COPY_ROW_GROUPS_DEFAULT = false;
+
+  private final String operationId = UUID.randomUUID().toString();
+  private final AtomicInteger groupIds = new AtomicInteger(0);
+  private boolean copyRowGroups;
+
+  public GenericBinPackDataRewriter(Table table) {
+    super(table);
+  }
+
+  @Override
+  public String description() {
+    return "BIN-PACK";
+  }
+
+  @Override
+  public Set<String> validOptions() {
+    return ImmutableSet.<String>builder().addAll(super.validOptions()).add(COPY_ROW_GROUPS).build();
+  }
+
+  @Override
+  public void init(Map<String, String> options) {
+    super.init(options);
+    this.copyRowGroups =
+        PropertyUtil.propertyAsBoolean(options, COPY_ROW_GROUPS, COPY_ROW_GROUPS_DEFAULT);
+  }
+
+  @Override
+  public Set<DataFile> rewrite(List<FileScanTask> group) {
+    PartitionSpec spec = outputSpec();
+    GenericFileWriterFactory writerFactory = GenericFileWriterFactory.builderFor(table()).build();
+    OutputFileFactory fileFactory =
+        OutputFileFactory.builderFor(table(), groupIds.incrementAndGet(), 0)
+            .operationId(operationId)
+            .defaultSpec(spec)
+            .build();
+
+    StructLike partition = commonPartition(group, spec);
+    if (partition != null && copyRowGroups && canCopyRowGroups(group)) {
+      ParquetMetadata template = readFooter(group.get(0));
+      if (haveSameFileSchema(group, template.getFileMetaData().getSchema())) {
+        return copyRowGroups(group, fileFactory, spec, partition, template);
+      }
+
+      LOG.info("Cannot copy row groups of files with different schemas, rewriting rows instead");
+    }
+
+    if (partition != null) {
+      RollingDataWriter<Record> writer =
+          new RollingDataWriter<>(
+              writerFactory, fileFactory, table().io(), writeMaxFileSize(), spec, partition);
+      return write(group, writer, writer::write, () -> writer.result().dataFiles());
+
+    } else {
+      PartitionKey partitionKey = new PartitionKey(spec, table().schema());
+      InternalRecordWrapper wrapper = new InternalRecordWrapper(table().schema().asStruct());
+      FanoutDataWriter<Record> writer =
+          new FanoutDataWriter<>(writerFactory, fileFactory, table().io(), writeMaxFileSize());
+      return write(
+          group,
+          writer,
+          record -> {
+            partitionKey.partition(wrapper.wrap(record));
+            writer.write(record, spec, partitionKey);
+          },
+          () -> writer.result().dataFiles());
+    }
+  }
+
+  private Set<DataFile> write(
+      List<FileScanTask> group,
+      Closeable writer,
+      Consumer<Record> writeFunc,
+      Supplier<List<DataFile>> resultFunc) {
+    GenericReader reader = new GenericReader(table().newScan(), true /* reuse containers */, null);
+
+    try {
+      try (Closeable closeable = writer) {
+        for (FileScanTask task : group) {
+          try (CloseableIterable<Record> records = reader.open(task)) {
+            records.forEach(writeFunc);
+          }
+        }
+      }
+
+      return Sets.newHashSet(resultFunc.get());
+
+    } catch (IOException | RuntimeException e) {
+      deleteWrittenFiles(resultFunc);
+      if (e instanceof IOException) {
+        throw new UncheckedIOException("Failed to rewrite file group", (IOException) e);
+      }
+
+      throw (RuntimeException) e;
+    }
+  }
+
+  private boolean canCopyRowGroups(List<FileScanTask> group) {
+    if (!(table().encryption() instanceof PlaintextEncryptionManager)) {
+      return false;
+    }
+
+    for (FileScanTask task : group) {
+      DataFile file = task.file();
+      boolean wholeFile = task.start() == 0 && task.length() == file.fileSizeInBytes();
+      boolean noFilter = task.residual().op() == Expression.Operation.TRUE;
+      if (file.format() != FileFormat.PARQUET
+          || file.keyMetadata() != null
+          || (task.deletes() != null && !task.deletes().isEmpty())
+          || !wholeFile
+          || !noFilter) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  // row groups can only be copied if all files have the same schema with field IDs
+  private boolean haveSameFileSchema(List<FileScanTask> group, MessageType fileSchema) {
+    if (!ParquetSchemaUtil.hasIds(fileSchema)) {
+      return false;
+    }
+
+    for (FileScanTask task : group.subList(1, group.size())) {
+      if (!fileSchema.equals(readFooter(task).getFileMetaData().getSchema())) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private ParquetMetadata readFooter(FileScanTask task) {
+    return ParquetUtil.readFooter(inputFile(task));
+  }
+
+  private InputFile inputFile(FileScanTask task) {
+    return table().io().newInputFile(task.file().path().toString());
+  }
+
+  private Set<DataFile> copyRowGroups(
+      List<FileScanTask> group,
+      OutputFileFactory fileFactory,
+      PartitionSpec spec,
+      StructLike partition,
+      ParquetMetadata template) {
+    MessageType fileSchema = template.getFileMetaData().getSchema();
+    Map<String, String> metadata = template.getFileMetaData().getKeyValueMetaData();
+    MetricsConfig metricsConfig = MetricsConfig.forTable(table());
+    List<DataFile> writtenFiles = Lists.newArrayList();
+    OutputFile outputFile = null;
+
+    try {
+      for (List<FileScanTask> tasks : packBySize(group)) {
+        List<InputFile> inputFiles = Lists.transform(tasks, this::inputFile);
+        outputFile = fileFactory.newOutputFile(spec, partition).encryptingOutputFile();
+        Parquet.ConcatResult result =
+            Parquet.concat(inputFiles, outputFile, fileSchema, metadata);
+        Metrics metrics = ParquetUtil.footerMetrics(result.footer(), Stream.empty(), metricsConfig);
+
+        writtenFiles.add(
+            DataFiles.builder(spec)
+                .withPath(outputFile.location())
+                .withFormat(FileFormat.PARQUET)
+                .withPartition(partition)
+                .withFileSizeInBytes(result.length())
+                .withMetrics(metrics)
+                .withSplitOffsets(ParquetUtil.getSplitOffsets(result.footer()))
+                .build());
+        outputFile = null;
+      }
+
+      return Sets.newHashSet(writtenFiles);
+
+    } catch (IOException | RuntimeException e) {
+      deleteWrittenFiles(() -> writtenFiles);
+      deleteIncompleteFile(outputFile);
+      if (e instanceof IOException) {
+        throw new UncheckedIOException("Failed to copy row groups of file group", (IOException) e);
+      }
+
+      throw (RuntimeException) e;
+    }
+  }
+
+  // packs files into output files up to the max file size, keeping the order of the group
+  private List<List<FileScanTask>> packBySize(List<FileScanTask> group) {
+    List<List<FileScanTask>> outputs = Lists.newArrayList();
+    List<FileScanTask> current = Lists.newArrayList();
+    long currentSize = 0L;
+    for (FileScanTask task : group) {
+      long size = task.file().fileSizeInBytes();
+      if (!current.isEmpty() && currentSize + size > writeMaxFileSize()) {
+        outputs.add(current);
+        current = Lists.newArrayList();
+        currentSize = 0L;
+      }
+
+      current.add(task);
+      currentSize += size;
+    }
+
+    if (!current.isEmpty()) {
+      outputs.add(current);
+    }
+
+    return outputs;
+  }
+
+  // files that were completed before a failure are not committed and can be removed
+  private void deleteWrittenFiles(Supplier<List<DataFile>> resultFunc) {
+    List<DataFile> writtenFiles;
+    try {
+      writtenFiles = resultFunc.get();
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to determine files written before the failure", e);
+      return;
+    }
+
+    Tasks.foreach(writtenFiles)
+        .noRetry()
+        .suppressFailureWhenFinished()
+        .onFailure((file, exc) -> LOG.warn("Failed to delete file: {}", file.path(), exc))
+        .run(file -> table().io().deleteFile(file.path().toString()));
+  }
+
+  private void deleteIncompleteFile(OutputFile outputFile) {
+    if (outputFile != null) {
+      try {
+        table().io().deleteFile(outputFile.location());
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to delete file: {}", outputFile.location(), e);
+      }
+    }
+  }
+
+  // returns the partition of the group if all files are in the output spec, or null otherwise
+  private static StructLike commonPartition(List<FileScanTask> group, PartitionSpec spec) {
+    for (FileScanTask task : group) {
+      if (task.file().specId() != spec.specId()) {
+        return null;
+      }
+    }
+
+    return group.get(0).file().partition();
+  }
+}
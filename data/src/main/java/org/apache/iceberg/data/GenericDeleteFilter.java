@@ -21,8 +21,10 @@ package org.apache.iceberg.data;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.deletes.DeleteCounter;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
 
 public class GenericDeleteFilter extends DeleteFilter<Record> {
   private final FileIO io;
@@ -30,7 +32,22 @@ public class GenericDeleteFilter extends DeleteFilter<Record> {
 
   public GenericDeleteFilter(
       FileIO io, FileScanTask task, Schema tableSchema, Schema requestedSchema) {
-    super(task.file().path().toString(), task.deletes(), tableSchema, requestedSchema);
+    this(io, task, tableSchema, requestedSchema, ScanTaskMetrics.noop());
+  }
+
+  public GenericDeleteFilter(
+      FileIO io,
+      FileScanTask task,
+      Schema tableSchema,
+      Schema requestedSchema,
+      ScanTaskMetrics metrics) {
+    super(
+        task.file().path().toString(),
+        task.deletes(),
+        tableSchema,
+        requestedSchema,
+        new DeleteCounter(),
+        metrics);
     this.io = io;
     this.asStructLike = new InternalRecordWrapper(requiredSchema().asStruct());
   }
@@ -37,6 +37,7 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
 import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
@@ -50,13 +51,15 @@ class GenericReader implements Serializable {
   private final Schema projection;
   private final boolean caseSensitive;
   private final boolean reuseContainers;
+  private final transient ScanTaskMetrics metrics;
 
-  GenericReader(TableScan scan, boolean reuseContainers) {
+  GenericReader(TableScan scan, boolean reuseContainers, ScanTaskMetrics metrics) {
     this.io = scan.table().io();
     this.tableSchema = scan.table().schema();
     this.projection = scan.schema();
     this.caseSensitive = scan.isCaseSensitive();
     this.reuseContainers = reuseContainers;
+    this.metrics = metrics;
   }
 
   CloseableIterator<Record> open(CloseableIterable<CombinedScanTask> tasks) {
@@ -70,7 +73,8 @@ class GenericReader implements Serializable {
   }
 
   public CloseableIterable<Record> open(FileScanTask task) {
-    DeleteFilter<Record> deletes = new GenericDeleteFilter(io, task, tableSchema, projection);
+    DeleteFilter<Record> deletes =
+        new GenericDeleteFilter(io, task, tableSchema, projection, metrics());
     Schema readSchema = deletes.requiredSchema();
 
     CloseableIterable<Record> records = openFile(task, readSchema);
@@ -80,6 +84,11 @@ class GenericReader implements Serializable {
     return records;
   }
 
+  private ScanTaskMetrics metrics() {
+    // metrics are not serialized and are only collected where the reader was created
+    return metrics != null ? metrics : ScanTaskMetrics.noop();
+  }
+
   private CloseableIterable<Record> applyResidual(
       CloseableIterable<Record> records, Schema recordSchema, Expression residual) {
     if (residual != null && residual != Expressions.alwaysTrue()) {
@@ -120,7 +129,8 @@ class GenericReader implements Serializable {
                         GenericParquetReaders.buildReader(fileProjection, fileSchema, partition))
                 .split(task.start(), task.length())
                 .caseSensitive(caseSensitive)
-                .filter(task.residual());
+                .filter(task.residual())
+                .scanTaskMetrics(metrics());
 
         if (reuseContainers) {
           parquet.reuseContainers();
@@ -140,7 +150,8 @@ class GenericReader implements Serializable {
                         GenericOrcReader.buildReader(fileProjection, fileSchema, partition))
                 .split(task.start(), task.length())
                 .caseSensitive(caseSensitive)
-                .filter(task.residual());
+                .filter(task.residual())
+                .scanTaskMetrics(metrics());
 
         return orc.build();
 
@@ -0,0 +1,352 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.RewriteJobOrder;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.actions.FileRewriter;
+import org.apache.iceberg.actions.ImmutableRewriteDataFiles;
+import org.apache.iceberg.actions.RewriteDataFiles;
+import org.apache.iceberg.actions.RewriteDataFilesCommitManager;
+import org.apache.iceberg.actions.RewriteFileGroup;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.math.IntMath;
+import org.apache.iceberg.types.Types.StructType;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.StructLikeMap;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link RewriteDataFiles} action that bin-packs data files in the current JVM.
+ *
+ * <p>File groups are planned by a {@link GenericBinPackDataRewriter} and rewritten concurrently by
+ * a pool of {@link #MAX_CONCURRENT_FILE_GROUP_REWRITES} threads. Rewritten groups are committed
+ * with a {@link RewriteDataFilesCommitManager}, either at the end of the rewrite or in batches when
+ * partial progress is enabled.
+ */
+public class GenericRewriteDataFiles implements RewriteDataFiles {
+  private static final Logger LOG = LoggerFactory.getLogger(GenericRewriteDataFiles.class);
+  private static final Set<String> VALID_OPTIONS =
+      ImmutableSet.of(
+          MAX_CONCURRENT_FILE_GROUP_REWRITES,
+          MAX_FILE_GROUP_SIZE_BYTES,
+          PARTIAL_PROGRESS_ENABLED,
+          PARTIAL_PROGRESS_MAX_COMMITS,
+          PARTIAL_PROGRESS_MAX_FAILED_COMMITS,
+          TARGET_FILE_SIZE_BYTES,
+          USE_STARTING_SEQUENCE_NUMBER,
+          REWRITE_JOB_ORDER,
+          OUTPUT_SPEC_ID);
+
+  private static final Result EMPTY_RESULT =
+      ImmutableRewriteDataFiles.Result.builder().rewriteResults(ImmutableList.of()).build();
+
+  private final Table table;
+  private final Map<String, String> options = Maps.newHashMap();
+  private final Map<String, String> summary = Maps.newHashMap();
+  private final FileRewriter<FileScanTask, DataFile> rewriter;
+
+  private Expression filter = Expressions.alwaysTrue();
+  private int maxConcurrentFileGroupRewrites;
+  private int maxCommits;
+  private int maxFailedCommits;
+  private boolean partialProgressEnabled;
+  private boolean useStartingSequenceNumber;
+  private RewriteJobOrder rewriteJobOrder;
+
+  GenericRewriteDataFiles(Table table) {
+    this.table = table;
+    this.rewriter = new GenericBinPackDataRewriter(table);
+  }
+
+  @Override
+  public GenericRewriteDataFiles option(String name, String value) {
+    options.put(name, value);
+    return this;
+  }
+
+  @Override
+  public GenericRewriteDataFiles options(Map<String, String> newOptions) {
+    options.putAll(newOptions);
+    return this;
+  }
+
+  @Override
+  public GenericRewriteDataFiles snapshotProperty(String property, String value) {
+    summary.put(property, value);
+    return this;
+  }
+
+  @Override
+  public GenericRewriteDataFiles binPack() {
+    return this;
+  }
+
+  @Override
+  public GenericRewriteDataFiles filter(Expression expression) {
+    this.filter = Expressions.and(filter, expression);
+    return this;
+  }
+
+  @Override
+  public Result execute() {
+    if (table.currentSnapshot() == null) {
+      return EMPTY_RESULT;
+    }
+
+    long startingSnapshotId = table.currentSnapshot().snapshotId();
+
+    validateAndInitOptions();
+
+    List<RewriteFileGroup> fileGroups = planFileGroups(startingSnapshotId);
+    if (fileGroups.isEmpty()) {
+      LOG.info("Nothing found to rewrite in {}", table.name());
+      return EMPTY_RESULT;
+    }
+
+    RewriteDataFilesCommitManager commitManager =
+        new RewriteDataFilesCommitManager(
+            table, startingSnapshotId, useStartingSequenceNumber, ImmutableMap.copyOf(summary));
+
+    if (partialProgressEnabled) {
+      return doExecuteWithPartialProgress(fileGroups, commitManager);
+    } else {
+      return doExecute(fileGroups, commitManager);
+    }
+  }
+
+  List<RewriteFileGroup> planFileGroups(long startingSnapshotId) {
+    StructType partitionType = table.spec().partitionType();
+    StructLikeMap<List<FileScanTask>> filesByPartition = StructLikeMap.create(partitionType);
+    StructLike emptyStruct = GenericRecord.create(partitionType);
+
+    try (CloseableIterable<FileScanTask> tasks =
+        table
+            .newScan()
+            .useSnapshot(startingSnapshotId)
+            .filter(filter)
+            .ignoreResiduals()
+            .planFiles()) {
+      for (FileScanTask task : tasks) {
+        // files in other specs may contain values of multiple partitions of the current spec,
+        // grouping them together minimizes the number of new files
+        StructLike partition =
+            task.file().specId() == table.spec().specId() ? task.file().partition() : emptyStruct;
+        filesByPartition.computeIfAbsent(partition, key -> Lists.newArrayList()).add(task);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close file scan tasks", e);
+    }
+
+    List<RewriteFileGroup> fileGroups = Lists.newArrayList();
+    int globalIndex = 1;
+    for (Map.Entry<StructLike, List<FileScanTask>> entry : filesByPartition.entrySet()) {
+      int partitionIndex = 1;
+      for (List<FileScanTask> tasks : rewriter.planFileGroups(entry.getValue())) {
+        RewriteDataFiles.FileGroupInfo info =
+            ImmutableRewriteDataFiles.FileGroupInfo.builder()
+                .globalIndex(globalIndex++)
+                .partitionIndex(partitionIndex++)
+                .partition(entry.getKey())
+                .build();
+        fileGroups.add(new RewriteFileGroup(info, tasks));
+      }
+    }
+
+    fileGroups.sort(RewriteFileGroup.comparator(rewriteJobOrder));
+    return fileGroups;
+  }
+
+  private RewriteFileGroup rewriteFiles(RewriteFileGroup fileGroup) {
+    LOG.info(
+        "Rewriting {} files ({}, file group {}) in {}",
+        fileGroup.numFiles(),
+        rewriter.description(),
+        fileGroup.info().globalIndex(),
+        table.name());
+    fileGroup.setOutputFiles(rewriter.rewrite(fileGroup.fileScans()));
+    return fileGroup;
+  }
+
+  private ExecutorService rewriteService() {
+    return ThreadPools.newWorkerPool("rewrite-data-files", maxConcurrentFileGroupRewrites);
+  }
+
+  private Result doExecute(
+      List<RewriteFileGroup> fileGroups, RewriteDataFilesCommitManager commitManager) {
+    ExecutorService rewriteService = rewriteService();
+    Collection<RewriteFileGroup> rewrittenGroups = Queues.newConcurrentLinkedQueue();
+
+    try {
+      Tasks.foreach(fileGroups)
+          .executeWith(rewriteService)
+          .stopOnFailure()
+          .noRetry()
+          .onFailure(
+              (fileGroup, exception) ->
+                  LOG.warn(
+                      "Failure during rewrite process for group {}", fileGroup.info(), exception))
+          .run(fileGroup -> rewrittenGroups.add(rewriteFiles(fileGroup)));
+    } catch (RuntimeException e) {
+      LOG.error(
+          "Cannot complete rewrite, {} is not enabled and one of the file groups failed to be "
+              + "rewritten. Cleaning up {} groups which finished being written.",
+          PARTIAL_PROGRESS_ENABLED,
+          rewrittenGroups.size(),
+          e);
+      Tasks.foreach(rewrittenGroups)
+          .suppressFailureWhenFinished()
+          .run(commitManager::abortFileGroup);
+      throw e;
+    } finally {
+      rewriteService.shutdown();
+    }
+
+    commitManager.commitOrClean(Sets.newHashSet(rewrittenGroups));
+
+    return ImmutableRewriteDataFiles.Result.builder()
+        .rewriteResults(
+            rewrittenGroups.stream().map(RewriteFileGroup::asResult).collect(Collectors.toList()))
+        .build();
+  }
+
+  private Result doExecuteWithPartialProgress(
+      List<RewriteFileGroup> fileGroups, RewriteDataFilesCommitManager commitManager) {
+    ExecutorService rewriteService = rewriteService();
+
+    int groupsPerCommit = IntMath.divide(fileGroups.size(), maxCommits, RoundingMode.CEILING);
+    RewriteDataFilesCommitManager.CommitService commitService =
+        commitManager.service(groupsPerCommit);
+    commitService.start();
+
+    Collection<FileGroupFailureResult> rewriteFailures = new ConcurrentLinkedQueue<>();
+    try {
+      Tasks.foreach(fileGroups)
+          .suppressFailureWhenFinished()
+          .executeWith(rewriteService)
+          .noRetry()
+          .onFailure(
+              (fileGroup, exception) -> {
+                LOG.error("Failure during rewrite group {}", fileGroup.info(), exception);
+                rewriteFailures.add(
+                    ImmutableRewriteDataFiles.FileGroupFailureResult.builder()
+                        .info(fileGroup.info())
+                        .dataFilesCount(fileGroup.numFiles())
+                        .build());
+              })
+          .run(fileGroup -> commitService.offer(rewriteFiles(fileGroup)));
+    } finally {
+      rewriteService.shutdown();
+    }
+
+    commitService.close();
+
+    int failedCommits = maxCommits - commitService.succeededCommits();
+    Preconditions.checkState(
+        failedCommits <= maxFailedCommits,
+        "%s is true but %s rewrite commits failed. This is more than the maximum allowed failures "
+            + "of %s.",
+        PARTIAL_PROGRESS_ENABLED,
+        failedCommits,
+        maxFailedCommits);
+
+    return ImmutableRewriteDataFiles.Result.builder()
+        .rewriteResults(
+            commitService.results().stream()
+                .map(RewriteFileGroup::asResult)
+                .collect(Collectors.toList()))
+        .rewriteFailures(rewriteFailures)
+        .build();
+  }
+
+  void validateAndInitOptions() {
+    Set<String> validOptions = Sets.newHashSet(rewriter.validOptions());
+    validOptions.addAll(VALID_OPTIONS);
+
+    Set<String> invalidKeys = Sets.newHashSet(options.keySet());
+    invalidKeys.removeAll(validOptions);
+
+    Preconditions.checkArgument(
+        invalidKeys.isEmpty(),
+        "Cannot use options %s, they are not supported by the action or the rewriter %s",
+        invalidKeys,
+        rewriter.description());
+
+    rewriter.init(options);
+
+    this.maxConcurrentFileGroupRewrites =
+        PropertyUtil.propertyAsInt(
+            options,
+            MAX_CONCURRENT_FILE_GROUP_REWRITES,
+            MAX_CONCURRENT_FILE_GROUP_REWRITES_DEFAULT);
+    this.maxCommits =
+        PropertyUtil.propertyAsInt(
+            options, PARTIAL_PROGRESS_MAX_COMMITS, PARTIAL_PROGRESS_MAX_COMMITS_DEFAULT);
+    this.maxFailedCommits =
+        PropertyUtil.propertyAsInt(options, PARTIAL_PROGRESS_MAX_FAILED_COMMITS, maxCommits);
+    this.partialProgressEnabled =
+        PropertyUtil.propertyAsBoolean(
+            options, PARTIAL_PROGRESS_ENABLED, PARTIAL_PROGRESS_ENABLED_DEFAULT);
+    this.useStartingSequenceNumber =
+        PropertyUtil.propertyAsBoolean(
+            options, USE_STARTING_SEQUENCE_NUMBER, USE_STARTING_SEQUENCE_NUMBER_DEFAULT);
+    this.rewriteJobOrder =
+        RewriteJobOrder.fromName(
+            PropertyUtil.propertyAsString(options, REWRITE_JOB_ORDER, REWRITE_JOB_ORDER_DEFAULT));
+
+    Preconditions.checkArgument(
+        maxConcurrentFileGroupRewrites >= 1,
+        "Cannot set %s to %s, the value must be positive.",
+        MAX_CONCURRENT_FILE_GROUP_REWRITES,
+        maxConcurrentFileGroupRewrites);
+
+    Preconditions.checkArgument(
+        !partialProgressEnabled || maxCommits > 0,
+        "Cannot set %s to %s, the value must be positive when %s is true",
+        PARTIAL_PROGRESS_MAX_COMMITS,
+        maxCommits,
+        PARTIAL_PROGRESS_ENABLED);
+  }
+}
@@ -24,6 +24,7 @@ import org.apache.iceberg.Table;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.metrics.MetricsReporter;
 
 public class IcebergGenerics {
   private IcebergGenerics() {}
@@ -41,6 +42,7 @@ public class IcebergGenerics {
   public static class ScanBuilder {
     private TableScan tableScan;
     private boolean reuseContainers = false;
+    private MetricsReporter metricsReporter = null;
 
     public ScanBuilder(Table table) {
       this.tableScan = table.newScan();
@@ -96,8 +98,22 @@ public class IcebergGenerics {
       return this;
     }
 
+    /**
+     * Sets a reporter for the scan planning report and a {@link
+     * org.apache.iceberg.metrics.ScanTaskReport} with the metrics of reading the scan tasks, which
+     * is sent when the returned iterable is closed.
+     *
+     * @param reporter a metrics reporter
+     * @return this for method chaining
+     */
+    public ScanBuilder metricsReporter(MetricsReporter reporter) {
+      this.tableScan = tableScan.metricsReporter(reporter);
+      this.metricsReporter = reporter;
+      return this;
+    }
+
     public CloseableIterable<Record> build() {
-      return new TableScanIterable(tableScan, reuseContainers);
+      return new TableScanIterable(tableScan, reuseContainers, metricsReporter);
     }
   }
 }
@@ -20,17 +20,32 @@ package org.apache.iceberg.data;
 
 import java.io.IOException;
 import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.EnvironmentContext;
+import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.ImmutableScanTaskReport;
+import org.apache.iceberg.metrics.MetricsReporter;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
+import org.apache.iceberg.metrics.ScanTaskMetricsResult;
 
 class TableScanIterable extends CloseableGroup implements CloseableIterable<Record> {
+  private final TableScan scan;
+  private final MetricsReporter reporter;
+  private final ScanTaskMetrics metrics;
   private final GenericReader reader;
   private final CloseableIterable<CombinedScanTask> tasks;
+  private boolean reported = false;
 
-  TableScanIterable(TableScan scan, boolean reuseContainers) {
-    this.reader = new GenericReader(scan, reuseContainers);
+  TableScanIterable(TableScan scan, boolean reuseContainers, MetricsReporter reporter) {
+    this.scan = scan;
+    this.reporter = reporter;
+    this.metrics =
+        reporter != null ? ScanTaskMetrics.of(new DefaultMetricsContext()) : ScanTaskMetrics.noop();
+    this.reader = new GenericReader(scan, reuseContainers, metrics);
     // start planning tasks in the background
     this.tasks = scan.planTasks();
   }
@@ -46,5 +61,20 @@ class TableScanIterable extends CloseableGroup implements CloseableIterable<Reco
   public void close() throws IOException {
     tasks.close(); // close manifests from scan planning
     super.close(); // close data files
+    report();
+  }
+
+  private void report() {
+    Snapshot snapshot = scan.snapshot();
+    if (reporter != null && snapshot != null && !reported) {
+      this.reported = true;
+      reporter.report(
+          ImmutableScanTaskReport.builder()
+              .tableName(scan.table().name())
+              .snapshotId(snapshot.snapshotId())
+              .scanTaskMetrics(ScanTaskMetricsResult.fromScanTaskMetrics(metrics))
+              .metadata(EnvironmentContext.get())
+              .build());
+    }
   }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.iceberg.CommitCoalescer;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TestTables;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestCommitCoalescerDeletes {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()), required(2, "data", Types.StringType.get()));
+
+  @TempDir private Path temp;
+
+  private Table table;
+
+  @BeforeEach
+  public void createTable() {
+    File tableDir = temp.resolve("table").toFile();
+    this.table = TestTables.create(tableDir, "test", SCHEMA, PartitionSpec.unpartitioned(), 2);
+  }
+
+  @AfterEach
+  public void dropTable() {
+    TestTables.clearTables();
+  }
+
+  @Test
+  public void testEqualityDeleteAppliesToEarlierAppend() throws Exception {
+    GenericRecord template = GenericRecord.create(SCHEMA);
+    DataFile dataFile =
+        FileHelpers.writeDataFile(
+            table,
+            newOutputFile(),
+            ImmutableList.of(
+                template.copy("id", 1, "data", "a"), template.copy("id", 2, "data", "b")));
+
+    Schema deleteRowSchema = table.schema().select("id");
+    Record delete = GenericRecord.create(deleteRowSchema);
+    DeleteFile deleteFile =
+        FileHelpers.writeDeleteFile(
+            table, newOutputFile(), ImmutableList.of(delete.copy("id", 1)), deleteRowSchema);
+
+    try (CommitCoalescer coalescer =
+        CommitCoalescer.builderFor(table).commitWindowMs(60_000).build()) {
+      coalescer.append(ImmutableList.of(dataFile));
+      coalescer.rowDelta(ImmutableList.of(), ImmutableList.of(deleteFile));
+      coalescer.flush();
+    }
+
+    assertThat(read()).containsExactly(template.copy("id", 2, "data", "b"));
+  }
+
+  private OutputFile newOutputFile() throws IOException {
+    return Files.localOutput(File.createTempFile("junit", null, temp.toFile()));
+  }
+
+  private List<Record> read() {
+    table.refresh();
+    try (CloseableIterable<Record> records = IcebergGenerics.read(table).build()) {
+      return Lists.newArrayList(records);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
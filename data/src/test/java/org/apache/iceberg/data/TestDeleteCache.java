@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+public class TestDeleteCache {
+
+  private static final Duration TIMEOUT = Duration.ofMinutes(10);
+
+  @Test
+  public void testGetOrLoad() {
+    DeleteCache cache = new DeleteCache(TIMEOUT, 100L, 1000L);
+    AtomicInteger loads = new AtomicInteger();
+    Supplier<String> supplier = () -> "value-" + loads.incrementAndGet();
+
+    assertThat(cache.<String>getOrLoad("key", supplier, 10L)).isEqualTo("value-1");
+    assertThat(cache.<String>getOrLoad("key", supplier, 10L)).isEqualTo("value-1");
+    assertThat(loads).hasValue(1);
+    assertThat(cache.hitRate()).isEqualTo(0.5);
+    assertThat(cache.estimatedSize()).isEqualTo(10L);
+
+    cache.invalidate("key");
+
+    assertThat(cache.<String>getOrLoad("key", supplier, 10L)).isEqualTo("value-2");
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  public void testEntryExceedingMaxEntrySizeIsNotCached() {
+    DeleteCache cache = new DeleteCache(TIMEOUT, 100L, 1000L);
+    AtomicInteger loads = new AtomicInteger();
+    Supplier<Integer> supplier = loads::incrementAndGet;
+
+    assertThat(cache.<Integer>getOrLoad("key", supplier, 101L)).isEqualTo(1);
+    assertThat(cache.<Integer>getOrLoad("key", supplier, 101L)).isEqualTo(2);
+    assertThat(cache.estimatedSize()).isZero();
+  }
+
+  @Test
+  public void testEntryAtMaxEntrySizeIsCached() {
+    DeleteCache cache = new DeleteCache(TIMEOUT, 100L, 1000L);
+    AtomicInteger loads = new AtomicInteger();
+    Supplier<Integer> supplier = loads::incrementAndGet;
+
+    assertThat(cache.canCache(100L)).isTrue();
+    assertThat(cache.<Integer>getOrLoad("key", supplier, 100L)).isEqualTo(1);
+    assertThat(cache.<Integer>getOrLoad("key", supplier, 100L)).isEqualTo(1);
+    assertThat(cache.estimatedSize()).isEqualTo(100L);
+  }
+
+  @Test
+  public void testEvictionWhenMaxTotalSizeExceeded() {
+    DeleteCache cache = new DeleteCache(TIMEOUT, 100L, 150L);
+
+    for (int i = 0; i < 5; i += 1) {
+      int value = i;
+      cache.getOrLoad("key-" + i, () -> value, 100L);
+    }
+
+    // eviction is performed asynchronously by cache maintenance
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(
+            () -> {
+              assertThat(cache.evictionCount()).isGreaterThanOrEqualTo(4L);
+              assertThat(cache.estimatedSize()).isLessThanOrEqualTo(150L);
+            });
+  }
+
+  @Test
+  public void testCachingDeleteLoader() {
+    DeleteCache cache = new DeleteCache(TIMEOUT, 100L, 1000L);
+    CachingDeleteLoader loader = new CachingDeleteLoader(file -> null, cache);
+
+    assertThat(loader.canCache(100L)).isTrue();
+    assertThat(loader.canCache(101L)).isFalse();
+    assertThat(loader.<String>getOrLoad("key", () -> "value", 10L)).isEqualTo("value");
+    assertThat(cache.<String>getOrLoad("key", () -> "other", 10L)).isEqualTo("value");
+  }
+
+  @Test
+  public void testCachingDeleteLoaderMetrics() {
+    DeleteCache cache = new DeleteCache(TIMEOUT, 100L, 1000L);
+    ScanTaskMetrics metrics = ScanTaskMetrics.of(new DefaultMetricsContext());
+    CachingDeleteLoader loader = new CachingDeleteLoader(file -> null, cache, metrics);
+
+    loader.getOrLoad("key", () -> "value", 10L);
+    loader.getOrLoad("key", () -> "value", 10L);
+    loader.getOrLoad("other", () -> "value", 10L);
+
+    assertThat(metrics.deleteCacheMisses().value()).isEqualTo(2L);
+    assertThat(metrics.deleteCacheHits().value()).isEqualTo(1L);
+  }
+
+  @Test
+  public void testInvalidSizes() {
+    assertThatThrownBy(() -> new DeleteCache(TIMEOUT, 0L, 100L))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid max entry size: 0 (must be positive)");
+
+    assertThatThrownBy(() -> new DeleteCache(TIMEOUT, 10L, -1L))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid max total size: -1 (must be positive)");
+  }
+}
@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.TestTables;
+import org.apache.iceberg.actions.RewriteDataFiles;
+import org.apache.iceberg.actions.SizeBasedFileRewriter;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.parquet.ParquetUtil;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestGenericRewriteDataFiles {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()), required(2, "data", Types.StringType.get()));
+
+  @TempDir private Path temp;
+
+  private Table table;
+  private GenericAppenderHelper appender;
+
+  @BeforeEach
+  public void createTable() throws IOException {
+    File tableDir = temp.resolve("table").toFile();
+
+    this.table = TestTables.create(tableDir, "test", SCHEMA, PartitionSpec.unpartitioned(), 2);
+    this.appender = new GenericAppenderHelper(table, FileFormat.PARQUET, temp);
+  }
+
+  @AfterEach
+  public void dropTable() {
+    TestTables.clearTables();
+  }
+
+  @Test
+  public void testEmptyTable() {
+    RewriteDataFiles.Result result = GenericActions.get().rewriteDataFiles(table).execute();
+
+    assertThat(result.rewrittenDataFilesCount()).isZero();
+    assertThat(result.addedDataFilesCount()).isZero();
+  }
+
+  @Test
+  public void testBinPack() throws IOException {
+    List<Record> expected = Lists.newArrayList();
+    for (int file = 0; file < 4; file += 1) {
+      List<Record> records = records(file * 10, 10);
+      appender.appendToTable(records);
+      expected.addAll(records);
+    }
+
+    RewriteDataFiles.Result result =
+        GenericActions.get()
+            .rewriteDataFiles(table)
+            .binPack()
+            .option(SizeBasedFileRewriter.MIN_INPUT_FILES, "2")
+            .execute();
+
+    assertThat(result.rewrittenDataFilesCount()).isEqualTo(4);
+    assertThat(result.addedDataFilesCount()).isEqualTo(1);
+    assertThat(dataFiles()).hasSize(1);
+    assertThat(read()).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  public void testBinPackAppliesDeletes() throws IOException {
+    for (int file = 0; file < 3; file += 1) {
+      appender.appendToTable(records(file * 10, 10));
+    }
+
+    DataFile first = dataFiles().get(0);
+    OutputFile out = Files.localOutput(File.createTempFile("junit", null, temp.toFile()));
+    DeleteFile deletes =
+        FileHelpers.writeDeleteFile(
+                table, out, ImmutableList.of(Pair.of(first.path(), 0L), Pair.of(first.path(), 3L)))
+            .first();
+    table.newRowDelta().addDeletes(deletes).commit();
+
+    List<Record> expected = read();
+    assertThat(expected).hasSize(28);
+
+    RewriteDataFiles.Result result =
+        GenericActions.get()
+            .rewriteDataFiles(table)
+            .option(SizeBasedFileRewriter.MIN_INPUT_FILES, "2")
+            .option(RewriteDataFiles.PARTIAL_PROGRESS_ENABLED, "true")
+            .execute();
+
+    assertThat(result.rewrittenDataFilesCount()).isEqualTo(3);
+    assertThat(result.addedDataFilesCount()).isEqualTo(1);
+    assertThat(dataFiles()).hasSize(1);
+    assertThat(read()).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  public void testCopyRowGroups() throws IOException {
+    List<Record> expected = Lists.newArrayList();
+    for (int file = 0; file < 4; file += 1) {
+      List<Record> records = records(file * 10, 10);
+      appender.appendToTable(records);
+      expected.addAll(records);
+    }
+
+    RewriteDataFiles.Result result =
+        GenericActions.get()
+            .rewriteDataFiles(table)
+            .option(SizeBasedFileRewriter.MIN_INPUT_FILES, "2")
+            .option(GenericBinPackDataRewriter.COPY_ROW_GROUPS, "true")
+            .execute();
+
+    assertThat(result.rewrittenDataFilesCount()).isEqualTo(4);
+    assertThat(result.addedDataFilesCount()).isEqualTo(1);
+    assertThat(read()).containsExactlyInAnyOrderElementsOf(expected);
+
+    List<DataFile> files = dataFiles();
+    assertThat(files).hasSize(1);
+    DataFile file = files.get(0);
+    assertThat(file.recordCount()).isEqualTo(40L);
+    assertThat(file.splitOffsets()).hasSize(4);
+    assertThat(file.fileSizeInBytes())
+        .isEqualTo(table.io().newInputFile(file.path().toString()).getLength());
+    assertThat(file.lowerBounds()).containsKey(1);
+    assertThat(file.upperBounds()).containsKey(1);
+    assertThat(rowGroupCount(file)).isEqualTo(4);
+  }
+
+  @Test
+  public void testCopyRowGroupsKeepsIndexesAndBloomFilters() throws IOException {
+    Configuration conf = new Configuration();
+    conf.set(TableProperties.PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX + "id", "true");
+    GenericAppenderHelper bloomAppender =
+        new GenericAppenderHelper(table, FileFormat.PARQUET, temp, conf);
+    for (int file = 0; file < 4; file += 1) {
+      bloomAppender.appendToTable(records(file * 10, 10));
+    }
+
+    GenericActions.get()
+        .rewriteDataFiles(table)
+        .option(SizeBasedFileRewriter.MIN_INPUT_FILES, "2")
+        .option(GenericBinPackDataRewriter.COPY_ROW_GROUPS, "true")
+        .execute();
+
+    List<DataFile> files = dataFiles();
+    assertThat(files).hasSize(1);
+
+    org.apache.hadoop.fs.Path path = new org.apache.hadoop.fs.Path(files.get(0).path().toString());
+    try (ParquetFileReader reader =
+        ParquetFileReader.open(HadoopInputFile.fromPath(path, new Configuration()))) {
+      List<BlockMetaData> blocks = reader.getFooter().getBlocks();
+      assertThat(blocks).hasSize(4);
+
+      for (int block = 0; block < blocks.size(); block += 1) {
+        for (ColumnChunkMetaData chunk : blocks.get(block).getColumns()) {
+          assertThat(reader.readColumnIndex(chunk)).isNotNull();
+          OffsetIndex offsetIndex = reader.readOffsetIndex(chunk);
+          assertThat(offsetIndex).isNotNull();
+          assertThat(offsetIndex.getOffset(0)).isEqualTo(chunk.getFirstDataPageOffset());
+        }
+
+        ColumnChunkMetaData idChunk = blocks.get(block).getColumns().get(0);
+        BloomFilter bloomFilter = reader.readBloomFilter(idChunk);
+        assertThat(bloomFilter).isNotNull();
+        for (int id = block * 10; id < block * 10 + 10; id += 1) {
+          assertThat(bloomFilter.findHash(bloomFilter.hash(id))).isTrue();
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCopyRowGroupsFallsBackWithDeletes() throws IOException {
+    for (int file = 0; file < 3; file += 1) {
+      appender.appendToTable(records(file * 10, 10));
+    }
+
+    DataFile first = dataFiles().get(0);
+    OutputFile out = Files.localOutput(File.createTempFile("junit", null, temp.toFile()));
+    DeleteFile deletes =
+        FileHelpers.writeDeleteFile(table, out, ImmutableList.of(Pair.of(first.path(), 5L)))
+            .first();
+    table.newRowDelta().addDeletes(deletes).commit();
+
+    List<Record> expected = read();
+    assertThat(expected).hasSize(29);
+
+    GenericActions.get()
+        .rewriteDataFiles(table)
+        .option(SizeBasedFileRewriter.MIN_INPUT_FILES, "2")
+        .option(GenericBinPackDataRewriter.COPY_ROW_GROUPS, "true")
+        .execute();
+
+    List<DataFile> files = dataFiles();
+    assertThat(files).hasSize(1);
+    assertThat(rowGroupCount(files.get(0))).isEqualTo(1);
+    assertThat(read()).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  public void testCopyRowGroupsFallsBackWithDifferentSchemas() throws IOException {
+    for (int file = 0; file < 2; file += 1) {
+      appender.appendToTable(records(file * 10, 10));
+    }
+
+    table.updateSchema().addColumn("extra", Types.StringType.get()).commit();
+    GenericRecord template = GenericRecord.create(table.schema());
+    List<Record> records = Lists.newArrayList();
+    for (int id = 20; id < 30; id += 1) {
+      records.add(template.copy("id", id, "data", "data-" + id, "extra", "extra-" + id));
+    }
+    appender.appendToTable(records);
+
+    List<Record> expected = read();
+    assertThat(expected).hasSize(30);
+
+    RewriteDataFiles.Result result =
+        GenericActions.get()
+            .rewriteDataFiles(table)
+            .option(SizeBasedFileRewriter.MIN_INPUT_FILES, "2")
+            .option(GenericBinPackDataRewriter.COPY_ROW_GROUPS, "true")
+            .execute();
+
+    assertThat(result.rewrittenDataFilesCount()).isEqualTo(3);
+    List<DataFile> files = dataFiles();
+    assertThat(files).hasSize(1);
+    assertThat(rowGroupCount(files.get(0))).isEqualTo(1);
+    assertThat(read()).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  public void testInvalidOptions() throws IOException {
+    assertThatThrownBy(
+            () ->
+                GenericActions.get()
+                    .rewriteDataFiles(table)
+                    .option("foobarity", "-5")
+                    .execute())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Cannot use options [foobarity]");
+
+    appender.appendToTable(records(0, 1));
+    assertThatThrownBy(
+            () ->
+                GenericActions.get()
+                    .rewriteDataFiles(table)
+                    .option(RewriteDataFiles.MAX_CONCURRENT_FILE_GROUP_REWRITES, "0")
+                    .execute())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Cannot set max-concurrent-file-group-rewrites to 0, the value must be positive.");
+  }
+
+  private List<Record> records(int start, int count) {
+    GenericRecord template = GenericRecord.create(SCHEMA);
+    List<Record> records = Lists.newArrayList();
+    for (int id = start; id < start + count; id += 1) {
+      records.add(template.copy("id", id, "data", "data-" + id));
+    }
+    return records;
+  }
+
+  private int rowGroupCount(DataFile file) {
+    InputFile inputFile = table.io().newInputFile(file.path().toString());
+    return ParquetUtil.readFooter(inputFile).getBlocks().size();
+  }
+
+  private List<DataFile> dataFiles() {
+    table.refresh();
+    List<DataFile> files = Lists.newArrayList();
+    try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+      tasks.forEach(task -> files.add(task.file()));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return files;
+  }
+
+  private List<Record> read() {
+    table.refresh();
+    try (CloseableIterable<Record> records = IcebergGenerics.read(table).build()) {
+      return Lists.newArrayList(records);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -50,7 +50,11 @@ import org.apache.iceberg.Tables;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.hadoop.HadoopInputFile;
 import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.ScanTaskMetricsResult;
+import org.apache.iceberg.metrics.ScanTaskReport;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
@@ -310,6 +314,48 @@ public class TestLocalScan {
         Sets.newHashSet(result));
   }
 
+  @Test
+  public void testScanTaskReport() throws IOException {
+    List<MetricsReport> reports = Lists.newArrayList();
+    try (CloseableIterable<Record> result =
+        IcebergGenerics.read(sharedTable)
+            .where(lessThan("id", 3))
+            .metricsReporter(reports::add)
+            .build()) {
+      Assert.assertEquals(
+          "Records should match file 1",
+          Sets.newHashSet(file1FirstSnapshotRecords),
+          Sets.newHashSet(result));
+    }
+
+    List<ScanTaskReport> taskReports =
+        Lists.newArrayList(Iterables.filter(reports, ScanTaskReport.class));
+    Assertions.assertThat(taskReports).hasSize(1);
+
+    ScanTaskReport report = taskReports.get(0);
+    Assertions.assertThat(report.tableName()).isEqualTo(sharedTable.name());
+    Assertions.assertThat(report.snapshotId())
+        .isEqualTo(sharedTable.currentSnapshot().snapshotId());
+
+    ScanTaskMetricsResult metrics = report.scanTaskMetrics();
+    Assertions.assertThat(metrics.deletedRows().value()).isEqualTo(0L);
+    switch (format) {
+      case PARQUET:
+        Assertions.assertThat(metrics.rowsRead().value()).isEqualTo(3L);
+        Assertions.assertThat(metrics.totalRowGroups().value()).isEqualTo(1L);
+        Assertions.assertThat(metrics.bytesRead().value()).isGreaterThan(0L);
+        Assertions.assertThat(metrics.readDuration().count()).isEqualTo(1L);
+        break;
+      case ORC:
+        Assertions.assertThat(metrics.rowsRead().value()).isEqualTo(3L);
+        Assertions.assertThat(metrics.decodeDuration().count()).isGreaterThanOrEqualTo(1L);
+        break;
+      default:
+        // Avro readers do not update scan task metrics
+        Assertions.assertThat(metrics.rowsRead().value()).isEqualTo(0L);
+    }
+  }
+
   @Test
   public void testProject() {
     verifyProjectIdColumn(IcebergGenerics.read(sharedTable).select("id").build());
@@ -522,8 +522,20 @@ class TimerResult(BaseModel):
     total_duration: int = Field(..., alias='total-duration')
 
 
+class HistogramResult(BaseModel):
+    count: int
+    min: int
+    max: int
+    mean: float
+    std_dev: float = Field(..., alias='std-dev')
+    p50: int
+    p90: int
+    p99: int
+    p999: int
+
+
 class MetricResult(BaseModel):
-    __root__: Union[CounterResult, TimerResult]
+    __root__: Union[CounterResult, TimerResult, HistogramResult]
 
 
 class Metrics(BaseModel):
@@ -539,6 +551,12 @@ class CommitReport(BaseModel):
     metadata: Optional[Dict[str, str]] = None
 
 
+class FileIOReport(BaseModel):
+    file_io_impl: str = Field(..., alias='file-io-impl')
+    metrics: Metrics
+    metadata: Optional[Dict[str, str]] = None
+
+
 class OAuthError(BaseModel):
     error: Literal[
         'invalid_request',
@@ -847,6 +865,10 @@ class ReportMetricsRequest2(CommitReport):
     report_type: str = Field(..., alias='report-type')
 
 
+class ReportMetricsRequest3(FileIOReport):
+    report_type: str = Field(..., alias='report-type')
+
+
 class StatisticsFile(BaseModel):
     snapshot_id: int = Field(..., alias='snapshot-id')
     statistics_path: str = Field(..., alias='statistics-path')
@@ -1169,7 +1191,9 @@ class LoadViewResult(BaseModel):
 
 
 class ReportMetricsRequest(BaseModel):
-    __root__: Union[ReportMetricsRequest1, ReportMetricsRequest2]
+    __root__: Union[
+        ReportMetricsRequest1, ReportMetricsRequest2, ReportMetricsRequest3
+    ]
 
 
 class ScanReport(BaseModel):
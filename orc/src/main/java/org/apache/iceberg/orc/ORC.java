@@ -78,6 +78,7 @@ import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.mapping.NameMapping;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.ArrayUtil;
@@ -697,6 +698,7 @@ public class ORC {
     private Function<TypeDescription, OrcRowReader<?>> readerFunc;
     private Function<TypeDescription, OrcBatchReader<?>> batchedReaderFunc;
     private int recordsPerBatch = VectorizedRowBatch.DEFAULT_SIZE;
+    private ScanTaskMetrics scanTaskMetrics = ScanTaskMetrics.noop();
 
     private ReadBuilder(InputFile file) {
       Preconditions.checkNotNull(file, "Input file cannot be null");
@@ -773,6 +775,18 @@ public class ORC {
       return this;
     }
 
+    /**
+     * Sets the metrics that are updated with the rows read and the time spent reading batches.
+     *
+     * @param newScanTaskMetrics metrics to update
+     * @return this builder for method chaining
+     */
+    public ReadBuilder scanTaskMetrics(ScanTaskMetrics newScanTaskMetrics) {
+      Preconditions.checkArgument(newScanTaskMetrics != null, "Invalid scan task metrics: null");
+      this.scanTaskMetrics = newScanTaskMetrics;
+      return this;
+    }
+
     public <D> CloseableIterable<D> build() {
       Preconditions.checkNotNull(schema, "Schema is required");
       return new OrcIterable<>(
@@ -786,7 +800,8 @@ public class ORC {
           caseSensitive,
           filter,
           batchedReaderFunc,
-          recordsPerBatch);
+          recordsPerBatch,
+          scanTaskMetrics);
     }
   }
 
@@ -32,6 +32,7 @@ import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.MappingUtil;
 import org.apache.iceberg.mapping.NameMapping;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
 import org.apache.iceberg.util.Pair;
 import org.apache.orc.Reader;
 import org.apache.orc.TypeDescription;
@@ -50,6 +51,7 @@ class OrcIterable<T> extends CloseableGroup implements CloseableIterable<T> {
   private final boolean caseSensitive;
   private final Function<TypeDescription, OrcBatchReader<?>> batchReaderFunction;
   private final int recordsPerBatch;
+  private final ScanTaskMetrics metrics;
   private NameMapping nameMapping;
 
   OrcIterable(
@@ -63,7 +65,8 @@ class OrcIterable<T> extends CloseableGroup implements CloseableIterable<T> {
       boolean caseSensitive,
       Expression filter,
       Function<TypeDescription, OrcBatchReader<?>> batchReaderFunction,
-      int recordsPerBatch) {
+      int recordsPerBatch,
+      ScanTaskMetrics metrics) {
     this.schema = schema;
     this.readerFunction = readerFunction;
     this.file = file;
@@ -75,6 +78,7 @@ class OrcIterable<T> extends CloseableGroup implements CloseableIterable<T> {
     this.filter = (filter == Expressions.alwaysTrue()) ? null : filter;
     this.batchReaderFunction = batchReaderFunction;
     this.recordsPerBatch = recordsPerBatch;
+    this.metrics = metrics;
   }
 
   @SuppressWarnings("unchecked")
@@ -102,7 +106,8 @@ class OrcIterable<T> extends CloseableGroup implements CloseableIterable<T> {
     }
 
     VectorizedRowBatchIterator rowBatchIterator =
-        newOrcIterator(file, readOrcSchema, start, length, orcFileReader, sarg, recordsPerBatch);
+        newOrcIterator(
+            file, readOrcSchema, start, length, orcFileReader, sarg, recordsPerBatch, metrics);
     if (batchReaderFunction != null) {
       OrcBatchReader<T> batchReader = (OrcBatchReader<T>) batchReaderFunction.apply(readOrcSchema);
       return CloseableIterator.transform(
@@ -124,7 +129,8 @@ class OrcIterable<T> extends CloseableGroup implements CloseableIterable<T> {
       Long length,
       Reader orcFileReader,
       SearchArgument sarg,
-      int recordsPerBatch) {
+      int recordsPerBatch,
+      ScanTaskMetrics metrics) {
     final Reader.Options options = orcFileReader.options();
     if (start != null) {
       options.range(start, length);
@@ -134,7 +140,7 @@ class OrcIterable<T> extends CloseableGroup implements CloseableIterable<T> {
 
     try {
       return new VectorizedRowBatchIterator(
-          file.location(), readerSchema, orcFileReader.rows(options), recordsPerBatch);
+          file.location(), readerSchema, orcFileReader.rows(options), recordsPerBatch, metrics);
     } catch (IOException ioe) {
       throw new RuntimeIOException(ioe, "Failed to get ORC rows for file: %s", file);
     }
@@ -19,8 +19,10 @@
 package org.apache.iceberg.orc;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
 import org.apache.iceberg.util.Pair;
 import org.apache.orc.RecordReader;
 import org.apache.orc.TypeDescription;
@@ -36,14 +38,20 @@ public class VectorizedRowBatchIterator
   private final String fileLocation;
   private final RecordReader rows;
   private final VectorizedRowBatch batch;
+  private final ScanTaskMetrics metrics;
   private boolean advanced = false;
   private long batchOffsetInFile = 0;
 
   VectorizedRowBatchIterator(
-      String fileLocation, TypeDescription schema, RecordReader rows, int recordsPerBatch) {
+      String fileLocation,
+      TypeDescription schema,
+      RecordReader rows,
+      int recordsPerBatch,
+      ScanTaskMetrics metrics) {
     this.fileLocation = fileLocation;
     this.rows = rows;
     this.batch = schema.createRowBatch(recordsPerBatch);
+    this.metrics = metrics;
   }
 
   @Override
@@ -55,7 +63,11 @@ public class VectorizedRowBatchIterator
     if (!advanced) {
       try {
         batchOffsetInFile = rows.getRowNumber();
+        // ORC reads and decodes stripes while filling the batch
+        long decodeStart = System.nanoTime();
         rows.nextBatch(batch);
+        metrics.decodeDuration().record(System.nanoTime() - decodeStart, TimeUnit.NANOSECONDS);
+        metrics.rowsRead().increment(batch.size);
       } catch (IOException ioe) {
         throw new RuntimeIOException(ioe, "Problem reading ORC file %s", fileLocation);
       }
@@ -33,13 +33,25 @@ public abstract class BaseColumnIterator {
   protected long triplesRead = 0L;
   protected long advanceNextPageCount = 0L;
   protected Dictionary dictionary;
+  protected SelectedRows selectedRows = null;
 
   protected BaseColumnIterator(ColumnDescriptor descriptor) {
     this.desc = descriptor;
   }
 
   public void setPageSource(PageReader source) {
+    setPageSource(source, null);
+  }
+
+  /**
+   * Sets the page source for a row group.
+   *
+   * @param source a page reader for the column chunk
+   * @param selected rows to read if pages were filtered, or null to read all rows
+   */
+  public void setPageSource(PageReader source, SelectedRows selected) {
     this.pageSource = source;
+    this.selectedRows = selected;
     this.triplesCount = source.getTotalValueCount();
     this.triplesRead = 0L;
     this.advanceNextPageCount = 0L;
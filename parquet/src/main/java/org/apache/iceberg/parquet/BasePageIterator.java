@@ -53,6 +53,7 @@ public abstract class BasePageIterator {
   protected Dictionary dictionary = null;
   protected DataPage page = null;
   protected int triplesCount = 0;
+  protected long firstRowIndex = -1L;
   protected Encoding valueEncoding = null;
   protected IntIterator definitionLevels = null;
   protected IntIterator repetitionLevels = null;
@@ -67,6 +68,7 @@ public abstract class BasePageIterator {
     this.page = null;
     this.triplesCount = 0;
     this.triplesRead = 0;
+    this.firstRowIndex = -1L;
     this.repetitionLevels = null;
     this.hasNext = false;
   }
@@ -104,9 +106,21 @@ public abstract class BasePageIterator {
     return hasNext;
   }
 
+  /**
+   * Returns the index in the row group of the first row in the current page.
+   *
+   * <p>Row indexes are only known for pages of row groups that were read with row ranges.
+   */
+  protected long firstRowIndex() {
+    Preconditions.checkState(
+        firstRowIndex >= 0, "Cannot skip rows: unknown first row index for page in %s", desc);
+    return firstRowIndex;
+  }
+
   public void setPage(DataPage page) {
     Preconditions.checkNotNull(page, "Cannot read from null page");
     this.page = page;
+    this.firstRowIndex = page.getFirstRowIndex().orElse(-1L);
     this.page.accept(
         new DataPage.Visitor<ValuesReader>() {
           @Override
@@ -97,18 +97,19 @@ public abstract class ColumnIterator<T> extends BaseColumnIterator implements Tr
 
   @Override
   public int currentDefinitionLevel() {
-    advance();
+    advanceToSelectedRow();
     return pageIterator.currentDefinitionLevel();
   }
 
   @Override
   public int currentRepetitionLevel() {
-    advance();
+    advanceToSelectedRow();
     return pageIterator.currentRepetitionLevel();
   }
 
   @Override
   public boolean nextBoolean() {
+    advanceToSelectedRow();
     this.triplesRead += 1;
     advance();
     return pageIterator.nextBoolean();
@@ -116,6 +117,7 @@ public abstract class ColumnIterator<T> extends BaseColumnIterator implements Tr
 
   @Override
   public int nextInteger() {
+    advanceToSelectedRow();
     this.triplesRead += 1;
     advance();
     return pageIterator.nextInteger();
@@ -123,6 +125,7 @@ public abstract class ColumnIterator<T> extends BaseColumnIterator implements Tr
 
   @Override
   public long nextLong() {
+    advanceToSelectedRow();
     this.triplesRead += 1;
     advance();
     return pageIterator.nextLong();
@@ -130,6 +133,7 @@ public abstract class ColumnIterator<T> extends BaseColumnIterator implements Tr
 
   @Override
   public float nextFloat() {
+    advanceToSelectedRow();
     this.triplesRead += 1;
     advance();
     return pageIterator.nextFloat();
@@ -137,6 +141,7 @@ public abstract class ColumnIterator<T> extends BaseColumnIterator implements Tr
 
   @Override
   public double nextDouble() {
+    advanceToSelectedRow();
     this.triplesRead += 1;
     advance();
     return pageIterator.nextDouble();
@@ -144,6 +149,7 @@ public abstract class ColumnIterator<T> extends BaseColumnIterator implements Tr
 
   @Override
   public Binary nextBinary() {
+    advanceToSelectedRow();
     this.triplesRead += 1;
     advance();
     return pageIterator.nextBinary();
@@ -151,11 +157,27 @@ public abstract class ColumnIterator<T> extends BaseColumnIterator implements Tr
 
   @Override
   public <N> N nextNull() {
+    advanceToSelectedRow();
     this.triplesRead += 1;
     advance();
     return pageIterator.nextNull();
   }
 
+  /**
+   * Advances to the next page if needed and skips rows that were not selected by page filtering.
+   */
+  private void advanceToSelectedRow() {
+    advance();
+    if (selectedRows != null) {
+      int skipped = pageIterator.skipUnselectedRows(selectedRows);
+      while (skipped > 0) {
+        this.triplesRead += skipped;
+        advance();
+        skipped = pageIterator.skipUnselectedRows(selectedRows);
+      }
+    }
+  }
+
   @Override
   protected BasePageIterator pageIterator() {
     return pageIterator;
@@ -100,6 +100,9 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
     }
   }
 
+  // index in the row group of the row that contains the current triple, if pages have row indexes
+  private long currentRowIndex = -1L;
+
   private PageIterator(ColumnDescriptor desc, String writerVersion) {
     super(desc, writerVersion);
   }
@@ -107,9 +110,47 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
   @Override
   public void setPage(DataPage page) {
     super.setPage(page);
+    this.currentRowIndex = firstRowIndex - 1;
     advance();
   }
 
+  /**
+   * Skips the triples of rows that are not selected, starting at the current triple.
+   *
+   * <p>Skipping stops at the first triple of a selected row, in the middle of a row, or at the end
+   * of the page.
+   *
+   * @param selected selected rows of the row group
+   * @return the number of skipped triples
+   */
+  int skipUnselectedRows(SelectedRows selected) {
+    if (!hasNext || currentRL != 0 || selected.isSelected(currentRowIndex())) {
+      return 0;
+    }
+
+    int skipped = 0;
+    do {
+      if (currentDL == desc.getMaxDefinitionLevel()) {
+        try {
+          values.skip();
+        } catch (RuntimeException e) {
+          throw handleRuntimeException(e);
+        }
+      }
+
+      advance();
+      skipped += 1;
+    } while (hasNext && (currentRL != 0 || !selected.isSelected(currentRowIndex)));
+
+    return skipped;
+  }
+
+  private long currentRowIndex() {
+    // validates that the page has a first row index
+    firstRowIndex();
+    return currentRowIndex;
+  }
+
   @Override
   public int currentDefinitionLevel() {
     Preconditions.checkArgument(currentDL >= 0, "Should not read definition, past page end");
@@ -193,6 +234,9 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
     if (triplesRead < triplesCount) {
       this.currentDL = definitionLevels.nextInt();
       this.currentRL = repetitionLevels.nextInt();
+      if (currentRL == 0) {
+        this.currentRowIndex += 1;
+      }
       this.triplesRead += 1;
       this.hasNext = true;
     } else {
@@ -88,6 +88,7 @@ import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.mapping.NameMapping;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
 import org.apache.iceberg.parquet.ParquetValueWriters.PositionDeleteStructWriter;
 import org.apache.iceberg.parquet.ParquetValueWriters.StructWriter;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
@@ -102,6 +103,7 @@ import org.apache.parquet.HadoopReadOptions;
 import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.avro.AvroReadSupport;
 import org.apache.parquet.avro.AvroWriteSupport;
+import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.column.ParquetProperties.WriterVersion;
 import org.apache.parquet.crypto.FileDecryptionProperties;
@@ -113,7 +115,11 @@ import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.api.ReadSupport;
 import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.io.SeekableInputStream;
 import org.apache.parquet.schema.MessageType;
 
 public class Parquet {
@@ -1041,6 +1047,7 @@ public class Parquet {
     private Function<MessageType, VectorizedReader<?>> batchedReaderFunc = null;
     private Function<MessageType, ParquetValueReader<?>> readerFunc = null;
     private boolean filterRecords = true;
+    private boolean filterPages = false;
     private boolean caseSensitive = true;
     private boolean callInit = false;
     private boolean reuseContainers = false;
@@ -1048,6 +1055,7 @@ public class Parquet {
     private NameMapping nameMapping = null;
     private ByteBuffer fileEncryptionKey = null;
     private ByteBuffer fileAADPrefix = null;
+    private ScanTaskMetrics scanTaskMetrics = ScanTaskMetrics.noop();
 
     private ReadBuilder(InputFile file) {
       this.file = file;
@@ -1090,6 +1098,21 @@ public class Parquet {
       return this;
     }
 
+    /**
+     * Enables skipping pages that cannot contain rows matching the filter using column indexes.
+     *
+     * <p>Row-based and batched readers only return rows of pages that may match and row positions
+     * reflect the skipped rows. Batch readers must compute positions of returned rows from the row
+     * indexes of the row group instead of assuming rows are contiguous.
+     *
+     * @param newFilterPages whether to filter pages using column indexes
+     * @return this for method chaining
+     */
+    public ReadBuilder filterPages(boolean newFilterPages) {
+      this.filterPages = newFilterPages;
+      return this;
+    }
+
     /** @deprecated will be removed in 2.0.0; use {@link #createReaderFunc(Function)} instead */
     @Deprecated
     public ReadBuilder readSupport(ReadSupport<?> newFilterSupport) {
@@ -1151,6 +1174,19 @@ public class Parquet {
       return this;
     }
 
+    /**
+     * Sets the metrics that are updated with row groups skipped, bytes and rows read, and the time
+     * spent reading and decoding.
+     *
+     * @param newScanTaskMetrics metrics to update
+     * @return this for method chaining
+     */
+    public ReadBuilder scanTaskMetrics(ScanTaskMetrics newScanTaskMetrics) {
+      Preconditions.checkArgument(newScanTaskMetrics != null, "Invalid scan task metrics: null");
+      this.scanTaskMetrics = newScanTaskMetrics;
+      return this;
+    }
+
     @SuppressWarnings({"unchecked", "checkstyle:CyclomaticComplexity"})
     public <D> CloseableIterable<D> build() {
       FileDecryptionProperties fileDecryptionProperties = null;
@@ -1212,10 +1248,21 @@ public class Parquet {
               filter,
               reuseContainers,
               caseSensitive,
-              maxRecordsPerBatch);
+              maxRecordsPerBatch,
+              filterPages,
+              scanTaskMetrics);
         } else {
           return new org.apache.iceberg.parquet.ParquetReader<>(
-              file, schema, options, readerFunc, mapping, filter, reuseContainers, caseSensitive);
+              file,
+              schema,
+              options,
+              readerFunc,
+              mapping,
+              filter,
+              reuseContainers,
+              caseSensitive,
+              filterPages,
+              scanTaskMetrics);
         }
       }
 
@@ -1356,4 +1403,95 @@ public class Parquet {
     }
     writer.end(metadata);
   }
+
+  /**
+   * Combines several files into one by copying their row groups without decoding them.
+   *
+   * <p>All input files must have the given file schema. Row groups are copied as they are, so the
+   * output file has as many row groups as all input files together. Column indexes, offset indexes
+   * and bloom filters of the copied column chunks are carried over to the output file.
+   *
+   * @param inputFiles an {@link Iterable} of parquet files. The order of iteration determines the
+   *     order of row groups in the {@code outputFile}
+   * @param outputFile the output parquet file containing all row groups from {@code inputFiles}
+   * @param fileSchema the Parquet schema of the input files
+   * @param metadata extraMetadata to write at the footer of the {@code outputFile}
+   * @return the footer and the length of the {@code outputFile}
+   * @throws IllegalArgumentException if an input file does not have the given file schema
+   */
+  public static ConcatResult concat(
+      Iterable<InputFile> inputFiles,
+      OutputFile outputFile,
+      MessageType fileSchema,
+      Map<String, String> metadata)
+      throws IOException {
+    ParquetFileWriter writer =
+        new ParquetFileWriter(
+            ParquetIO.file(outputFile),
+            fileSchema,
+            ParquetFileWriter.Mode.CREATE,
+            PARQUET_ROW_GROUP_SIZE_BYTES_DEFAULT,
+            0);
+    writer.start();
+    for (InputFile inputFile : inputFiles) {
+      appendRowGroups(writer, inputFile, fileSchema);
+    }
+    writer.end(metadata);
+    return new ConcatResult(writer.getFooter(), writer.getPos());
+  }
+
+  /**
+   * The footer and the length of a file written by {@link #concat(Iterable, OutputFile,
+   * MessageType, Map)}.
+   */
+  public static class ConcatResult {
+    private final ParquetMetadata footer;
+    private final long length;
+
+    private ConcatResult(ParquetMetadata footer, long length) {
+      this.footer = footer;
+      this.length = length;
+    }
+
+    public ParquetMetadata footer() {
+      return footer;
+    }
+
+    public long length() {
+      return length;
+    }
+  }
+
+  private static void appendRowGroups(
+      ParquetFileWriter writer, InputFile inputFile, MessageType fileSchema) throws IOException {
+    org.apache.parquet.io.InputFile file = ParquetIO.file(inputFile);
+    try (ParquetFileReader reader = ParquetFileReader.open(file);
+        SeekableInputStream stream = file.newStream()) {
+      MessageType schema = reader.getFileMetaData().getSchema();
+      Preconditions.checkArgument(
+          fileSchema.equals(schema),
+          "Invalid schema of %s: %s (must be %s)",
+          inputFile.location(),
+          schema,
+          fileSchema);
+
+      // appendFile would only copy the column chunks, so copy them one by one along with their
+      // indexes and bloom filters; the writer shifts the offset indexes to the new positions
+      for (BlockMetaData block : reader.getFooter().getBlocks()) {
+        writer.startBlock(block.getRowCount());
+        for (ColumnChunkMetaData chunk : block.getColumns()) {
+          ColumnDescriptor descriptor = fileSchema.getColumnDescription(chunk.getPath().toArray());
+          writer.appendColumnChunk(
+              descriptor,
+              stream,
+              chunk,
+              reader.readBloomFilter(chunk),
+              reader.readColumnIndex(chunk),
+              reader.readOffsetIndex(chunk));
+        }
+
+        writer.endBlock();
+      }
+    }
+  }
 }
@@ -0,0 +1,447 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Bound;
+import org.apache.iceberg.expressions.BoundReference;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.expressions.ExpressionVisitors.BoundExpressionVisitor;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types.StructType;
+import org.apache.iceberg.util.BinaryUtil;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * Evaluates an expression against the column indexes of a row group to find the rows that may
+ * match.
+ *
+ * <p>Column indexes store min/max values and null counts for every page of a column chunk and
+ * offset indexes store the first row of every page. Pages that cannot contain matching values are
+ * excluded from the returned {@link RowRanges}. Predicates on columns without indexes, nested
+ * columns, or predicates that cannot be evaluated using bounds select all rows.
+ */
+public class ParquetColumnIndexFilter {
+  private static final int IN_PREDICATE_LIMIT = 200;
+
+  private final Schema schema;
+  private final Expression expr;
+
+  public ParquetColumnIndexFilter(Schema schema, Expression unbound, boolean caseSensitive) {
+    this.schema = schema;
+    StructType struct = schema.asStruct();
+    this.expr = Binder.bind(struct, Expressions.rewriteNot(unbound), caseSensitive);
+  }
+
+  /**
+   * Calculates the row ranges of a row group that may contain records matching the expression.
+   *
+   * @param fileSchema schema for the Parquet file
+   * @param rowGroup metadata for a row group
+   * @param indexStore column and offset indexes for the row group
+   * @return row ranges that may contain matching rows, all rows if pages cannot be filtered
+   */
+  public RowRanges calculateRowRanges(
+      MessageType fileSchema, BlockMetaData rowGroup, ColumnIndexStore indexStore) {
+    return new ColumnIndexEvalVisitor().eval(fileSchema, rowGroup, indexStore);
+  }
+
+  private class ColumnIndexEvalVisitor extends BoundExpressionVisitor<RowRanges> {
+    private Map<Integer, ColumnPath> paths = null;
+    private Map<Integer, PrimitiveType> types = null;
+    private Map<Integer, Function<Object, Object>> conversions = null;
+    private ColumnIndexStore indexStore = null;
+    private long rowCount = 0L;
+
+    private RowRanges eval(
+        MessageType fileSchema, BlockMetaData rowGroup, ColumnIndexStore store) {
+      this.rowCount = rowGroup.getRowCount();
+      if (rowCount <= 0) {
+        return RowRanges.EMPTY;
+      }
+
+      this.indexStore = store;
+      this.paths = Maps.newHashMap();
+      this.types = Maps.newHashMap();
+      this.conversions = Maps.newHashMap();
+      for (ColumnChunkMetaData col : rowGroup.getColumns()) {
+        PrimitiveType colType = fileSchema.getType(col.getPath().toArray()).asPrimitiveType();
+        boolean repeated = fileSchema.getMaxRepetitionLevel(col.getPath().toArray()) > 0;
+        if (colType.getId() != null && !repeated) {
+          int id = colType.getId().intValue();
+          Type icebergType = schema.findType(id);
+          if (icebergType != null && icebergType.isPrimitiveType()) {
+            paths.put(id, col.getPath());
+            types.put(id, colType);
+            conversions.put(id, ParquetConversions.converterFromParquet(colType, icebergType));
+          }
+        }
+      }
+
+      return ExpressionVisitors.visitEvaluator(expr, this);
+    }
+
+    @Override
+    public RowRanges alwaysTrue() {
+      return allRows();
+    }
+
+    @Override
+    public RowRanges alwaysFalse() {
+      return RowRanges.EMPTY;
+    }
+
+    @Override
+    public RowRanges not(RowRanges result) {
+      // the expression is rewritten without NOT, this is only reached for unexpected expressions
+      return allRows();
+    }
+
+    @Override
+    public RowRanges and(RowRanges leftResult, RowRanges rightResult) {
+      return RowRanges.intersection(leftResult, rightResult);
+    }
+
+    @Override
+    public RowRanges or(RowRanges leftResult, RowRanges rightResult) {
+      return RowRanges.union(leftResult, rightResult);
+    }
+
+    @Override
+    public <T> RowRanges isNull(BoundReference<T> ref) {
+      return filterPages(
+          ref.fieldId(),
+          index -> {
+            List<Long> nullCounts = index.getNullCounts();
+            return page -> nullCounts == null || nullCounts.get(page) > 0;
+          });
+    }
+
+    @Override
+    public <T> RowRanges notNull(BoundReference<T> ref) {
+      return filterPages(
+          ref.fieldId(),
+          index -> {
+            List<Boolean> nullPages = index.getNullPages();
+            return page -> !nullPages.get(page);
+          });
+    }
+
+    @Override
+    public <T> RowRanges isNaN(BoundReference<T> ref) {
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges notNaN(BoundReference<T> ref) {
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges lt(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+      return filterValuePages(
+          id,
+          index ->
+              page -> {
+                T lower = min(index, page, id);
+                return lower == null || lit.comparator().compare(lower, lit.value()) < 0;
+              });
+    }
+
+    @Override
+    public <T> RowRanges ltEq(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+      return filterValuePages(
+          id,
+          index ->
+              page -> {
+                T lower = min(index, page, id);
+                return lower == null || lit.comparator().compare(lower, lit.value()) <= 0;
+              });
+    }
+
+    @Override
+    public <T> RowRanges gt(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+      return filterValuePages(
+          id,
+          index ->
+              page -> {
+                T upper = max(index, page, id);
+                return upper == null || lit.comparator().compare(upper, lit.value()) > 0;
+              });
+    }
+
+    @Override
+    public <T> RowRanges gtEq(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+      return filterValuePages(
+          id,
+          index ->
+              page -> {
+                T upper = max(index, page, id);
+                return upper == null || lit.comparator().compare(upper, lit.value()) >= 0;
+              });
+    }
+
+    @Override
+    public <T> RowRanges eq(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+      return filterValuePages(
+          id,
+          index ->
+              page -> {
+                T lower = min(index, page, id);
+                T upper = max(index, page, id);
+                return lower == null
+                    || upper == null
+                    || (lit.comparator().compare(lower, lit.value()) <= 0
+                        && lit.comparator().compare(upper, lit.value()) >= 0);
+              });
+    }
+
+    @Override
+    public <T> RowRanges notEq(BoundReference<T> ref, Literal<T> lit) {
+      // because the bounds are not necessarily a min or max value, this cannot be answered using
+      // them. notEq(col, X) with (X, Y) doesn't guarantee that X is a value in col.
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges in(BoundReference<T> ref, Set<T> literalSet) {
+      if (literalSet.size() > IN_PREDICATE_LIMIT) {
+        // skip evaluating the predicate if the number of values is too big
+        return allRows();
+      }
+
+      int id = ref.fieldId();
+      return filterValuePages(
+          id,
+          index ->
+              page -> {
+                T lower = min(index, page, id);
+                T upper = max(index, page, id);
+                if (lower == null || upper == null) {
+                  return true;
+                }
+
+                for (T value : literalSet) {
+                  if (ref.comparator().compare(lower, value) <= 0
+                      && ref.comparator().compare(upper, value) >= 0) {
+                    return true;
+                  }
+                }
+
+                return false;
+              });
+    }
+
+    @Override
+    public <T> RowRanges notIn(BoundReference<T> ref, Set<T> literalSet) {
+      // because the bounds are not necessarily a min or max value, this cannot be answered using
+      // them. notIn(col, {X, ...}) with (X, Y) doesn't guarantee that X is a value in col.
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges startsWith(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+      ByteBuffer prefixAsBytes = lit.toByteBuffer();
+      Comparator<ByteBuffer> comparator = Comparators.unsignedBytes();
+      return filterValuePages(
+          id,
+          index ->
+              page -> {
+                ByteBuffer lower = index.getMinValues().get(page);
+                ByteBuffer upper = index.getMaxValues().get(page);
+
+                // truncate bounds so that their length in bytes is not greater than the prefix
+                int lowerLength = Math.min(prefixAsBytes.remaining(), lower.remaining());
+                ByteBuffer truncatedLower = BinaryUtil.truncateBinary(lower, lowerLength);
+                int upperLength = Math.min(prefixAsBytes.remaining(), upper.remaining());
+                ByteBuffer truncatedUpper = BinaryUtil.truncateBinary(upper, upperLength);
+
+                return comparator.compare(truncatedLower, prefixAsBytes) <= 0
+                    && comparator.compare(truncatedUpper, prefixAsBytes) >= 0;
+              });
+    }
+
+    @Override
+    public <T> RowRanges notStartsWith(BoundReference<T> ref, Literal<T> lit) {
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges handleNonReference(Bound<T> term) {
+      return allRows();
+    }
+
+    private RowRanges allRows() {
+      return RowRanges.createSingle(rowCount);
+    }
+
+    /**
+     * Selects the rows of pages that may contain non-null values matching a page predicate.
+     *
+     * <p>Pages that contain only nulls have no bounds and cannot match value predicates.
+     */
+    private RowRanges filterValuePages(
+        int id, Function<ColumnIndex, IntPredicate> pagePredicateFunc) {
+      return filterPages(
+          id,
+          index -> {
+            List<Boolean> nullPages = index.getNullPages();
+            IntPredicate pagePredicate = pagePredicateFunc.apply(index);
+            return page -> !nullPages.get(page) && pagePredicate.test(page);
+          });
+    }
+
+    /** Selects the rows of pages that may match according to a page predicate. */
+    private RowRanges filterPages(int id, Function<ColumnIndex, IntPredicate> pagePredicateFunc) {
+      ColumnPath path = paths.get(id);
+      if (path == null) {
+        // the column is missing, repeated, or not primitive; row group filters handle the rest
+        return allRows();
+      }
+
+      ColumnIndex columnIndex = indexStore.getColumnIndex(path);
+      OffsetIndex offsetIndex = offsetIndex(path);
+      if (columnIndex == null || offsetIndex == null) {
+        return allRows();
+      }
+
+      IntPredicate pagePredicate = pagePredicateFunc.apply(columnIndex);
+      PageIndexIterator pages = new PageIndexIterator(offsetIndex.getPageCount(), pagePredicate);
+      return RowRanges.create(rowCount, pages, offsetIndex);
+    }
+
+    private OffsetIndex offsetIndex(ColumnPath path) {
+      try {
+        return indexStore.getOffsetIndex(path);
+      } catch (ColumnIndexStore.MissingOffsetIndexException e) {
+        return null;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T min(ColumnIndex index, int page, int id) {
+      return (T) bound(index.getMinValues().get(page), id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T max(ColumnIndex index, int page, int id) {
+      return (T) bound(index.getMaxValues().get(page), id);
+    }
+
+    /** Converts a page bound to an Iceberg value or returns null if the bound is undefined. */
+    private Object bound(ByteBuffer buffer, int id) {
+      Object value = fromBytes(types.get(id), buffer);
+      if (value instanceof Float && ((Float) value).isNaN()) {
+        return null;
+      } else if (value instanceof Double && ((Double) value).isNaN()) {
+        return null;
+      }
+
+      return conversions.get(id).apply(value);
+    }
+  }
+
+  /** Converts a plain-encoded column index bound into the Java value used by Parquet stats. */
+  private static Object fromBytes(PrimitiveType type, ByteBuffer buffer) {
+    ByteBuffer bytes = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    int pos = bytes.position();
+    switch (type.getPrimitiveTypeName()) {
+      case BOOLEAN:
+        return bytes.get(pos) != 0;
+      case INT32:
+        return bytes.getInt(pos);
+      case INT64:
+        return bytes.getLong(pos);
+      case FLOAT:
+        return bytes.getFloat(pos);
+      case DOUBLE:
+        return bytes.getDouble(pos);
+      default:
+        return Binary.fromConstantByteBuffer(bytes);
+    }
+  }
+
+  /** Iterates over the indexes of pages that match a predicate. */
+  private static class PageIndexIterator implements PrimitiveIterator.OfInt {
+    private final int pageCount;
+    private final IntPredicate predicate;
+    private int next;
+
+    private PageIndexIterator(int pageCount, IntPredicate predicate) {
+      this.pageCount = pageCount;
+      this.predicate = predicate;
+      this.next = findNext(0);
+    }
+
+    private int findNext(int from) {
+      int page = from;
+      while (page < pageCount && !predicate.test(page)) {
+        page += 1;
+      }
+      return page;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next < pageCount;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      int page = next;
+      this.next = findNext(page + 1);
+      return page;
+    }
+  }
+}
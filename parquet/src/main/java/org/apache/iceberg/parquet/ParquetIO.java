@@ -18,9 +18,15 @@
  */
 package org.apache.iceberg.parquet;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
@@ -29,6 +35,11 @@ import org.apache.iceberg.hadoop.HadoopInputFile;
 import org.apache.iceberg.hadoop.HadoopOutputFile;
 import org.apache.iceberg.io.DelegatingInputStream;
 import org.apache.iceberg.io.DelegatingOutputStream;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.util.HadoopStreams;
 import org.apache.parquet.io.DelegatingPositionOutputStream;
 import org.apache.parquet.io.DelegatingSeekableInputStream;
@@ -56,6 +67,30 @@ class ParquetIO {
     return new ParquetInputFile(file);
   }
 
+  /**
+   * Opens a Parquet file reader.
+   *
+   * <p>If the file's stream supports {@link RangeReadable range reads} and {@link
+   * RangeReadable#isVectoredReadEnabled() vectored reads are enabled}, the returned reader is a
+   * {@link PrefetchingFileReader} that can fetch the column chunks of a row group with a single
+   * vectored read.
+   */
+  static ParquetFileReader open(org.apache.iceberg.io.InputFile file, ParquetReadOptions options)
+      throws IOException {
+    if (file instanceof HadoopInputFile) {
+      return ParquetFileReader.open(file(file), options);
+    }
+
+    org.apache.iceberg.io.SeekableInputStream stream = file.newStream();
+    if (stream instanceof RangeReadable && ((RangeReadable) stream).isVectoredReadEnabled()) {
+      PrefetchingInputStreamAdapter prefetchingStream = new PrefetchingInputStreamAdapter(stream);
+      return new PrefetchingFileReader(
+          new ParquetInputFile(file, prefetchingStream), options, prefetchingStream);
+    }
+
+    return new ParquetFileReader(new ParquetInputFile(file, stream(stream)), options);
+  }
+
   static OutputFile file(org.apache.iceberg.io.OutputFile file) {
     if (file instanceof HadoopOutputFile) {
       HadoopOutputFile hfile = (HadoopOutputFile) file;
@@ -120,6 +155,145 @@ class ParquetIO {
     }
   }
 
+  /**
+   * A stream adapter that serves reads from ranges prefetched with {@link
+   * RangeReadable#readVectored} and falls back to the underlying stream for all other reads.
+   *
+   * <p>Prefetched ranges are released once they have been read completely, when the next ranges
+   * are prefetched, or when the stream is closed. Ranges that are still being fetched when they
+   * are released are cancelled.
+   */
+  static class PrefetchingInputStreamAdapter extends ParquetInputStreamAdapter {
+    private final RangeReadable rangeReadable;
+    private List<FileRange> prefetched = Lists.newArrayList();
+
+    private PrefetchingInputStreamAdapter(org.apache.iceberg.io.SeekableInputStream delegate) {
+      super(delegate);
+      this.rangeReadable = (RangeReadable) delegate;
+    }
+
+    void prefetch(List<FileRange> ranges) throws IOException {
+      release();
+      this.prefetched = Lists.newArrayList(ranges);
+      rangeReadable.readVectored(ranges, ByteBuffer::allocate);
+    }
+
+    @Override
+    public int read() throws IOException {
+      long pos = getPos();
+      ByteBuffer buffer = prefetched(pos, 1);
+      if (buffer != null) {
+        seek(pos + 1);
+        return buffer.get() & 0xFF;
+      }
+
+      return super.read();
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) throws IOException {
+      long pos = getPos();
+      ByteBuffer buffer = len > 0 ? prefetched(pos, len) : null;
+      if (buffer != null) {
+        int bytesRead = buffer.remaining();
+        buffer.get(bytes, off, bytesRead);
+        seek(pos + bytesRead);
+        return bytesRead;
+      }
+
+      return super.read(bytes, off, len);
+    }
+
+    @Override
+    public int read(ByteBuffer buf) throws IOException {
+      long pos = getPos();
+      ByteBuffer buffer = buf.hasRemaining() ? prefetched(pos, buf.remaining()) : null;
+      if (buffer != null) {
+        int bytesRead = buffer.remaining();
+        buf.put(buffer);
+        seek(pos + bytesRead);
+        return bytesRead;
+      }
+
+      return super.read(buf);
+    }
+
+    @Override
+    public void readFully(byte[] bytes) throws IOException {
+      readFully(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void readFully(byte[] bytes, int start, int len) throws IOException {
+      int offset = start;
+      int remaining = len;
+      while (remaining > 0) {
+        int bytesRead = read(bytes, offset, remaining);
+        if (bytesRead < 0) {
+          throw new EOFException("Reached the end of stream with " + remaining + " bytes left");
+        }
+
+        offset += bytesRead;
+        remaining -= bytesRead;
+      }
+    }
+
+    @Override
+    public void readFully(ByteBuffer buf) throws IOException {
+      while (buf.hasRemaining()) {
+        int remaining = buf.remaining();
+        if (read(buf) < 0) {
+          throw new EOFException("Reached the end of stream with " + remaining + " bytes left");
+        }
+      }
+    }
+
+    /**
+     * Returns up to {@code maxLength} prefetched bytes starting at {@code pos}, or null if the
+     * position was not prefetched or its range could not be read.
+     */
+    private ByteBuffer prefetched(long pos, int maxLength) {
+      Iterator<FileRange> iter = prefetched.iterator();
+      while (iter.hasNext()) {
+        FileRange range = iter.next();
+        if (pos >= range.offset() && pos < range.end()) {
+          ByteBuffer bytes;
+          try {
+            bytes = range.byteBuffer().join().duplicate();
+          } catch (CompletionException | CancellationException e) {
+            // read the range from the stream instead
+            iter.remove();
+            return null;
+          }
+
+          int rangePos = (int) (pos - range.offset());
+          int length = Math.min(maxLength, range.length() - rangePos);
+          if (rangePos + length == range.length()) {
+            iter.remove();
+          }
+
+          bytes.position(rangePos);
+          bytes.limit(rangePos + length);
+          return bytes;
+        }
+      }
+
+      return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+      release();
+      super.close();
+    }
+
+    private void release() {
+      // cancelled ranges do not keep their buffers once the pending reads complete
+      prefetched.forEach(range -> range.byteBuffer().cancel(false));
+      this.prefetched = Lists.newArrayList();
+    }
+  }
+
   private static class ParquetOutputStreamAdapter extends DelegatingPositionOutputStream {
     private final org.apache.iceberg.io.PositionOutputStream delegate;
 
@@ -164,9 +338,16 @@ class ParquetIO {
 
   private static class ParquetInputFile implements InputFile {
     private final org.apache.iceberg.io.InputFile file;
+    private SeekableInputStream openedStream;
 
     private ParquetInputFile(org.apache.iceberg.io.InputFile file) {
+      this(file, null);
+    }
+
+    /** Creates an input file that returns the given stream from its first newStream call. */
+    private ParquetInputFile(org.apache.iceberg.io.InputFile file, SeekableInputStream stream) {
       this.file = file;
+      this.openedStream = stream;
     }
 
     @Override
@@ -176,6 +357,12 @@ class ParquetIO {
 
     @Override
     public SeekableInputStream newStream() throws IOException {
+      if (openedStream != null) {
+        SeekableInputStream stream = openedStream;
+        this.openedStream = null;
+        return stream;
+      }
+
       return stream(file.newStream());
     }
   }
@@ -19,6 +19,7 @@
 package org.apache.iceberg.parquet;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.exceptions.RuntimeIOException;
@@ -29,9 +30,11 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMapping;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
 import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
 import org.apache.parquet.schema.MessageType;
 
 public class ParquetReader<T> extends CloseableGroup implements CloseableIterable<T> {
@@ -43,6 +46,8 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
   private final boolean reuseContainers;
   private final boolean caseSensitive;
   private final NameMapping nameMapping;
+  private final boolean filterPages;
+  private final ScanTaskMetrics metrics;
 
   public ParquetReader(
       InputFile input,
@@ -53,6 +58,52 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
       Expression filter,
       boolean reuseContainers,
       boolean caseSensitive) {
+    this(
+        input,
+        expectedSchema,
+        options,
+        readerFunc,
+        nameMapping,
+        filter,
+        reuseContainers,
+        caseSensitive,
+        false);
+  }
+
+  public ParquetReader(
+      InputFile input,
+      Schema expectedSchema,
+      ParquetReadOptions options,
+      Function<MessageType, ParquetValueReader<?>> readerFunc,
+      NameMapping nameMapping,
+      Expression filter,
+      boolean reuseContainers,
+      boolean caseSensitive,
+      boolean filterPages) {
+    this(
+        input,
+        expectedSchema,
+        options,
+        readerFunc,
+        nameMapping,
+        filter,
+        reuseContainers,
+        caseSensitive,
+        filterPages,
+        ScanTaskMetrics.noop());
+  }
+
+  public ParquetReader(
+      InputFile input,
+      Schema expectedSchema,
+      ParquetReadOptions options,
+      Function<MessageType, ParquetValueReader<?>> readerFunc,
+      NameMapping nameMapping,
+      Expression filter,
+      boolean reuseContainers,
+      boolean caseSensitive,
+      boolean filterPages,
+      ScanTaskMetrics metrics) {
     this.input = input;
     this.expectedSchema = expectedSchema;
     this.options = options;
@@ -62,6 +113,8 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
     this.reuseContainers = reuseContainers;
     this.caseSensitive = caseSensitive;
     this.nameMapping = nameMapping;
+    this.filterPages = filterPages;
+    this.metrics = metrics;
   }
 
   private ReadConf<T> conf = null;
@@ -79,7 +132,8 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
               nameMapping,
               reuseContainers,
               caseSensitive,
-              null);
+              null,
+              filterPages);
       this.conf = readConf.copy();
       return readConf;
     }
@@ -88,7 +142,7 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
 
   @Override
   public CloseableIterator<T> iterator() {
-    FileIterator<T> iter = new FileIterator<>(init());
+    FileIterator<T> iter = new FileIterator<>(init(), metrics);
     addCloseable(iter);
     return iter;
   }
@@ -97,22 +151,29 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
     private final ParquetFileReader reader;
     private final boolean[] shouldSkip;
     private final ParquetValueReader<T> model;
+    private final RowRanges[] rowRangesForRowGroups;
     private final long totalValues;
     private final boolean reuseContainers;
     private final long[] rowGroupsStartRowPos;
+    private final long[] compressedSizes;
+    private final ScanTaskMetrics metrics;
 
     private int nextRowGroup = 0;
     private long nextRowGroupStart = 0;
     private long valuesRead = 0;
     private T last = null;
 
-    FileIterator(ReadConf<T> conf) {
+    FileIterator(ReadConf<T> conf, ScanTaskMetrics metrics) {
       this.reader = conf.reader();
       this.shouldSkip = conf.shouldSkip();
       this.model = conf.model();
       this.totalValues = conf.totalValues();
+      this.rowRangesForRowGroups = conf.rowRangesForRowGroups();
       this.reuseContainers = conf.reuseContainers();
       this.rowGroupsStartRowPos = conf.startRowPositions();
+      this.compressedSizes = conf.compressedSizes();
+      this.metrics = metrics;
+      conf.updateRowGroupMetrics(metrics);
     }
 
     @Override
@@ -143,12 +204,26 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
       }
 
       PageReadStore pages;
+      RowRanges rowRanges = rowRangesForRowGroups[nextRowGroup];
+      long readStart = System.nanoTime();
       try {
-        pages = reader.readNextRowGroup();
+        if (rowRanges != null) {
+          pages = reader.readFilteredRowGroup(nextRowGroup, rowRanges);
+          reader.skipNextRowGroup();
+        } else {
+          PrefetchingFileReader.prefetch(reader, nextRowGroup);
+          pages = reader.readNextRowGroup();
+        }
+
+        prefetchFollowingRowGroup();
       } catch (IOException e) {
         throw new RuntimeIOException(e);
       }
 
+      metrics.readDuration().record(System.nanoTime() - readStart, TimeUnit.NANOSECONDS);
+      metrics.bytesRead().increment(compressedSizes[nextRowGroup]);
+      metrics.rowsRead().increment(pages.getRowCount());
+
       long rowPosition = rowGroupsStartRowPos[nextRowGroup];
       nextRowGroupStart += pages.getRowCount();
       nextRowGroup += 1;
@@ -156,6 +231,18 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
       model.setPageSource(pages, rowPosition);
     }
 
+    // fetches the next row group that is read in full while the current one is decoded
+    private void prefetchFollowingRowGroup() throws IOException {
+      int rowGroup = nextRowGroup + 1;
+      while (rowGroup < shouldSkip.length && shouldSkip[rowGroup]) {
+        rowGroup += 1;
+      }
+
+      if (rowGroup < shouldSkip.length && rowRangesForRowGroups[rowGroup] == null) {
+        PrefetchingFileReader.prefetch(reader, rowGroup);
+      }
+    }
+
     @Override
     public void close() throws IOException {
       reader.close();
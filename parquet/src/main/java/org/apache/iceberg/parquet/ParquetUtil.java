@@ -77,8 +77,12 @@ public class ParquetUtil {
 
   public static Metrics fileMetrics(
       InputFile file, MetricsConfig metricsConfig, NameMapping nameMapping) {
+    return footerMetrics(readFooter(file), Stream.empty(), metricsConfig, nameMapping);
+  }
+
+  public static ParquetMetadata readFooter(InputFile file) {
     try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(file))) {
-      return footerMetrics(reader.getFooter(), Stream.empty(), metricsConfig, nameMapping);
+      return reader.getFooter();
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to read footer of file: %s", file);
     }
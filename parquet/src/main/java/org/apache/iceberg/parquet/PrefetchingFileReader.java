@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.schema.MessageType;
+
+/**
+ * A {@link ParquetFileReader} that can prefetch the projected column chunks of a row group.
+ *
+ * <p>Parquet reads the column chunks of a row group one after another from a single stream, which
+ * requires a new request for every chunk that is not adjacent to the previous one in object
+ * stores. Calling {@link #prefetch(int)} issues all projected column chunks of a row group as one
+ * {@link RangeReadable#readVectored vectored read}, so that implementations can coalesce and fetch
+ * them in parallel.
+ *
+ * <p>Readers prefetch the next row group after reading the current one, so that the next row group
+ * is fetched while the current one is decoded. At most one row group is prefetched at a time.
+ */
+class PrefetchingFileReader extends ParquetFileReader {
+  private final ParquetIO.PrefetchingInputStreamAdapter stream;
+  private Set<ColumnPath> requestedColumns;
+  private int prefetchedRowGroup = -1;
+
+  PrefetchingFileReader(
+      InputFile file, ParquetReadOptions options, ParquetIO.PrefetchingInputStreamAdapter stream)
+      throws IOException {
+    super(file, options);
+    this.stream = stream;
+  }
+
+  @Override
+  public void setRequestedSchema(MessageType projection) {
+    super.setRequestedSchema(projection);
+    this.requestedColumns =
+        projection.getColumns().stream()
+            .map(column -> ColumnPath.get(column.getPath()))
+            .collect(Collectors.toSet());
+  }
+
+  /**
+   * Starts reading the projected column chunks of a row group, unless they were already prefetched.
+   *
+   * <p>Prefetching a row group releases the chunks of the previously prefetched row group that were
+   * not read yet.
+   *
+   * @param rowGroupIndex index of the row group in {@link #getRowGroups()}
+   * @throws IOException if the reads could not be started
+   */
+  void prefetch(int rowGroupIndex) throws IOException {
+    if (rowGroupIndex == prefetchedRowGroup) {
+      return;
+    }
+
+    BlockMetaData rowGroup = getRowGroups().get(rowGroupIndex);
+    List<FileRange> ranges = Lists.newArrayList();
+    for (ColumnChunkMetaData chunk : rowGroup.getColumns()) {
+      boolean isProjected = requestedColumns == null || requestedColumns.contains(chunk.getPath());
+      if (isProjected && chunk.getTotalSize() <= Integer.MAX_VALUE) {
+        ranges.add(new FileRange(chunk.getStartingPos(), (int) chunk.getTotalSize()));
+      }
+    }
+
+    stream.prefetch(ranges);
+    this.prefetchedRowGroup = rowGroupIndex;
+  }
+
+  /** Prefetches a row group if the reader supports it. */
+  static void prefetch(ParquetFileReader reader, int rowGroupIndex) throws IOException {
+    if (reader instanceof PrefetchingFileReader) {
+      ((PrefetchingFileReader) reader).prefetch(rowGroupIndex);
+    }
+  }
+}
@@ -31,15 +31,21 @@ import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMapping;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.crypto.FileDecryptionProperties;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
 import org.apache.parquet.schema.MessageType;
 
 /**
@@ -60,6 +66,12 @@ class ReadConf<T> {
   private final boolean reuseContainers;
   private final Integer batchSize;
   private final long[] startRowPositions;
+  private final RowRanges[] rowRangesForRowGroups;
+  private final long[] compressedSizes;
+  private int skippedByStats = 0;
+  private int skippedByDictionary = 0;
+  private int skippedByBloomFilter = 0;
+  private int skippedByPageIndex = 0;
 
   // List of column chunk metadata for each row group
   private final List<Map<ColumnPath, ColumnChunkMetaData>> columnChunkMetaDataForRowGroups;
@@ -75,7 +87,8 @@ class ReadConf<T> {
       NameMapping nameMapping,
       boolean reuseContainers,
       boolean caseSensitive,
-      Integer bSize) {
+      Integer bSize,
+      boolean filterPages) {
     this.file = file;
     this.options = options;
     this.reader = newReader(file, options);
@@ -96,6 +109,8 @@ class ReadConf<T> {
     this.rowGroups = reader.getRowGroups();
     this.shouldSkip = new boolean[rowGroups.size()];
     this.startRowPositions = new long[rowGroups.size()];
+    this.rowRangesForRowGroups = new RowRanges[rowGroups.size()];
+    this.compressedSizes = new long[rowGroups.size()];
 
     // Fetch all row groups starting positions to compute the row offsets of the filtered row groups
     Map<Long, Long> offsetToStartPos = generateOffsetToStartPos(expectedSchema);
@@ -103,10 +118,14 @@ class ReadConf<T> {
     ParquetMetricsRowGroupFilter statsFilter = null;
     ParquetDictionaryRowGroupFilter dictFilter = null;
     ParquetBloomRowGroupFilter bloomFilter = null;
+    ParquetColumnIndexFilter pageFilter = null;
     if (filter != null) {
       statsFilter = new ParquetMetricsRowGroupFilter(expectedSchema, filter, caseSensitive);
       dictFilter = new ParquetDictionaryRowGroupFilter(expectedSchema, filter, caseSensitive);
       bloomFilter = new ParquetBloomRowGroupFilter(expectedSchema, filter, caseSensitive);
+      if (filterPages) {
+        pageFilter = new ParquetColumnIndexFilter(expectedSchema, filter, caseSensitive);
+      }
     }
 
     long computedTotalValues = 0L;
@@ -114,16 +133,37 @@ class ReadConf<T> {
       BlockMetaData rowGroup = rowGroups.get(i);
       startRowPositions[i] =
           offsetToStartPos == null ? 0 : offsetToStartPos.get(rowGroup.getStartingPos());
-      boolean shouldRead =
-          filter == null
-              || (statsFilter.shouldRead(typeWithIds, rowGroup)
-                  && dictFilter.shouldRead(
-                      typeWithIds, rowGroup, reader.getDictionaryReader(rowGroup))
-                  && bloomFilter.shouldRead(
-                      typeWithIds, rowGroup, reader.getBloomFilterDataReader(rowGroup)));
+      boolean shouldRead = true;
+      if (filter != null) {
+        if (!statsFilter.shouldRead(typeWithIds, rowGroup)) {
+          shouldRead = false;
+          this.skippedByStats += 1;
+        } else if (!dictFilter.shouldRead(
+            typeWithIds, rowGroup, reader.getDictionaryReader(rowGroup))) {
+          shouldRead = false;
+          this.skippedByDictionary += 1;
+        } else if (!bloomFilter.shouldRead(
+            typeWithIds, rowGroup, reader.getBloomFilterDataReader(rowGroup))) {
+          shouldRead = false;
+          this.skippedByBloomFilter += 1;
+        }
+      }
+
+      if (shouldRead && pageFilter != null) {
+        RowRanges rowRanges = filterPages(pageFilter, typeWithIds, rowGroup);
+        if (rowRanges != null && rowRanges.rowCount() == 0) {
+          shouldRead = false;
+          this.skippedByPageIndex += 1;
+        } else {
+          rowRangesForRowGroups[i] = rowRanges;
+        }
+      }
+
       this.shouldSkip[i] = !shouldRead;
       if (shouldRead) {
-        computedTotalValues += rowGroup.getRowCount();
+        RowRanges rowRanges = rowRangesForRowGroups[i];
+        computedTotalValues += rowRanges != null ? rowRanges.rowCount() : rowGroup.getRowCount();
+        compressedSizes[i] = projectedSize(rowGroup);
       }
     }
 
@@ -156,6 +196,12 @@ class ReadConf<T> {
     this.vectorizedModel = toCopy.vectorizedModel;
     this.columnChunkMetaDataForRowGroups = toCopy.columnChunkMetaDataForRowGroups;
     this.startRowPositions = toCopy.startRowPositions;
+    this.rowRangesForRowGroups = toCopy.rowRangesForRowGroups;
+    this.compressedSizes = toCopy.compressedSizes;
+    this.skippedByStats = toCopy.skippedByStats;
+    this.skippedByDictionary = toCopy.skippedByDictionary;
+    this.skippedByBloomFilter = toCopy.skippedByBloomFilter;
+    this.skippedByPageIndex = toCopy.skippedByPageIndex;
   }
 
   ParquetFileReader reader() {
@@ -213,10 +259,66 @@ class ReadConf<T> {
     return startRowPositions;
   }
 
+  /** Returns the rows to read for each row group, or null entries to read all rows. */
+  RowRanges[] rowRangesForRowGroups() {
+    return rowRangesForRowGroups;
+  }
+
+  /**
+   * Returns the rows of a row group that may match according to column indexes.
+   *
+   * <p>This returns null if all rows must be read or if pages cannot be filtered because some of
+   * the projected columns have no offset index.
+   */
+  private RowRanges filterPages(
+      ParquetColumnIndexFilter pageFilter, MessageType fileSchema, BlockMetaData rowGroup) {
+    RowGroupIndexStore indexStore = new RowGroupIndexStore(reader, rowGroup);
+    RowRanges rowRanges = pageFilter.calculateRowRanges(fileSchema, rowGroup, indexStore);
+    if (rowRanges.rowCount() == 0) {
+      return rowRanges;
+    } else if (rowRanges.rowCount() >= rowGroup.getRowCount()) {
+      return null;
+    }
+
+    // filtered reads use offset indexes to find the pages of all projected columns
+    for (ColumnDescriptor desc : projection.getColumns()) {
+      if (indexStore.getOffsetIndex(ColumnPath.get(desc.getPath())) == null) {
+        return null;
+      }
+    }
+
+    return rowRanges;
+  }
+
   long totalValues() {
     return totalValues;
   }
 
+  /** Updates the row group counts of the given metrics for a read of this file. */
+  void updateRowGroupMetrics(ScanTaskMetrics metrics) {
+    metrics.totalRowGroups().increment(shouldSkip.length);
+    metrics.skippedRowGroupsByStats().increment(skippedByStats);
+    metrics.skippedRowGroupsByDictionary().increment(skippedByDictionary);
+    metrics.skippedRowGroupsByBloomFilter().increment(skippedByBloomFilter);
+    metrics.skippedRowGroupsByPageIndex().increment(skippedByPageIndex);
+  }
+
+  /** Returns the compressed size of the projected columns of each row group that is read. */
+  long[] compressedSizes() {
+    return compressedSizes;
+  }
+
+  private long projectedSize(BlockMetaData rowGroup) {
+    long size = 0L;
+    for (ColumnChunkMetaData column : rowGroup.getColumns()) {
+      if (projection.containsPath(column.getPath().toArray())) {
+        size += column.getTotalSize();
+      }
+    }
+
+    return size;
+  }
+
   boolean reuseContainers() {
     return reuseContainers;
   }
@@ -235,12 +337,56 @@ class ReadConf<T> {
 
   private static ParquetFileReader newReader(InputFile file, ParquetReadOptions options) {
     try {
-      return ParquetFileReader.open(ParquetIO.file(file), options);
+      return ParquetIO.open(file, options);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to open Parquet file: %s", file.location());
     }
   }
 
+  /** Lazily reads and caches the column and offset indexes of a row group. */
+  private static class RowGroupIndexStore implements ColumnIndexStore {
+    private final ParquetFileReader reader;
+    private final Map<ColumnPath, ColumnChunkMetaData> columns = Maps.newHashMap();
+    private final Map<ColumnPath, ColumnIndex> columnIndexes = Maps.newHashMap();
+    private final Map<ColumnPath, OffsetIndex> offsetIndexes = Maps.newHashMap();
+
+    private RowGroupIndexStore(ParquetFileReader reader, BlockMetaData rowGroup) {
+      this.reader = reader;
+      for (ColumnChunkMetaData column : rowGroup.getColumns()) {
+        columns.put(column.getPath(), column);
+      }
+    }
+
+    @Override
+    public ColumnIndex getColumnIndex(ColumnPath path) {
+      return columnIndexes.computeIfAbsent(
+          path,
+          key -> {
+            ColumnChunkMetaData column = columns.get(key);
+            try {
+              return column != null ? reader.readColumnIndex(column) : null;
+            } catch (IOException e) {
+              throw new UncheckedIOException("Failed to read column index for " + key, e);
+            }
+          });
+    }
+
+    /** Returns the offset index for a column or null if the column has no offset index. */
+    @Override
+    public OffsetIndex getOffsetIndex(ColumnPath path) {
+      return offsetIndexes.computeIfAbsent(
+          path,
+          key -> {
+            ColumnChunkMetaData column = columns.get(key);
+            try {
+              return column != null ? reader.readOffsetIndex(column) : null;
+            } catch (IOException e) {
+              throw new UncheckedIOException("Failed to read offset index for " + key, e);
+            }
+          });
+    }
+  }
+
   private List<Map<ColumnPath, ColumnChunkMetaData>> getColumnChunkMetadataForRowGroups() {
     Set<ColumnPath> projectedColumns =
         projection.getColumns().stream()
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import org.apache.parquet.column.page.PageReadStore;
+
+/**
+ * Rows of a row group that were selected by page filtering.
+ *
+ * <p>When pages are filtered using column indexes, the remaining pages of different columns are not
+ * aligned and may contain rows that were not selected. Column iterators use this class to skip such
+ * rows so that all columns produce values for the same rows. Lookups must be done in increasing row
+ * order, so each column uses its own {@link #view()} of the rows selected in a row group.
+ */
+public class SelectedRows {
+  private long[] starts = new long[8];
+  private long[] ends = new long[8]; // inclusive
+  private int numRanges = 0;
+  private int current = 0;
+
+  /**
+   * Returns the selected rows of a row group or null if all rows are selected.
+   *
+   * @param pages a row group that may have been read with row ranges
+   * @return selected rows or null if all rows of the row group were read
+   */
+  public static SelectedRows of(PageReadStore pages) {
+    Optional<PrimitiveIterator.OfLong> rowIndexes = pages.getRowIndexes();
+    if (!rowIndexes.isPresent()) {
+      return null;
+    }
+
+    SelectedRows selected = new SelectedRows();
+    PrimitiveIterator.OfLong iter = rowIndexes.get();
+    while (iter.hasNext()) {
+      selected.add(iter.nextLong());
+    }
+
+    return selected;
+  }
+
+  private SelectedRows() {}
+
+  private SelectedRows(long[] starts, long[] ends, int numRanges) {
+    this.starts = starts;
+    this.ends = ends;
+    this.numRanges = numRanges;
+  }
+
+  /** Returns the same selected rows with a lookup position that starts at the first row. */
+  public SelectedRows view() {
+    return new SelectedRows(starts, ends, numRanges);
+  }
+
+  private void add(long rowIndex) {
+    if (numRanges > 0 && ends[numRanges - 1] + 1 == rowIndex) {
+      ends[numRanges - 1] = rowIndex;
+      return;
+    }
+
+    if (numRanges == starts.length) {
+      this.starts = Arrays.copyOf(starts, numRanges * 2);
+      this.ends = Arrays.copyOf(ends, numRanges * 2);
+    }
+
+    starts[numRanges] = rowIndex;
+    ends[numRanges] = rowIndex;
+    this.numRanges += 1;
+  }
+
+  /** Returns whether the row at the given index in the row group is selected. */
+  public boolean isSelected(long rowIndex) {
+    return selectedFrom(rowIndex) > 0;
+  }
+
+  /** Returns the number of consecutive rows that are not selected, starting at the given row. */
+  public long unselectedFrom(long rowIndex) {
+    seek(rowIndex);
+    if (current >= numRanges) {
+      return Long.MAX_VALUE;
+    }
+
+    return Math.max(0L, starts[current] - rowIndex);
+  }
+
+  /** Returns the number of consecutive rows that are selected, starting at the given row. */
+  public long selectedFrom(long rowIndex) {
+    seek(rowIndex);
+    if (current >= numRanges || starts[current] > rowIndex) {
+      return 0L;
+    }
+
+    return ends[current] - rowIndex + 1;
+  }
+
+  private void seek(long rowIndex) {
+    while (current < numRanges && ends[current] < rowIndex) {
+      this.current += 1;
+    }
+  }
+}
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.exceptions.RuntimeIOException;
@@ -32,11 +33,13 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMapping;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
 import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
 import org.apache.parquet.schema.MessageType;
 
 public class VectorizedParquetReader<T> extends CloseableGroup implements CloseableIterable<T> {
@@ -49,6 +52,8 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
   private final boolean caseSensitive;
   private final int batchSize;
   private final NameMapping nameMapping;
+  private final boolean filterPages;
+  private final ScanTaskMetrics metrics;
 
   public VectorizedParquetReader(
       InputFile input,
@@ -60,6 +65,56 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
       boolean reuseContainers,
       boolean caseSensitive,
       int maxRecordsPerBatch) {
+    this(
+        input,
+        expectedSchema,
+        options,
+        readerFunc,
+        nameMapping,
+        filter,
+        reuseContainers,
+        caseSensitive,
+        maxRecordsPerBatch,
+        false);
+  }
+
+  public VectorizedParquetReader(
+      InputFile input,
+      Schema expectedSchema,
+      ParquetReadOptions options,
+      Function<MessageType, VectorizedReader<?>> readerFunc,
+      NameMapping nameMapping,
+      Expression filter,
+      boolean reuseContainers,
+      boolean caseSensitive,
+      int maxRecordsPerBatch,
+      boolean filterPages) {
+    this(
+        input,
+        expectedSchema,
+        options,
+        readerFunc,
+        nameMapping,
+        filter,
+        reuseContainers,
+        caseSensitive,
+        maxRecordsPerBatch,
+        filterPages,
+        ScanTaskMetrics.noop());
+  }
+
+  public VectorizedParquetReader(
+      InputFile input,
+      Schema expectedSchema,
+      ParquetReadOptions options,
+      Function<MessageType, VectorizedReader<?>> readerFunc,
+      NameMapping nameMapping,
+      Expression filter,
+      boolean reuseContainers,
+      boolean caseSensitive,
+      int maxRecordsPerBatch,
+      boolean filterPages,
+      ScanTaskMetrics metrics) {
     this.input = input;
     this.expectedSchema = expectedSchema;
     this.options = options;
@@ -70,6 +125,8 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
     this.caseSensitive = caseSensitive;
     this.batchSize = maxRecordsPerBatch;
     this.nameMapping = nameMapping;
+    this.filterPages = filterPages;
+    this.metrics = metrics;
   }
 
   private ReadConf conf = null;
@@ -87,7 +144,8 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
               nameMapping,
               reuseContainers,
               caseSensitive,
-              batchSize);
+              batchSize,
+              filterPages);
       this.conf = readConf.copy();
       return readConf;
     }
@@ -96,7 +154,7 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
 
   @Override
   public CloseableIterator<T> iterator() {
-    FileIterator<T> iter = new FileIterator<>(init());
+    FileIterator<T> iter = new FileIterator<>(init(), metrics);
     addCloseable(iter);
     return iter;
   }
@@ -105,6 +163,7 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
     private final ParquetFileReader reader;
     private final boolean[] shouldSkip;
     private final VectorizedReader<T> model;
+    private final RowRanges[] rowRangesForRowGroups;
     private final long totalValues;
     private final int batchSize;
     private final List<Map<ColumnPath, ColumnChunkMetaData>> columnChunkMetadata;
@@ -114,17 +173,23 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
     private long valuesRead = 0;
     private T last = null;
     private final long[] rowGroupsStartRowPos;
+    private final long[] compressedSizes;
+    private final ScanTaskMetrics metrics;
 
-    FileIterator(ReadConf conf) {
+    FileIterator(ReadConf conf, ScanTaskMetrics metrics) {
       this.reader = conf.reader();
       this.shouldSkip = conf.shouldSkip();
       this.totalValues = conf.totalValues();
+      this.rowRangesForRowGroups = conf.rowRangesForRowGroups();
       this.reuseContainers = conf.reuseContainers();
       this.model = conf.vectorizedModel();
       this.batchSize = conf.batchSize();
       this.model.setBatchSize(this.batchSize);
       this.columnChunkMetadata = conf.columnChunkMetadataForRowGroups();
       this.rowGroupsStartRowPos = conf.startRowPositions();
+      this.compressedSizes = conf.compressedSizes();
+      this.metrics = metrics;
+      conf.updateRowGroupMetrics(metrics);
     }
 
     @Override
@@ -143,11 +208,14 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
 
       // batchSize is an integer, so casting to integer is safe
       int numValuesToRead = (int) Math.min(nextRowGroupStart - valuesRead, batchSize);
+      long decodeStart = System.nanoTime();
       if (reuseContainers) {
         this.last = model.read(last, numValuesToRead);
       } else {
         this.last = model.read(null, numValuesToRead);
       }
+      metrics.decodeDuration().record(System.nanoTime() - decodeStart, TimeUnit.NANOSECONDS);
+      metrics.rowsRead().increment(numValuesToRead);
       valuesRead += numValuesToRead;
 
       return last;
@@ -159,18 +227,43 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
         reader.skipNextRowGroup();
       }
       PageReadStore pages;
+      RowRanges rowRanges = rowRangesForRowGroups[nextRowGroup];
+      long readStart = System.nanoTime();
       try {
-        pages = reader.readNextRowGroup();
+        if (rowRanges != null) {
+          pages = reader.readFilteredRowGroup(nextRowGroup, rowRanges);
+          reader.skipNextRowGroup();
+        } else {
+          PrefetchingFileReader.prefetch(reader, nextRowGroup);
+          pages = reader.readNextRowGroup();
+        }
+
+        prefetchFollowingRowGroup();
       } catch (IOException e) {
         throw new RuntimeIOException(e);
       }
 
+      metrics.readDuration().record(System.nanoTime() - readStart, TimeUnit.NANOSECONDS);
+      metrics.bytesRead().increment(compressedSizes[nextRowGroup]);
+
       long rowPosition = rowGroupsStartRowPos[nextRowGroup];
       model.setRowGroupInfo(pages, columnChunkMetadata.get(nextRowGroup), rowPosition);
       nextRowGroupStart += pages.getRowCount();
       nextRowGroup += 1;
     }
 
+    // fetches the next row group that is read in full while the current one is decoded
+    private void prefetchFollowingRowGroup() throws IOException {
+      int rowGroup = nextRowGroup + 1;
+      while (rowGroup < shouldSkip.length && shouldSkip[rowGroup]) {
+        rowGroup += 1;
+      }
+
+      if (rowGroup < shouldSkip.length && rowRangesForRowGroups[rowGroup] == null) {
+        PrefetchingFileReader.prefetch(reader, rowGroup);
+      }
+    }
+
     @Override
     public void close() throws IOException {
       model.close();
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.expressions.Expressions.and;
+import static org.apache.iceberg.expressions.Expressions.equal;
+import static org.apache.iceberg.expressions.Expressions.greaterThanOrEqual;
+import static org.apache.iceberg.expressions.Expressions.isNull;
+import static org.apache.iceberg.expressions.Expressions.lessThan;
+import static org.apache.iceberg.expressions.Expressions.or;
+import static org.apache.iceberg.parquet.ParquetWritingTestUtils.createTempFile;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestColumnIndexFilter {
+  private static final int NUM_RECORDS = 1000;
+  private static final int PAGE_ROW_LIMIT = 100;
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()),
+          optional(2, "data", Types.StringType.get()),
+          optional(3, "rarely_set", Types.IntegerType.get()));
+
+  private static final Schema PROJECTION =
+      new Schema(
+          required(1, "id", Types.LongType.get()),
+          optional(2, "data", Types.StringType.get()),
+          optional(3, "rarely_set", Types.IntegerType.get()),
+          MetadataColumns.ROW_POSITION);
+
+  @TempDir private Path temp;
+
+  private File file = null;
+
+  @BeforeEach
+  public void writeFile() throws IOException {
+    this.file = createTempFile(temp);
+
+    GenericRecord template = GenericRecord.create(SCHEMA);
+    List<Record> records = Lists.newArrayListWithExpectedSize(NUM_RECORDS);
+    for (long id = 0; id < NUM_RECORDS; id += 1) {
+      Record record = template.copy();
+      record.setField("id", id);
+      record.setField("data", id % 7 == 0 ? null : "data-" + id);
+      // only the rows of the 6th page are set
+      record.setField("rarely_set", id >= 500 && id < 600 ? (int) id : null);
+      records.add(record);
+    }
+
+    try (FileAppender<Record> writer =
+        Parquet.write(Files.localOutput(file))
+            .schema(SCHEMA)
+            .createWriterFunc(GenericParquetWriter::buildWriter)
+            .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, String.valueOf(PAGE_ROW_LIMIT))
+            .build()) {
+      writer.addAll(records);
+    }
+  }
+
+  @Test
+  public void testRangeFilter() throws IOException {
+    List<Record> records =
+        read(and(greaterThanOrEqual("id", 250L), lessThan("id", 420L)), true /* filter pages */);
+
+    assertThat(records).hasSizeLessThan(NUM_RECORDS);
+    List<Long> expectedIds = LongStream.range(250, 420).boxed().collect(Collectors.toList());
+    assertThat(ids(records)).containsAll(expectedIds);
+    assertRecordsMatchPositions(records);
+  }
+
+  @Test
+  public void testFilterPagesDisabled() throws IOException {
+    List<Record> records =
+        read(and(greaterThanOrEqual("id", 250L), lessThan("id", 420L)), false /* all pages */);
+
+    assertThat(records).hasSize(NUM_RECORDS);
+    assertRecordsMatchPositions(records);
+  }
+
+  @Test
+  public void testDisjointRanges() throws IOException {
+    List<Record> records = read(or(lessThan("id", 50L), equal("id", 950L)), true);
+
+    assertThat(records).hasSizeLessThan(NUM_RECORDS);
+    assertThat(ids(records)).contains(0L, 49L, 950L).doesNotContain(500L);
+    assertRecordsMatchPositions(records);
+  }
+
+  @Test
+  public void testNullPagesCannotMatchValues() throws IOException {
+    List<Record> records = read(equal("rarely_set", 550), true);
+
+    assertThat(records).hasSizeLessThan(NUM_RECORDS);
+    assertThat(ids(records)).contains(550L);
+    assertRecordsMatchPositions(records);
+  }
+
+  @Test
+  public void testIsNullSkipsPagesWithoutNulls() throws IOException {
+    List<Record> records = read(isNull("rarely_set"), true);
+
+    assertThat(records).hasSizeLessThan(NUM_RECORDS);
+    assertThat(ids(records)).contains(0L, 499L, 600L, 999L).doesNotContain(550L);
+    assertRecordsMatchPositions(records);
+  }
+
+  @Test
+  public void testNoMatchingPages() throws IOException {
+    // both columns have matching pages, but no page of one overlaps a matching page of the other
+    List<Record> records = read(and(lessThan("id", 100L), equal("rarely_set", 550)), true);
+
+    assertThat(records).isEmpty();
+  }
+
+  private List<Record> read(Expression filter, boolean filterPages) throws IOException {
+    try (CloseableIterable<Record> reader =
+        Parquet.read(Files.localInput(file))
+            .project(PROJECTION)
+            .filter(filter)
+            .filterPages(filterPages)
+            .createReaderFunc(
+                fileSchema -> GenericParquetReaders.buildReader(PROJECTION, fileSchema))
+            .build()) {
+      return Lists.newArrayList(reader);
+    }
+  }
+
+  private static List<Long> ids(List<Record> records) {
+    return records.stream()
+        .map(record -> (Long) record.getField("id"))
+        .collect(Collectors.toList());
+  }
+
+  private static void assertRecordsMatchPositions(List<Record> records) {
+    for (Record record : records) {
+      long id = (Long) record.getField("id");
+      assertThat(record.getField(MetadataColumns.ROW_POSITION.name()))
+          .as("Position should match the row written at that position")
+          .isEqualTo(id);
+      assertThat(record.getField("data")).isEqualTo(id % 7 == 0 ? null : "data-" + id);
+      assertThat(record.getField("rarely_set"))
+          .isEqualTo(id >= 500 && id < 600 ? (int) id : null);
+    }
+  }
+}
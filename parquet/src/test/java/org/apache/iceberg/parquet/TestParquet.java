@@ -39,12 +39,17 @@ import java.util.function.Function;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.generic.GenericRecordBuilder;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.Files;
 import org.apache.iceberg.Metrics;
 import org.apache.iceberg.MetricsConfig;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.hadoop.HadoopFileIO;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.InstrumentedFileIO;
+import org.apache.iceberg.metrics.FileIOMetricsResult;
 import org.apache.iceberg.relocated.com.google.common.base.Strings;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
@@ -219,6 +224,26 @@ public class TestParquet {
     assertThat(recordRead.get("topbytes")).isEqualTo(expectedBinary);
   }
 
+  @Test
+  public void testReadThroughInstrumentedFileIO() throws IOException {
+    File parquetFile = generateFile(null, 10, null, null, null).first();
+    Schema schema = new Schema(optional(1, "intCol", IntegerType.get()));
+
+    InstrumentedFileIO io = new InstrumentedFileIO(new HadoopFileIO(new Configuration()), null);
+    InputFile inputFile = io.newInputFile(parquetFile.toURI().toString());
+    try (CloseableIterable<GenericData.Record> reader =
+        Parquet.read(inputFile).project(schema).callInit().build()) {
+      assertThat(Lists.newArrayList(reader)).hasSize(10);
+    }
+
+    // reads must go through the instrumented stream rather than the unwrapped Hadoop stream
+    FileIOMetricsResult result = FileIOMetricsResult.fromFileIOMetrics(io.metrics());
+    assertThat(result.readLatency()).isNotNull();
+    assertThat(result.readLatency().count()).isGreaterThan(0L);
+    assertThat(result.readLatency().max()).isGreaterThan(0L);
+    assertThat(result.bytesRead().value()).isGreaterThan(0L);
+  }
+
   private Pair<File, Long> generateFile(
       Function<MessageType, ParquetValueWriter<?>> createWriterFunc,
       int desiredRecordCount,
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.parquet.ParquetWritingTestUtils.createTempFile;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestPrefetchingFileReader {
+  private static final int NUM_RECORDS = 1000;
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()),
+          optional(2, "data", Types.StringType.get()),
+          optional(3, "other", Types.StringType.get()));
+
+  private static final Schema PROJECTION =
+      new Schema(
+          required(1, "id", Types.LongType.get()), optional(3, "other", Types.StringType.get()));
+
+  @TempDir private Path temp;
+
+  private byte[] fileBytes = null;
+
+  @BeforeEach
+  public void writeFile() throws IOException {
+    File file = createTempFile(temp);
+
+    GenericRecord template = GenericRecord.create(SCHEMA);
+    try (FileAppender<Record> writer =
+        Parquet.write(org.apache.iceberg.Files.localOutput(file))
+            .schema(SCHEMA)
+            .createWriterFunc(GenericParquetWriter::buildWriter)
+            .set(TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES, "4096")
+            .build()) {
+      for (long id = 0; id < NUM_RECORDS; id += 1) {
+        Record record = template.copy();
+        record.setField("id", id);
+        record.setField("data", "data-" + id);
+        record.setField("other", "other-" + id);
+        writer.add(record);
+      }
+    }
+
+    this.fileBytes = Files.readAllBytes(file.toPath());
+  }
+
+  @Test
+  public void testPrefetchProjectedColumnChunks() throws IOException {
+    RangeReadableFile file = new RangeReadableFile(fileBytes);
+    List<Record> records = read(file);
+
+    assertThat(records).hasSize(NUM_RECORDS);
+    for (int pos = 0; pos < NUM_RECORDS; pos += 1) {
+      Record record = records.get(pos);
+      assertThat(record.getField("id")).isEqualTo((long) pos);
+      assertThat(record.getField("other")).isEqualTo("other-" + pos);
+    }
+
+    assertThat(file.prefetchedRanges).as("Should prefetch each row group").hasSizeGreaterThan(1);
+    for (List<FileRange> ranges : file.prefetchedRanges) {
+      assertThat(ranges).as("Should prefetch only the projected column chunks").hasSize(2);
+    }
+  }
+
+  @Test
+  public void testPrefetchNextRowGroupWhileReading() throws IOException {
+    int rowGroups = ParquetUtil.readFooter(new RangeReadableFile(fileBytes)).getBlocks().size();
+    assertThat(rowGroups).isGreaterThan(2);
+
+    RangeReadableFile file = new RangeReadableFile(fileBytes);
+    try (CloseableIterable<Record> reader = reader(file);
+        CloseableIterator<Record> records = reader.iterator()) {
+      assertThat(records.next().getField("id")).isEqualTo(0L);
+      assertThat(file.prefetchedRanges)
+          .as("Should prefetch the first and the next row group")
+          .hasSize(2);
+
+      records.forEachRemaining(record -> {});
+    }
+
+    assertThat(file.prefetchedRanges).as("Should prefetch each row group once").hasSize(rowGroups);
+  }
+
+  @Test
+  public void testCloseCancelsPrefetchedRanges() throws IOException {
+    RangeReadableFile file = new RangeReadableFile(fileBytes);
+    file.completedVectoredReads = 1;
+
+    try (CloseableIterable<Record> reader = reader(file);
+        CloseableIterator<Record> records = reader.iterator()) {
+      assertThat(records.next().getField("id")).isEqualTo(0L);
+      assertThat(file.prefetchedRanges).hasSize(2);
+    }
+
+    assertThat(file.prefetchedRanges.get(1))
+        .as("Pending ranges of the next row group should be cancelled on close")
+        .allMatch(range -> range.byteBuffer().isCancelled());
+  }
+
+  @Test
+  public void testNoPrefetchWhenVectoredReadsAreDisabled() throws IOException {
+    RangeReadableFile file = new RangeReadableFile(fileBytes, false /* vectored reads */);
+    assertThat(read(file)).hasSize(NUM_RECORDS);
+    assertThat(file.prefetchedRanges).as("Should not prefetch row groups").isEmpty();
+  }
+
+  @Test
+  public void testPrefetchedBytesAreNotReadFromStream() throws IOException {
+    RangeReadableFile file = new RangeReadableFile(fileBytes);
+    read(file);
+
+    long prefetchedBytes =
+        file.prefetchedRanges.stream().flatMap(List::stream).mapToLong(FileRange::length).sum();
+    assertThat(file.streamBytesRead)
+        .as("Column chunks should be served from prefetched ranges")
+        .isLessThan(fileBytes.length - prefetchedBytes);
+  }
+
+  private List<Record> read(InputFile file) throws IOException {
+    try (CloseableIterable<Record> reader = reader(file)) {
+      return Lists.newArrayList(reader);
+    }
+  }
+
+  private CloseableIterable<Record> reader(InputFile file) {
+    return Parquet.read(file)
+        .project(PROJECTION)
+        .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(PROJECTION, fileSchema))
+        .build();
+  }
+
+  private static class RangeReadableFile implements InputFile {
+    private final byte[] bytes;
+    private final boolean vectoredReadEnabled;
+    private final List<List<FileRange>> prefetchedRanges = Lists.newArrayList();
+    private long streamBytesRead = 0L;
+    private int completedVectoredReads = Integer.MAX_VALUE;
+
+    private RangeReadableFile(byte[] bytes) {
+      this(bytes, true);
+    }
+
+    private RangeReadableFile(byte[] bytes, boolean vectoredReadEnabled) {
+      this.bytes = bytes;
+      this.vectoredReadEnabled = vectoredReadEnabled;
+    }
+
+    @Override
+    public long getLength() {
+      return bytes.length;
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      return new RangeReadableStream();
+    }
+
+    @Override
+    public String location() {
+      return "memory:/range-readable.parquet";
+    }
+
+    @Override
+    public boolean exists() {
+      return true;
+    }
+
+    private class RangeReadableStream extends SeekableInputStream implements RangeReadable {
+      private int pos = 0;
+
+      @Override
+      public long getPos() {
+        return pos;
+      }
+
+      @Override
+      public void seek(long newPos) {
+        this.pos = (int) newPos;
+      }
+
+      @Override
+      public int read() {
+        if (pos >= bytes.length) {
+          return -1;
+        }
+
+        streamBytesRead += 1;
+        return bytes[pos++] & 0xFF;
+      }
+
+      @Override
+      public int read(byte[] buffer, int off, int len) {
+        if (pos >= bytes.length) {
+          return -1;
+        }
+
+        int bytesRead = Math.min(len, bytes.length - pos);
+        System.arraycopy(bytes, pos, buffer, off, bytesRead);
+        this.pos += bytesRead;
+        streamBytesRead += bytesRead;
+        return bytesRead;
+      }
+
+      @Override
+      public void readFully(long position, byte[] buffer, int offset, int length) {
+        System.arraycopy(bytes, (int) position, buffer, offset, length);
+      }
+
+      @Override
+      public int readTail(byte[] buffer, int offset, int length) {
+        System.arraycopy(bytes, bytes.length - length, buffer, offset, length);
+        return length;
+      }
+
+      @Override
+      public boolean isVectoredReadEnabled() {
+        return vectoredReadEnabled;
+      }
+
+      @Override
+      public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate)
+          throws IOException {
+        prefetchedRanges.add(ranges);
+        // later ranges are left pending, like asynchronous reads that have not completed yet
+        if (prefetchedRanges.size() <= completedVectoredReads) {
+          RangeReadable.super.readVectored(ranges, allocate);
+        }
+      }
+    }
+  }
+}
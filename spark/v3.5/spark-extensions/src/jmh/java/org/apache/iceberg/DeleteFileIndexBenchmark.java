@@ -23,15 +23,19 @@ import com.google.errorprone.annotations.FormatString;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.spark.Spark3Util;
 import org.apache.iceberg.spark.SparkSessionCatalog;
 import org.apache.iceberg.spark.extensions.IcebergSparkSessionExtensions;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.ThreadPools;
 import org.apache.spark.sql.SparkSession;
 import org.apache.spark.sql.catalyst.analysis.NoSuchTableException;
@@ -70,10 +74,14 @@ public class DeleteFileIndexBenchmark {
 
   private static final String TABLE_NAME = "test_table";
   private static final String PARTITION_COLUMN = "ss_ticket_number";
+  private static final String EQUALITY_COLUMN = "ss_item_sk";
 
   private static final int NUM_PARTITIONS = 50;
   private static final int NUM_DATA_FILES_PER_PARTITION = 50_000;
   private static final int NUM_DELETE_FILES_PER_PARTITION = 100;
+  private static final int NUM_EQ_DELETE_FILES_PER_PARTITION = 5_000;
+  private static final int NUM_KEYS_PER_DATA_FILE = 1_000;
+  private static final int NUM_KEYS_PER_EQ_DELETE_FILE = 10;
 
   private final Configuration hadoopConf = new Configuration();
   private SparkSession spark;
@@ -81,8 +89,8 @@ public class DeleteFileIndexBenchmark {
 
   private List<DataFile> dataFiles;
 
-  @Param({"true", "false"})
-  private boolean oneToOneMapping;
+  @Param({"partition-scoped", "file-scoped", "many-eq-deletes"})
+  private String deleteScope;
 
   @Setup
   public void setupBenchmark() throws NoSuchTableException, ParseException {
@@ -93,10 +101,15 @@ public class DeleteFileIndexBenchmark {
   }
 
   private void initDataAndDeletes() {
-    if (oneToOneMapping) {
-      initDataAndFileScopedDeletes();
-    } else {
-      initDataAndPartitionScopedDeletes();
+    switch (deleteScope) {
+      case "file-scoped":
+        initDataAndFileScopedDeletes();
+        break;
+      case "many-eq-deletes":
+        initDataAndEqualityDeletes();
+        break;
+      default:
+        initDataAndPartitionScopedDeletes();
     }
   }
 
@@ -127,7 +140,9 @@ public class DeleteFileIndexBenchmark {
     try (CloseableIterable<ManifestEntry<DataFile>> entries = manifestGroup.entries()) {
       List<DataFile> files = Lists.newArrayList();
       for (ManifestEntry<DataFile> entry : entries) {
-        files.add(entry.file().copyWithoutStats());
+        // equality deletes are matched using data file bounds
+        DataFile file = entry.file();
+        files.add(hasEqualityDeletes() ? file.copy() : file.copyWithoutStats());
       }
       this.dataFiles = files;
     } catch (IOException e) {
@@ -183,6 +198,66 @@ public class DeleteFileIndexBenchmark {
     }
   }
 
+  // data files cover consecutive key ranges and each delete file removes a few random keys
+  private void initDataAndEqualityDeletes() {
+    int equalityFieldId = table.schema().findField(EQUALITY_COLUMN).fieldId();
+    int maxKey = NUM_DATA_FILES_PER_PARTITION * NUM_KEYS_PER_DATA_FILE;
+    Random random = new Random(42);
+
+    for (int partitionOrdinal = 0; partitionOrdinal < NUM_PARTITIONS; partitionOrdinal++) {
+      StructLike partition = TestHelpers.Row.of(partitionOrdinal);
+
+      RowDelta rowDelta = table.newRowDelta();
+
+      for (int fileOrdinal = 0; fileOrdinal < NUM_DATA_FILES_PER_PARTITION; fileOrdinal++) {
+        int lower = fileOrdinal * NUM_KEYS_PER_DATA_FILE;
+        int upper = lower + NUM_KEYS_PER_DATA_FILE - 1;
+        DataFile dataFile =
+            DataFiles.builder(table.spec())
+                .copy(FileGenerationUtil.generateDataFile(table, partition))
+                .withMetrics(keyRangeMetrics(equalityFieldId, lower, upper))
+                .build();
+        rowDelta.addRows(dataFile);
+      }
+
+      for (int fileOrdinal = 0; fileOrdinal < NUM_EQ_DELETE_FILES_PER_PARTITION; fileOrdinal++) {
+        int lower = random.nextInt(maxKey - NUM_KEYS_PER_EQ_DELETE_FILE);
+        int upper = lower + NUM_KEYS_PER_EQ_DELETE_FILE - 1;
+        DeleteFile deleteFile =
+            FileMetadata.deleteFileBuilder(table.spec())
+                .ofEqualityDeletes(equalityFieldId)
+                .withPath(
+                    table
+                        .locationProvider()
+                        .newDataLocation(
+                            table.spec(), partition, FileGenerationUtil.generateFileName()))
+                .withPartition(partition)
+                .withFileSizeInBytes(1024)
+                .withFormat(FileFormat.PARQUET)
+                .withMetrics(keyRangeMetrics(equalityFieldId, lower, upper))
+                .build();
+        rowDelta.addDeletes(deleteFile);
+      }
+
+      rowDelta.commit();
+    }
+  }
+
+  private static Metrics keyRangeMetrics(int fieldId, int lower, int upper) {
+    return new Metrics(
+        (long) (upper - lower + 1),
+        null /* no column sizes */,
+        ImmutableMap.of(fieldId, (long) (upper - lower + 1)),
+        ImmutableMap.of(fieldId, 0L),
+        null /* no NaN counts */,
+        ImmutableMap.of(fieldId, Conversions.toByteBuffer(Types.IntegerType.get(), lower)),
+        ImmutableMap.of(fieldId, Conversions.toByteBuffer(Types.IntegerType.get(), upper)));
+  }
+
+  private boolean hasEqualityDeletes() {
+    return deleteScope.equals("many-eq-deletes");
+  }
+
   private void setupSpark() {
     this.spark =
         SparkSession.builder()
@@ -22,6 +22,7 @@ import static org.apache.spark.sql.functions.col;
 import static org.apache.spark.sql.functions.date_add;
 import static org.apache.spark.sql.functions.lit;
 import static org.apache.spark.sql.functions.pmod;
+import static org.apache.spark.sql.functions.struct;
 import static org.apache.spark.sql.functions.to_date;
 import static org.apache.spark.sql.functions.to_timestamp;
 
@@ -74,6 +75,7 @@ public class VectorizedReadDictionaryEncodedFlatParquetDataBenchmark
     df = withDateColumnDictEncoded(df);
     df = withTimestampColumnDictEncoded(df);
     df = withStringColumnDictEncoded(df);
+    df = withStructColumnDictEncoded(df);
     df = df.drop("id");
     df.write().format("iceberg").mode(SaveMode.Append).save(table().location());
   }
@@ -124,4 +126,10 @@ public class VectorizedReadDictionaryEncodedFlatParquetDataBenchmark
   private static Dataset<Row> withStringColumnDictEncoded(Dataset<Row> df) {
     return df.withColumn("stringCol", modColumn().cast(DataTypes.StringType));
   }
+
+  private static Dataset<Row> withStructColumnDictEncoded(Dataset<Row> df) {
+    return df.withColumn(
+        "structCol",
+        struct(col("longCol").as("longField"), col("stringCol").as("stringField")));
+  }
 }
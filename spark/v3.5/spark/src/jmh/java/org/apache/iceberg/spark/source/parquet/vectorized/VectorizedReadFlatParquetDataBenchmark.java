@@ -47,8 +47,8 @@ import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 
 /**
- * Benchmark to compare performance of reading Parquet data with a flat schema using vectorized
- * Iceberg read path and the built-in file source in Spark.
+ * Benchmark to compare performance of reading Parquet data with a flat schema and a simple struct
+ * column using vectorized Iceberg read path and the built-in file source in Spark.
  *
  * <p>To run this benchmark for spark-3.5: <code>
  *   ./gradlew -DsparkVersions=3.5 :iceberg-spark:iceberg-spark-3.5_2.12:jmh \
@@ -92,7 +92,13 @@ public class VectorizedReadFlatParquetDataBenchmark extends IcebergSourceBenchma
             optional(6, "decimalCol", Types.DecimalType.of(18, 5)),
             optional(7, "dateCol", Types.DateType.get()),
             optional(8, "timestampCol", Types.TimestampType.withZone()),
-            optional(9, "stringCol", Types.StringType.get()));
+            optional(9, "stringCol", Types.StringType.get()),
+            optional(
+                10,
+                "structCol",
+                Types.StructType.of(
+                    optional(11, "longField", Types.LongType.get()),
+                    optional(12, "stringField", Types.StringType.get()))));
     PartitionSpec partitionSpec = PartitionSpec.unpartitioned();
     HadoopTables tables = new HadoopTables(hadoopConf());
     Map<String, String> properties = parquetWriteProps();
@@ -122,7 +128,12 @@ public class VectorizedReadFlatParquetDataBenchmark extends IcebergSourceBenchma
               .withColumn("decimalCol", expr("CAST(longCol AS DECIMAL(18, 5))"))
               .withColumn("dateCol", date_add(current_date(), fileNum))
               .withColumn("timestampCol", expr("TO_TIMESTAMP(dateCol)"))
-              .withColumn("stringCol", expr("CAST(longCol AS STRING)"));
+              .withColumn("stringCol", expr("CAST(longCol AS STRING)"))
+              .withColumn(
+                  "structCol",
+                  expr(
+                      "IF(longCol IS NULL, NULL, "
+                          + "named_struct('longField', longCol, 'stringField', stringCol))"));
       appendAsFile(df);
     }
   }
@@ -339,6 +350,54 @@ public class VectorizedReadFlatParquetDataBenchmark extends IcebergSourceBenchma
         });
   }
 
+  @Benchmark
+  @Threads(1)
+  public void readStructsIcebergVectorized5k() {
+    withTableProperties(
+        tablePropsWithVectorizationEnabled(5000),
+        () -> {
+          String tableLocation = table().location();
+          Dataset<Row> df =
+              spark().read().format("iceberg").load(tableLocation).select("structCol");
+          materialize(df);
+        });
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readStructsSparkVectorized5k() {
+    withSQLConf(
+        sparkConfWithVectorizationEnabled(5000),
+        () -> {
+          Dataset<Row> df = spark().read().parquet(dataLocation()).select("structCol");
+          materialize(df);
+        });
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readStructFieldIcebergVectorized5k() {
+    withTableProperties(
+        tablePropsWithVectorizationEnabled(5000),
+        () -> {
+          String tableLocation = table().location();
+          Dataset<Row> df =
+              spark().read().format("iceberg").load(tableLocation).select("structCol.longField");
+          materialize(df);
+        });
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readStructFieldSparkVectorized5k() {
+    withSQLConf(
+        sparkConfWithVectorizationEnabled(5000),
+        () -> {
+          Dataset<Row> df = spark().read().parquet(dataLocation()).select("structCol.longField");
+          materialize(df);
+        });
+  }
+
   private static Map<String, String> tablePropsWithVectorizationEnabled(int batchSize) {
     Map<String, String> tableProperties = Maps.newHashMap();
     tableProperties.put(TableProperties.PARQUET_VECTORIZATION_ENABLED, "true");
@@ -350,6 +409,7 @@ public class VectorizedReadFlatParquetDataBenchmark extends IcebergSourceBenchma
     Map<String, String> conf = Maps.newHashMap();
     conf.put(SQLConf.PARQUET_VECTORIZED_READER_ENABLED().key(), "true");
     conf.put(SQLConf.PARQUET_VECTORIZED_READER_BATCH_SIZE().key(), String.valueOf(batchSize));
+    conf.put(SQLConf.PARQUET_VECTORIZED_READER_NESTED_COLUMN_ENABLED().key(), "true");
     return conf;
   }
 }
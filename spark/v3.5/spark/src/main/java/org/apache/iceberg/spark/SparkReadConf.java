@@ -161,6 +161,16 @@ public class SparkReadConf {
         .parse();
   }
 
+  public boolean parquetPageFilterEnabled() {
+    return confParser
+        .booleanConf()
+        .option(SparkReadOptions.PARQUET_PAGE_FILTER_ENABLED)
+        .sessionConf(SparkSQLProperties.PARQUET_PAGE_FILTER_ENABLED)
+        .tableProperty(TableProperties.PARQUET_PAGE_FILTER_ENABLED)
+        .defaultValue(TableProperties.PARQUET_PAGE_FILTER_ENABLED_DEFAULT)
+        .parse();
+  }
+
   public int parquetBatchSize() {
     return confParser
         .intConf()
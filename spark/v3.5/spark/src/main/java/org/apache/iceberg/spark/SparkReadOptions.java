@@ -59,6 +59,9 @@ public class SparkReadOptions {
   // Overrides table's vectorization enabled properties
   public static final String VECTORIZATION_ENABLED = "vectorization-enabled";
 
+  // Overrides table's read.parquet.page-filter.enabled property
+  public static final String PARQUET_PAGE_FILTER_ENABLED = "parquet-page-filter-enabled";
+
   // Overrides the table's read.parquet.vectorization.batch-size
   public static final String VECTORIZATION_BATCH_SIZE = "batch-size";
 
@@ -27,6 +27,10 @@ public class SparkSQLProperties {
   // Controls whether vectorized reads are enabled
   public static final String VECTORIZATION_ENABLED = "spark.sql.iceberg.vectorization.enabled";
 
+  // Controls whether Parquet pages are filtered using column indexes
+  public static final String PARQUET_PAGE_FILTER_ENABLED =
+      "spark.sql.iceberg.parquet.page-filter.enabled";
+
   // Controls whether to perform the nullability check during writes
   public static final String CHECK_NULLABILITY = "spark.sql.iceberg.check-nullability";
   public static final boolean CHECK_NULLABILITY_DEFAULT = true;
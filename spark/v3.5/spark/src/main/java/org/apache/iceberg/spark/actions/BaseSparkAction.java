@@ -144,12 +144,16 @@ abstract class BaseSparkAction<ThisT> {
   }
 
   protected Dataset<FileInfo> contentFileDS(Table table, Set<Long> snapshotIds) {
+    return contentFileDS(table, manifestDF(table, snapshotIds));
+  }
+
+  protected Dataset<FileInfo> contentFileDS(Table table, Dataset<Row> manifestDF) {
     Table serializableTable = SerializableTableWithSize.copyOf(table);
     Broadcast<Table> tableBroadcast = sparkContext.broadcast(serializableTable);
     int numShufflePartitions = spark.sessionState().conf().numShufflePartitions();
 
     Dataset<ManifestFileBean> manifestBeanDS =
-        manifestDF(table, snapshotIds)
+        manifestDF
             .selectExpr(
                 "content",
                 "path",
@@ -169,12 +173,14 @@ abstract class BaseSparkAction<ThisT> {
   }
 
   protected Dataset<FileInfo> manifestDS(Table table, Set<Long> snapshotIds) {
-    return manifestDF(table, snapshotIds)
-        .select(col("path"), lit(MANIFEST).as("type"))
-        .as(FileInfo.ENCODER);
+    return manifestDS(manifestDF(table, snapshotIds));
+  }
+
+  protected Dataset<FileInfo> manifestDS(Dataset<Row> manifestDF) {
+    return manifestDF.select(col("path"), lit(MANIFEST).as("type")).as(FileInfo.ENCODER);
   }
 
-  private Dataset<Row> manifestDF(Table table, Set<Long> snapshotIds) {
+  protected Dataset<Row> manifestDF(Table table, Set<Long> snapshotIds) {
     Dataset<Row> manifestDF = loadMetadataTable(table, ALL_MANIFESTS);
     if (snapshotIds != null) {
       Column filterCond = col(AllManifestsTable.REF_SNAPSHOT_ID.name()).isInCollection(snapshotIds);
@@ -20,6 +20,7 @@ package org.apache.iceberg.spark.actions;
 
 import static org.apache.iceberg.TableProperties.GC_ENABLED;
 import static org.apache.iceberg.TableProperties.GC_ENABLED_DEFAULT;
+import static org.apache.spark.sql.functions.not;
 
 import java.io.IOException;
 import java.io.Serializable;
@@ -42,7 +43,9 @@ import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.PathFilter;
+import org.apache.iceberg.HasTableOperations;
 import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.actions.DeleteOrphanFiles;
 import org.apache.iceberg.actions.ImmutableDeleteOrphanFiles;
@@ -57,6 +60,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.spark.JobGroupInfo;
 import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.PropertyUtil;
@@ -70,6 +74,7 @@ import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Encoder;
 import org.apache.spark.sql.Encoders;
 import org.apache.spark.sql.Row;
+import org.apache.spark.sql.RowFactory;
 import org.apache.spark.sql.SparkSession;
 import org.apache.spark.sql.types.DataTypes;
 import org.apache.spark.sql.types.StructField;
@@ -97,6 +102,15 @@ import scala.Tuple2;
  * dataset provided which are not found in table metadata will be deleted, using the same {@link
  * Table#location()} and {@link #olderThan(long)} filtering as above.
  *
+ * <p>In incremental mode, enabled using {@link #incremental(boolean)}, the action keeps an index of
+ * the files that were found to be valid by the previous run under the table's metadata location.
+ * Only files that are not in that index are checked and only manifests that may reference them are
+ * read, instead of checking every file against all reachable files. Files that are not in the index
+ * but were modified before the previous run are still checked against all reachable files, so an
+ * incomplete previous listing or file list does not cause live files to be deleted. Files that were
+ * valid in an earlier run and were later left behind by expiring snapshots without cleaning up
+ * files are not detected in this mode, so a full run should still be done from time to time.
+ *
  * <p><em>Note:</em> It is dangerous to call this action with a short retention interval as it might
  * corrupt the state of the table if another operation is writing at the same time.
  */
@@ -109,6 +123,13 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
   private static final int MAX_DRIVER_LISTING_DIRECT_SUB_DIRS = 10;
   private static final int MAX_EXECUTOR_LISTING_DEPTH = 2000;
   private static final int MAX_EXECUTOR_LISTING_DIRECT_SUB_DIRS = Integer.MAX_VALUE;
+  private static final String INDEX_DIR = "_orphan-file-index";
+  private static final String INDEX_SUCCESS_MARKER = "_SUCCESS";
+  private static final long INCREMENTAL_LOOKBACK_MS_DEFAULT = TimeUnit.DAYS.toMillis(1);
+  private static final StructType FILE_INFO_SCHEMA =
+      new StructType()
+          .add(FILE_PATH, DataTypes.StringType, false)
+          .add(LAST_MODIFIED, DataTypes.TimestampType, false);
 
   private final SerializableConfiguration hadoopConf;
   private final int listingParallelism;
@@ -121,6 +142,8 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
   private Dataset<Row> compareToFileList;
   private Consumer<String> deleteFunc = null;
   private ExecutorService deleteExecutorService = null;
+  private boolean incremental = false;
+  private long incrementalLookbackMs = INCREMENTAL_LOOKBACK_MS_DEFAULT;
 
   DeleteOrphanFilesSparkAction(SparkSession spark, Table table) {
     super(spark);
@@ -185,6 +208,38 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
     return this;
   }
 
+  /**
+   * Enables or disables incremental orphan file detection.
+   *
+   * <p>When enabled, files that were found to be valid by the previous incremental run for the same
+   * location are not checked again and the files that are valid after this run are stored as an
+   * index for the next run. The first incremental run checks all files.
+   *
+   * @param enabled whether to use and update the index of valid files from the previous run
+   * @return this for method chaining
+   */
+  public DeleteOrphanFilesSparkAction incremental(boolean enabled) {
+    this.incremental = enabled;
+    return this;
+  }
+
+  /**
+   * Sets the tolerance for differences between file modification times and snapshot commit times
+   * in incremental mode.
+   *
+   * <p>Manifests added by snapshots that were committed more than this interval before the
+   * olderThan timestamp of the previous incremental run are not read. The default is one day.
+   *
+   * @param lookbackMs a non-negative interval in milliseconds
+   * @return this for method chaining
+   */
+  public DeleteOrphanFilesSparkAction incrementalLookback(long lookbackMs) {
+    Preconditions.checkArgument(
+        lookbackMs >= 0, "Invalid incremental lookback: %s (must be non-negative)", lookbackMs);
+    this.incrementalLookbackMs = lookbackMs;
+    return this;
+  }
+
   public DeleteOrphanFilesSparkAction compareToFileList(Dataset<Row> files) {
     StructType schema = files.schema();
 
@@ -206,14 +261,14 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
     return this;
   }
 
-  private Dataset<String> filteredCompareToFileList() {
+  private Dataset<Row> filteredCompareToFileList() {
     Dataset<Row> files = compareToFileList;
     if (location != null) {
       files = files.filter(files.col(FILE_PATH).startsWith(location));
     }
     return files
         .filter(files.col(LAST_MODIFIED).lt(new Timestamp(olderThanTimestamp)))
-        .select(files.col(FILE_PATH))
+        .select(files.col(FILE_PATH), files.col(LAST_MODIFIED))
         .as(Encoders.STRING());
   }
 
@@ -229,6 +284,9 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
     if (location != null) {
       options.add("location=" + location);
     }
+    if (incremental) {
+      options.add("incremental=true");
+    }
     String optionsAsString = COMMA_JOINER.join(options);
     return String.format("Deleting orphan files (%s) from %s", optionsAsString, table.name());
   }
@@ -244,11 +302,15 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
   }
 
   private DeleteOrphanFiles.Result doExecute() {
-    Dataset<FileURI> actualFileIdentDS = actualFileIdentDS();
-    Dataset<FileURI> validFileIdentDS = validFileIdentDS();
-
-    List<String> orphanFiles =
-        findOrphanFiles(spark(), actualFileIdentDS, validFileIdentDS, prefixMismatchMode);
+    List<String> orphanFiles;
+    if (incremental) {
+      orphanFiles = findOrphanFilesIncrementally();
+    } else {
+      Dataset<FileURI> actualFileIdentDS = actualFileIdentDS();
+      Dataset<FileURI> validFileIdentDS = validFileIdentDS();
+      orphanFiles =
+          findOrphanFiles(spark(), actualFileIdentDS, validFileIdentDS, prefixMismatchMode);
+    }
 
     if (deleteFunc == null && table.io() instanceof SupportsBulkOperations) {
       deleteFiles((SupportsBulkOperations) table.io(), orphanFiles);
@@ -291,17 +353,232 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
   }
 
   private Dataset<FileURI> actualFileIdentDS() {
+    return toFileIdentDS(actualFileDF());
+  }
+
+  private Dataset<FileURI> toFileIdentDS(Dataset<Row> fileDF) {
     StringToFileURI toFileURI = new StringToFileURI(equalSchemes, equalAuthorities);
+    return toFileURI.apply(fileDF.select(fileDF.col(FILE_PATH)).as(Encoders.STRING()));
+  }
+
+  private Dataset<Row> actualFileDF() {
     if (compareToFileList == null) {
-      return toFileURI.apply(listedFileDS());
+      return listedFileDF();
     } else {
-      return toFileURI.apply(filteredCompareToFileList());
+      return filteredCompareToFileList();
+    }
+  }
+
+  private List<String> findOrphanFilesIncrementally() {
+    Pair<Long, String> lastIndex = lastIndex();
+    Dataset<Row> actualFileDF = actualFileDF().cache();
+    Dataset<FileURI> actualFileIdentDS = withoutIndexFiles(toFileIdentDS(actualFileDF));
+
+    try {
+      List<String> orphanFiles;
+      if (lastIndex == null) {
+        LOG.info("No index of valid files for {}, checking all files", location);
+        orphanFiles =
+            findOrphanFiles(spark(), actualFileIdentDS, validFileIdentDS(), prefixMismatchMode);
+      } else {
+        LOG.info("Checking files that are not in the index of valid files: {}", lastIndex.second());
+        orphanFiles = findUnindexedOrphanFiles(actualFileDF, lastIndex);
+      }
+
+      // orphan files are not added to the index so that they are checked again if deletes fail
+      Dataset<String> orphanFileDS = spark().createDataset(orphanFiles, Encoders.STRING());
+      Column isOrphan = actualFileIdentDS.col("uriAsString").equalTo(orphanFileDS.col("value"));
+      Dataset<FileURI> validFileIdentDS =
+          actualFileIdentDS.join(orphanFileDS, isOrphan, "left_anti").as(FileURI.ENCODER);
+      writeIndex(validFileIdentDS, lastIndex);
+
+      return orphanFiles;
+
+    } finally {
+      actualFileDF.unpersist();
+    }
+  }
+
+  /**
+   * Returns orphan files among actual files that are not in the index.
+   *
+   * <p>Only files that were modified since the olderThan timestamp of the last run can be missing
+   * from its index because they are new. These are checked against files that may reference files
+   * written since the last run. Any other file that is not in the index was missed by the last run,
+   * for instance because the provided file list was incomplete, and is checked against all
+   * reachable files.
+   */
+  private List<String> findUnindexedOrphanFiles(
+      Dataset<Row> actualFileDF, Pair<Long, String> lastIndex) {
+    Dataset<FileURI> indexedFileIdentDS =
+        spark().read().parquet(lastIndex.second()).as(FileURI.ENCODER);
+
+    Column isNew = actualFileDF.col(LAST_MODIFIED).geq(new Timestamp(lastIndex.first()));
+    Dataset<FileURI> newFileIdentDS = withoutIndexFiles(toFileIdentDS(actualFileDF.filter(isNew)));
+    Dataset<FileURI> oldFileIdentDS =
+        withoutIndexFiles(toFileIdentDS(actualFileDF.filter(not(isNew))));
+
+    List<String> orphanFiles =
+        Lists.newArrayList(
+            findOrphanFiles(
+                spark(),
+                unindexedFileIdentDS(newFileIdentDS, indexedFileIdentDS),
+                incrementalValidFileIdentDS(lastIndex.first()),
+                prefixMismatchMode));
+
+    Dataset<FileURI> unindexedOldFileIdentDS =
+        unindexedFileIdentDS(oldFileIdentDS, indexedFileIdentDS).cache();
+    try {
+      if (!unindexedOldFileIdentDS.isEmpty()) {
+        LOG.warn(
+            "Found files older than the index of valid files that are not in it, checking them "
+                + "against all reachable files: {}",
+            lastIndex.second());
+        orphanFiles.addAll(
+            findOrphanFiles(
+                spark(), unindexedOldFileIdentDS, validFileIdentDS(), prefixMismatchMode));
+      }
+    } finally {
+      unindexedOldFileIdentDS.unpersist();
+    }
+
+    return orphanFiles;
+  }
+
+  // index files are never orphans, even if they are in a provided file list
+  private Dataset<FileURI> withoutIndexFiles(Dataset<FileURI> fileIdentDS) {
+    String indexPath = toFileURI(indexLocation()).getPath();
+    return fileIdentDS.filter(not(fileIdentDS.col("path").startsWith(indexPath)));
+  }
+
+  /**
+   * Returns actual files that are not in the index.
+   *
+   * <p>Both sides are normalized using the configured equal schemes and authorities, so a file
+   * that is listed with a different but equal scheme or authority than in the previous run is not
+   * checked again.
+   */
+  private static Dataset<FileURI> unindexedFileIdentDS(
+      Dataset<FileURI> actualFileIdentDS, Dataset<FileURI> indexedFileIdentDS) {
+    Column joinCond =
+        actualFileIdentDS
+            .col("path")
+            .equalTo(indexedFileIdentDS.col("path"))
+            .and(actualFileIdentDS.col("scheme").eqNullSafe(indexedFileIdentDS.col("scheme")))
+            .and(
+                actualFileIdentDS
+                    .col("authority")
+                    .eqNullSafe(indexedFileIdentDS.col("authority")));
+    return actualFileIdentDS.join(indexedFileIdentDS, joinCond, "left_anti").as(FileURI.ENCODER);
+  }
+
+  /**
+   * Returns files that may reference files written since the last incremental run.
+   *
+   * <p>A file that was modified after the olderThan timestamp of the last run can only be
+   * referenced by manifests written by later commits. Manifests added by snapshots that were
+   * committed before that timestamp are skipped. Manifests added by snapshots that have expired are
+   * read because their commit time is unknown.
+   */
+  private Dataset<FileURI> incrementalValidFileIdentDS(long lastOlderThanTimestamp) {
+    long minTimestamp = lastOlderThanTimestamp - incrementalLookbackMs;
+    Set<Long> oldSnapshotIds = Sets.newHashSet();
+    for (Snapshot snapshot : table.snapshots()) {
+      if (snapshot.timestampMillis() < minTimestamp) {
+        oldSnapshotIds.add(snapshot.snapshotId());
+      }
+    }
+
+    Dataset<Row> manifestDF = manifestDF(table, null);
+    if (!oldSnapshotIds.isEmpty()) {
+      Column addedSnapshotId = manifestDF.col("added_snapshot_id");
+      manifestDF =
+          manifestDF.filter(
+              addedSnapshotId.isNull().or(not(addedSnapshotId.isInCollection(oldSnapshotIds))));
+    }
+
+    FileInfoToFileURI toFileURI = new FileInfoToFileURI(equalSchemes, equalAuthorities);
+
+    Dataset<FileURI> contentFileIdentDS = toFileURI.apply(contentFileDS(table, manifestDF));
+    Dataset<FileURI> manifestFileIdentDS = toFileURI.apply(manifestDS(manifestDF));
+    Dataset<FileURI> manifestListIdentDS = toFileURI.apply(manifestListDS(table));
+    Dataset<FileURI> otherMetadataFileIdentDS = toFileURI.apply(otherMetadataFileDS(table));
+
+    return contentFileIdentDS
+        .union(manifestFileIdentDS)
+        .union(manifestListIdentDS)
+        .union(otherMetadataFileIdentDS);
+  }
+
+  private String indexLocation() {
+    return ((HasTableOperations) table).operations().metadataFileLocation(INDEX_DIR);
+  }
+
+  // the index depends on the listed location, so each location has its own index
+  private String indexPrefix() {
+    FileURI uri = toFileURI(location);
+    int hash = Objects.hash(uri.getScheme(), uri.getAuthority(), uri.getPath());
+    return Integer.toHexString(hash) + "-";
+  }
+
+  private FileURI toFileURI(String path) {
+    return new StringToFileURI(equalSchemes, equalAuthorities).toFileURI(path);
+  }
+
+  /** Returns the olderThan timestamp and location of the last complete index, or null. */
+  private Pair<Long, String> lastIndex() {
+    try {
+      Path indexDir = new Path(indexLocation());
+      FileSystem fs = indexDir.getFileSystem(hadoopConf.value());
+      if (!fs.exists(indexDir)) {
+        return null;
+      }
+
+      Pair<Long, String> lastIndex = null;
+      for (FileStatus status : fs.listStatus(indexDir)) {
+        String name = status.getPath().getName();
+        boolean isComplete =
+            status.isDirectory()
+                && name.startsWith(indexPrefix())
+                && fs.exists(new Path(status.getPath(), INDEX_SUCCESS_MARKER));
+        if (isComplete) {
+          long indexOlderThan = Long.parseLong(name.substring(indexPrefix().length()));
+          if (lastIndex == null || indexOlderThan > lastIndex.first()) {
+            lastIndex = Pair.of(indexOlderThan, status.getPath().toString());
+          }
+        }
+      }
+
+      return lastIndex;
+
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void writeIndex(Dataset<FileURI> validFileIdentDS, Pair<Long, String> lastIndex) {
+    String newIndex = indexLocation() + "/" + indexPrefix() + olderThanTimestamp;
+    if (lastIndex != null && lastIndex.second().equals(new Path(newIndex).toString())) {
+      LOG.info("Index for timestamp {} already exists: {}", olderThanTimestamp, newIndex);
+      return;
+    }
+
+    validFileIdentDS.write().parquet(newIndex);
+    LOG.info("Wrote index of valid files to {}", newIndex);
+
+    if (lastIndex != null) {
+      try {
+        Path lastIndexPath = new Path(lastIndex.second());
+        lastIndexPath.getFileSystem(hadoopConf.value()).delete(lastIndexPath, true /* recursive */);
+      } catch (IOException e) {
+        LOG.warn("Failed to remove previous index of valid files: {}", lastIndex.second(), e);
+      }
     }
   }
 
-  private Dataset<String> listedFileDS() {
+  private Dataset<Row> listedFileDF() {
     List<String> subDirs = Lists.newArrayList();
-    List<String> matchingFiles = Lists.newArrayList();
+    List<Row> matchingFiles = Lists.newArrayList();
 
     Predicate<FileStatus> predicate = file -> file.getModificationTime() < olderThanTimestamp;
     PathFilter pathFilter = PartitionAwareHiddenPathFilter.forSpecs(table.specs());
@@ -318,10 +595,10 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
         pathFilter,
         matchingFiles);
 
-    JavaRDD<String> matchingFileRDD = sparkContext().parallelize(matchingFiles, 1);
+    JavaRDD<Row> matchingFileRDD = sparkContext().parallelize(matchingFiles, 1);
 
     if (subDirs.isEmpty()) {
-      return spark().createDataset(matchingFileRDD.rdd(), Encoders.STRING());
+      return spark().createDataFrame(matchingFileRDD, FILE_INFO_SCHEMA);
     }
 
     int parallelism = Math.min(subDirs.size(), listingParallelism);
@@ -329,10 +606,10 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
 
     Broadcast<SerializableConfiguration> conf = sparkContext().broadcast(hadoopConf);
     ListDirsRecursively listDirs = new ListDirsRecursively(conf, olderThanTimestamp, pathFilter);
-    JavaRDD<String> matchingLeafFileRDD = subDirRDD.mapPartitions(listDirs);
+    JavaRDD<Row> matchingLeafFileRDD = subDirRDD.mapPartitions(listDirs);
 
-    JavaRDD<String> completeMatchingFileRDD = matchingFileRDD.union(matchingLeafFileRDD);
-    return spark().createDataset(completeMatchingFileRDD.rdd(), Encoders.STRING());
+    JavaRDD<Row> completeMatchingFileRDD = matchingFileRDD.union(matchingLeafFileRDD);
+    return spark().createDataFrame(completeMatchingFileRDD, FILE_INFO_SCHEMA);
   }
 
   private static void listDirRecursively(
@@ -343,7 +620,7 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
       int maxDirectSubDirs,
       List<String> remainingSubDirs,
       PathFilter pathFilter,
-      List<String> matchingFiles) {
+      List<Row> matchingFiles) {
 
     // stop listing whenever we reach the max depth
     if (maxDepth <= 0) {
@@ -361,7 +638,9 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
         if (file.isDirectory()) {
           subDirs.add(file.getPath().toString());
         } else if (file.isFile() && predicate.test(file)) {
-          matchingFiles.add(file.getPath().toString());
+          String filePath = file.getPath().toString();
+          Timestamp lastModified = new Timestamp(file.getModificationTime());
+          matchingFiles.add(RowFactory.create(filePath, lastModified));
         }
       }
 
@@ -434,7 +713,7 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
     return flattenedMap;
   }
 
-  private static class ListDirsRecursively implements FlatMapFunction<Iterator<String>, String> {
+  private static class ListDirsRecursively implements FlatMapFunction<Iterator<String>, Row> {
 
     private final Broadcast<SerializableConfiguration> hadoopConf;
     private final long olderThanTimestamp;
@@ -451,9 +730,9 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
     }
 
     @Override
-    public Iterator<String> call(Iterator<String> dirs) throws Exception {
+    public Iterator<Row> call(Iterator<String> dirs) throws Exception {
       List<String> subDirs = Lists.newArrayList();
-      List<String> files = Lists.newArrayList();
+      List<Row> files = Lists.newArrayList();
 
       Predicate<FileStatus> predicate = file -> file.getModificationTime() < olderThanTimestamp;
 
@@ -571,7 +850,7 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
       return Iterators.transform(rows, this::toFileURI);
     }
 
-    private FileURI toFileURI(I input) {
+    FileURI toFileURI(I input) {
       String uriAsString = uriAsString(input);
       URI uri = new Path(uriAsString).toUri();
       String scheme = equalSchemes.getOrDefault(uri.getScheme(), uri.getScheme());
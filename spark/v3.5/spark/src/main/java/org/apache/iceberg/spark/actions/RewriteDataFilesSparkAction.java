@@ -38,8 +38,11 @@ import org.apache.iceberg.RewriteJobOrder;
 import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.actions.FileRewriter;
 import org.apache.iceberg.actions.ImmutableRewriteDataFiles;
+import org.apache.iceberg.actions.ReadBenefitCostModel;
+import org.apache.iceberg.actions.RewriteCostModel;
 import org.apache.iceberg.actions.RewriteDataFiles;
 import org.apache.iceberg.actions.RewriteDataFilesCommitManager;
 import org.apache.iceberg.actions.RewriteFileGroup;
@@ -61,6 +64,7 @@ import org.apache.iceberg.relocated.com.google.common.math.IntMath;
 import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
 import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.iceberg.types.Types.StructType;
+import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.StructLikeMap;
 import org.apache.iceberg.util.Tasks;
@@ -83,6 +87,7 @@ public class RewriteDataFilesSparkAction
           TARGET_FILE_SIZE_BYTES,
           USE_STARTING_SEQUENCE_NUMBER,
           REWRITE_JOB_ORDER,
+          MAX_REWRITE_BYTES,
           OUTPUT_SPEC_ID);
 
   private static final RewriteDataFilesSparkAction.Result EMPTY_RESULT =
@@ -97,7 +102,10 @@ public class RewriteDataFilesSparkAction
   private boolean partialProgressEnabled;
   private boolean useStartingSequenceNumber;
   private RewriteJobOrder rewriteJobOrder;
+  private long maxRewriteBytes;
   private FileRewriter<FileScanTask, DataFile> rewriter = null;
+  private Integer rewriteSortOrderId = null;
+  private RewriteCostModel costModel = null;
 
   RewriteDataFilesSparkAction(SparkSession spark, Table table) {
     super(spark.cloneSession());
@@ -124,6 +132,12 @@ public class RewriteDataFilesSparkAction
     Preconditions.checkArgument(
         rewriter == null, "Must use only one rewriter type (bin-pack, sort, zorder)");
     this.rewriter = new SparkSortDataRewriter(spark(), table, sortOrder);
+    this.rewriteSortOrderId =
+        table.sortOrders().values().stream()
+            .filter(order -> order.sameOrder(sortOrder))
+            .map(SortOrder::orderId)
+            .findFirst()
+            .orElse(null);
     return this;
   }
 
@@ -132,6 +146,7 @@ public class RewriteDataFilesSparkAction
     Preconditions.checkArgument(
         rewriter == null, "Must use only one rewriter type (bin-pack, sort, zorder)");
     this.rewriter = new SparkSortDataRewriter(spark(), table);
+    this.rewriteSortOrderId = table.sortOrder().orderId();
     return this;
   }
 
@@ -143,6 +158,22 @@ public class RewriteDataFilesSparkAction
     return this;
   }
 
+  /**
+   * Sets the model used to score file groups by the expected read benefit of rewriting them.
+   *
+   * <p>Scores are used to select file groups when {@link #MAX_REWRITE_BYTES} is set and to order
+   * them when the rewrite job order is benefit-desc. By default, a {@link ReadBenefitCostModel}
+   * with the target file size of the rewrite is used.
+   *
+   * @param model a cost model
+   * @return this for method chaining
+   */
+  public RewriteDataFilesSparkAction costModel(RewriteCostModel model) {
+    Preconditions.checkArgument(model != null, "Invalid cost model: null");
+    this.costModel = model;
+    return this;
+  }
+
   @Override
   public RewriteDataFilesSparkAction filter(Expression expression) {
     filter = Expressions.and(filter, expression);
@@ -195,7 +226,13 @@ public class RewriteDataFilesSparkAction
       StructType partitionType = table.spec().partitionType();
       StructLikeMap<List<FileScanTask>> filesByPartition =
           groupByPartition(partitionType, fileScanTasks);
-      return fileGroupsByPartition(filesByPartition);
+      StructLikeMap<List<List<FileScanTask>>> fileGroupsByPartition =
+          fileGroupsByPartition(filesByPartition);
+      if (maxRewriteBytes < Long.MAX_VALUE) {
+        return selectWithinBudget(partitionType, fileGroupsByPartition);
+      }
+
+      return fileGroupsByPartition;
     } finally {
       try {
         fileScanTasks.close();
@@ -237,6 +274,47 @@ public class RewriteDataFilesSparkAction
     return ImmutableList.copyOf(rewriter.planFileGroups(tasks));
   }
 
+  private StructLikeMap<List<List<FileScanTask>>> selectWithinBudget(
+      StructType partitionType, StructLikeMap<List<List<FileScanTask>>> groupsByPartition) {
+    List<Pair<Double, Pair<StructLike, List<FileScanTask>>>> rankedGroups = Lists.newArrayList();
+    groupsByPartition.forEach(
+        (partition, groups) -> {
+          for (List<FileScanTask> group : groups) {
+            double benefit = costModel.benefit(partition, group);
+            rankedGroups.add(Pair.of(benefit, Pair.of(partition, group)));
+          }
+        });
+    // rank groups by descending benefit, the sort is stable so equal groups keep the plan order
+    rankedGroups.sort((group1, group2) -> Double.compare(group2.first(), group1.first()));
+
+    StructLikeMap<List<List<FileScanTask>>> selected = StructLikeMap.create(partitionType);
+    long remainingBytes = maxRewriteBytes;
+    int skippedGroups = 0;
+    for (Pair<Double, Pair<StructLike, List<FileScanTask>>> rankedGroup : rankedGroups) {
+      StructLike partition = rankedGroup.second().first();
+      List<FileScanTask> group = rankedGroup.second().second();
+      long groupSize = group.stream().mapToLong(FileScanTask::length).sum();
+      if (groupSize <= remainingBytes) {
+        selected.computeIfAbsent(partition, key -> Lists.newArrayList()).add(group);
+        remainingBytes -= groupSize;
+      } else {
+        skippedGroups += 1;
+      }
+    }
+
+    if (skippedGroups > 0) {
+      LOG.info(
+          "Skipping {} of {} file groups in {} that do not fit in {} of {} bytes",
+          skippedGroups,
+          rankedGroups.size(),
+          table.name(),
+          MAX_REWRITE_BYTES,
+          maxRewriteBytes);
+    }
+
+    return selected;
+  }
+
   @VisibleForTesting
   RewriteFileGroup rewriteFiles(RewriteExecutionContext ctx, RewriteFileGroup fileGroup) {
     String desc = jobDesc(fileGroup, ctx);
@@ -412,6 +490,7 @@ public class RewriteDataFilesSparkAction
             .globalIndex(globalIndex)
             .partitionIndex(partitionIndex)
             .partition(partition)
+            .benefit(costModel.benefit(partition, tasks))
             .build();
     return new RewriteFileGroup(info, tasks);
   }
@@ -460,6 +539,27 @@ public class RewriteDataFilesSparkAction
         RewriteJobOrder.fromName(
             PropertyUtil.propertyAsString(options(), REWRITE_JOB_ORDER, REWRITE_JOB_ORDER_DEFAULT));
 
+    maxRewriteBytes =
+        PropertyUtil.propertyAsLong(options(), MAX_REWRITE_BYTES, MAX_REWRITE_BYTES_DEFAULT);
+
+    if (costModel == null) {
+      long targetFileSize =
+          PropertyUtil.propertyAsLong(
+              options(),
+              TARGET_FILE_SIZE_BYTES,
+              PropertyUtil.propertyAsLong(
+                  table.properties(),
+                  TableProperties.WRITE_TARGET_FILE_SIZE_BYTES,
+                  TableProperties.WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT));
+      costModel = new ReadBenefitCostModel(targetFileSize, rewriteSortOrderId, partition -> 1.0);
+    }
+
+    Preconditions.checkArgument(
+        maxRewriteBytes > 0,
+        "Cannot set %s to %s, the value must be positive.",
+        MAX_REWRITE_BYTES,
+        maxRewriteBytes);
+
     Preconditions.checkArgument(
         maxConcurrentFileGroupRewrites >= 1,
         "Cannot set %s to %s, the value must be positive.",
@@ -20,6 +20,7 @@ package org.apache.iceberg.spark.data.vectorized;
 
 import org.apache.iceberg.arrow.vectorized.VectorHolder;
 import org.apache.iceberg.arrow.vectorized.VectorHolder.ConstantVectorHolder;
+import org.apache.iceberg.arrow.vectorized.VectorHolder.StructVectorHolder;
 import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types;
 import org.apache.spark.sql.vectorized.ColumnVector;
@@ -35,7 +36,17 @@ class ColumnVectorBuilder {
   }
 
   public ColumnVector build(VectorHolder holder, int numRows) {
-    if (holder.isDummy()) {
+    if (holder instanceof StructVectorHolder) {
+      StructVectorHolder structHolder = (StructVectorHolder) holder;
+      VectorHolder[] fieldHolders = structHolder.fieldHolders();
+      ColumnVector[] fields = new ColumnVector[fieldHolders.length];
+      for (int i = 0; i < fieldHolders.length; i += 1) {
+        fields[i] = build(fieldHolders[i], numRows);
+      }
+
+      return new StructColumnVector(
+          structHolder.icebergType(), fields, structHolder.nullabilityHolder(), rowIdMapping);
+    } else if (holder.isDummy()) {
       if (holder instanceof VectorHolder.DeletedVectorHolder) {
         return new DeletedColumnVector(Types.BooleanType.get(), isDeleted);
       } else if (holder instanceof ConstantVectorHolder) {
@@ -21,6 +21,7 @@ package org.apache.iceberg.spark.data.vectorized;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import org.apache.iceberg.arrow.vectorized.BaseBatchReader;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader.DeletedVectorReader;
@@ -45,6 +46,9 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
   private final boolean hasIsDeletedColumn;
   private DeleteFilter<InternalRow> deletes = null;
   private long rowStartPosInBatch = 0;
+  private long rowGroupStartPos = 0;
+  // row indexes within the row group, only set when pages were filtered
+  private PrimitiveIterator.OfLong rowIndexes = null;
 
   public ColumnarBatchReader(List<VectorizedReader<?>> readers) {
     super(readers);
@@ -57,6 +61,8 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
       PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData, long rowPosition) {
     super.setRowGroupInfo(pageStore, metaData, rowPosition);
     this.rowStartPosInBatch = rowPosition;
+    this.rowGroupStartPos = rowPosition;
+    this.rowIndexes = pageStore.getRowIndexes().orElse(null);
   }
 
   public void setDeleteFilter(DeleteFilter<InternalRow> deleteFilter) {
@@ -178,7 +184,11 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
       int originalRowId = 0;
       int currentRowId = 0;
       while (originalRowId < numRowsToRead) {
-        if (!deletedRowPositions.isDeleted(originalRowId + rowStartPosInBatch)) {
+        long position =
+            rowIndexes != null
+                ? rowGroupStartPos + rowIndexes.nextLong()
+                : originalRowId + rowStartPosInBatch;
+        if (!deletedRowPositions.isDeleted(position)) {
           posDelRowIdMapping[currentRowId] = originalRowId;
           currentRowId++;
         } else {
@@ -29,10 +29,16 @@ import org.apache.spark.unsafe.types.UTF8String;
 public class RowPositionColumnVector extends ColumnVector {
 
   private final long batchOffsetInFile;
+  private final int[] rowIdMapping;
 
   RowPositionColumnVector(long batchOffsetInFile) {
+    this(batchOffsetInFile, null);
+  }
+
+  RowPositionColumnVector(long batchOffsetInFile, int[] rowIdMapping) {
     super(SparkSchemaUtil.convert(Types.LongType.get()));
     this.batchOffsetInFile = batchOffsetInFile;
+    this.rowIdMapping = rowIdMapping;
   }
 
   @Override
@@ -75,7 +81,7 @@ public class RowPositionColumnVector extends ColumnVector {
 
   @Override
   public long getLong(int rowId) {
-    return batchOffsetInFile + rowId;
+    return batchOffsetInFile + (rowIdMapping != null ? rowIdMapping[rowId] : rowId);
   }
 
   @Override
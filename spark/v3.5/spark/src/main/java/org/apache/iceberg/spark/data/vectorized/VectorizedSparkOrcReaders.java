@@ -18,11 +18,14 @@
  */
 package org.apache.iceberg.spark.data.vectorized;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.IntStream;
+import java.util.function.Predicate;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
 import org.apache.iceberg.orc.OrcBatchReader;
 import org.apache.iceberg.orc.OrcSchemaWithTypeVisitor;
 import org.apache.iceberg.orc.OrcValueReader;
@@ -37,6 +40,7 @@ import org.apache.orc.storage.ql.exec.vector.ListColumnVector;
 import org.apache.orc.storage.ql.exec.vector.MapColumnVector;
 import org.apache.orc.storage.ql.exec.vector.StructColumnVector;
 import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.spark.sql.catalyst.InternalRow;
 import org.apache.spark.sql.types.Decimal;
 import org.apache.spark.sql.vectorized.ColumnVector;
 import org.apache.spark.sql.vectorized.ColumnarArray;
@@ -50,36 +54,175 @@ public class VectorizedSparkOrcReaders {
 
   public static OrcBatchReader<ColumnarBatch> buildReader(
       Schema expectedSchema, TypeDescription fileSchema, Map<Integer, ?> idToConstant) {
+    return buildReader(expectedSchema, fileSchema, idToConstant, null);
+  }
+
+  public static OrcBatchReader<ColumnarBatch> buildReader(
+      Schema expectedSchema,
+      TypeDescription fileSchema,
+      Map<Integer, ?> idToConstant,
+      DeleteFilter<InternalRow> deleteFilter) {
     Converter converter =
         OrcSchemaWithTypeVisitor.visit(expectedSchema, fileSchema, new ReadBuilder(idToConstant));
 
-    return new OrcBatchReader<ColumnarBatch>() {
-      private long batchOffsetInFile;
-
-      @Override
-      public ColumnarBatch read(VectorizedRowBatch batch) {
-        BaseOrcColumnVector cv =
-            (BaseOrcColumnVector)
-                converter.convert(
-                    new StructColumnVector(batch.size, batch.cols),
-                    batch.size,
-                    batchOffsetInFile,
-                    batch.selectedInUse,
-                    batch.selected);
-        ColumnarBatch columnarBatch =
-            new ColumnarBatch(
-                IntStream.range(0, expectedSchema.columns().size())
-                    .mapToObj(cv::getChild)
-                    .toArray(ColumnVector[]::new));
-        columnarBatch.setNumRows(batch.size);
-        return columnarBatch;
+    return new BatchReader(expectedSchema, converter, deleteFilter);
+  }
+
+  /**
+   * Converts ORC batches to Spark {@link ColumnarBatch ColumnarBatches}.
+   *
+   * <p>If there are deletes, the ORC selection vector is replaced by a row id mapping that skips
+   * deleted rows, similar to how deletes are applied to Parquet batches in {@link
+   * ColumnarBatchReader}. If the {@code _deleted} metadata column is projected, no rows are skipped
+   * and deleted rows are only marked instead.
+   */
+  private static class BatchReader implements OrcBatchReader<ColumnarBatch> {
+    private final Converter converter;
+    private final int numColumns;
+    private final int isDeletedColumnIndex;
+    private final DeleteFilter<InternalRow> deletes;
+    private long batchOffsetInFile;
+
+    private BatchReader(
+        Schema expectedSchema, Converter converter, DeleteFilter<InternalRow> deletes) {
+      this.converter = converter;
+      this.numColumns = expectedSchema.columns().size();
+      this.isDeletedColumnIndex = isDeletedColumnIndex(expectedSchema);
+      this.deletes = deletes;
+    }
+
+    private static int isDeletedColumnIndex(Schema schema) {
+      List<Types.NestedField> columns = schema.columns();
+      for (int index = 0; index < columns.size(); index += 1) {
+        if (columns.get(index).fieldId() == MetadataColumns.IS_DELETED.fieldId()) {
+          return index;
+        }
+      }
+
+      return -1;
+    }
+
+    @Override
+    public ColumnarBatch read(VectorizedRowBatch batch) {
+      if (deletes == null) {
+        return newColumnarBatch(batch, batch.size, batch.selectedInUse, batch.selected, null);
       }
 
-      @Override
-      public void setBatchContext(long batchOffsetInFile) {
-        this.batchOffsetInFile = batchOffsetInFile;
+      int[] rowIdMapping = new int[batch.size];
+      for (int rowId = 0; rowId < batch.size; rowId += 1) {
+        rowIdMapping[rowId] = batch.selectedInUse ? batch.selected[rowId] : rowId;
       }
-    };
+
+      boolean[] isDeleted = isDeletedColumnIndex >= 0 ? new boolean[batch.size] : null;
+      int numLiveRows = applyPosDeletes(rowIdMapping, batch.size, isDeleted);
+
+      ColumnarBatch columnarBatch =
+          newColumnarBatch(batch, numLiveRows, true, rowIdMapping, isDeleted);
+
+      if (deletes.hasEqDeletes()) {
+        applyEqDeletes(columnarBatch, rowIdMapping, isDeleted);
+      }
+
+      return columnarBatch;
+    }
+
+    @Override
+    public void setBatchContext(long newBatchOffsetInFile) {
+      this.batchOffsetInFile = newBatchOffsetInFile;
+    }
+
+    private ColumnarBatch newColumnarBatch(
+        VectorizedRowBatch batch,
+        int numRows,
+        boolean isSelectedInUse,
+        int[] selected,
+        boolean[] isDeleted) {
+      BaseOrcColumnVector cv =
+          (BaseOrcColumnVector)
+              converter.convert(
+                  new StructColumnVector(batch.size, batch.cols),
+                  numRows,
+                  batchOffsetInFile,
+                  isSelectedInUse,
+                  selected);
+
+      ColumnVector[] columns = new ColumnVector[numColumns];
+      for (int index = 0; index < numColumns; index += 1) {
+        if (index == isDeletedColumnIndex && isDeleted != null) {
+          columns[index] = new DeletedColumnVector(Types.BooleanType.get(), isDeleted);
+        } else {
+          columns[index] = cv.getChild(index);
+        }
+      }
+
+      ColumnarBatch columnarBatch = new ColumnarBatch(columns);
+      columnarBatch.setNumRows(numRows);
+      return columnarBatch;
+    }
+
+    /**
+     * Removes rows deleted by position deletes from the row id mapping.
+     *
+     * @return the number of rows in the mapping after applying position deletes
+     */
+    private int applyPosDeletes(int[] rowIdMapping, int numRows, boolean[] isDeleted) {
+      PositionDeleteIndex deletedPositions =
+          deletes.hasPosDeletes() ? deletes.deletedRowPositions() : null;
+      if (deletedPositions == null) {
+        return numRows;
+      }
+
+      int currentRowId = 0;
+      for (int rowId = 0; rowId < numRows; rowId += 1) {
+        int rowIndex = rowIdMapping[rowId];
+        boolean deleted = deletedPositions.isDeleted(batchOffsetInFile + rowIndex);
+        if (deleted) {
+          deletes.incrementDeleteCount();
+        }
+
+        if (isDeleted != null) {
+          // keep all rows and only mark deleted ones
+          isDeleted[rowId] = deleted;
+          rowIdMapping[currentRowId] = rowIndex;
+          currentRowId++;
+        } else if (!deleted) {
+          rowIdMapping[currentRowId] = rowIndex;
+          currentRowId++;
+        }
+      }
+
+      return currentRowId;
+    }
+
+    /** Removes rows deleted by equality deletes from the row id mapping of the batch. */
+    private void applyEqDeletes(ColumnarBatch batch, int[] rowIdMapping, boolean[] isDeleted) {
+      Predicate<InternalRow> eqDeletedRowFilter = deletes.eqDeletedRowFilter();
+      Iterator<InternalRow> rows = batch.rowIterator();
+      int rowId = 0;
+      int currentRowId = 0;
+      while (rows.hasNext()) {
+        InternalRow row = rows.next();
+        boolean alreadyDeleted = isDeleted != null && isDeleted[rowId];
+        boolean deleted = !alreadyDeleted && !eqDeletedRowFilter.test(row);
+        if (deleted) {
+          deletes.incrementDeleteCount();
+        }
+
+        if (isDeleted != null) {
+          // keep all rows and only mark deleted ones
+          isDeleted[rowId] = alreadyDeleted || deleted;
+          rowIdMapping[currentRowId] = rowIdMapping[rowId];
+          currentRowId++;
+        } else if (!deleted) {
+          rowIdMapping[currentRowId] = rowIdMapping[rowId];
+          currentRowId++;
+        }
+
+        rowId++;
+      }
+
+      batch.setNumRows(currentRowId);
+    }
   }
 
   private interface Converter {
@@ -223,7 +366,7 @@ public class VectorizedSparkOrcReaders {
       } else {
         int count = 0;
         for (int i = 0; i < batchSize; i++) {
-          if (vector.isNull[i]) {
+          if (vector.isNull[getRowIndex(i)]) {
             count++;
           }
         }
@@ -469,7 +612,8 @@ public class VectorizedSparkOrcReaders {
           fieldVectors.add(
               new ConstantColumnVector(field.type(), batchSize, idToConstant.get(field.fieldId())));
         } else if (field.equals(MetadataColumns.ROW_POSITION)) {
-          fieldVectors.add(new RowPositionColumnVector(batchOffsetInFile));
+          fieldVectors.add(
+              new RowPositionColumnVector(batchOffsetInFile, isSelectedInUse ? selected : null));
         } else if (field.equals(MetadataColumns.IS_DELETED)) {
           fieldVectors.add(new ConstantColumnVector(field.type(), batchSize, false));
         } else {
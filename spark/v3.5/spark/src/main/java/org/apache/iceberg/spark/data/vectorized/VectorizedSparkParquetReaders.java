@@ -116,6 +116,11 @@ public class VectorizedSparkParquetReaders {
       this.deleteFilter = deleteFilter;
     }
 
+    @Override
+    protected boolean supportsStructs() {
+      return true;
+    }
+
     @Override
     protected VectorizedReader<?> vectorizedReader(List<VectorizedReader<?>> reorderedFields) {
       VectorizedReader<?> reader = super.vectorizedReader(reorderedFields);
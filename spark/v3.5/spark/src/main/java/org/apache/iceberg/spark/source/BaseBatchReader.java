@@ -46,8 +46,9 @@ abstract class BaseBatchReader<T extends ScanTask> extends BaseReader<ColumnarBa
       Schema tableSchema,
       Schema expectedSchema,
       boolean caseSensitive,
+      boolean parquetPageFilterEnabled,
       int batchSize) {
-    super(table, taskGroup, tableSchema, expectedSchema, caseSensitive);
+    super(table, taskGroup, tableSchema, expectedSchema, caseSensitive, parquetPageFilterEnabled);
     this.batchSize = batchSize;
   }
 
@@ -64,7 +65,7 @@ abstract class BaseBatchReader<T extends ScanTask> extends BaseReader<ColumnarBa
         return newParquetIterable(inputFile, start, length, residual, idToConstant, deleteFilter);
 
       case ORC:
-        return newOrcIterable(inputFile, start, length, residual, idToConstant);
+        return newOrcIterable(inputFile, start, length, residual, idToConstant, deleteFilter);
 
       default:
         throw new UnsupportedOperationException(
@@ -91,7 +92,9 @@ abstract class BaseBatchReader<T extends ScanTask> extends BaseReader<ColumnarBa
                     requiredSchema, fileSchema, idToConstant, deleteFilter))
         .recordsPerBatch(batchSize)
         .filter(residual)
+        .filterPages(parquetPageFilterEnabled())
         .caseSensitive(caseSensitive())
+        .scanTaskMetrics(scanTaskMetrics())
         // Spark eagerly consumes the batches. So the underlying memory allocated could be reused
         // without worrying about subsequent reads clobbering over each other. This improves
         // read performance as every batch read doesn't have to pay the cost of allocating memory.
@@ -105,20 +108,25 @@ abstract class BaseBatchReader<T extends ScanTask> extends BaseReader<ColumnarBa
       long start,
       long length,
       Expression residual,
-      Map<Integer, ?> idToConstant) {
+      Map<Integer, ?> idToConstant,
+      SparkDeleteFilter deleteFilter) {
+    // get required schema if there are deletes
+    Schema requiredSchema = deleteFilter != null ? deleteFilter.requiredSchema() : expectedSchema();
+
     Set<Integer> constantFieldIds = idToConstant.keySet();
     Set<Integer> metadataFieldIds = MetadataColumns.metadataFieldIds();
     Sets.SetView<Integer> constantAndMetadataFieldIds =
         Sets.union(constantFieldIds, metadataFieldIds);
     Schema schemaWithoutConstantAndMetadataFields =
-        TypeUtil.selectNot(expectedSchema(), constantAndMetadataFieldIds);
+        TypeUtil.selectNot(requiredSchema, constantAndMetadataFieldIds);
 
     return ORC.read(inputFile)
         .project(schemaWithoutConstantAndMetadataFields)
         .split(start, length)
         .createBatchedReaderFunc(
             fileSchema ->
-                VectorizedSparkOrcReaders.buildReader(expectedSchema(), fileSchema, idToConstant))
+                VectorizedSparkOrcReaders.buildReader(
+                    requiredSchema, fileSchema, idToConstant, deleteFilter))
         .recordsPerBatch(batchSize)
         .filter(residual)
         .caseSensitive(caseSensitive())
@@ -51,6 +51,8 @@ import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMapping;
 import org.apache.iceberg.mapping.NameMappingParser;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.ScanTaskMetrics;
 import org.apache.iceberg.spark.SparkExecutorCache;
 import org.apache.iceberg.spark.SparkSchemaUtil;
 import org.apache.iceberg.types.Type;
@@ -79,9 +81,11 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
   private final Schema expectedSchema;
   private final boolean caseSensitive;
   private final NameMapping nameMapping;
+  private final boolean parquetPageFilterEnabled;
   private final ScanTaskGroup<TaskT> taskGroup;
   private final Iterator<TaskT> tasks;
   private final DeleteCounter counter;
+  private final ScanTaskMetrics scanTaskMetrics;
 
   private Map<String, InputFile> lazyInputFiles;
   private CloseableIterator<T> currentIterator;
@@ -94,6 +98,16 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
       Schema tableSchema,
       Schema expectedSchema,
       boolean caseSensitive) {
+    this(table, taskGroup, tableSchema, expectedSchema, caseSensitive, false);
+  }
+
+  BaseReader(
+      Table table,
+      ScanTaskGroup<TaskT> taskGroup,
+      Schema tableSchema,
+      Schema expectedSchema,
+      boolean caseSensitive,
+      boolean parquetPageFilterEnabled) {
     this.table = table;
     this.taskGroup = taskGroup;
     this.tasks = taskGroup.tasks().iterator();
@@ -105,6 +119,9 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
     this.nameMapping =
         nameMappingString != null ? NameMappingParser.fromJson(nameMappingString) : null;
     this.counter = new DeleteCounter();
+    this.scanTaskMetrics = ScanTaskMetrics.of(new DefaultMetricsContext());
+    this.parquetPageFilterEnabled = parquetPageFilterEnabled;
+    SparkFileIOMetricsUtil.reportOnTaskCompletion(table.io());
   }
 
   protected abstract CloseableIterator<T> open(TaskT task);
@@ -123,6 +140,10 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
     return nameMapping;
   }
 
+  protected boolean parquetPageFilterEnabled() {
+    return parquetPageFilterEnabled;
+  }
+
   protected Table table() {
     return table;
   }
@@ -131,6 +152,10 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
     return counter;
   }
 
+  protected ScanTaskMetrics scanTaskMetrics() {
+    return scanTaskMetrics;
+  }
+
   public boolean next() throws IOException {
     try {
       while (true) {
@@ -250,7 +275,7 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
     private final InternalRowWrapper asStructLike;
 
     SparkDeleteFilter(String filePath, List<DeleteFile> deletes, DeleteCounter counter) {
-      super(filePath, deletes, tableSchema, expectedSchema, counter);
+      super(filePath, deletes, tableSchema, expectedSchema, counter, scanTaskMetrics);
       this.asStructLike =
           new InternalRowWrapper(
               SparkSchemaUtil.convert(requiredSchema()), requiredSchema().asStruct());
@@ -45,7 +45,17 @@ abstract class BaseRowReader<T extends ScanTask> extends BaseReader<InternalRow,
       Schema tableSchema,
       Schema expectedSchema,
       boolean caseSensitive) {
-    super(table, taskGroup, tableSchema, expectedSchema, caseSensitive);
+    this(table, taskGroup, tableSchema, expectedSchema, caseSensitive, false);
+  }
+
+  BaseRowReader(
+      Table table,
+      ScanTaskGroup<T> taskGroup,
+      Schema tableSchema,
+      Schema expectedSchema,
+      boolean caseSensitive,
+      boolean parquetPageFilterEnabled) {
+    super(table, taskGroup, tableSchema, expectedSchema, caseSensitive, parquetPageFilterEnabled);
   }
 
   protected CloseableIterable<InternalRow> newIterable(
@@ -96,8 +106,10 @@ abstract class BaseRowReader<T extends ScanTask> extends BaseReader<InternalRow,
         .createReaderFunc(
             fileSchema -> SparkParquetReaders.buildReader(readSchema, fileSchema, idToConstant))
         .filter(residual)
+        .filterPages(parquetPageFilterEnabled())
         .caseSensitive(caseSensitive())
         .withNameMapping(nameMapping())
+        .scanTaskMetrics(scanTaskMetrics())
         .build();
   }
 
@@ -28,8 +28,12 @@ import org.apache.iceberg.Table;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.spark.source.metrics.TaskDataBytesRead;
 import org.apache.iceberg.spark.source.metrics.TaskNumDeletes;
 import org.apache.iceberg.spark.source.metrics.TaskNumSplits;
+import org.apache.iceberg.spark.source.metrics.TaskSkippedRowGroups;
+import org.apache.iceberg.spark.source.metrics.TaskTotalDecodeDuration;
+import org.apache.iceberg.spark.source.metrics.TaskTotalRowGroups;
 import org.apache.iceberg.util.SnapshotUtil;
 import org.apache.spark.rdd.InputFileBlockHolder;
 import org.apache.spark.sql.connector.metric.CustomTaskMetric;
@@ -52,6 +56,7 @@ class BatchDataReader extends BaseBatchReader<FileScanTask>
         SnapshotUtil.schemaFor(partition.table(), partition.branch()),
         partition.expectedSchema(),
         partition.isCaseSensitive(),
+        partition.parquetPageFilterEnabled(),
         batchSize);
   }
 
@@ -61,8 +66,16 @@ class BatchDataReader extends BaseBatchReader<FileScanTask>
       Schema tableSchema,
       Schema expectedSchema,
       boolean caseSensitive,
+      boolean parquetPageFilterEnabled,
       int size) {
-    super(table, taskGroup, tableSchema, expectedSchema, caseSensitive, size);
+    super(
+        table,
+        taskGroup,
+        tableSchema,
+        expectedSchema,
+        caseSensitive,
+        parquetPageFilterEnabled,
+        size);
 
     numSplits = taskGroup.tasks().size();
     LOG.debug("Reading {} file split(s) for table {}", numSplits, table.name());
@@ -71,7 +84,12 @@ class BatchDataReader extends BaseBatchReader<FileScanTask>
   @Override
   public CustomTaskMetric[] currentMetricsValues() {
     return new CustomTaskMetric[] {
-      new TaskNumSplits(numSplits), new TaskNumDeletes(counter().get())
+      new TaskNumSplits(numSplits),
+      new TaskNumDeletes(counter().get()),
+      TaskTotalRowGroups.from(scanTaskMetrics()),
+      TaskSkippedRowGroups.from(scanTaskMetrics()),
+      TaskDataBytesRead.from(scanTaskMetrics()),
+      TaskTotalDecodeDuration.from(scanTaskMetrics())
     };
   }
 
@@ -54,7 +54,8 @@ class ChangelogRowReader extends BaseRowReader<ChangelogScanTask>
         partition.taskGroup(),
         SnapshotUtil.schemaFor(partition.table(), partition.branch()),
         partition.expectedSchema(),
-        partition.isCaseSensitive());
+        partition.isCaseSensitive(),
+        partition.parquetPageFilterEnabled());
   }
 
   ChangelogRowReader(
@@ -63,12 +64,23 @@ class ChangelogRowReader extends BaseRowReader<ChangelogScanTask>
       Schema tableSchema,
       Schema expectedSchema,
       boolean caseSensitive) {
+    this(table, taskGroup, tableSchema, expectedSchema, caseSensitive, false);
+  }
+
+  ChangelogRowReader(
+      Table table,
+      ScanTaskGroup<ChangelogScanTask> taskGroup,
+      Schema tableSchema,
+      Schema expectedSchema,
+      boolean caseSensitive,
+      boolean parquetPageFilterEnabled) {
     super(
         table,
         taskGroup,
         tableSchema,
         ChangelogUtil.dropChangelogMetadata(expectedSchema),
-        caseSensitive);
+        caseSensitive,
+        parquetPageFilterEnabled);
   }
 
   @Override
@@ -51,7 +51,8 @@ class PositionDeletesRowReader extends BaseRowReader<PositionDeletesScanTask>
         partition.taskGroup(),
         SnapshotUtil.schemaFor(partition.table(), partition.branch()),
         partition.expectedSchema(),
-        partition.isCaseSensitive());
+        partition.isCaseSensitive(),
+        partition.parquetPageFilterEnabled());
   }
 
   PositionDeletesRowReader(
@@ -59,9 +60,10 @@ class PositionDeletesRowReader extends BaseRowReader<PositionDeletesScanTask>
       ScanTaskGroup<PositionDeletesScanTask> taskGroup,
       Schema tableSchema,
       Schema expectedSchema,
-      boolean caseSensitive) {
+      boolean caseSensitive,
+      boolean parquetPageFilterEnabled) {
 
-    super(table, taskGroup, tableSchema, expectedSchema, caseSensitive);
+    super(table, taskGroup, tableSchema, expectedSchema, caseSensitive, parquetPageFilterEnabled);
 
     int numSplits = taskGroup.tasks().size();
     LOG.debug("Reading {} position delete file split(s) for table {}", numSplits, table.name());
@@ -30,8 +30,12 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.spark.source.metrics.TaskDataBytesRead;
 import org.apache.iceberg.spark.source.metrics.TaskNumDeletes;
 import org.apache.iceberg.spark.source.metrics.TaskNumSplits;
+import org.apache.iceberg.spark.source.metrics.TaskSkippedRowGroups;
+import org.apache.iceberg.spark.source.metrics.TaskTotalDecodeDuration;
+import org.apache.iceberg.spark.source.metrics.TaskTotalRowGroups;
 import org.apache.iceberg.util.SnapshotUtil;
 import org.apache.spark.rdd.InputFileBlockHolder;
 import org.apache.spark.sql.catalyst.InternalRow;
@@ -51,7 +55,8 @@ class RowDataReader extends BaseRowReader<FileScanTask> implements PartitionRead
         partition.taskGroup(),
         SnapshotUtil.schemaFor(partition.table(), partition.branch()),
         partition.expectedSchema(),
-        partition.isCaseSensitive());
+        partition.isCaseSensitive(),
+        partition.parquetPageFilterEnabled());
   }
 
   RowDataReader(
@@ -60,8 +65,18 @@ class RowDataReader extends BaseRowReader<FileScanTask> implements PartitionRead
       Schema tableSchema,
       Schema expectedSchema,
       boolean caseSensitive) {
+    this(table, taskGroup, tableSchema, expectedSchema, caseSensitive, false);
+  }
+
+  RowDataReader(
+      Table table,
+      ScanTaskGroup<FileScanTask> taskGroup,
+      Schema tableSchema,
+      Schema expectedSchema,
+      boolean caseSensitive,
+      boolean parquetPageFilterEnabled) {
 
-    super(table, taskGroup, tableSchema, expectedSchema, caseSensitive);
+    super(table, taskGroup, tableSchema, expectedSchema, caseSensitive, parquetPageFilterEnabled);
 
     numSplits = taskGroup.tasks().size();
     LOG.debug("Reading {} file split(s) for table {}", numSplits, table.name());
@@ -70,7 +85,12 @@ class RowDataReader extends BaseRowReader<FileScanTask> implements PartitionRead
   @Override
   public CustomTaskMetric[] currentMetricsValues() {
     return new CustomTaskMetric[] {
-      new TaskNumSplits(numSplits), new TaskNumDeletes(counter().get())
+      new TaskNumSplits(numSplits),
+      new TaskNumDeletes(counter().get()),
+      TaskTotalRowGroups.from(scanTaskMetrics()),
+      TaskSkippedRowGroups.from(scanTaskMetrics()),
+      TaskDataBytesRead.from(scanTaskMetrics()),
+      TaskTotalDecodeDuration.from(scanTaskMetrics())
     };
   }
 
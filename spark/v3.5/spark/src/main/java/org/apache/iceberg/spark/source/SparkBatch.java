@@ -30,6 +30,7 @@ import org.apache.iceberg.SchemaParser;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.spark.SparkReadConf;
 import org.apache.iceberg.spark.SparkUtil;
+import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types;
 import org.apache.spark.api.java.JavaSparkContext;
 import org.apache.spark.broadcast.Broadcast;
@@ -47,6 +48,7 @@ class SparkBatch implements Batch {
   private final List<? extends ScanTaskGroup<?>> taskGroups;
   private final Schema expectedSchema;
   private final boolean caseSensitive;
+  private final boolean parquetPageFilterEnabled;
   private final boolean localityEnabled;
   private final boolean executorCacheLocalityEnabled;
   private final int scanHashCode;
@@ -67,6 +69,7 @@ class SparkBatch implements Batch {
     this.taskGroups = taskGroups;
     this.expectedSchema = expectedSchema;
     this.caseSensitive = readConf.caseSensitive();
+    this.parquetPageFilterEnabled = readConf.parquetPageFilterEnabled();
     this.localityEnabled = readConf.localityEnabled();
     this.executorCacheLocalityEnabled = readConf.executorCacheLocalityEnabled();
     this.scanHashCode = scanHashCode;
@@ -91,6 +94,7 @@ class SparkBatch implements Batch {
               branch,
               expectedSchemaString,
               caseSensitive,
+              parquetPageFilterEnabled,
               locations != null ? locations[index] : SparkPlanningUtil.NO_LOCATION_PREFERENCE);
     }
 
@@ -128,7 +132,8 @@ class SparkBatch implements Batch {
 
   // conditions for using Parquet batch reads:
   // - Parquet vectorization is enabled
-  // - only primitives or metadata columns are projected
+  // - only primitives, structs without repeated fields or metadata columns are projected
+  // - every projected struct has a projected column that is in all of its data files
   // - all tasks are of FileScanTask type and read only Parquet files
   private boolean useParquetBatchReads() {
     return readConf.parquetVectorizationEnabled()
@@ -151,12 +156,20 @@ class SparkBatch implements Batch {
   }
 
   private boolean supportsParquetBatchReads(Types.NestedField field) {
-    return field.type().isPrimitiveType() || MetadataColumns.isMetadataColumn(field.fieldId());
+    Type type = field.type();
+    if (type.isPrimitiveType() || MetadataColumns.isMetadataColumn(field.fieldId())) {
+      return true;
+    } else if (type.isStructType()) {
+      return type.asStructType().fields().stream().allMatch(this::supportsParquetBatchReads);
+    } else {
+      // lists and maps are read row by row
+      return false;
+    }
   }
 
   // conditions for using ORC batch reads:
   // - ORC vectorization is enabled
-  // - all tasks are of type FileScanTask and read only ORC files with no delete files
+  // - all tasks are of type FileScanTask and read only ORC files
   private boolean useOrcBatchReads() {
     return readConf.orcVectorizationEnabled()
         && taskGroups.stream().allMatch(this::supportsOrcBatchReads);
@@ -169,7 +182,7 @@ class SparkBatch implements Batch {
 
     } else if (task.isFileScanTask() && !task.isDataTask()) {
       FileScanTask fileScanTask = task.asFileScanTask();
-      return fileScanTask.file().format() == FileFormat.ORC && fileScanTask.deletes().isEmpty();
+      return fileScanTask.file().format() == FileFormat.ORC;
 
     } else {
       return false;
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.spark.source;
+
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InstrumentedFileIO;
+import org.apache.spark.TaskContext;
+import org.apache.spark.util.TaskCompletionListener;
+
+/** A utility for reporting the metrics of an {@link InstrumentedFileIO} used by tasks. */
+class SparkFileIOMetricsUtil {
+
+  private SparkFileIOMetricsUtil() {}
+
+  /**
+   * Reports the metrics of an {@link InstrumentedFileIO} when the current task completes.
+   *
+   * <p>Executors use deserialized copies of the table's FileIO that are never closed, so their
+   * metrics are reported at the end of each task instead. Tasks on the same executor share the
+   * FileIO, so each report carries the operations of all tasks since the previous report.
+   *
+   * <p>This method does nothing if the FileIO is not instrumented or if it is not called in a task.
+   *
+   * @param io the {@link FileIO} used by the task
+   */
+  static void reportOnTaskCompletion(FileIO io) {
+    TaskContext taskContext = TaskContext.get();
+    if (taskContext != null && io instanceof InstrumentedFileIO) {
+      InstrumentedFileIO instrumentedIO = (InstrumentedFileIO) io;
+      taskContext.addTaskCompletionListener(
+          (TaskCompletionListener) context -> instrumentedIO.report());
+    }
+  }
+}
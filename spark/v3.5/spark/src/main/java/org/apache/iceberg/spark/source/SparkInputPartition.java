@@ -37,6 +37,7 @@ class SparkInputPartition implements InputPartition, HasPartitionKey, Serializab
   private final String branch;
   private final String expectedSchemaString;
   private final boolean caseSensitive;
+  private final boolean parquetPageFilterEnabled;
   private final transient String[] preferredLocations;
 
   private transient Schema expectedSchema = null;
@@ -48,6 +49,7 @@ class SparkInputPartition implements InputPartition, HasPartitionKey, Serializab
       String branch,
       String expectedSchemaString,
       boolean caseSensitive,
+      boolean parquetPageFilterEnabled,
       String[] preferredLocations) {
     this.groupingKeyType = groupingKeyType;
     this.taskGroup = taskGroup;
@@ -55,6 +57,7 @@ class SparkInputPartition implements InputPartition, HasPartitionKey, Serializab
     this.branch = branch;
     this.expectedSchemaString = expectedSchemaString;
     this.caseSensitive = caseSensitive;
+    this.parquetPageFilterEnabled = parquetPageFilterEnabled;
     this.preferredLocations = preferredLocations;
   }
 
@@ -89,6 +92,10 @@ class SparkInputPartition implements InputPartition, HasPartitionKey, Serializab
     return caseSensitive;
   }
 
+  public boolean parquetPageFilterEnabled() {
+    return parquetPageFilterEnabled;
+  }
+
   public Schema expectedSchema() {
     if (expectedSchema == null) {
       this.expectedSchema = SchemaParser.fromJson(expectedSchemaString);
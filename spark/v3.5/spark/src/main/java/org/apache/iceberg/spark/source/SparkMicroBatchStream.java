@@ -73,6 +73,7 @@ public class SparkMicroBatchStream implements MicroBatchStream, SupportsAdmissio
   private final Table table;
   private final String branch;
   private final boolean caseSensitive;
+  private final boolean parquetPageFilterEnabled;
   private final String expectedSchema;
   private final Broadcast<Table> tableBroadcast;
   private final long splitSize;
@@ -95,6 +96,7 @@ public class SparkMicroBatchStream implements MicroBatchStream, SupportsAdmissio
     this.table = table;
     this.branch = readConf.branch();
     this.caseSensitive = readConf.caseSensitive();
+    this.parquetPageFilterEnabled = readConf.parquetPageFilterEnabled();
     this.expectedSchema = SchemaParser.toJson(expectedSchema);
     this.localityPreferred = readConf.localityEnabled();
     this.tableBroadcast = sparkContext.broadcast(SerializableTableWithSize.copyOf(table));
@@ -165,6 +167,7 @@ public class SparkMicroBatchStream implements MicroBatchStream, SupportsAdmissio
               branch,
               expectedSchema,
               caseSensitive,
+              parquetPageFilterEnabled,
               locations != null ? locations[index] : SparkPlanningUtil.NO_LOCATION_PREFERENCE);
     }
 
@@ -216,6 +216,7 @@ public class SparkPositionDeletesRewrite implements Write {
     @Override
     public DataWriter<InternalRow> createWriter(int partitionId, long taskId) {
       Table table = tableBroadcast.value();
+      SparkFileIOMetricsUtil.reportOnTaskCompletion(table.io());
 
       OutputFileFactory deleteFileFactory =
           OutputFileFactory.builderFor(table, partitionId, taskId)
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.spark.source.metrics;
+
+import org.apache.iceberg.metrics.ScanTaskMetrics;
+import org.apache.spark.sql.connector.metric.CustomTaskMetric;
+
+public class TaskTotalDecodeDuration implements CustomTaskMetric {
+
+  private final long value;
+
+  private TaskTotalDecodeDuration(long value) {
+    this.value = value;
+  }
+
+  @Override
+  public String name() {
+    return TotalDecodeDuration.NAME;
+  }
+
+  @Override
+  public long value() {
+    return value;
+  }
+
+  public static TaskTotalDecodeDuration from(ScanTaskMetrics metrics) {
+    return new TaskTotalDecodeDuration(metrics.decodeDuration().totalDuration().toMillis());
+  }
+}
@@ -186,6 +186,207 @@ public abstract class TestRemoveOrphanFilesAction extends TestBase {
     assertThat(actualRecords).isEqualTo(expectedRecords);
   }
 
+  @Test
+  public void testIncrementalRuns() throws IOException, InterruptedException {
+    Table table =
+        TABLES.create(SCHEMA, PartitionSpec.unpartitioned(), Maps.newHashMap(), tableLocation);
+
+    List<ThreeColumnRecord> records =
+        Lists.newArrayList(new ThreeColumnRecord(1, "AAAAAAAAAA", "AAAA"));
+    Dataset<Row> df = spark.createDataFrame(records, ThreeColumnRecord.class).coalesce(1);
+
+    df.select("c1", "c2", "c3").write().format("iceberg").mode("append").save(tableLocation);
+
+    waitUntilAfter(System.currentTimeMillis());
+
+    DeleteOrphanFiles.Result result1 =
+        SparkActions.get()
+            .deleteOrphanFiles(table)
+            .incremental(true)
+            .olderThan(System.currentTimeMillis())
+            .execute();
+    assertThat(result1.orphanFileLocations()).as("Should not find orphan files").isEmpty();
+
+    Path indexPath = new Path(tableLocation + "/metadata/_orphan-file-index");
+    FileSystem fs = indexPath.getFileSystem(spark.sessionState().newHadoopConf());
+    assertThat(fs.listStatus(indexPath)).as("Should write an index of valid files").hasSize(1);
+
+    df.write().mode("append").parquet(tableLocation + "/data");
+    df.select("c1", "c2", "c3").write().format("iceberg").mode("append").save(tableLocation);
+    table.refresh();
+
+    Path dataPath = new Path(tableLocation + "/data");
+    List<String> invalidFiles =
+        Arrays.stream(fs.listStatus(dataPath, HiddenPathFilter.get()))
+            .filter(file -> file.getPath().getName().startsWith("part-"))
+            .map(file -> file.getPath().toString())
+            .collect(Collectors.toList());
+    assertThat(invalidFiles).as("Should be 1 invalid file").hasSize(1);
+
+    waitUntilAfter(System.currentTimeMillis());
+
+    DeleteOrphanFiles.Result result2 =
+        SparkActions.get()
+            .deleteOrphanFiles(table)
+            .incremental(true)
+            .olderThan(System.currentTimeMillis())
+            .execute();
+    assertThat(result2.orphanFileLocations())
+        .as("Should only find files added since the last run")
+        .isEqualTo(invalidFiles);
+    assertThat(fs.listStatus(indexPath)).as("Should replace the previous index").hasSize(1);
+
+    List<ThreeColumnRecord> expectedRecords = Lists.newArrayList();
+    expectedRecords.addAll(records);
+    expectedRecords.addAll(records);
+
+    Dataset<Row> resultDF = spark.read().format("iceberg").load(tableLocation);
+    List<ThreeColumnRecord> actualRecords =
+        resultDF.as(Encoders.bean(ThreeColumnRecord.class)).collectAsList();
+    assertThat(actualRecords).isEqualTo(expectedRecords);
+  }
+
+  @Test
+  public void testIncrementalRunsWithEqualSchemes() throws IOException, InterruptedException {
+    Table table =
+        TABLES.create(SCHEMA, PartitionSpec.unpartitioned(), Maps.newHashMap(), tableLocation);
+
+    List<ThreeColumnRecord> records =
+        Lists.newArrayList(new ThreeColumnRecord(1, "AAAAAAAAAA", "AAAA"));
+    Dataset<Row> df = spark.createDataFrame(records, ThreeColumnRecord.class).coalesce(1);
+
+    df.select("c1", "c2", "c3").write().format("iceberg").mode("append").save(tableLocation);
+
+    waitUntilAfter(System.currentTimeMillis());
+
+    DeleteOrphanFiles.Result result1 =
+        SparkActions.get()
+            .deleteOrphanFiles(table)
+            .incremental(true)
+            .olderThan(System.currentTimeMillis())
+            .execute();
+    assertThat(result1.orphanFileLocations()).as("Should not find orphan files").isEmpty();
+
+    // the snapshot is committed before the last run, so its manifests are not read again
+    waitUntilAfter(System.currentTimeMillis());
+
+    df.write().mode("append").parquet(tableLocation + "/data");
+
+    // provide the same files using a scheme that is equal to the scheme used by the first run
+    Path dataPath = new Path(tableLocation + "/data");
+    FileSystem fs = dataPath.getFileSystem(spark.sessionState().newHadoopConf());
+    List<FilePathLastModifiedRecord> allFiles =
+        Arrays.stream(fs.listStatus(dataPath, HiddenPathFilter.get()))
+            .filter(FileStatus::isFile)
+            .map(
+                file ->
+                    new FilePathLastModifiedRecord(
+                        file.getPath().toString().replaceFirst("^file:", "fake:"),
+                        new Timestamp(file.getModificationTime())))
+            .collect(Collectors.toList());
+    assertThat(allFiles).as("Should be 2 files").hasSize(2);
+
+    List<String> invalidFiles =
+        allFiles.stream()
+            .map(FilePathLastModifiedRecord::getFilePath)
+            .filter(path -> path.contains("/part-"))
+            .collect(Collectors.toList());
+    assertThat(invalidFiles).as("Should be 1 invalid file").hasSize(1);
+
+    waitUntilAfter(System.currentTimeMillis());
+
+    Dataset<Row> compareToFileList =
+        spark
+            .createDataFrame(allFiles, FilePathLastModifiedRecord.class)
+            .withColumnRenamed("filePath", "file_path")
+            .withColumnRenamed("lastModified", "last_modified");
+
+    DeleteOrphanFiles.Result result2 =
+        SparkActions.get()
+            .deleteOrphanFiles(table)
+            .incremental(true)
+            .incrementalLookback(0L)
+            .location(tableLocation.replaceFirst("^file:", "fake:"))
+            .equalSchemes(ImmutableMap.of("fake", "file"))
+            .compareToFileList(compareToFileList)
+            .olderThan(System.currentTimeMillis())
+            .deleteWith(file -> {})
+            .execute();
+    assertThat(result2.orphanFileLocations())
+        .as("Should only find files added since the last run")
+        .isEqualTo(invalidFiles);
+  }
+
+  @Test
+  public void testIncrementalRunsWithIncompleteIndex() throws IOException, InterruptedException {
+    Table table =
+        TABLES.create(SCHEMA, PartitionSpec.unpartitioned(), Maps.newHashMap(), tableLocation);
+
+    List<ThreeColumnRecord> records =
+        Lists.newArrayList(new ThreeColumnRecord(1, "AAAAAAAAAA", "AAAA"));
+    Dataset<Row> df = spark.createDataFrame(records, ThreeColumnRecord.class).coalesce(1);
+
+    df.select("c1", "c2", "c3").write().format("iceberg").mode("append").save(tableLocation);
+    df.write().mode("append").parquet(tableLocation + "/data");
+
+    Path dataPath = new Path(tableLocation + "/data");
+    FileSystem fs = dataPath.getFileSystem(spark.sessionState().newHadoopConf());
+    List<String> invalidFiles =
+        Arrays.stream(fs.listStatus(dataPath, HiddenPathFilter.get()))
+            .filter(file -> file.getPath().getName().startsWith("part-"))
+            .map(file -> file.getPath().toString())
+            .collect(Collectors.toList());
+    assertThat(invalidFiles).as("Should be 1 invalid file").hasSize(1);
+
+    waitUntilAfter(System.currentTimeMillis());
+
+    // the first run uses an incomplete file list, so no existing file is in its index
+    Dataset<Row> emptyFileList =
+        spark
+            .createDataFrame(Lists.newArrayList(), FilePathLastModifiedRecord.class)
+            .withColumnRenamed("filePath", "file_path")
+            .withColumnRenamed("lastModified", "last_modified");
+
+    DeleteOrphanFiles.Result result1 =
+        SparkActions.get()
+            .deleteOrphanFiles(table)
+            .incremental(true)
+            .compareToFileList(emptyFileList)
+            .olderThan(System.currentTimeMillis())
+            .execute();
+    assertThat(result1.orphanFileLocations()).as("Should not find orphan files").isEmpty();
+
+    waitUntilAfter(System.currentTimeMillis());
+
+    // files that are older than the last run but not in its index must be checked against all
+    // reachable files, even though manifests of earlier snapshots are skipped for new files
+    DeleteOrphanFiles.Result result2 =
+        SparkActions.get()
+            .deleteOrphanFiles(table)
+            .incremental(true)
+            .incrementalLookback(0L)
+            .olderThan(System.currentTimeMillis())
+            .execute();
+    assertThat(result2.orphanFileLocations())
+        .as("Should only find the invalid file")
+        .isEqualTo(invalidFiles);
+
+    Dataset<Row> resultDF = spark.read().format("iceberg").load(tableLocation);
+    List<ThreeColumnRecord> actualRecords =
+        resultDF.as(Encoders.bean(ThreeColumnRecord.class)).collectAsList();
+    assertThat(actualRecords).as("Live files should not be deleted").isEqualTo(records);
+  }
+
+  @Test
+  public void testInvalidIncrementalLookback() {
+    Table table =
+        TABLES.create(SCHEMA, PartitionSpec.unpartitioned(), Maps.newHashMap(), tableLocation);
+
+    assertThatThrownBy(() -> SparkActions.get().deleteOrphanFiles(table).incrementalLookback(-1L))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid incremental lookback: -1 (must be non-negative)");
+  }
+
   @Test
   public void testAllValidFilesAreKept() throws IOException, InterruptedException {
     Table table = TABLES.create(SCHEMA, SPEC, Maps.newHashMap(), tableLocation);
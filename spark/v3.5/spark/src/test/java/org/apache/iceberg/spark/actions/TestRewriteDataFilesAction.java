@@ -1490,6 +1490,85 @@ public class TestRewriteDataFilesAction extends TestBase {
     assertThat(actual).as("Number of files order should not be ascending").isNotEqualTo(expected);
   }
 
+  @Test
+  public void testRewriteJobOrderBenefitDesc() {
+    Table table = createTablePartitioned(4, 2);
+    writeRecords(1, SCALE, 1);
+    writeRecords(2, SCALE, 2);
+    writeRecords(3, SCALE, 3);
+    writeRecords(4, SCALE, 4);
+
+    // score groups by the value of the identity partition column
+    RewriteDataFilesSparkAction jobOrderRewrite =
+        basicRewrite(table)
+            .option(RewriteDataFiles.REWRITE_JOB_ORDER, RewriteJobOrder.BENEFIT_DESC.orderName())
+            .costModel((partition, group) -> partition.get(0, Integer.class))
+            .binPack();
+    List<Double> actual =
+        toGroupStream(table, jobOrderRewrite)
+            .map(group -> group.info().benefit())
+            .collect(Collectors.toList());
+
+    List<Double> expected = Lists.newArrayList(actual);
+    expected.sort(Comparator.reverseOrder());
+    assertThat(actual).as("Benefit order should be descending").isEqualTo(expected);
+    assertThat(actual.get(0)).isGreaterThan(actual.get(actual.size() - 1));
+  }
+
+  @Test
+  public void testMaxRewriteBytes() {
+    Table table = createTablePartitioned(4, 2);
+    writeRecords(1, SCALE, 1);
+    writeRecords(2, SCALE, 2);
+
+    List<RewriteFileGroup> allGroups =
+        toGroupStream(table, basicRewrite(table).binPack()).collect(Collectors.toList());
+    assertThat(allGroups).hasSizeGreaterThan(1);
+    long maxGroupSize =
+        allGroups.stream().mapToLong(RewriteFileGroup::sizeInBytes).max().getAsLong();
+
+    RewriteDataFilesSparkAction budgetRewrite =
+        basicRewrite(table)
+            .option(RewriteDataFiles.MAX_REWRITE_BYTES, String.valueOf(maxGroupSize))
+            .costModel((partition, group) -> partition.get(0, Integer.class))
+            .binPack();
+    List<RewriteFileGroup> selectedGroups =
+        toGroupStream(table, budgetRewrite).collect(Collectors.toList());
+
+    assertThat(selectedGroups).isNotEmpty().hasSizeLessThan(allGroups.size());
+    assertThat(selectedGroups.stream().mapToLong(RewriteFileGroup::sizeInBytes).sum())
+        .isLessThanOrEqualTo(maxGroupSize);
+    int maxPartition =
+        allGroups.stream()
+            .mapToInt(group -> group.info().partition().get(0, Integer.class))
+            .max()
+            .getAsInt();
+    assertThat(selectedGroups)
+        .as("The group with the highest benefit should be selected")
+        .extracting(group -> group.info().partition().get(0, Integer.class))
+        .contains(maxPartition);
+
+    Result result =
+        basicRewrite(table)
+            .option(RewriteDataFiles.MAX_REWRITE_BYTES, String.valueOf(maxGroupSize))
+            .binPack()
+            .execute();
+    assertThat(result.rewriteResults()).hasSizeLessThan(allGroups.size());
+    assertThat(result.rewrittenBytesCount()).isLessThanOrEqualTo(maxGroupSize);
+    assertThat(result.rewriteResults())
+        .anySatisfy(groupResult -> assertThat(groupResult.info().benefit()).isPositive());
+  }
+
+  @Test
+  public void testInvalidMaxRewriteBytes() {
+    Table table = createTable(4);
+
+    assertThatThrownBy(
+            () -> basicRewrite(table).option(RewriteDataFiles.MAX_REWRITE_BYTES, "0").execute())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot set max-rewrite-bytes to 0, the value must be positive.");
+  }
+
   @Test
   public void testSnapshotProperty() {
     Table table = createTable(4);
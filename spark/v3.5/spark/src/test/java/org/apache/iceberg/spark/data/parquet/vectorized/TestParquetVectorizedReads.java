@@ -27,9 +27,11 @@ import static org.assertj.core.api.Assumptions.assumeThat;
 import java.io.File;
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.List;
 import org.apache.avro.generic.GenericData;
 import org.apache.iceberg.Files;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.avro.AvroSchemaUtil;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.parquet.Parquet;
@@ -45,9 +47,6 @@ import org.apache.iceberg.spark.data.vectorized.VectorizedSparkParquetReaders;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
 import org.apache.parquet.column.ParquetProperties;
-import org.apache.parquet.schema.GroupType;
-import org.apache.parquet.schema.MessageType;
-import org.apache.parquet.schema.Type;
 import org.apache.spark.sql.vectorized.ColumnarBatch;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -197,19 +196,58 @@ public class TestParquetVectorizedReads extends AvroDataTest {
   public void testMixedTypes() {}
 
   @Test
-  @Override
-  public void testNestedStruct() {
-    assertThatThrownBy(
-            () ->
-                VectorizedSparkParquetReaders.buildReader(
-                    TypeUtil.assignIncreasingFreshIds(
-                        new Schema(required(1, "struct", SUPPORTED_PRIMITIVES))),
-                    new MessageType(
-                        "struct", new GroupType(Type.Repetition.OPTIONAL, "struct").withId(1)),
-                    Maps.newHashMap(),
-                    null))
-        .isInstanceOf(UnsupportedOperationException.class)
-        .hasMessage("Vectorized reads are not supported yet for struct fields");
+  public void testStructWithoutProjectedColumnsInFile() throws IOException {
+    Schema writeSchema =
+        new Schema(
+            required(100, "id", Types.LongType.get()),
+            optional(
+                101, "struct", Types.StructType.of(optional(102, "a", Types.IntegerType.get()))));
+
+    File dataFile = File.createTempFile("junit", null, temp.toFile());
+    assertThat(dataFile.delete()).as("Delete should succeed").isTrue();
+    Iterable<GenericData.Record> data =
+        generateData(writeSchema, 30000, 0L, RandomData.DEFAULT_NULL_PERCENTAGE, IDENTITY);
+    try (FileAppender<GenericData.Record> writer = getParquetWriter(writeSchema, dataFile)) {
+      writer.addAll(data);
+    }
+
+    // the struct is in the file, but only a field that was added later is projected
+    Schema readSchema =
+        new Schema(
+            required(100, "id", Types.LongType.get()),
+            optional(
+                101, "struct", Types.StructType.of(optional(103, "b", Types.StringType.get()))));
+
+    // like row reads, structs are null when none of their projected columns is in the file
+    org.apache.avro.Schema avroReadSchema = AvroSchemaUtil.convert(readSchema, "test");
+    List<GenericData.Record> expected = Lists.newArrayList();
+    for (GenericData.Record record : data) {
+      GenericData.Record projected = new GenericData.Record(avroReadSchema);
+      projected.put("id", record.get("id"));
+      expected.add(projected);
+    }
+
+    assertRecordsMatch(readSchema, 30000, expected, dataFile, false, BATCH_SIZE);
+  }
+
+  @Test
+  public void testOptionalNestedStructs() throws IOException {
+    Schema schema =
+        new Schema(
+            required(100, "id", Types.LongType.get()),
+            optional(
+                101,
+                "outer",
+                Types.StructType.of(
+                    optional(102, "data", Types.StringType.get()),
+                    optional(
+                        103,
+                        "inner",
+                        Types.StructType.of(
+                            optional(104, "value", Types.DoubleType.get()),
+                            required(105, "count", Types.IntegerType.get()))))));
+
+    writeAndValidate(schema);
   }
 
   @Test
@@ -127,6 +127,27 @@ public class TestSparkReadMetrics extends TestBaseWithCatalog {
     assertThat(metricsMap.get("skippedDeleteFiles").value()).isEqualTo(0);
   }
 
+  @TestTemplate
+  public void testParquetReadMetrics() throws NoSuchTableException {
+    sql("CREATE TABLE %s (id BIGINT) USING iceberg", tableName);
+
+    spark.range(10000).coalesce(1).writeTo(tableName).append();
+    spark.range(10001, 20000).coalesce(1).writeTo(tableName).append();
+
+    Dataset<Row> df = spark.sql(String.format("select * from %s where id < 10000", tableName));
+    df.collect();
+
+    List<SparkPlan> sparkPlans =
+        seqAsJavaListConverter(df.queryExecution().executedPlan().collectLeaves()).asJava();
+    Map<String, SQLMetric> metricsMap =
+        JavaConverters.mapAsJavaMapConverter(sparkPlans.get(0).metrics()).asJava();
+
+    assertThat(metricsMap.get("totalRowGroups").value()).isEqualTo(1);
+    assertThat(metricsMap.get("skippedRowGroups").value()).isEqualTo(0);
+    assertThat(metricsMap.get("dataBytesRead").value()).isGreaterThan(0);
+    assertThat(metricsMap.get("totalDecodeDuration").value()).isGreaterThanOrEqualTo(0);
+  }
+
   @TestTemplate
   public void testDeleteMetrics() throws NoSuchTableException {
     sql(
@@ -64,9 +64,12 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.parquet.ParquetSchemaUtil;
+import org.apache.iceberg.relocated.com.google.common.base.Strings;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.spark.SparkReadOptions;
 import org.apache.iceberg.spark.SparkSchemaUtil;
 import org.apache.iceberg.spark.SparkStructLike;
 import org.apache.iceberg.spark.data.RandomData;
@@ -113,6 +116,7 @@ public class TestSparkReaderDeletes extends DeleteReadTests {
       new Object[] {"parquet", false, PlanningMode.DISTRIBUTED},
       new Object[] {"parquet", true, PlanningMode.LOCAL},
       new Object[] {"orc", false, PlanningMode.DISTRIBUTED},
+      new Object[] {"orc", true, PlanningMode.LOCAL},
       new Object[] {"avro", false, PlanningMode.LOCAL}
     };
   }
@@ -623,6 +627,73 @@ public class TestSparkReaderDeletes extends DeleteReadTests {
     assertThat(rowSet(tblName, tbl, "*")).hasSize(193);
   }
 
+  @TestTemplate
+  public void testPosDeletesWithPageFiltering() throws IOException {
+    assumeThat(format).isEqualTo("parquet");
+
+    String tblName = "test3";
+    Table tbl = createTable(tblName, SCHEMA, PartitionSpec.unpartitioned());
+    // small data pages are cut by size before the row limit, so pages of the two columns are
+    // not aligned and the data column has to skip rows at the start of the selected ranges
+    tbl.updateProperties()
+        .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, "100")
+        .set(TableProperties.PARQUET_PAGE_SIZE_BYTES, "1024")
+        .commit();
+
+    GenericRecord template = GenericRecord.create(SCHEMA);
+    List<Record> records = Lists.newArrayList();
+    for (int id = 0; id < 1000; id += 1) {
+      records.add(template.copy("id", id, "data", Strings.padEnd("data-" + id, 64, 'x')));
+    }
+
+    DataFile dataFile =
+        FileHelpers.writeDataFile(
+            tbl, Files.localOutput(File.createTempFile("junit", null, temp.toFile())), records);
+    tbl.newAppend().appendFile(dataFile).commit();
+
+    List<Pair<CharSequence, Long>> deletes =
+        Lists.newArrayList(
+            Pair.of(dataFile.path(), 199L), // in a page that is filtered out
+            Pair.of(dataFile.path(), 250L),
+            Pair.of(dataFile.path(), 299L),
+            Pair.of(dataFile.path(), 300L),
+            Pair.of(dataFile.path(), 301L),
+            Pair.of(dataFile.path(), 419L),
+            Pair.of(dataFile.path(), 450L));
+    Pair<DeleteFile, CharSequenceSet> posDeletes =
+        FileHelpers.writeDeleteFile(
+            tbl, Files.localOutput(File.createTempFile("junit", null, temp.toFile())), deletes);
+    tbl.newRowDelta()
+        .addDeletes(posDeletes.first())
+        .validateDataFilesExist(posDeletes.second())
+        .commit();
+
+    // only pages with ids in [200, 500) match the filter
+    List<Row> rows =
+        spark
+            .read()
+            .format("iceberg")
+            .option(SparkReadOptions.PARQUET_PAGE_FILTER_ENABLED, "true")
+            .load(TableIdentifier.of("default", tblName).toString())
+            .filter("id >= 250 AND id < 420")
+            .selectExpr("id", "data", "_pos")
+            .collectAsList();
+
+    Set<Integer> expectedIds = Sets.newHashSet();
+    for (int id = 250; id < 420; id += 1) {
+      expectedIds.add(id);
+    }
+    expectedIds.removeAll(ImmutableList.of(250, 299, 300, 301, 419));
+
+    assertThat(rows).hasSize(expectedIds.size());
+    for (Row row : rows) {
+      int id = row.getInt(0);
+      assertThat(expectedIds).contains(id);
+      assertThat(row.getString(1)).isEqualTo(Strings.padEnd("data-" + id, 64, 'x'));
+      assertThat(row.getLong(2)).as("Position should match the row's id").isEqualTo(id);
+    }
+  }
+
   private static final Schema PROJECTION_SCHEMA =
       new Schema(
           required(1, "id", Types.IntegerType.get()),
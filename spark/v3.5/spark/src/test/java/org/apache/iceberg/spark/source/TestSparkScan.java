@@ -27,15 +27,18 @@ import static org.apache.iceberg.spark.SystemFunctionPushDownHelper.timestampStr
 import static org.apache.spark.sql.functions.date_add;
 import static org.apache.spark.sql.functions.expr;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
 
 import org.apache.iceberg.Parameter;
 import org.apache.iceberg.ParameterizedTestExtension;
 import org.apache.iceberg.Parameters;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.spark.Spark3Util;
 import org.apache.iceberg.spark.SparkCatalogConfig;
+import org.apache.iceberg.spark.SparkSchemaUtil;
 import org.apache.iceberg.spark.TestBaseWithCatalog;
 import org.apache.iceberg.spark.functions.BucketFunction;
 import org.apache.iceberg.spark.functions.DaysFunction;
@@ -57,6 +60,7 @@ import org.apache.spark.sql.connector.expressions.filter.Not;
 import org.apache.spark.sql.connector.expressions.filter.Or;
 import org.apache.spark.sql.connector.expressions.filter.Predicate;
 import org.apache.spark.sql.connector.read.Batch;
+import org.apache.spark.sql.connector.read.PartitionReaderFactory;
 import org.apache.spark.sql.connector.read.ScanBuilder;
 import org.apache.spark.sql.connector.read.Statistics;
 import org.apache.spark.sql.connector.read.SupportsPushDownV2Filters;
@@ -130,6 +134,56 @@ public class TestSparkScan extends TestBaseWithCatalog {
     assertThat(stats.numRows().getAsLong()).isEqualTo(10000L);
   }
 
+  @TestTemplate
+  public void testBatchReadsForStructs() throws Exception {
+    assumeThat(format).isEqualTo("parquet");
+    sql(
+        "CREATE TABLE %s (id BIGINT, s STRUCT<a: INT, b: STRING>) USING iceberg "
+            + "TBLPROPERTIES('%s' = '%s')",
+        tableName, TableProperties.DEFAULT_FILE_FORMAT, format);
+    sql("INSERT INTO %s VALUES (1, named_struct('a', 1, 'b', 'x')), (2, null)", tableName);
+
+    assertThat(readerFactory(scanBuilder(), "id", "s.a"))
+        .isInstanceOf(SparkColumnarReaderFactory.class);
+  }
+
+  @TestTemplate
+  public void testRowReadsForListsAndMaps() throws Exception {
+    assumeThat(format).isEqualTo("parquet");
+    sql(
+        "CREATE TABLE %s (id BIGINT, l ARRAY<INT>, m MAP<STRING, INT>) USING iceberg "
+            + "TBLPROPERTIES('%s' = '%s')",
+        tableName, TableProperties.DEFAULT_FILE_FORMAT, format);
+    sql("INSERT INTO %s VALUES (1, array(1, 2), map('a', 1))", tableName);
+
+    assertThat(readerFactory(scanBuilder(), "id", "l")).isInstanceOf(SparkRowReaderFactory.class);
+    assertThat(readerFactory(scanBuilder(), "id", "m")).isInstanceOf(SparkRowReaderFactory.class);
+    assertEquals(
+        "Should read lists and maps",
+        ImmutableList.of(row(1L, ImmutableList.of(1, 2), ImmutableMap.of("a", 1))),
+        sql("SELECT * FROM %s", tableName));
+  }
+
+  @TestTemplate
+  public void testBatchReadsForStructWithOnlyAddedFields() throws Exception {
+    assumeThat(format).isEqualTo("parquet");
+    sql(
+        "CREATE TABLE %s (id BIGINT, s STRUCT<a: INT>) USING iceberg TBLPROPERTIES('%s' = '%s')",
+        tableName, TableProperties.DEFAULT_FILE_FORMAT, format);
+    sql("INSERT INTO %s VALUES (1, named_struct('a', 1)), (2, null)", tableName);
+    sql("ALTER TABLE %s ADD COLUMN s.b STRING", tableName);
+
+    // structs are null in files written before the new field, as with row reads
+    assertThat(readerFactory(scanBuilder(), "id", "s.b"))
+        .isInstanceOf(SparkColumnarReaderFactory.class);
+    assertThat(readerFactory(scanBuilder(), "id", "s.a", "s.b"))
+        .isInstanceOf(SparkColumnarReaderFactory.class);
+    assertEquals(
+        "Should read the added field",
+        ImmutableList.of(row(1L, null), row(2L, null)),
+        sql("SELECT id, s.b FROM %s ORDER BY id", tableName));
+  }
+
   @TestTemplate
   public void testUnpartitionedYears() throws Exception {
     createUnpartitionedTable(spark, tableName);
@@ -724,6 +778,12 @@ public class TestSparkScan extends TestBaseWithCatalog {
     return new SparkScanBuilder(spark, table, options);
   }
 
+  private PartitionReaderFactory readerFactory(SparkScanBuilder builder, String... columns) {
+    Table table = validationCatalog.loadTable(tableIdent);
+    builder.pruneColumns(SparkSchemaUtil.convert(table.schema().select(columns)));
+    return builder.build().toBatch().createReaderFactory();
+  }
+
   private void pushFilters(ScanBuilder scan, Predicate... predicates) {
     assertThat(scan).isInstanceOf(SupportsPushDownV2Filters.class);
     SupportsPushDownV2Filters filterable = (SupportsPushDownV2Filters) scan;